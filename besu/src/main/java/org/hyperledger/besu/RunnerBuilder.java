@@ -84,6 +84,7 @@ import org.hyperledger.besu.ethereum.permissioning.node.InsufficientPeersPermiss
 import org.hyperledger.besu.ethereum.permissioning.node.NodePermissioningController;
 import org.hyperledger.besu.ethereum.permissioning.node.PeerPermissionsAdapter;
 import org.hyperledger.besu.ethereum.stratum.StratumServer;
+import org.hyperledger.besu.ethereum.transaction.CallResultCache;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
 import org.hyperledger.besu.metrics.ObservableMetricsSystem;
 import org.hyperledger.besu.metrics.prometheus.MetricsConfiguration;
@@ -394,6 +395,12 @@ public class RunnerBuilder {
     final PrivacyParameters privacyParameters = besuController.getPrivacyParameters();
     final FilterManager filterManager =
         createFilterManager(vertx, blockchainQueries, transactionPool);
+    // Shared by the HTTP and WebSocket services so the configured size bounds both.
+    final int callCacheSize = jsonRpcConfiguration.getCallCacheSize();
+    final Optional<CallResultCache> callResultCache =
+        callCacheSize > 0
+            ? Optional.of(new CallResultCache(callCacheSize, metricsSystem))
+            : Optional.empty();
 
     final P2PNetwork peerNetwork = networkRunner.getNetwork();
 
@@ -441,6 +448,7 @@ public class RunnerBuilder {
               supportedCapabilities,
               jsonRpcConfiguration.getRpcApis(),
               filterManager,
+              callResultCache,
               accountLocalConfigPermissioningController,
               nodeLocalConfigPermissioningController,
               privacyParameters,
@@ -500,6 +508,7 @@ public class RunnerBuilder {
               supportedCapabilities,
               webSocketConfiguration.getRpcApis(),
               filterManager,
+              callResultCache,
               accountLocalConfigPermissioningController,
               nodeLocalConfigPermissioningController,
               privacyParameters,
@@ -629,7 +638,11 @@ public class RunnerBuilder {
       final TransactionPool transactionPool) {
     final FilterManager filterManager =
         new FilterManager(
-            blockchainQueries, transactionPool, new FilterIdGenerator(), new FilterRepository());
+            blockchainQueries,
+            transactionPool,
+            new FilterIdGenerator(),
+            new FilterRepository(),
+            metricsSystem);
     vertx.deployVerticle(filterManager);
     return filterManager;
   }
@@ -646,6 +659,7 @@ public class RunnerBuilder {
       final Set<Capability> supportedCapabilities,
       final Collection<RpcApi> jsonRpcApis,
       final FilterManager filterManager,
+      final Optional<CallResultCache> callResultCache,
       final Optional<AccountLocalConfigPermissioningController> accountWhitelistController,
       final Optional<NodeLocalConfigPermissioningController> nodeWhitelistController,
       final PrivacyParameters privacyParameters,
@@ -665,6 +679,7 @@ public class RunnerBuilder {
                 synchronizer,
                 protocolSchedule,
                 filterManager,
+                callResultCache,
                 transactionPool,
                 miningCoordinator,
                 metricsSystem,
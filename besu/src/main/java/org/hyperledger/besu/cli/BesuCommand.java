@@ -22,7 +22,10 @@ import static org.hyperledger.besu.cli.DefaultCommandValues.getDefaultBesuDataPa
 import static org.hyperledger.besu.cli.config.NetworkName.MAINNET;
 import static org.hyperledger.besu.controller.BesuController.DATABASE_PATH;
 import static org.hyperledger.besu.ethereum.api.graphql.GraphQLConfiguration.DEFAULT_GRAPHQL_HTTP_PORT;
+import static org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration.DEFAULT_CALL_CACHE_SIZE;
 import static org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration.DEFAULT_JSON_RPC_PORT;
+import static org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration.DEFAULT_MAX_BATCH_CONCURRENCY;
+import static org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration.DEFAULT_MAX_BATCH_SIZE;
 import static org.hyperledger.besu.ethereum.api.jsonrpc.RpcApis.DEFAULT_JSON_RPC_APIS;
 import static org.hyperledger.besu.ethereum.api.jsonrpc.websocket.WebSocketConfiguration.DEFAULT_WEBSOCKET_PORT;
 import static org.hyperledger.besu.metrics.BesuMetricCategory.DEFAULT_METRIC_CATEGORIES;
@@ -63,6 +66,7 @@ import org.hyperledger.besu.cli.util.CommandLineUtils;
 import org.hyperledger.besu.cli.util.ConfigOptionSearchAndRunHandler;
 import org.hyperledger.besu.cli.util.VersionProvider;
 import org.hyperledger.besu.config.GenesisConfigFile;
+import org.hyperledger.besu.config.experimental.ExperimentalBlockProcessing;
 import org.hyperledger.besu.config.experimental.ExperimentalEIPs;
 import org.hyperledger.besu.controller.BesuController;
 import org.hyperledger.besu.controller.BesuControllerBuilder;
@@ -493,6 +497,30 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
           "Enable to accept clients certificate signed by a valid CA for client authentication (default: ${DEFAULT-VALUE})")
   private final Boolean isRpcHttpTlsCAClientsEnabled = false;
 
+  @Option(
+      names = {"--rpc-http-max-batch-size"},
+      paramLabel = MANDATORY_INTEGER_FORMAT_HELP,
+      description =
+          "Maximum number of requests in a JSON-RPC HTTP batch request (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer rpcHttpMaxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+  @Option(
+      names = {"--rpc-http-max-batch-concurrency"},
+      paramLabel = MANDATORY_INTEGER_FORMAT_HELP,
+      description =
+          "Maximum number of requests from a single JSON-RPC HTTP batch request executed concurrently (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer rpcHttpMaxBatchConcurrency = DEFAULT_MAX_BATCH_CONCURRENCY;
+
+  @Option(
+      names = {"--rpc-call-cache-size"},
+      paramLabel = MANDATORY_INTEGER_FORMAT_HELP,
+      description =
+          "Maximum number of eth_call results cached by block and call parameters, 0 to disable the cache (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer rpcCallCacheSize = DEFAULT_CALL_CACHE_SIZE;
+
   @Option(
       names = {"--rpc-ws-enabled"},
       description = "Set to start the JSON-RPC WebSocket service (default: ${DEFAULT-VALUE})")
@@ -915,6 +943,7 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
             .setCaseInsensitiveEnumValuesAllowed(true);
     handleStandaloneCommand()
         .enableExperimentalEIPs()
+        .enableExperimentalBlockProcessing()
         .addSubCommands(resultHandler, in)
         .registerConverters()
         .handleUnstableOptions()
@@ -968,6 +997,12 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
     return this;
   }
 
+  private BesuCommand enableExperimentalBlockProcessing() {
+    // Block processing strategies are selected before the protocol schedule is built
+    commandLine.addMixin("experimentalBlockProcessing", ExperimentalBlockProcessing.class);
+    return this;
+  }
+
   private BesuCommand addSubCommands(
       final AbstractParseResultHandler<List<Object>> resultHandler, final InputStream in) {
     commandLine.addSubcommand(
@@ -1298,7 +1333,9 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
             "--rpc-http-tls-keystore-password-file",
             "--rpc-http-tls-client-auth-enabled",
             "--rpc-http-tls-known-clients-file",
-            "--rpc-http-tls-ca-clients-enabled"));
+            "--rpc-http-tls-ca-clients-enabled",
+            "--rpc-http-max-batch-size",
+            "--rpc-http-max-batch-concurrency"));
 
     if (isRpcHttpAuthenticationEnabled
         && rpcHttpAuthenticationCredentialsFile() == null
@@ -1319,6 +1356,9 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
     jsonRpcConfiguration.setAuthenticationCredentialsFile(rpcHttpAuthenticationCredentialsFile());
     jsonRpcConfiguration.setAuthenticationPublicKeyFile(rpcHttpAuthenticationPublicKeyFile());
     jsonRpcConfiguration.setTlsConfiguration(rpcHttpTlsConfiguration());
+    jsonRpcConfiguration.setMaxBatchSize(rpcHttpMaxBatchSize);
+    jsonRpcConfiguration.setMaxBatchConcurrency(rpcHttpMaxBatchConcurrency);
+    jsonRpcConfiguration.setCallCacheSize(rpcCallCacheSize);
     return jsonRpcConfiguration;
   }
 
@@ -23,6 +23,7 @@ import picocli.CommandLine;
 
 public class MetricsCLIOptions implements CLIOptions<MetricsConfiguration.Builder> {
   private static final String TIMERS_ENABLED_FLAG = "--Xmetrics-timers-enabled";
+  private static final String HISTOGRAM_TIMERS_ENABLED_FLAG = "--Xmetrics-histogram-timers-enabled";
 
   @CommandLine.Option(
       names = TIMERS_ENABLED_FLAG,
@@ -31,6 +32,14 @@ public class MetricsCLIOptions implements CLIOptions<MetricsConfiguration.Builde
       description = "Whether to enable timer metrics (default: ${DEFAULT-VALUE}).")
   private Boolean timersEnabled = MetricsConfiguration.DEFAULT_TIMERS_ENABLED;
 
+  @CommandLine.Option(
+      names = HISTOGRAM_TIMERS_ENABLED_FLAG,
+      hidden = true,
+      defaultValue = "false",
+      description =
+          "Whether timer metrics are reported as fixed-bucket histograms instead of quantile summaries (default: ${DEFAULT-VALUE}).")
+  private Boolean histogramTimersEnabled = MetricsConfiguration.DEFAULT_HISTOGRAM_TIMERS_ENABLED;
+
   private MetricsCLIOptions() {}
 
   public static MetricsCLIOptions create() {
@@ -40,16 +49,21 @@ public class MetricsCLIOptions implements CLIOptions<MetricsConfiguration.Builde
   public static MetricsCLIOptions fromConfiguration(final MetricsConfiguration config) {
     final MetricsCLIOptions metricsOptions = create();
     metricsOptions.timersEnabled = config.isTimersEnabled();
+    metricsOptions.histogramTimersEnabled = config.isHistogramTimersEnabled();
     return metricsOptions;
   }
 
   @Override
   public MetricsConfiguration.Builder toDomainObject() {
-    return MetricsConfiguration.builder().timersEnabled(timersEnabled);
+    return MetricsConfiguration.builder()
+        .timersEnabled(timersEnabled)
+        .histogramTimersEnabled(histogramTimersEnabled);
   }
 
   @Override
   public List<String> getCLIOptions() {
-    return Arrays.asList(TIMERS_ENABLED_FLAG + "=" + timersEnabled.toString());
+    return Arrays.asList(
+        TIMERS_ENABLED_FLAG + "=" + timersEnabled.toString(),
+        HISTOGRAM_TIMERS_ENABLED_FLAG + "=" + histogramTimersEnabled.toString());
   }
 }
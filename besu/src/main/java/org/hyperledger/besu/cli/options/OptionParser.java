@@ -50,6 +50,10 @@ public class OptionParser {
     return Float.toString(value);
   }
 
+  public static String format(final boolean value) {
+    return Boolean.toString(value);
+  }
+
   public static String format(final UInt256 value) {
     return value.toBigInteger().toString(10);
   }
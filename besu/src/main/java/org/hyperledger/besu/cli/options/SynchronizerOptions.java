@@ -56,6 +56,10 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
       "--Xsynchronizer-world-state-min-millis-before-stalling";
   private static final String WORLD_STATE_TASK_CACHE_SIZE_FLAG =
       "--Xsynchronizer-world-state-task-cache-size";
+  private static final String PIPELINED_IMPORT_ENABLED_FLAG =
+      "--Xsynchronizer-pipelined-import-enabled";
+  private static final String MAX_DOWNLOADER_PARALLELISM_FLAG =
+      "--Xsynchronizer-downloader-parallelism-max";
 
   @CommandLine.Option(
       names = BLOCK_PROPAGATION_RANGE_FLAG,
@@ -210,6 +214,27 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
   private int worldStateTaskCacheSize =
       SynchronizerConfiguration.DEFAULT_WORLD_STATE_TASK_CACHE_SIZE;
 
+  @CommandLine.Option(
+      names = PIPELINED_IMPORT_ENABLED_FLAG,
+      hidden = true,
+      defaultValue = "false",
+      paramLabel = "<BOOLEAN>",
+      arity = "1",
+      description =
+          "Overlap the state root computation of each block with the execution of the next one during full sync (default: ${DEFAULT-VALUE})")
+  private boolean pipelinedImportEnabled =
+      SynchronizerConfiguration.DEFAULT_PIPELINED_IMPORT_ENABLED;
+
+  @CommandLine.Option(
+      names = MAX_DOWNLOADER_PARALLELISM_FLAG,
+      hidden = true,
+      defaultValue = "4",
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum number of concurrent requests each chain download stage may adapt up to. No adaptation occurs unless greater than the downloader parallelism (default: ${DEFAULT-VALUE})")
+  private int maxDownloaderParallelism =
+      SynchronizerConfiguration.DEFAULT_MAX_DOWNLOADER_PARALLELISM;
+
   private SynchronizerOptions() {}
 
   public static SynchronizerOptions create() {
@@ -236,6 +261,8 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
     options.worldStateMaxRequestsWithoutProgress = config.getWorldStateMaxRequestsWithoutProgress();
     options.worldStateMinMillisBeforeStalling = config.getWorldStateMinMillisBeforeStalling();
     options.worldStateTaskCacheSize = config.getWorldStateTaskCacheSize();
+    options.pipelinedImportEnabled = config.isPipelinedImportEnabled();
+    options.maxDownloaderParallelism = config.getMaxDownloaderParallelism();
     return options;
   }
 
@@ -258,6 +285,8 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
     builder.worldStateMaxRequestsWithoutProgress(worldStateMaxRequestsWithoutProgress);
     builder.worldStateMinMillisBeforeStalling(worldStateMinMillisBeforeStalling);
     builder.worldStateTaskCacheSize(worldStateTaskCacheSize);
+    builder.pipelinedImportEnabled(pipelinedImportEnabled);
+    builder.maxDownloaderParallelism(maxDownloaderParallelism);
     return builder;
   }
 
@@ -295,6 +324,10 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
         WORLD_STATE_MIN_MILLIS_BEFORE_STALLING_FLAG,
         OptionParser.format(worldStateMinMillisBeforeStalling),
         WORLD_STATE_TASK_CACHE_SIZE_FLAG,
-        OptionParser.format(worldStateTaskCacheSize));
+        OptionParser.format(worldStateTaskCacheSize),
+        PIPELINED_IMPORT_ENABLED_FLAG,
+        OptionParser.format(pipelinedImportEnabled),
+        MAX_DOWNLOADER_PARALLELISM_FLAG,
+        OptionParser.format(maxDownloaderParallelism));
   }
 }
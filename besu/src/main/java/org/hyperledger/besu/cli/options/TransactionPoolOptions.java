@@ -24,6 +24,12 @@ import picocli.CommandLine;
 public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfiguration.Builder> {
   private static final String TX_MESSAGE_KEEP_ALIVE_SEC_FLAG =
       "--Xincoming-tx-messages-keep-alive-seconds";
+  private static final String TX_BROADCAST_BATCH_INTERVAL_FLAG =
+      "--Xtx-broadcast-batch-interval-millis";
+  private static final String TX_BROADCAST_BATCH_SIZE_FLAG = "--Xtx-broadcast-batch-size";
+  private static final String TX_POOL_JOURNAL_ENABLED_FLAG = "--Xtx-pool-journal-enabled";
+  private static final String TX_POOL_JOURNAL_REMOTE_FLAG =
+      "--Xtx-pool-journal-remote-transactions";
 
   @CommandLine.Option(
       names = {TX_MESSAGE_KEEP_ALIVE_SEC_FLAG},
@@ -35,6 +41,45 @@ public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfigu
   private Integer txMessageKeepAliveSeconds =
       TransactionPoolConfiguration.DEFAULT_TX_MSG_KEEP_ALIVE;
 
+  @CommandLine.Option(
+      names = {TX_BROADCAST_BATCH_INTERVAL_FLAG},
+      paramLabel = "<INTEGER>",
+      hidden = true,
+      description =
+          "Maximum time in milliseconds transactions are held before being broadcast to a peer, 0 to send immediately (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private Integer txBroadcastBatchIntervalMillis =
+      TransactionPoolConfiguration.DEFAULT_TX_BROADCAST_BATCH_INTERVAL_MILLIS;
+
+  @CommandLine.Option(
+      names = {TX_BROADCAST_BATCH_SIZE_FLAG},
+      paramLabel = "<INTEGER>",
+      hidden = true,
+      description =
+          "Number of transactions queued for a peer that triggers an immediate broadcast (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private Integer txBroadcastBatchSize =
+      TransactionPoolConfiguration.DEFAULT_TX_BROADCAST_BATCH_SIZE;
+
+  @CommandLine.Option(
+      names = {TX_POOL_JOURNAL_ENABLED_FLAG},
+      paramLabel = "<Boolean>",
+      hidden = true,
+      description =
+          "Journal local pending transactions to disk and restore them on startup (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private Boolean journalEnabled = TransactionPoolConfiguration.DEFAULT_JOURNAL_ENABLED;
+
+  @CommandLine.Option(
+      names = {TX_POOL_JOURNAL_REMOTE_FLAG},
+      paramLabel = "<Boolean>",
+      hidden = true,
+      description =
+          "Also journal pending transactions received from peers (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private Boolean journalRemoteTransactions =
+      TransactionPoolConfiguration.DEFAULT_JOURNAL_REMOTE_TRANSACTIONS;
+
   private TransactionPoolOptions() {}
 
   public static TransactionPoolOptions create() {
@@ -44,18 +89,35 @@ public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfigu
   public static TransactionPoolOptions fromConfig(final TransactionPoolConfiguration config) {
     final TransactionPoolOptions options = TransactionPoolOptions.create();
     options.txMessageKeepAliveSeconds = config.getTxMessageKeepAliveSeconds();
+    options.txBroadcastBatchIntervalMillis = config.getTxBroadcastBatchIntervalMillis();
+    options.txBroadcastBatchSize = config.getTxBroadcastBatchSize();
+    options.journalEnabled = config.isJournalEnabled();
+    options.journalRemoteTransactions = config.isJournalRemoteTransactions();
     return options;
   }
 
   @Override
   public TransactionPoolConfiguration.Builder toDomainObject() {
     return TransactionPoolConfiguration.builder()
-        .txMessageKeepAliveSeconds(txMessageKeepAliveSeconds);
+        .txMessageKeepAliveSeconds(txMessageKeepAliveSeconds)
+        .txBroadcastBatchIntervalMillis(txBroadcastBatchIntervalMillis)
+        .txBroadcastBatchSize(txBroadcastBatchSize)
+        .journalEnabled(journalEnabled)
+        .journalRemoteTransactions(journalRemoteTransactions);
   }
 
   @Override
   public List<String> getCLIOptions() {
     return Arrays.asList(
-        TX_MESSAGE_KEEP_ALIVE_SEC_FLAG, OptionParser.format(txMessageKeepAliveSeconds));
+        TX_MESSAGE_KEEP_ALIVE_SEC_FLAG,
+        OptionParser.format(txMessageKeepAliveSeconds),
+        TX_BROADCAST_BATCH_INTERVAL_FLAG,
+        OptionParser.format(txBroadcastBatchIntervalMillis),
+        TX_BROADCAST_BATCH_SIZE_FLAG,
+        OptionParser.format(txBroadcastBatchSize),
+        TX_POOL_JOURNAL_ENABLED_FLAG,
+        OptionParser.format(journalEnabled),
+        TX_POOL_JOURNAL_REMOTE_FLAG,
+        OptionParser.format(journalRemoteTransactions));
   }
 }
@@ -18,6 +18,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static org.hyperledger.besu.crypto.KeyPairUtil.loadKeyPair;
 
 import org.hyperledger.besu.config.GenesisConfigFile;
+import org.hyperledger.besu.config.experimental.ExperimentalBlockProcessing;
 import org.hyperledger.besu.crypto.BouncyCastleSecurityModule;
 import org.hyperledger.besu.crypto.NodeKey;
 import org.hyperledger.besu.ethereum.ProtocolContext;
@@ -48,9 +49,11 @@ import org.hyperledger.besu.ethereum.eth.sync.state.SyncState;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolConfiguration;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolFactory;
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolJournal;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.p2p.config.SubProtocolConfiguration;
 import org.hyperledger.besu.ethereum.storage.StorageProvider;
+import org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer;
 import org.hyperledger.besu.ethereum.worldstate.MarkSweepPruner;
 import org.hyperledger.besu.ethereum.worldstate.Pruner;
 import org.hyperledger.besu.ethereum.worldstate.PrunerConfiguration;
@@ -224,6 +227,10 @@ public abstract class BesuControllerBuilder<C> {
 
     protocolSchedule.setPublicWorldStateArchiveForPrivacyBlockProcessor(
         protocolContext.getWorldStateArchive());
+    if (ExperimentalBlockProcessing.evmProfilingEnabled) {
+      protocolSchedule.setBlockProcessingOperationTracer(
+          new ProfilingOperationTracer(metricsSystem));
+    }
 
     final MutableBlockchain blockchain = protocolContext.getBlockchain();
 
@@ -312,6 +319,15 @@ public abstract class BesuControllerBuilder<C> {
         createAdditionalJsonRpcMethodFactory(protocolContext);
 
     List<Closeable> closeables = new ArrayList<>();
+    if (transactionPoolConfiguration.isJournalEnabled()) {
+      final TransactionPoolJournal transactionPoolJournal =
+          new TransactionPoolJournal(
+              dataDirectory.resolve(TransactionPoolJournal.JOURNAL_FILE_NAME),
+              transactionPool,
+              transactionPoolConfiguration.isJournalRemoteTransactions());
+      transactionPoolJournal.start();
+      closeables.add(transactionPoolJournal);
+    }
     closeables.add(storageProvider);
     if (privacyParameters.getPrivateStorageProvider() != null) {
       closeables.add(privacyParameters.getPrivateStorageProvider());
@@ -43,6 +43,7 @@ import static org.mockito.Mockito.when;
 import org.hyperledger.besu.BesuInfo;
 import org.hyperledger.besu.cli.config.EthNetworkConfig;
 import org.hyperledger.besu.config.GenesisConfigFile;
+import org.hyperledger.besu.config.experimental.ExperimentalBlockProcessing;
 import org.hyperledger.besu.config.experimental.ExperimentalEIPs;
 import org.hyperledger.besu.ethereum.api.graphql.GraphQLConfiguration;
 import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration;
@@ -1611,6 +1612,38 @@ public class BesuCommandTest extends CommandTestAbstract {
     assertThat(commandErrorOutput.toString()).isEmpty();
   }
 
+  @Test
+  public void rpcHttpBatchOptionsMustBeUsed() {
+    parseCommand(
+        "--rpc-http-enabled",
+        "--rpc-http-max-batch-size",
+        "500",
+        "--rpc-http-max-batch-concurrency",
+        "8");
+
+    verify(mockRunnerBuilder).jsonRpcConfiguration(jsonRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMaxBatchSize()).isEqualTo(500);
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMaxBatchConcurrency()).isEqualTo(8);
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).isEmpty();
+  }
+
+  @Test
+  public void rpcCallCacheSizeMustBeUsed() {
+    parseCommand("--rpc-call-cache-size", "5000");
+
+    verify(mockRunnerBuilder).jsonRpcConfiguration(jsonRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getCallCacheSize()).isEqualTo(5000);
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).isEmpty();
+  }
+
   @Test
   public void rpcHttpHostMayBeLocalhost() {
 
@@ -3552,4 +3585,28 @@ public class BesuCommandTest extends CommandTestAbstract {
     assertThat(commandErrorOutput.toString()).isEmpty();
     assertThat(ExperimentalEIPs.eip1559Enabled).isFalse();
   }
+
+  @Test
+  public void parallelTransactionExecutionCanBeEnabled() {
+    try {
+      parseCommand("--Xparallel-transaction-execution-enabled=true");
+      assertThat(commandErrorOutput.toString()).isEmpty();
+      assertThat(ExperimentalBlockProcessing.parallelTransactionExecutionEnabled).isTrue();
+    } finally {
+      ExperimentalBlockProcessing.parallelTransactionExecutionEnabled =
+          ExperimentalBlockProcessing.PARALLEL_TRANSACTION_EXECUTION_ENABLED_DEFAULT_VALUE;
+    }
+  }
+
+  @Test
+  public void evmProfilingCanBeEnabled() {
+    try {
+      parseCommand("--Xevm-profiling-enabled=true");
+      assertThat(commandErrorOutput.toString()).isEmpty();
+      assertThat(ExperimentalBlockProcessing.evmProfilingEnabled).isTrue();
+    } finally {
+      ExperimentalBlockProcessing.evmProfilingEnabled =
+          ExperimentalBlockProcessing.EVM_PROFILING_ENABLED_DEFAULT_VALUE;
+    }
+  }
 }
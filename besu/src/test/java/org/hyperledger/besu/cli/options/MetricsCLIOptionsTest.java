@@ -27,7 +27,8 @@ public class MetricsCLIOptionsTest
   @Override
   MetricsConfiguration.Builder createCustomizedDomainObject() {
     return MetricsConfiguration.builder()
-        .timersEnabled(!MetricsConfiguration.DEFAULT_TIMERS_ENABLED);
+        .timersEnabled(!MetricsConfiguration.DEFAULT_TIMERS_ENABLED)
+        .histogramTimersEnabled(!MetricsConfiguration.DEFAULT_HISTOGRAM_TIMERS_ENABLED);
   }
 
   @Override
@@ -101,4 +101,10 @@ public class OptionParserTest {
     final String expected = "-1233";
     assertThat(OptionParser.format(input)).isEqualTo(expected);
   }
+
+  @Test
+  public void format_boolean() {
+    assertThat(OptionParser.format(true)).isEqualTo("true");
+    assertThat(OptionParser.format(false)).isEqualTo("false");
+  }
 }
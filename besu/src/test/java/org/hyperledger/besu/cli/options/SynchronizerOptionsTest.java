@@ -60,7 +60,9 @@ public class SynchronizerOptionsTest
             SynchronizerConfiguration.DEFAULT_DOWNLOADER_CHAIN_SEGMENT_SIZE + 2)
         .downloaderParallelism(SynchronizerConfiguration.DEFAULT_DOWNLOADER_PARALLELISM + 2)
         .transactionsParallelism(SynchronizerConfiguration.DEFAULT_TRANSACTIONS_PARALLELISM + 2)
-        .computationParallelism(SynchronizerConfiguration.DEFAULT_COMPUTATION_PARALLELISM + 2);
+        .computationParallelism(SynchronizerConfiguration.DEFAULT_COMPUTATION_PARALLELISM + 2)
+        .pipelinedImportEnabled(!SynchronizerConfiguration.DEFAULT_PIPELINED_IMPORT_ENABLED)
+        .maxDownloaderParallelism(SynchronizerConfiguration.DEFAULT_MAX_DOWNLOADER_PARALLELISM + 4);
   }
 
   @Override
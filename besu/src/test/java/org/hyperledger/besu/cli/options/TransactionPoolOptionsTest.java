@@ -47,7 +47,13 @@ public class TransactionPoolOptionsTest
   @Override
   TransactionPoolConfiguration.Builder createCustomizedDomainObject() {
     return TransactionPoolConfiguration.builder()
-        .txMessageKeepAliveSeconds(TransactionPoolConfiguration.DEFAULT_TX_MSG_KEEP_ALIVE + 1);
+        .txMessageKeepAliveSeconds(TransactionPoolConfiguration.DEFAULT_TX_MSG_KEEP_ALIVE + 1)
+        .txBroadcastBatchIntervalMillis(
+            TransactionPoolConfiguration.DEFAULT_TX_BROADCAST_BATCH_INTERVAL_MILLIS + 1)
+        .txBroadcastBatchSize(TransactionPoolConfiguration.DEFAULT_TX_BROADCAST_BATCH_SIZE + 1)
+        .journalEnabled(!TransactionPoolConfiguration.DEFAULT_JOURNAL_ENABLED)
+        .journalRemoteTransactions(
+            !TransactionPoolConfiguration.DEFAULT_JOURNAL_REMOTE_TRANSACTIONS);
   }
 
   @Override
@@ -0,0 +1,45 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.config.experimental;
+
+import picocli.CommandLine.Option;
+
+/**
+ * Flags defined in this class toggle experimental block processing strategies. They do not change
+ * consensus rules: a block processed with any of them enabled must produce the same state root and
+ * receipts as one processed without.
+ */
+public class ExperimentalBlockProcessing {
+  // To make it easier for tests to reset the value to default
+  public static final boolean PARALLEL_TRANSACTION_EXECUTION_ENABLED_DEFAULT_VALUE = false;
+  public static final boolean EVM_PROFILING_ENABLED_DEFAULT_VALUE = false;
+
+  @Option(
+      hidden = true,
+      names = {"--Xparallel-transaction-execution-enabled"},
+      description =
+          "Speculatively execute the transactions of a block in parallel, re-executing conflicting ones in order (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  public static boolean parallelTransactionExecutionEnabled =
+      PARALLEL_TRANSACTION_EXECUTION_ENABLED_DEFAULT_VALUE;
+
+  @Option(
+      hidden = true,
+      names = {"--Xevm-profiling-enabled"},
+      description =
+          "Aggregate the execution count and time of each opcode, precompile and contract code hash of imported blocks into metrics (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  public static boolean evmProfilingEnabled = EVM_PROFILING_ENABLED_DEFAULT_VALUE;
+}
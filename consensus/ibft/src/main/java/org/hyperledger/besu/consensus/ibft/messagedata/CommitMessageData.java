@@ -17,12 +17,17 @@ package org.hyperledger.besu.consensus.ibft.messagedata;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.Commit;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
+import java.util.function.Supplier;
+
+import com.google.common.base.Suppliers;
 import org.apache.tuweni.bytes.Bytes;
 
 public class CommitMessageData extends AbstractIbftMessageData {
 
   private static final int MESSAGE_CODE = IbftV2.COMMIT;
 
+  private final Supplier<Commit> decoded = Suppliers.memoize(() -> Commit.decode(data));
+
   private CommitMessageData(final Bytes data) {
     super(data);
   }
@@ -33,7 +38,7 @@ public class CommitMessageData extends AbstractIbftMessageData {
   }
 
   public Commit decode() {
-    return Commit.decode(data);
+    return decoded.get();
   }
 
   public static CommitMessageData create(final Commit commit) {
@@ -17,12 +17,17 @@ package org.hyperledger.besu.consensus.ibft.messagedata;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.Prepare;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
+import java.util.function.Supplier;
+
+import com.google.common.base.Suppliers;
 import org.apache.tuweni.bytes.Bytes;
 
 public class PrepareMessageData extends AbstractIbftMessageData {
 
   private static final int MESSAGE_CODE = IbftV2.PREPARE;
 
+  private final Supplier<Prepare> decoded = Suppliers.memoize(() -> Prepare.decode(data));
+
   private PrepareMessageData(final Bytes data) {
     super(data);
   }
@@ -33,7 +38,7 @@ public class PrepareMessageData extends AbstractIbftMessageData {
   }
 
   public Prepare decode() {
-    return Prepare.decode(data);
+    return decoded.get();
   }
 
   public static PrepareMessageData create(final Prepare preapare) {
@@ -17,12 +17,17 @@ package org.hyperledger.besu.consensus.ibft.messagedata;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.Proposal;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
+import java.util.function.Supplier;
+
+import com.google.common.base.Suppliers;
 import org.apache.tuweni.bytes.Bytes;
 
 public class ProposalMessageData extends AbstractIbftMessageData {
 
   private static final int MESSAGE_CODE = IbftV2.PROPOSAL;
 
+  private final Supplier<Proposal> decoded = Suppliers.memoize(() -> Proposal.decode(data));
+
   private ProposalMessageData(final Bytes data) {
     super(data);
   }
@@ -33,7 +38,7 @@ public class ProposalMessageData extends AbstractIbftMessageData {
   }
 
   public Proposal decode() {
-    return Proposal.decode(data);
+    return decoded.get();
   }
 
   public static ProposalMessageData create(final Proposal proposal) {
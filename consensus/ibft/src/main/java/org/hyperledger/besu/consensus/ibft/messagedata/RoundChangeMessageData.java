@@ -17,12 +17,17 @@ package org.hyperledger.besu.consensus.ibft.messagedata;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.RoundChange;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
+import java.util.function.Supplier;
+
+import com.google.common.base.Suppliers;
 import org.apache.tuweni.bytes.Bytes;
 
 public class RoundChangeMessageData extends AbstractIbftMessageData {
 
   private static final int MESSAGE_CODE = IbftV2.ROUND_CHANGE;
 
+  private final Supplier<RoundChange> decoded = Suppliers.memoize(() -> RoundChange.decode(data));
+
   private RoundChangeMessageData(final Bytes data) {
     super(data);
   }
@@ -33,7 +38,7 @@ public class RoundChangeMessageData extends AbstractIbftMessageData {
   }
 
   public RoundChange decode() {
-    return RoundChange.decode(data);
+    return decoded.get();
   }
 
   public static RoundChangeMessageData create(final RoundChange signedPayload) {
@@ -14,9 +14,6 @@
  */
 package org.hyperledger.besu.consensus.ibft.protocol;
 
-import org.hyperledger.besu.consensus.ibft.IbftEventQueue;
-import org.hyperledger.besu.consensus.ibft.ibftevent.IbftEvent;
-import org.hyperledger.besu.consensus.ibft.ibftevent.IbftEvents;
 import org.hyperledger.besu.consensus.ibft.network.PeerConnectionTracker;
 import org.hyperledger.besu.ethereum.p2p.network.ProtocolManager;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection;
@@ -28,19 +25,20 @@ import java.util.Arrays;
 import java.util.List;
 
 public class IbftProtocolManager implements ProtocolManager {
-  private final IbftEventQueue ibftEventQueue;
+  private final ParallelMessageDecoder messageDecoder;
 
   private final PeerConnectionTracker peers;
 
   /**
    * Constructor for the ibft protocol manager
    *
-   * @param ibftEventQueue Entry point into the ibft event processor
+   * @param messageDecoder Decodes received messages before passing them to the ibft event
+   *     processor
    * @param peers Used to track all connected IBFT peers.
    */
   public IbftProtocolManager(
-      final IbftEventQueue ibftEventQueue, final PeerConnectionTracker peers) {
-    this.ibftEventQueue = ibftEventQueue;
+      final ParallelMessageDecoder messageDecoder, final PeerConnectionTracker peers) {
+    this.messageDecoder = messageDecoder;
     this.peers = peers;
   }
 
@@ -55,10 +53,14 @@ public class IbftProtocolManager implements ProtocolManager {
   }
 
   @Override
-  public void stop() {}
+  public void stop() {
+    messageDecoder.stop();
+  }
 
   @Override
-  public void awaitStop() throws InterruptedException {}
+  public void awaitStop() throws InterruptedException {
+    messageDecoder.awaitStop();
+  }
 
   /**
    * This function is called by the P2P framework when an "IBF" message has been received. This
@@ -77,8 +79,7 @@ public class IbftProtocolManager implements ProtocolManager {
    */
   @Override
   public void processMessage(final Capability cap, final Message message) {
-    final IbftEvent messageEvent = IbftEvents.fromMessage(message);
-    ibftEventQueue.add(messageEvent);
+    messageDecoder.decodeAndQueue(message);
   }
 
   @Override
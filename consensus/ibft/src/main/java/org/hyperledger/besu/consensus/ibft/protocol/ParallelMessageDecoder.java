@@ -0,0 +1,142 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.ibft.protocol;
+
+import static org.hyperledger.besu.ethereum.eth.manager.MonitoredExecutors.newBoundedThreadPool;
+
+import org.hyperledger.besu.consensus.ibft.IbftEventQueue;
+import org.hyperledger.besu.consensus.ibft.ibftevent.IbftEvents;
+import org.hyperledger.besu.consensus.ibft.messagedata.CommitMessageData;
+import org.hyperledger.besu.consensus.ibft.messagedata.IbftV2;
+import org.hyperledger.besu.consensus.ibft.messagedata.PrepareMessageData;
+import org.hyperledger.besu.consensus.ibft.messagedata.ProposalMessageData;
+import org.hyperledger.besu.consensus.ibft.messagedata.RoundChangeMessageData;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.DefaultMessage;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Message;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Decodes received IBFT messages on a pool of worker threads before they are added to the {@link
+ * IbftEventQueue}.
+ *
+ * <p>Decoding a message recovers the signer of the message (and of any proposals, prepares and
+ * round changes embedded in it), which dominates the cost of handling the message. The decoded
+ * message data caches its result, so the single IBFT processor thread is left to act on messages
+ * whose authors are already known.
+ *
+ * <p>Messages from the same peer may be queued in a different order than they were received; the
+ * IBFT state machine already tolerates this as the network gives no ordering guarantees across
+ * peers.
+ */
+public class ParallelMessageDecoder {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Duration shutdownTimeout = Duration.ofSeconds(30);
+  private final IbftEventQueue ibftEventQueue;
+  private final ExecutorService decodeExecutor;
+
+  ParallelMessageDecoder(
+      final IbftEventQueue ibftEventQueue, final ExecutorService decodeExecutor) {
+    this.ibftEventQueue = ibftEventQueue;
+    this.decodeExecutor = decodeExecutor;
+  }
+
+  public static ParallelMessageDecoder create(
+      final IbftEventQueue ibftEventQueue,
+      final int messageQueueLimit,
+      final MetricsSystem metricsSystem) {
+    return new ParallelMessageDecoder(
+        ibftEventQueue,
+        newBoundedThreadPool(
+            "IbftMessageDecoder",
+            Runtime.getRuntime().availableProcessors(),
+            messageQueueLimit,
+            metricsSystem));
+  }
+
+  /**
+   * Schedules the message to be decoded and then added to the event queue.
+   *
+   * @param message The message received from the network.
+   */
+  public void decodeAndQueue(final Message message) {
+    try {
+      decodeExecutor.execute(() -> ibftEventQueue.add(IbftEvents.fromMessage(decode(message))));
+    } catch (final RejectedExecutionException e) {
+      LOG.warn("Unable to decode ibft message, decode queue is full or stopped");
+    }
+  }
+
+  public void stop() {
+    decodeExecutor.shutdownNow();
+  }
+
+  public void awaitStop() throws InterruptedException {
+    if (!decodeExecutor.awaitTermination(shutdownTimeout.getSeconds(), TimeUnit.SECONDS)) {
+      LOG.error("{} executor did not shutdown cleanly.", getClass().getSimpleName());
+    }
+  }
+
+  /**
+   * Returns a message whose data is the typed IBFT message data with its contents decoded. Messages
+   * which cannot be decoded are returned unchanged so that the failure is reported when the message
+   * is handled by the IBFT processor, as it would be without this stage.
+   */
+  static Message decode(final Message message) {
+    try {
+      final MessageData decodedData = decodeMessageData(message.getData());
+      return decodedData == message.getData()
+          ? message
+          : new DefaultMessage(message.getConnection(), decodedData);
+    } catch (final RuntimeException e) {
+      LOG.trace("Failed to decode ibft message ahead of processing", e);
+      return message;
+    }
+  }
+
+  private static MessageData decodeMessageData(final MessageData messageData) {
+    switch (messageData.getCode()) {
+      case IbftV2.PROPOSAL:
+        final ProposalMessageData proposal = ProposalMessageData.fromMessageData(messageData);
+        proposal.decode();
+        return proposal;
+      case IbftV2.PREPARE:
+        final PrepareMessageData prepare = PrepareMessageData.fromMessageData(messageData);
+        prepare.decode();
+        return prepare;
+      case IbftV2.COMMIT:
+        final CommitMessageData commit = CommitMessageData.fromMessageData(messageData);
+        commit.decode();
+        return commit;
+      case IbftV2.ROUND_CHANGE:
+        final RoundChangeMessageData roundChange =
+            RoundChangeMessageData.fromMessageData(messageData);
+        roundChange.decode();
+        return roundChange;
+      default:
+        return messageData;
+    }
+  }
+}
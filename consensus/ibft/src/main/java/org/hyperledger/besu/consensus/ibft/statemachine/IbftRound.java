@@ -31,6 +31,7 @@ import org.hyperledger.besu.consensus.ibft.payload.MessageFactory;
 import org.hyperledger.besu.consensus.ibft.payload.RoundChangeCertificate;
 import org.hyperledger.besu.crypto.NodeKey;
 import org.hyperledger.besu.crypto.SECP256K1.Signature;
+import org.hyperledger.besu.ethereum.BlockValidator.BlockProcessingOutputs;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.chain.MinedBlockObserver;
 import org.hyperledger.besu.ethereum.core.Block;
@@ -199,9 +200,9 @@ public class IbftRound {
   }
 
   private void importBlockToChain() {
+    final Block proposedBlock = roundState.getProposedBlock().get();
     final Block blockToImport =
-        IbftHelpers.createSealedBlock(
-            roundState.getProposedBlock().get(), roundState.getCommitSeals());
+        IbftHelpers.createSealedBlock(proposedBlock, roundState.getCommitSeals());
 
     final long blockNumber = blockToImport.getHeader().getNumber();
     final IbftExtraData extraData = IbftExtraData.decode(blockToImport.getHeader());
@@ -210,8 +211,24 @@ public class IbftRound {
         getRoundIdentifier(),
         blockToImport.getHash());
     LOG.trace("Importing block with extraData={}", extraData);
+    // Commit seals are excluded from the on-chain hash, so if the sealed block still hashes to the
+    // proposal the state produced while validating the proposal can be committed directly.
+    final Hash proposedOnChainHash =
+        IbftBlockHashing.calculateHashOfIbftBlockOnChain(proposedBlock.getHeader());
+    final Optional<BlockProcessingOutputs> processingOutputs =
+        roundState
+            .getProposalProcessingOutputs()
+            .filter(outputs -> proposedOnChainHash.equals(blockToImport.getHash()));
     final boolean result =
-        blockImporter.importBlock(protocolContext, blockToImport, HeaderValidationMode.FULL);
+        processingOutputs
+            .map(
+                outputs ->
+                    blockImporter.importProcessedBlock(
+                        protocolContext, blockToImport, outputs, HeaderValidationMode.FULL))
+            .orElseGet(
+                () ->
+                    blockImporter.importBlock(
+                        protocolContext, blockToImport, HeaderValidationMode.FULL));
     if (!result) {
       LOG.error(
           "Failed to import block to chain. block={} extraData={} blockHeader={}",
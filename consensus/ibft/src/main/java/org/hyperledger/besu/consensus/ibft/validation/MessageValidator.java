@@ -41,6 +41,9 @@ public class MessageValidator {
   private final ProtocolContext<IbftContext> protocolContext;
   private final RoundChangeCertificateValidator roundChangeCertificateValidator;
 
+  private Optional<Block> processedBlock = Optional.empty();
+  private Optional<BlockProcessingOutputs> processingOutputs = Optional.empty();
+
   public MessageValidator(
       final SignedDataValidator signedDataValidator,
       final ProposalBlockConsistencyValidator proposalConsistencyValidator,
@@ -61,7 +64,8 @@ public class MessageValidator {
       return false;
     }
 
-    if (!validateBlock(msg.getBlock())) {
+    final Optional<BlockProcessingOutputs> validationResult = validateBlock(msg.getBlock());
+    if (!validationResult.isPresent()) {
       return false;
     }
 
@@ -70,21 +74,40 @@ public class MessageValidator {
       return false;
     }
 
-    return proposalConsistencyValidator.validateProposalMatchesBlock(
-        msg.getSignedPayload(), msg.getBlock());
+    if (!proposalConsistencyValidator.validateProposalMatchesBlock(
+        msg.getSignedPayload(), msg.getBlock())) {
+      return false;
+    }
+
+    processedBlock = Optional.of(msg.getBlock());
+    processingOutputs = validationResult;
+    return true;
+  }
+
+  /**
+   * Returns the world state and receipts produced while validating the most recently accepted
+   * proposal, provided that proposal carried the given block. These have not been persisted, so
+   * they may be committed once for the block instead of executing it again on import.
+   *
+   * @param block the proposed block
+   * @return the outputs of executing the block, if it was the last proposal validated
+   */
+  public Optional<BlockProcessingOutputs> getProcessingOutputs(final Block block) {
+    return processedBlock
+        .filter(processed -> processed.getHash().equals(block.getHash()))
+        .flatMap(processed -> processingOutputs);
   }
 
-  private boolean validateBlock(final Block block) {
+  private Optional<BlockProcessingOutputs> validateBlock(final Block block) {
     final Optional<BlockProcessingOutputs> validationResult =
         blockValidator.validateAndProcessBlock(
             protocolContext, block, HeaderValidationMode.LIGHT, HeaderValidationMode.FULL);
 
     if (!validationResult.isPresent()) {
       LOG.info("Invalid Proposal message, block did not pass validation.");
-      return false;
     }
 
-    return true;
+    return validationResult;
   }
 
   private boolean validateProposalAndRoundChangeAreConsistent(final Proposal proposal) {
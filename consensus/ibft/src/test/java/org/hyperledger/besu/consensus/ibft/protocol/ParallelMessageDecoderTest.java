@@ -0,0 +1,96 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.ibft.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.hyperledger.besu.consensus.ibft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.ibft.IbftEventQueue;
+import org.hyperledger.besu.consensus.ibft.ibftevent.IbftReceivedMessageEvent;
+import org.hyperledger.besu.consensus.ibft.messagedata.IbftV2;
+import org.hyperledger.besu.consensus.ibft.messagedata.PrepareMessageData;
+import org.hyperledger.besu.consensus.ibft.messagewrappers.Prepare;
+import org.hyperledger.besu.consensus.ibft.payload.MessageFactory;
+import org.hyperledger.besu.crypto.NodeKey;
+import org.hyperledger.besu.crypto.NodeKeyUtils;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.Util;
+import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.DefaultMessage;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Message;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.RawMessage;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class ParallelMessageDecoderTest {
+
+  private final NodeKey nodeKey = NodeKeyUtils.generate();
+  private final MessageFactory messageFactory = new MessageFactory(nodeKey);
+  private final PeerConnection connection = mock(PeerConnection.class);
+  private final IbftEventQueue eventQueue = new IbftEventQueue(10);
+  private final ExecutorService executor = MoreExecutors.newDirectExecutorService();
+  private final ParallelMessageDecoder decoder = new ParallelMessageDecoder(eventQueue, executor);
+
+  @Test
+  public void queuesDecodedMessageWithTheConnectionItWasReceivedOn() throws Exception {
+    final Prepare prepare =
+        messageFactory.createPrepare(new ConsensusRoundIdentifier(1, 0), Hash.ZERO);
+    final Message received =
+        new DefaultMessage(connection, new RawMessage(IbftV2.PREPARE, prepare.encode()));
+
+    decoder.decodeAndQueue(received);
+
+    final Message queued = pollMessage();
+    assertThat(queued.getConnection()).isSameAs(connection);
+    assertThat(queued.getData()).isInstanceOf(PrepareMessageData.class);
+    final PrepareMessageData messageData = (PrepareMessageData) queued.getData();
+    assertThat(messageData.decode()).isSameAs(messageData.decode());
+    assertThat(messageData.decode().getAuthor())
+        .isEqualTo(Util.publicKeyToAddress(nodeKey.getPublicKey()));
+  }
+
+  @Test
+  public void queuesMessagesWhichCannotBeDecodedUnchanged() throws Exception {
+    final Message received =
+        new DefaultMessage(connection, new RawMessage(IbftV2.COMMIT, Bytes.of(1, 2, 3)));
+
+    decoder.decodeAndQueue(received);
+
+    assertThat(pollMessage()).isSameAs(received);
+  }
+
+  @Test
+  public void messagesReceivedAfterStopAreDropped() {
+    decoder.stop();
+
+    decoder.decodeAndQueue(
+        new DefaultMessage(connection, new RawMessage(IbftV2.COMMIT, Bytes.of(1, 2, 3))));
+
+    assertThat(eventQueue.isEmpty()).isTrue();
+  }
+
+  private Message pollMessage() throws InterruptedException {
+    final IbftReceivedMessageEvent event =
+        (IbftReceivedMessageEvent) eventQueue.poll(0, TimeUnit.MILLISECONDS);
+    assertThat(event).isNotNull();
+    return event.getMessage();
+  }
+}
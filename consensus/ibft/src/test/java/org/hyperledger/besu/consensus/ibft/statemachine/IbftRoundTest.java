@@ -39,6 +39,7 @@ import org.hyperledger.besu.consensus.ibft.validation.MessageValidator;
 import org.hyperledger.besu.crypto.NodeKey;
 import org.hyperledger.besu.crypto.NodeKeyUtils;
 import org.hyperledger.besu.crypto.SECP256K1.Signature;
+import org.hyperledger.besu.ethereum.BlockValidator.BlockProcessingOutputs;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.chain.MinedBlockObserver;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
@@ -48,6 +49,7 @@ import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
 import org.hyperledger.besu.ethereum.core.BlockImporter;
 import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 import org.hyperledger.besu.util.Subscribers;
 
@@ -276,6 +278,34 @@ public class IbftRoundTest {
     verify(blockImporter, times(1)).importBlock(any(), any(), any());
   }
 
+  @Test
+  public void committedBlockIsImportedUsingRetainedProposalProcessingOutputs() {
+    final BlockProcessingOutputs outputs = new BlockProcessingOutputs(null, emptyList());
+    when(messageValidator.getProcessingOutputs(any())).thenReturn(Optional.of(outputs));
+    when(blockImporter.importProcessedBlock(any(), any(), any(), any())).thenReturn(true);
+
+    final RoundState roundState = new RoundState(roundIdentifier, 1, messageValidator);
+    final IbftRound round =
+        new IbftRound(
+            roundState,
+            blockCreator,
+            protocolContext,
+            blockImporter,
+            subscribers,
+            nodeKey,
+            messageFactory,
+            transmitter,
+            roundTimer);
+
+    round.createAndSendProposalMessage(15);
+
+    verify(blockImporter, times(1))
+        .importProcessedBlock(
+            eq(protocolContext), any(), eq(outputs), eq(HeaderValidationMode.FULL));
+    verify(blockImporter, never()).importBlock(any(), any(), any());
+    verify(minedBlockObserver).blockMined(any());
+  }
+
   @Test
   public void aProposalWithAnewBlockIsSentUponReceptionOfARoundChangeWithNoCertificate() {
     final RoundState roundState = new RoundState(roundIdentifier, 2, messageValidator);
@@ -132,6 +132,30 @@ public class MessageValidatorTest {
     verify(signedDataValidator, times(1)).validateCommit(commit.getSignedPayload());
   }
 
+  @Test
+  public void processingOutputsOfValidatedProposalAreRetained() {
+    final BlockProcessingOutputs outputs = new BlockProcessingOutputs(null, emptyList());
+    when(blockValidator.validateAndProcessBlock(any(), any(), any(), any()))
+        .thenReturn(Optional.of(outputs));
+    final Proposal proposal =
+        messageFactory.createProposal(roundIdentifier, block, Optional.empty());
+
+    assertThat(messageValidator.getProcessingOutputs(block)).isEmpty();
+    assertThat(messageValidator.validateProposal(proposal)).isTrue();
+    assertThat(messageValidator.getProcessingOutputs(block)).contains(outputs);
+  }
+
+  @Test
+  public void processingOutputsAreNotRetainedForIllegalProposal() {
+    final Proposal proposal =
+        messageFactory.createProposal(roundIdentifier, block, Optional.empty());
+    when(proposalBlockConsistencyValidator.validateProposalMatchesBlock(any(), any()))
+        .thenReturn(false);
+
+    assertThat(messageValidator.validateProposal(proposal)).isFalse();
+    assertThat(messageValidator.getProcessingOutputs(block)).isEmpty();
+  }
+
   @Test
   public void ifProposalConsistencyChecksFailProposalIsIllegal() {
     final Proposal proposal =
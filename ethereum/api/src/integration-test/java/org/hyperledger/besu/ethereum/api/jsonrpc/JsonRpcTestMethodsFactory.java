@@ -90,7 +90,11 @@ public class JsonRpcTestMethodsFactory {
     final TransactionPool transactionPool = mock(TransactionPool.class);
     final FilterManager filterManager =
         new FilterManager(
-            blockchainQueries, transactionPool, new FilterIdGenerator(), new FilterRepository());
+            blockchainQueries,
+            transactionPool,
+            new FilterIdGenerator(),
+            new FilterRepository(),
+            new NoOpMetricsSystem());
     final EthHashMiningCoordinator miningCoordinator = mock(EthHashMiningCoordinator.class);
     final ObservableMetricsSystem metricsSystem = new NoOpMetricsSystem();
     final Optional<AccountLocalConfigPermissioningController> accountWhitelistController =
@@ -118,6 +122,7 @@ public class JsonRpcTestMethodsFactory {
             synchronizer,
             MainnetProtocolSchedule.create(),
             filterManager,
+            Optional.empty(),
             transactionPool,
             miningCoordinator,
             metricsSystem,
@@ -127,7 +127,11 @@ public class EthGetFilterChangesIntegrationTest {
         new BlockchainQueries(blockchain, protocolContext.getWorldStateArchive());
     filterManager =
         new FilterManager(
-            blockchainQueries, transactionPool, new FilterIdGenerator(), new FilterRepository());
+            blockchainQueries,
+            transactionPool,
+            new FilterIdGenerator(),
+            new FilterRepository(),
+            new NoOpMetricsSystem());
     method = new EthGetFilterChanges(filterManager);
   }
 
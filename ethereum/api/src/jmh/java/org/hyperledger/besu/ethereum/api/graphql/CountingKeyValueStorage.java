@@ -0,0 +1,79 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql;
+
+import org.hyperledger.besu.plugin.services.exception.StorageException;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/** Delegates to another storage and counts the lookups made against it. */
+class CountingKeyValueStorage implements KeyValueStorage {
+
+  private final KeyValueStorage delegate;
+  private long lookups;
+
+  CountingKeyValueStorage(final KeyValueStorage delegate) {
+    this.delegate = delegate;
+  }
+
+  long takeLookups() {
+    final long count = lookups;
+    lookups = 0;
+    return count;
+  }
+
+  @Override
+  public void clear() throws StorageException {
+    delegate.clear();
+  }
+
+  @Override
+  public boolean containsKey(final byte[] key) throws StorageException {
+    lookups++;
+    return delegate.containsKey(key);
+  }
+
+  @Override
+  public Optional<byte[]> get(final byte[] key) throws StorageException {
+    lookups++;
+    return delegate.get(key);
+  }
+
+  @Override
+  public long removeAllKeysUnless(final Predicate<byte[]> retainCondition)
+      throws StorageException {
+    return delegate.removeAllKeysUnless(retainCondition);
+  }
+
+  @Override
+  public Set<byte[]> getAllKeysThat(final Predicate<byte[]> returnCondition) {
+    return delegate.getAllKeysThat(returnCondition);
+  }
+
+  @Override
+  public KeyValueStorageTransaction startTransaction() throws StorageException {
+    return delegate.startTransaction();
+  }
+
+  @Override
+  public void close() throws IOException {
+    delegate.close();
+  }
+}
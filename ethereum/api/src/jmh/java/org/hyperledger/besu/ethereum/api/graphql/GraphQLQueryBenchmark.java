@@ -0,0 +1,164 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql;
+
+import org.hyperledger.besu.ethereum.ProtocolContext;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.chain.DefaultBlockchain;
+import org.hyperledger.besu.ethereum.chain.GenesisState;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.eth.EthProtocol;
+import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
+import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.mainnet.MainnetProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueStoragePrefixedKeyBlockchainStorage;
+import org.hyperledger.besu.ethereum.storage.keyvalue.WorldStateKeyValueStorage;
+import org.hyperledger.besu.ethereum.storage.keyvalue.WorldStatePreimageKeyValueStorage;
+import org.hyperledger.besu.ethereum.util.RawBlockIterator;
+import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+import org.hyperledger.besu.testutil.BlockTestUtil;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Resources;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import org.dataloader.DataLoaderOptions;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Runs a query touching the transactions, receipts, logs and accounts of every block in the test
+ * chain, with and without the per-request data loaders, and reports the blockchain and world state
+ * storage lookups each query makes alongside the query rate.
+ */
+@State(Scope.Thread)
+public class GraphQLQueryBenchmark {
+
+  private static final String QUERY =
+      "{ blocks(from: 0, to: 32) { number transactions { hash status gasUsed cumulativeGasUsed "
+          + "from { balance nonce } to { balance code } "
+          + "logs { index account { address balance } transaction { hash } } } } }";
+
+  public enum Loading {
+    /** Every field looks up its own data, as the adapters did before the data loaders. */
+    PER_FIELD(DataLoaderOptions.newOptions().setBatchingEnabled(false).setCachingEnabled(false)),
+    DATA_LOADERS(DataLoaderOptions.newOptions());
+
+    private final DataLoaderOptions options;
+
+    Loading(final DataLoaderOptions options) {
+      this.options = options;
+    }
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Lookups {
+    public long lookupsPerQuery;
+  }
+
+  @Param({"PER_FIELD", "DATA_LOADERS"})
+  public Loading loading;
+
+  private CountingKeyValueStorage blockchainStorage;
+  private CountingKeyValueStorage worldStateStorage;
+  private BlockchainQueries blockchainQueries;
+  private GraphQLDataFetcherContext dataFetcherContext;
+  private GraphQL graphQL;
+
+  @Setup(Level.Trial)
+  public void importChain() throws Exception {
+    final ProtocolSchedule<Void> protocolSchedule = MainnetProtocolSchedule.create();
+    final GenesisState genesisState =
+        GenesisState.fromJson(
+            Resources.toString(BlockTestUtil.getTestGenesisUrl(), Charsets.UTF_8),
+            protocolSchedule);
+    final List<Block> blocks = new ArrayList<>();
+    try (final RawBlockIterator iterator =
+        new RawBlockIterator(
+            Path.of(BlockTestUtil.getTestBlockchainUrl().toURI()),
+            rlp -> BlockHeader.readFrom(rlp, new MainnetBlockHeaderFunctions()))) {
+      while (iterator.hasNext()) {
+        blocks.add(iterator.next());
+      }
+    }
+
+    blockchainStorage = new CountingKeyValueStorage(new InMemoryKeyValueStorage());
+    worldStateStorage = new CountingKeyValueStorage(new InMemoryKeyValueStorage());
+    final MutableBlockchain blockchain =
+        DefaultBlockchain.createMutable(
+            blocks.get(0),
+            new KeyValueStoragePrefixedKeyBlockchainStorage(
+                blockchainStorage, new MainnetBlockHeaderFunctions()),
+            new NoOpMetricsSystem());
+    final WorldStateArchive worldStateArchive =
+        new WorldStateArchive(
+            new WorldStateKeyValueStorage(worldStateStorage),
+            new WorldStatePreimageKeyValueStorage(new InMemoryKeyValueStorage()));
+    genesisState.writeStateTo(worldStateArchive.getMutable());
+    final ProtocolContext<Void> protocolContext =
+        new ProtocolContext<>(blockchain, worldStateArchive, null);
+    for (final Block block : blocks.subList(1, blocks.size())) {
+      protocolSchedule
+          .getByBlockNumber(block.getHeader().getNumber())
+          .getBlockImporter()
+          .importBlock(protocolContext, block, HeaderValidationMode.NONE);
+    }
+
+    blockchainQueries = new BlockchainQueries(blockchain, worldStateArchive);
+    dataFetcherContext =
+        new GraphQLDataFetcherContext(blockchainQueries, protocolSchedule, null, null, null);
+    graphQL = GraphQLProvider.buildGraphQL(new GraphQLDataFetchers(Set.of(EthProtocol.ETH63)));
+
+    final ExecutionResult result = execute();
+    if (!result.getErrors().isEmpty()) {
+      throw new IllegalStateException("Benchmark query failed: " + result.getErrors());
+    }
+  }
+
+  @Benchmark
+  public ExecutionResult query(final Lookups lookups) {
+    blockchainStorage.takeLookups();
+    worldStateStorage.takeLookups();
+    final ExecutionResult result = execute();
+    lookups.lookupsPerQuery = blockchainStorage.takeLookups() + worldStateStorage.takeLookups();
+    return result;
+  }
+
+  private ExecutionResult execute() {
+    return graphQL.execute(
+        ExecutionInput.newExecutionInput()
+            .query(QUERY)
+            .context(dataFetcherContext)
+            .dataLoaderRegistry(GraphQLDataLoaders.create(blockchainQueries, loading.options))
+            .build());
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.LogsResult;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.LogTopic;
+import org.hyperledger.besu.ethereum.core.LogWithMetadata;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.vertx.core.json.Json;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares encoding a large eth_getLogs response to a string, as JSON-RPC responses used to be
+ * written, against streaming it through the serializer in chunks. The bytes counter reports the
+ * response bytes produced per second; run with {@code -prof gc} to compare allocation rates and
+ * the heap needed per response.
+ */
+@State(Scope.Thread)
+public class JsonResponseSerializationBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int logCount;
+
+  private JsonRpcSuccessResponse response;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final List<LogWithMetadata> logs = new ArrayList<>(logCount);
+    for (int i = 0; i < logCount; i++) {
+      final Bytes seed = Bytes.ofUnsignedInt(i);
+      final List<LogTopic> topics = new ArrayList<>();
+      for (int t = 0; t < 3; t++) {
+        topics.add(LogTopic.create(Hash.hash(Bytes.concatenate(seed, Bytes.of(t)))));
+      }
+      logs.add(
+          new LogWithMetadata(
+              i % 100,
+              i / 100,
+              Hash.hash(Bytes.ofUnsignedLong(i / 100)),
+              Hash.hash(seed),
+              i % 100,
+              Address.extract(Hash.hash(seed)),
+              Bytes.concatenate(Hash.hash(seed), Hash.hash(seed)),
+              topics,
+              false));
+    }
+    response = new JsonRpcSuccessResponse(1, new LogsResult(logs));
+  }
+
+  @Benchmark
+  public void encodePrettilyToString(final ByteCounter counter, final Blackhole blackhole) {
+    final byte[] encoded = Json.encodePrettily(response).getBytes(StandardCharsets.UTF_8);
+    counter.bytes += encoded.length;
+    blackhole.consume(encoded);
+  }
+
+  @Benchmark
+  public void encodeToString(final ByteCounter counter, final Blackhole blackhole) {
+    final byte[] encoded = Json.encode(response).getBytes(StandardCharsets.UTF_8);
+    counter.bytes += encoded.length;
+    blackhole.consume(encoded);
+  }
+
+  @Benchmark
+  public void streamToOutput(final ByteCounter counter, final Blackhole blackhole)
+      throws IOException {
+    Json.mapper.writeValue(new CopyingOutputStream(counter, blackhole), response);
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class ByteCounter {
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytes = 0;
+    }
+  }
+
+  /** Copies each chunk as {@link JsonResponseStreamer} does when handing it to the connection. */
+  private static class CopyingOutputStream extends OutputStream {
+    private final ByteCounter counter;
+    private final Blackhole blackhole;
+
+    private CopyingOutputStream(final ByteCounter counter, final Blackhole blackhole) {
+      this.counter = counter;
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public void write(final int b) {
+      counter.bytes++;
+      blackhole.consume(b);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+      final byte[] chunk = new byte[length];
+      System.arraycopy(bytes, offset, chunk, 0, length);
+      counter.bytes += length;
+      blackhole.consume(chunk);
+    }
+  }
+}
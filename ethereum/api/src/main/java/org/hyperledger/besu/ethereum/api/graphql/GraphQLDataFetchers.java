@@ -60,6 +60,9 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 
 public class GraphQLDataFetchers {
+  // Bounds the work of a blocks query, whose cost grows with the number of blocks it returns
+  public static final int MAX_BLOCK_RANGE = 1000;
+
   public GraphQLDataFetchers(final Set<Capability> supportedCapabilities) {
     final OptionalInt version =
         supportedCapabilities.stream()
@@ -135,7 +138,7 @@ public class GraphQLDataFetchers {
       } else {
         to = blockchainQuery.latestBlock().map(block -> block.getHeader().getNumber()).orElse(0L);
       }
-      if (from > to) {
+      if (from > to || to - from >= MAX_BLOCK_RANGE) {
         throw new GraphQLException(GraphQLError.INVALID_PARAMS);
       }
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql;
+
+import static java.util.stream.Collectors.toList;
+
+import org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter.AccountAdapter;
+import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.google.common.base.MoreObjects;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.DataLoaderRegistry;
+
+/**
+ * Creates the data loaders used by the GraphQL adapters to look up blocks, transactions, receipts
+ * and accounts. A new set is created for each request: lookups of the same key within a request
+ * are answered from the loader's cache, and the keys requested by all the fields at one level of
+ * the query are loaded together, so the receipts of a block's transactions are read with a single
+ * receipts lookup and accounts at the same block share one world state.
+ */
+public class GraphQLDataLoaders {
+  public static final String BLOCK_BY_HASH = "blockByHash";
+  public static final String TRANSACTION_BY_HASH = "transactionByHash";
+  public static final String TRANSACTION_RECEIPT_BY_HASH = "transactionReceiptByHash";
+  public static final String ACCOUNT = "account";
+
+  private GraphQLDataLoaders() {}
+
+  public static DataLoaderRegistry create(final BlockchainQueries blockchainQueries) {
+    return create(blockchainQueries, DataLoaderOptions.newOptions());
+  }
+
+  public static DataLoaderRegistry create(
+      final BlockchainQueries blockchainQueries, final DataLoaderOptions options) {
+    return new DataLoaderRegistry()
+        .register(BLOCK_BY_HASH, blockByHashLoader(blockchainQueries, options))
+        .register(TRANSACTION_BY_HASH, transactionByHashLoader(blockchainQueries, options))
+        .register(
+            TRANSACTION_RECEIPT_BY_HASH, transactionReceiptByHashLoader(blockchainQueries, options))
+        .register(ACCOUNT, accountLoader(blockchainQueries, options));
+  }
+
+  private static DataLoader<Hash, Optional<BlockWithMetadata<TransactionWithMetadata, Hash>>>
+      blockByHashLoader(
+          final BlockchainQueries blockchainQueries, final DataLoaderOptions options) {
+    return DataLoader.newDataLoader(
+        blockHashes ->
+            CompletableFuture.completedFuture(
+                blockHashes.stream().map(blockchainQueries::blockByHash).collect(toList())),
+        options);
+  }
+
+  private static DataLoader<Hash, Optional<TransactionWithMetadata>> transactionByHashLoader(
+      final BlockchainQueries blockchainQueries, final DataLoaderOptions options) {
+    return DataLoader.newDataLoader(
+        transactionHashes ->
+            CompletableFuture.completedFuture(
+                transactionHashes.stream()
+                    .map(blockchainQueries::transactionByHash)
+                    .collect(toList())),
+        options);
+  }
+
+  private static DataLoader<Hash, Optional<TransactionReceiptWithMetadata>>
+      transactionReceiptByHashLoader(
+          final BlockchainQueries blockchainQueries, final DataLoaderOptions options) {
+    return DataLoader.newDataLoader(
+        transactionHashes ->
+            CompletableFuture.completedFuture(
+                blockchainQueries.transactionReceiptsByTransactionHashes(transactionHashes)),
+        options);
+  }
+
+  private static DataLoader<AccountKey, Optional<AccountAdapter>> accountLoader(
+      final BlockchainQueries blockchainQueries, final DataLoaderOptions options) {
+    // World states are kept for the whole request, unless caching is disabled.
+    final Map<Long, Optional<MutableWorldState>> worldStates = new HashMap<>();
+    return DataLoader.newDataLoader(
+        keys -> {
+          if (!options.cachingEnabled()) {
+            worldStates.clear();
+          }
+          return CompletableFuture.completedFuture(
+              keys.stream()
+                  .map(
+                      key ->
+                          worldStates
+                              .computeIfAbsent(key.blockNumber, blockchainQueries::getWorldState)
+                              .map(worldState -> new AccountAdapter(worldState.get(key.address))))
+                  .collect(toList()));
+        },
+        options);
+  }
+
+  /** Identifies an account by its address and the block at the end of which it is read. */
+  public static class AccountKey {
+    private final long blockNumber;
+    private final Address address;
+
+    public AccountKey(final long blockNumber, final Address address) {
+      this.blockNumber = blockNumber;
+      this.address = address;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final AccountKey that = (AccountKey) o;
+      return blockNumber == that.blockNumber && address.equals(that.address);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(blockNumber, address);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("blockNumber", blockNumber)
+          .add("address", address)
+          .toString();
+    }
+  }
+}
@@ -378,6 +378,8 @@ public class GraphQLHttpService {
             .operationName(operationName)
             .variables(variables)
             .context(dataFetcherContext)
+            .dataLoaderRegistry(
+                GraphQLDataLoaders.create(dataFetcherContext.getBlockchainQueries()))
             .build();
     final ExecutionResult result = graphQL.execute(executionInput);
     final Map<String, Object> toSpecificationResult = result.toSpecification();
@@ -15,12 +15,51 @@
 package org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter;
 
 import org.hyperledger.besu.ethereum.api.graphql.GraphQLDataFetcherContext;
+import org.hyperledger.besu.ethereum.api.graphql.GraphQLDataLoaders;
+import org.hyperledger.besu.ethereum.api.graphql.GraphQLDataLoaders.AccountKey;
+import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
 
 abstract class AdapterBase {
   BlockchainQueries getBlockchainQueries(final DataFetchingEnvironment environment) {
     return ((GraphQLDataFetcherContext) environment.getContext()).getBlockchainQueries();
   }
+
+  CompletableFuture<Optional<NormalBlockAdapter>> loadBlock(
+      final DataFetchingEnvironment environment, final Hash blockHash) {
+    final DataLoader<Hash, Optional<BlockWithMetadata<TransactionWithMetadata, Hash>>> loader =
+        environment.getDataLoader(GraphQLDataLoaders.BLOCK_BY_HASH);
+    return loader.load(blockHash).thenApply(block -> block.map(NormalBlockAdapter::new));
+  }
+
+  CompletableFuture<Optional<TransactionWithMetadata>> loadTransaction(
+      final DataFetchingEnvironment environment, final Hash transactionHash) {
+    final DataLoader<Hash, Optional<TransactionWithMetadata>> loader =
+        environment.getDataLoader(GraphQLDataLoaders.TRANSACTION_BY_HASH);
+    return loader.load(transactionHash);
+  }
+
+  CompletableFuture<Optional<TransactionReceiptWithMetadata>> loadTransactionReceipt(
+      final DataFetchingEnvironment environment, final Hash transactionHash) {
+    final DataLoader<Hash, Optional<TransactionReceiptWithMetadata>> loader =
+        environment.getDataLoader(GraphQLDataLoaders.TRANSACTION_RECEIPT_BY_HASH);
+    return loader.load(transactionHash);
+  }
+
+  CompletableFuture<Optional<AccountAdapter>> loadAccount(
+      final DataFetchingEnvironment environment, final long blockNumber, final Address address) {
+    final DataLoader<AccountKey, Optional<AccountAdapter>> loader =
+        environment.getDataLoader(GraphQLDataLoaders.ACCOUNT);
+    return loader.load(new AccountKey(blockNumber, address));
+  }
 }
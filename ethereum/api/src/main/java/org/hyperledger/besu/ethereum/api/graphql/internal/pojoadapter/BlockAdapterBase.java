@@ -15,10 +15,8 @@
 package org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter;
 
 import org.hyperledger.besu.ethereum.api.graphql.GraphQLDataFetcherContext;
-import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.query.LogsQuery;
-import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Difficulty;
@@ -26,7 +24,6 @@ import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.LogTopic;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import org.hyperledger.besu.ethereum.core.Wei;
-import org.hyperledger.besu.ethereum.core.WorldState;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.transaction.CallParameter;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
@@ -36,6 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import com.google.common.primitives.Longs;
@@ -53,12 +51,9 @@ public class BlockAdapterBase extends AdapterBase {
     this.header = header;
   }
 
-  public Optional<NormalBlockAdapter> getParent(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
-    final Hash parentHash = header.getParentHash();
-    final Optional<BlockWithMetadata<TransactionWithMetadata, Hash>> block =
-        query.blockByHash(parentHash);
-    return block.map(NormalBlockAdapter::new);
+  public CompletableFuture<Optional<NormalBlockAdapter>> getParent(
+      final DataFetchingEnvironment environment) {
+    return loadBlock(environment, header.getParentHash());
   }
 
   public Optional<Bytes32> getHash() {
@@ -83,16 +78,14 @@ public class BlockAdapterBase extends AdapterBase {
     return Optional.of(header.getReceiptsRoot());
   }
 
-  public Optional<AccountAdapter> getMiner(final DataFetchingEnvironment environment) {
-
-    final BlockchainQueries query = getBlockchainQueries(environment);
+  public CompletableFuture<Optional<AccountAdapter>> getMiner(
+      final DataFetchingEnvironment environment) {
     long blockNumber = header.getNumber();
     final Long bn = environment.getArgument("block");
     if (bn != null) {
       blockNumber = bn;
     }
-    return Optional.of(
-        new AccountAdapter(query.getWorldState(blockNumber).get().get(header.getCoinbase())));
+    return loadAccount(environment, blockNumber, header.getCoinbase());
   }
 
   public Optional<Bytes> getExtraData() {
@@ -132,17 +125,10 @@ public class BlockAdapterBase extends AdapterBase {
     return Optional.of(bn);
   }
 
-  public Optional<AccountAdapter> getAccount(final DataFetchingEnvironment environment) {
-
-    final BlockchainQueries query = getBlockchainQueries(environment);
-    final long bn = header.getNumber();
-    final WorldState ws = query.getWorldState(bn).get();
-
-    if (ws != null) {
-      final Address addr = environment.getArgument("address");
-      return Optional.of(new AccountAdapter(ws.get(addr)));
-    }
-    return Optional.empty();
+  public CompletableFuture<Optional<AccountAdapter>> getAccount(
+      final DataFetchingEnvironment environment) {
+    final Address addr = environment.getArgument("address");
+    return loadAccount(environment, header.getNumber(), addr);
   }
 
   public List<LogAdapter> getLogs(final DataFetchingEnvironment environment) {
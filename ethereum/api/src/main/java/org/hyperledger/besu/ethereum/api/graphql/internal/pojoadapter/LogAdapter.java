@@ -14,8 +14,6 @@
  */
 package org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter;
 
-import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
-import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.LogTopic;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
@@ -23,6 +21,7 @@ import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import graphql.schema.DataFetchingEnvironment;
 import org.apache.tuweni.bytes.Bytes;
@@ -48,23 +47,19 @@ public class LogAdapter extends AdapterBase {
     return Optional.of(logWithMetadata.getData());
   }
 
-  public Optional<TransactionAdapter> getTransaction(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
+  public CompletableFuture<Optional<TransactionAdapter>> getTransaction(
+      final DataFetchingEnvironment environment) {
     final Hash hash = logWithMetadata.getTransactionHash();
-    final Optional<TransactionWithMetadata> tran = query.transactionByHash(hash);
-    return tran.map(TransactionAdapter::new);
+    return loadTransaction(environment, hash).thenApply(tran -> tran.map(TransactionAdapter::new));
   }
 
-  public Optional<AccountAdapter> getAccount(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
+  public CompletableFuture<Optional<AccountAdapter>> getAccount(
+      final DataFetchingEnvironment environment) {
     long blockNumber = logWithMetadata.getBlockNumber();
     final Long bn = environment.getArgument("block");
     if (bn != null) {
       blockNumber = bn;
     }
-
-    return query
-        .getWorldState(blockNumber)
-        .map(ws -> new AccountAdapter(ws.get(logWithMetadata.getLogger())));
+    return loadAccount(environment, blockNumber, logWithMetadata.getLogger());
   }
 }
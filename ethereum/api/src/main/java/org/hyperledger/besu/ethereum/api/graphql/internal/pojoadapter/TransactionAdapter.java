@@ -14,20 +14,18 @@
  */
 package org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter;
 
-import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
 import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
-import org.hyperledger.besu.ethereum.core.MutableWorldState;
-import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.core.Wei;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import graphql.schema.DataFetchingEnvironment;
 import org.apache.tuweni.bytes.Bytes;
@@ -53,37 +51,24 @@ public class TransactionAdapter extends AdapterBase {
     return transactionWithMetadata.getTransactionIndex();
   }
 
-  public Optional<AccountAdapter> getFrom(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
-    final Optional<Long> txBlockNumber = transactionWithMetadata.getBlockNumber();
-    final Optional<Long> bn = Optional.ofNullable(environment.getArgument("block"));
-    if (!txBlockNumber.isPresent() && !bn.isPresent()) {
-      return Optional.empty();
+  public CompletableFuture<Optional<AccountAdapter>> getFrom(
+      final DataFetchingEnvironment environment) {
+    final Optional<Long> blockNumber = accountBlockNumber(environment);
+    if (blockNumber.isEmpty()) {
+      return CompletableFuture.completedFuture(Optional.empty());
     }
-    return query
-        .getWorldState(bn.orElseGet(txBlockNumber::get))
-        .map(
-            mutableWorldState ->
-                new AccountAdapter(
-                    mutableWorldState.get(transactionWithMetadata.getTransaction().getSender())));
+    return loadAccount(
+        environment, blockNumber.get(), transactionWithMetadata.getTransaction().getSender());
   }
 
-  public Optional<AccountAdapter> getTo(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
-    final Optional<Long> txBlockNumber = transactionWithMetadata.getBlockNumber();
-    final Optional<Long> bn = Optional.ofNullable(environment.getArgument("block"));
-    if (!txBlockNumber.isPresent() && !bn.isPresent()) {
-      return Optional.empty();
+  public CompletableFuture<Optional<AccountAdapter>> getTo(
+      final DataFetchingEnvironment environment) {
+    final Optional<Long> blockNumber = accountBlockNumber(environment);
+    final Optional<Address> to = transactionWithMetadata.getTransaction().getTo();
+    if (blockNumber.isEmpty() || to.isEmpty()) {
+      return CompletableFuture.completedFuture(Optional.empty());
     }
-
-    return query
-        .getWorldState(bn.orElseGet(txBlockNumber::get))
-        .flatMap(
-            ws ->
-                transactionWithMetadata
-                    .getTransaction()
-                    .getTo()
-                    .map(addr -> new AccountAdapter(ws.get(addr))));
+    return loadAccount(environment, blockNumber.get(), to.get());
   }
 
   public Optional<Wei> getValue() {
@@ -102,87 +87,88 @@ public class TransactionAdapter extends AdapterBase {
     return Optional.of(transactionWithMetadata.getTransaction().getPayload());
   }
 
-  public Optional<NormalBlockAdapter> getBlock(final DataFetchingEnvironment environment) {
-    return transactionWithMetadata
-        .getBlockHash()
-        .flatMap(blockHash -> getBlockchainQueries(environment).blockByHash(blockHash))
-        .map(NormalBlockAdapter::new);
-  }
-
-  public Optional<Long> getStatus(final DataFetchingEnvironment environment) {
-    return Optional.ofNullable(transactionWithMetadata.getTransaction())
-        .map(Transaction::getHash)
-        .flatMap(rpt -> getBlockchainQueries(environment).transactionReceiptByTransactionHash(rpt))
-        .map(TransactionReceiptWithMetadata::getReceipt)
-        .flatMap(
-            receipt ->
-                receipt.getStatus() == -1
-                    ? Optional.empty()
-                    : Optional.of((long) receipt.getStatus()));
-  }
-
-  public Optional<Long> getGasUsed(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
-    final Optional<TransactionReceiptWithMetadata> rpt =
-        query.transactionReceiptByTransactionHash(
-            transactionWithMetadata.getTransaction().getHash());
-    return rpt.map(TransactionReceiptWithMetadata::getGasUsed);
-  }
-
-  public Optional<Long> getCumulativeGasUsed(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
-    final Optional<TransactionReceiptWithMetadata> rpt =
-        query.transactionReceiptByTransactionHash(
-            transactionWithMetadata.getTransaction().getHash());
-    if (rpt.isPresent()) {
-      final TransactionReceipt receipt = rpt.get().getReceipt();
-      return Optional.of(receipt.getCumulativeGasUsed());
+  public CompletableFuture<Optional<NormalBlockAdapter>> getBlock(
+      final DataFetchingEnvironment environment) {
+    final Optional<Hash> blockHash = transactionWithMetadata.getBlockHash();
+    if (blockHash.isEmpty()) {
+      return CompletableFuture.completedFuture(Optional.empty());
     }
-    return Optional.empty();
+    return loadBlock(environment, blockHash.get());
+  }
+
+  public CompletableFuture<Optional<Long>> getStatus(final DataFetchingEnvironment environment) {
+    return loadReceipt(environment)
+        .thenApply(
+            rpt ->
+                rpt.map(TransactionReceiptWithMetadata::getReceipt)
+                    .flatMap(
+                        receipt ->
+                            receipt.getStatus() == -1
+                                ? Optional.empty()
+                                : Optional.of((long) receipt.getStatus())));
+  }
+
+  public CompletableFuture<Optional<Long>> getGasUsed(final DataFetchingEnvironment environment) {
+    return loadReceipt(environment)
+        .thenApply(rpt -> rpt.map(TransactionReceiptWithMetadata::getGasUsed));
   }
 
-  public Optional<AccountAdapter> getCreatedContract(final DataFetchingEnvironment environment) {
+  public CompletableFuture<Optional<Long>> getCumulativeGasUsed(
+      final DataFetchingEnvironment environment) {
+    return loadReceipt(environment)
+        .thenApply(
+            rpt ->
+                rpt.map(TransactionReceiptWithMetadata::getReceipt)
+                    .map(TransactionReceipt::getCumulativeGasUsed));
+  }
+
+  public CompletableFuture<Optional<AccountAdapter>> getCreatedContract(
+      final DataFetchingEnvironment environment) {
     final boolean contractCreated = transactionWithMetadata.getTransaction().isContractCreation();
     if (contractCreated) {
       final Optional<Address> addr = transactionWithMetadata.getTransaction().getTo();
-
-      if (addr.isPresent()) {
-        final BlockchainQueries query = getBlockchainQueries(environment);
-        final Optional<Long> txBlockNumber = transactionWithMetadata.getBlockNumber();
-        final Optional<Long> bn = Optional.ofNullable(environment.getArgument("block"));
-        if (!txBlockNumber.isPresent() && !bn.isPresent()) {
-          return Optional.empty();
-        }
-        final long blockNumber = bn.orElseGet(txBlockNumber::get);
-
-        final Optional<MutableWorldState> ws = query.getWorldState(blockNumber);
-        if (ws.isPresent()) {
-          return Optional.of(new AccountAdapter(ws.get().get(addr.get())));
-        }
+      final Optional<Long> blockNumber = accountBlockNumber(environment);
+      if (addr.isPresent() && blockNumber.isPresent()) {
+        return loadAccount(environment, blockNumber.get(), addr.get());
       }
     }
-    return Optional.empty();
+    return CompletableFuture.completedFuture(Optional.empty());
   }
 
-  public List<LogAdapter> getLogs(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
+  public CompletableFuture<List<LogAdapter>> getLogs(final DataFetchingEnvironment environment) {
     final Hash hash = transactionWithMetadata.getTransaction().getHash();
-    final Optional<TransactionReceiptWithMetadata> maybeTransactionReceiptWithMetadata =
-        query.transactionReceiptByTransactionHash(hash);
-    final List<LogAdapter> results = new ArrayList<>();
-    if (maybeTransactionReceiptWithMetadata.isPresent()) {
-      final List<LogWithMetadata> logs =
-          LogWithMetadata.generate(
-              maybeTransactionReceiptWithMetadata.get().getReceipt(),
-              transactionWithMetadata.getBlockNumber().get(),
-              transactionWithMetadata.getBlockHash().get(),
-              hash,
-              transactionWithMetadata.getTransactionIndex().get(),
-              false);
-      for (final LogWithMetadata log : logs) {
-        results.add(new LogAdapter(log));
-      }
-    }
-    return results;
+    return loadReceipt(environment)
+        .thenApply(
+            maybeTransactionReceiptWithMetadata -> {
+              final List<LogAdapter> results = new ArrayList<>();
+              if (maybeTransactionReceiptWithMetadata.isPresent()) {
+                final List<LogWithMetadata> logs =
+                    LogWithMetadata.generate(
+                        maybeTransactionReceiptWithMetadata.get().getReceipt(),
+                        transactionWithMetadata.getBlockNumber().get(),
+                        transactionWithMetadata.getBlockHash().get(),
+                        hash,
+                        transactionWithMetadata.getTransactionIndex().get(),
+                        false);
+                for (final LogWithMetadata log : logs) {
+                  results.add(new LogAdapter(log));
+                }
+              }
+              return results;
+            });
+  }
+
+  private CompletableFuture<Optional<TransactionReceiptWithMetadata>> loadReceipt(
+      final DataFetchingEnvironment environment) {
+    return loadTransactionReceipt(environment, transactionWithMetadata.getTransaction().getHash());
+  }
+
+  /**
+   * Accounts are read at the end of the block given as argument, defaulting to the block of the
+   * transaction. Pending transactions have no default.
+   */
+  private Optional<Long> accountBlockNumber(final DataFetchingEnvironment environment) {
+    final Optional<Long> bn = Optional.ofNullable(environment.getArgument("block"));
+    return bn.isPresent() ? bn : transactionWithMetadata.getBlockNumber();
   }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * An {@link OutputStream} which writes directly to a chunked {@link HttpServerResponse}. Responses
+ * serialized through it are sent as the serializer flushes its buffer, instead of first being
+ * built up as a complete string and then copied into a buffer.
+ *
+ * <p>When the connection's write queue is full, writes block until it has drained, so the stream
+ * must be written from a worker thread rather than the event loop. Writes fail with an {@link
+ * IOException} once the connection has been closed, which stops the serialization.
+ *
+ * <p>Closing the stream does not end the response, so a serialization failure part way through
+ * can be handled by closing the connection instead of sending a truncated body as complete.
+ */
+class JsonResponseStreamer extends OutputStream {
+
+  private static final long DRAIN_CHECK_INTERVAL_MILLIS = 100;
+
+  private final HttpServerResponse response;
+
+  JsonResponseStreamer(final HttpServerResponse response) {
+    this.response = response;
+    response.setChunked(true);
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    write(Buffer.buffer(1).appendByte((byte) b));
+  }
+
+  @Override
+  public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+    if (length > 0) {
+      // The serializer reuses its buffer, so the bytes must be copied before being queued
+      write(Buffer.buffer(length).appendBytes(bytes, offset, length));
+    }
+  }
+
+  private void write(final Buffer buffer) throws IOException {
+    awaitWriteQueueCapacity();
+    try {
+      response.write(buffer);
+    } catch (final IllegalStateException e) {
+      // The connection was closed after the last check
+      throw new IOException("Connection closed while writing response", e);
+    }
+  }
+
+  private void awaitWriteQueueCapacity() throws IOException {
+    checkOpen();
+    while (response.writeQueueFull()) {
+      final CompletableFuture<Void> drained = new CompletableFuture<>();
+      response.drainHandler(ignored -> drained.complete(null));
+      try {
+        // The queue may have drained before the handler was registered, so check again shortly
+        // rather than waiting indefinitely.
+        drained.get(DRAIN_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (final TimeoutException | ExecutionException e) {
+        // Check the connection and the queue again
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting to write response");
+      }
+      checkOpen();
+    }
+  }
+
+  private void checkOpen() throws IOException {
+    if (response.closed()) {
+      throw new IOException("Connection closed while writing response");
+    }
+  }
+}
@@ -30,6 +30,10 @@ import com.google.common.base.MoreObjects;
 public class JsonRpcConfiguration {
   private static final String DEFAULT_JSON_RPC_HOST = "127.0.0.1";
   public static final int DEFAULT_JSON_RPC_PORT = 8545;
+  public static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+  public static final int DEFAULT_MAX_BATCH_CONCURRENCY = 16;
+  public static final int DEFAULT_BATCH_WORKER_POOL_SIZE = 32;
+  public static final int DEFAULT_CALL_CACHE_SIZE = 0;
 
   private boolean enabled;
   private int port;
@@ -41,6 +45,10 @@ public class JsonRpcConfiguration {
   private String authenticationCredentialsFile;
   private File authenticationPublicKeyFile;
   private Optional<TlsConfiguration> tlsConfiguration = Optional.empty();
+  private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  private int maxBatchConcurrency = DEFAULT_MAX_BATCH_CONCURRENCY;
+  private int batchWorkerPoolSize = DEFAULT_BATCH_WORKER_POOL_SIZE;
+  private int callCacheSize = DEFAULT_CALL_CACHE_SIZE;
 
   public static JsonRpcConfiguration createDefault() {
     final JsonRpcConfiguration config = new JsonRpcConfiguration();
@@ -140,6 +148,38 @@ public class JsonRpcConfiguration {
     this.tlsConfiguration = tlsConfiguration;
   }
 
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public int getMaxBatchConcurrency() {
+    return maxBatchConcurrency;
+  }
+
+  public void setMaxBatchConcurrency(final int maxBatchConcurrency) {
+    this.maxBatchConcurrency = maxBatchConcurrency;
+  }
+
+  public int getBatchWorkerPoolSize() {
+    return batchWorkerPoolSize;
+  }
+
+  public void setBatchWorkerPoolSize(final int batchWorkerPoolSize) {
+    this.batchWorkerPoolSize = batchWorkerPoolSize;
+  }
+
+  public int getCallCacheSize() {
+    return callCacheSize;
+  }
+
+  public void setCallCacheSize(final int callCacheSize) {
+    this.callCacheSize = callCacheSize;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
@@ -153,6 +193,10 @@ public class JsonRpcConfiguration {
         .add("authenticationCredentialsFile", authenticationCredentialsFile)
         .add("authenticationPublicKeyFile", authenticationPublicKeyFile)
         .add("tlsConfiguration", tlsConfiguration)
+        .add("maxBatchSize", maxBatchSize)
+        .add("maxBatchConcurrency", maxBatchConcurrency)
+        .add("batchWorkerPoolSize", batchWorkerPoolSize)
+        .add("callCacheSize", callCacheSize)
         .toString();
   }
 
@@ -168,6 +212,10 @@ public class JsonRpcConfiguration {
     return enabled == that.enabled
         && port == that.port
         && authenticationEnabled == that.authenticationEnabled
+        && maxBatchSize == that.maxBatchSize
+        && maxBatchConcurrency == that.maxBatchConcurrency
+        && batchWorkerPoolSize == that.batchWorkerPoolSize
+        && callCacheSize == that.callCacheSize
         && Objects.equals(host, that.host)
         && Objects.equals(corsAllowedDomains, that.corsAllowedDomains)
         && Objects.equals(rpcApis, that.rpcApis)
@@ -187,6 +235,10 @@ public class JsonRpcConfiguration {
         hostsWhitelist,
         authenticationEnabled,
         authenticationCredentialsFile,
-        authenticationPublicKeyFile);
+        authenticationPublicKeyFile,
+        maxBatchSize,
+        maxBatchConcurrency,
+        batchWorkerPoolSize,
+        callCacheSize);
   }
 }
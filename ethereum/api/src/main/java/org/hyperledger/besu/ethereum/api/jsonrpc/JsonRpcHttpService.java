@@ -16,7 +16,6 @@ package org.hyperledger.besu.ethereum.api.jsonrpc;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Streams.stream;
-import static java.util.stream.Collectors.toList;
 import static org.apache.tuweni.net.tls.VertxTrustOptions.whitelistClients;
 
 import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.AuthenticationService;
@@ -47,24 +46,26 @@ import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.util.ExceptionUtils;
 import org.hyperledger.besu.util.NetworkUtility;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketException;
 import java.nio.file.Path;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
 import io.netty.handler.codec.http.HttpResponseStatus;
-import io.vertx.core.CompositeFuture;
-import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxException;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.http.ClientAuth;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
@@ -98,10 +99,12 @@ public class JsonRpcHttpService {
   private final NatService natService;
   private final Path dataDir;
   private final LabelledMetric<OperationTimer> requestTimer;
+  private final OperationTimer batchRequestTimer;
 
   @VisibleForTesting public final Optional<AuthenticationService> authenticationService;
 
   private HttpServer httpServer;
+  private WorkerExecutor batchWorkerExecutor;
   private final HealthService livenessService;
   private final HealthService readinessService;
 
@@ -155,6 +158,11 @@ public class JsonRpcHttpService {
             "request_time",
             "Time taken to process a JSON-RPC request",
             "methodName");
+    batchRequestTimer =
+        metricsSystem.createTimer(
+            BesuMetricCategory.RPC,
+            "batch_request_time",
+            "Time taken to process all requests in a JSON-RPC batch");
     validateConfig(config);
     this.config = config;
     this.vertx = vertx;
@@ -170,12 +178,17 @@ public class JsonRpcHttpService {
         config.getPort() == 0 || NetworkUtility.isValidPort(config.getPort()),
         "Invalid port configuration.");
     checkArgument(config.getHost() != null, "Required host is not configured.");
+    checkArgument(config.getMaxBatchSize() > 0, "Max batch size must be positive.");
+    checkArgument(config.getMaxBatchConcurrency() > 0, "Max batch concurrency must be positive.");
   }
 
   public CompletableFuture<?> start() {
     LOG.info("Starting JsonRPC service on {}:{}", config.getHost(), config.getPort());
 
     final CompletableFuture<?> resultFuture = new CompletableFuture<>();
+    batchWorkerExecutor =
+        vertx.createSharedWorkerExecutor(
+            "json-rpc-batch-worker", config.getBatchWorkerPoolSize());
     try {
       // Create the HTTP server and a router object.
       httpServer = vertx.createHttpServer(getHttpServerOptions());
@@ -382,6 +395,10 @@ public class JsonRpcHttpService {
   }
 
   public CompletableFuture<?> stop() {
+    if (batchWorkerExecutor != null) {
+      batchWorkerExecutor.close();
+      batchWorkerExecutor = null;
+    }
     if (httpServer == null) {
       return CompletableFuture.completedFuture(null);
     }
@@ -474,8 +491,12 @@ public class JsonRpcHttpService {
           if (!response.closed()) {
             response
                 .setStatusCode(status(jsonRpcResponse).code())
-                .putHeader("Content-Type", APPLICATION_JSON)
-                .end(serialize(jsonRpcResponse));
+                .putHeader("Content-Type", APPLICATION_JSON);
+            if (jsonRpcResponse.getType() == JsonRpcResponseType.NONE) {
+              response.end(EMPTY_RESPONSE);
+            } else {
+              writeResponse(response, jsonRpcResponse);
+            }
           }
         });
   }
@@ -494,63 +515,61 @@ public class JsonRpcHttpService {
     }
   }
 
-  private String serialize(final JsonRpcResponse response) {
-
-    if (response.getType() == JsonRpcResponseType.NONE) {
-      return EMPTY_RESPONSE;
-    }
-
-    return Json.encodePrettily(response);
+  private void writeResponse(final HttpServerResponse response, final Object value) {
+    // Serialize straight onto the connection so large responses are never held in memory as a
+    // complete string. Serialization waits for the connection to drain when its write queue is
+    // full, so it runs on a worker thread.
+    vertx.executeBlocking(
+        future -> {
+          try {
+            Json.mapper.writeValue(new JsonResponseStreamer(response), value);
+            response.end();
+          } catch (final IOException e) {
+            if (response.closed()) {
+              LOG.debug("Connection closed while writing JSON-RPC response");
+            } else {
+              LOG.error("Error writing JSON-RPC response", e);
+              response.close();
+            }
+          }
+          future.complete();
+        },
+        false,
+        result -> {
+          if (result.failed()) {
+            LOG.error("Error writing JSON-RPC response", result.cause());
+            if (!response.closed()) {
+              response.close();
+            }
+          }
+        });
   }
 
-  @SuppressWarnings("rawtypes")
   private void handleJsonBatchRequest(
       final RoutingContext routingContext, final JsonArray jsonArray, final Optional<User> user) {
-    // Interpret json as rpc request
-    final List<Future> responses =
-        jsonArray.stream()
-            .map(
-                obj -> {
-                  if (!(obj instanceof JsonObject)) {
-                    return Future.succeededFuture(
-                        errorResponse(null, JsonRpcError.INVALID_REQUEST));
-                  }
-
-                  final JsonObject req = (JsonObject) obj;
-                  final Future<JsonRpcResponse> fut = Future.future();
-                  vertx.executeBlocking(
-                      future -> future.complete(process(req, user)),
-                      false,
-                      ar -> {
-                        if (ar.failed()) {
-                          fut.fail(ar.cause());
-                        } else {
-                          fut.complete((JsonRpcResponse) ar.result());
-                        }
-                      });
-                  return fut;
-                })
-            .collect(toList());
-
-    CompositeFuture.all(responses)
-        .setHandler(
-            (res) -> {
+    if (jsonArray.size() > config.getMaxBatchSize()) {
+      handleJsonRpcError(routingContext, null, JsonRpcError.EXCEEDS_RPC_MAX_BATCH_SIZE);
+      return;
+    }
+
+    final OperationTimer.TimingContext timingContext = batchRequestTimer.startTimer();
+    new BatchExecution(
+            jsonArray,
+            user,
+            responses -> {
+              timingContext.stopTimer();
               final HttpServerResponse response = routingContext.response();
               if (response.closed()) {
                 return;
               }
-              if (res.failed()) {
-                response.setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code()).end();
-                return;
-              }
               final JsonRpcResponse[] completed =
-                  res.result().list().stream()
-                      .map(JsonRpcResponse.class::cast)
+                  Arrays.stream(responses)
                       .filter(this::isNonEmptyResponses)
                       .toArray(JsonRpcResponse[]::new);
 
-              response.end(Json.encode(completed));
-            });
+              writeResponse(response, completed);
+            })
+        .start(config.getMaxBatchConcurrency());
   }
 
   private boolean isNonEmptyResponses(final JsonRpcResponse result) {
@@ -645,6 +664,77 @@ public class JsonRpcHttpService {
     return new JsonRpcUnauthorizedResponse(id, error);
   }
 
+  /**
+   * Executes the requests of a batch on the batch worker pool, keeping at most a fixed number of
+   * them in flight so a single large batch cannot occupy every worker. Responses are collected in
+   * request order.
+   */
+  private class BatchExecution {
+    private final JsonArray requests;
+    private final Optional<User> user;
+    private final JsonRpcResponse[] responses;
+    private final Consumer<JsonRpcResponse[]> onComplete;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final AtomicInteger remaining;
+
+    private BatchExecution(
+        final JsonArray requests,
+        final Optional<User> user,
+        final Consumer<JsonRpcResponse[]> onComplete) {
+      this.requests = requests;
+      this.user = user;
+      this.responses = new JsonRpcResponse[requests.size()];
+      this.onComplete = onComplete;
+      this.remaining = new AtomicInteger(requests.size());
+    }
+
+    private void start(final int maxConcurrency) {
+      final int initialRequests = Math.min(maxConcurrency, responses.length);
+      for (int i = 0; i < initialRequests; i++) {
+        executeNext();
+      }
+    }
+
+    private void executeNext() {
+      int index;
+      while ((index = nextIndex.getAndIncrement()) < responses.length) {
+        final Object request = requests.getValue(index);
+        if (request instanceof JsonObject) {
+          execute(index, (JsonObject) request);
+          return;
+        }
+        // Invalid entries don't need a worker, so answer them and move on to the next request
+        if (completed(index, errorResponse(null, JsonRpcError.INVALID_REQUEST))) {
+          return;
+        }
+      }
+    }
+
+    private void execute(final int index, final JsonObject request) {
+      batchWorkerExecutor.<JsonRpcResponse>executeBlocking(
+          future -> future.complete(process(request, user)),
+          false,
+          result -> {
+            final JsonRpcResponse response =
+                result.succeeded()
+                    ? result.result()
+                    : errorResponse(request.getValue("id"), JsonRpcError.INTERNAL_ERROR);
+            if (!completed(index, response)) {
+              executeNext();
+            }
+          });
+    }
+
+    private boolean completed(final int index, final JsonRpcResponse response) {
+      responses[index] = response;
+      if (remaining.decrementAndGet() == 0) {
+        onComplete.accept(responses);
+        return true;
+      }
+      return false;
+    }
+  }
+
   private String buildCorsRegexFromConfig() {
     if (config.getCorsAllowedDomains().isEmpty()) {
       return "";
@@ -30,7 +30,9 @@ public enum RpcMethod {
   CLIQUE_GET_PROPOSALS("clique_proposals"),
   CLIQUE_PROPOSE("clique_propose"),
   CLIQUE_GET_SIGNER_METRICS("clique_getSignerMetrics"),
+  DEBUG_EVM_PROFILE("debug_evmProfile"),
   DEBUG_METRICS("debug_metrics"),
+  DEBUG_PIPELINES("debug_pipelines"),
   DEBUG_STORAGE_RANGE_AT("debug_storageRangeAt"),
   DEBUG_TRACE_BLOCK("debug_traceBlock"),
   DEBUG_TRACE_BLOCK_BY_HASH("debug_traceBlockByHash"),
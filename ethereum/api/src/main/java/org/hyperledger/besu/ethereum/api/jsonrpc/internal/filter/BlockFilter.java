@@ -16,13 +16,14 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter;
 
 import org.hyperledger.besu.ethereum.core.Hash;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+
+import com.google.common.collect.EvictingQueue;
 
 /** Tracks new blocks being added to the blockchain. */
 class BlockFilter extends Filter {
 
-  private final List<Hash> blockHashes = new ArrayList<>();
+  private final Collection<Hash> blockHashes = EvictingQueue.create(MAX_BUFFERED_CHANGES);
 
   BlockFilter(final String id) {
     super(id);
@@ -32,7 +33,7 @@ class BlockFilter extends Filter {
     blockHashes.add(hash);
   }
 
-  List<Hash> blockHashes() {
+  Collection<Hash> blockHashes() {
     return blockHashes;
   }
 
@@ -23,6 +23,12 @@ abstract class Filter {
 
   private static final Duration DEFAULT_EXPIRE_DURATION = Duration.ofMinutes(10);
 
+  /**
+   * The number of changes each filter buffers between polls. Once reached, the oldest changes are
+   * dropped so a filter that is polled rarely cannot grow without bound.
+   */
+  static final int MAX_BUFFERED_CHANGES = 10_000;
+
   private final String id;
   private Instant expireTime;
 
@@ -25,10 +25,14 @@ import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.OptionalLong;
 
 import com.google.common.annotations.VisibleForTesting;
 import io.vertx.core.AbstractVerticle;
@@ -41,14 +45,26 @@ public class FilterManager extends AbstractVerticle {
   private final FilterIdGenerator filterIdGenerator;
   private final FilterRepository filterRepository;
   private final BlockchainQueries blockchainQueries;
+  private final OperationTimer blockProcessingTimer;
 
   public FilterManager(
       final BlockchainQueries blockchainQueries,
       final TransactionPool transactionPool,
       final FilterIdGenerator filterIdGenerator,
-      final FilterRepository filterRepository) {
+      final FilterRepository filterRepository,
+      final MetricsSystem metricsSystem) {
     this.filterIdGenerator = filterIdGenerator;
     this.filterRepository = filterRepository;
+    metricsSystem.createIntegerGauge(
+        BesuMetricCategory.RPC,
+        "installed_filters",
+        "Number of installed JSON-RPC filters",
+        filterRepository::count);
+    blockProcessingTimer =
+        metricsSystem.createTimer(
+            BesuMetricCategory.RPC,
+            "filter_block_processing_time",
+            "Time taken to update JSON-RPC filters with an added block");
     checkNotNull(blockchainQueries.getBlockchain());
     blockchainQueries.getBlockchain().observeBlockAdded(this::recordBlockEvent);
     transactionPool.subscribePendingTransactions(this::recordPendingTransactionEvent);
@@ -126,30 +142,37 @@ public class FilterManager extends AbstractVerticle {
   }
 
   public void recordBlockEvent(final BlockAddedEvent event, final Blockchain blockchain) {
-    final Hash blockHash = event.getBlock().getHash();
-    final Collection<BlockFilter> blockFilters =
-        filterRepository.getFiltersOfType(BlockFilter.class);
-    blockFilters.forEach(
-        (filter) -> {
-          synchronized (filter) {
-            filter.addBlockHash(blockHash);
-          }
-        });
+    try (final OperationTimer.TimingContext ignored = blockProcessingTimer.startTimer()) {
+      final Hash blockHash = event.getBlock().getHash();
+      final Collection<BlockFilter> blockFilters =
+          filterRepository.getFiltersOfType(BlockFilter.class);
+      blockFilters.forEach(
+          (filter) -> {
+            synchronized (filter) {
+              filter.addBlockHash(blockHash);
+            }
+          });
+
+      event.getLogsWithMetadata().forEach(this::recordLog);
+    }
+  }
 
-    checkBlockchainForMatchingLogsForFilters();
+  private void recordLog(final LogWithMetadata log) {
+    // The added block's logs already carry their metadata, so only the filters indexed as
+    // possible matches need checking, without reading the block back from the blockchain
+    for (final LogFilter filter : filterRepository.getLogFiltersMatching(log)) {
+      if (isBeyondToBlock(filter, log)) {
+        continue;
+      }
+      synchronized (filter) {
+        filter.addLog(log);
+      }
+    }
   }
 
-  private void checkBlockchainForMatchingLogsForFilters() {
-    final Collection<LogFilter> logFilters = filterRepository.getFiltersOfType(LogFilter.class);
-    logFilters.forEach(
-        (filter) -> {
-          final long headBlockNumber = blockchainQueries.headBlockNumber();
-          final long toBlockNumber =
-              filter.getToBlock().getNumber().orElse(blockchainQueries.headBlockNumber());
-          final List<LogWithMetadata> logs =
-              blockchainQueries.matchingLogs(headBlockNumber, toBlockNumber, filter.getLogsQuery());
-          filter.addLog(logs);
-        });
+  private boolean isBeyondToBlock(final LogFilter filter, final LogWithMetadata log) {
+    final OptionalLong toBlockNumber = filter.getToBlock().getNumber();
+    return toBlockNumber.isPresent() && log.getBlockNumber() > toBlockNumber.getAsLong();
   }
 
   @VisibleForTesting
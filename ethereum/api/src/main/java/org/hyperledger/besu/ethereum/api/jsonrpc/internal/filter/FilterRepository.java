@@ -14,8 +14,12 @@
  */
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter;
 
+import org.hyperledger.besu.ethereum.api.query.LogsQueryIndex;
+import org.hyperledger.besu.ethereum.core.Log;
+
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -25,6 +29,8 @@ import java.util.stream.Stream;
 public class FilterRepository {
 
   private final Map<String, Filter> filters = new ConcurrentHashMap<>();
+  private final LogsQueryIndex<LogFilter> logFilterIndex =
+      new LogsQueryIndex<>(LogFilter::getLogsQuery);
 
   public FilterRepository() {}
 
@@ -38,6 +44,10 @@ public class FilterRepository {
         .collect(Collectors.toList());
   }
 
+  List<LogFilter> getLogFiltersMatching(final Log log) {
+    return logFilterIndex.matching(log);
+  }
+
   <T extends Filter> Optional<T> getFilter(final String filterId, final Class<T> filterClass) {
     final Filter filter = filters.get(filterId);
     return getIfTypeMatches(filter, filterClass);
@@ -72,13 +82,24 @@ public class FilterRepository {
     }
 
     filters.put(filter.getId(), filter);
+    if (filter instanceof LogFilter) {
+      logFilterIndex.add((LogFilter) filter);
+    }
   }
 
   void delete(final String id) {
-    filters.remove(id);
+    final Filter removed = filters.remove(id);
+    if (removed instanceof LogFilter) {
+      logFilterIndex.remove((LogFilter) removed);
+    }
   }
 
   void deleteAll() {
     filters.clear();
+    logFilterIndex.clear();
+  }
+
+  int count() {
+    return filters.size();
   }
 }
@@ -18,8 +18,9 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParame
 import org.hyperledger.besu.ethereum.api.query.LogsQuery;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+
+import com.google.common.collect.EvictingQueue;
 
 class LogFilter extends Filter {
 
@@ -27,7 +28,7 @@ class LogFilter extends Filter {
   private final BlockParameter toBlock;
   private final LogsQuery logsQuery;
 
-  private final List<LogWithMetadata> logs = new ArrayList<>();
+  private final Collection<LogWithMetadata> logs = EvictingQueue.create(MAX_BUFFERED_CHANGES);
 
   LogFilter(
       final String id,
@@ -52,11 +53,11 @@ class LogFilter extends Filter {
     return logsQuery;
   }
 
-  void addLog(final List<LogWithMetadata> logs) {
-    this.logs.addAll(logs);
+  void addLog(final LogWithMetadata log) {
+    logs.add(log);
   }
 
-  List<LogWithMetadata> logs() {
+  Collection<LogWithMetadata> logs() {
     return logs;
   }
 
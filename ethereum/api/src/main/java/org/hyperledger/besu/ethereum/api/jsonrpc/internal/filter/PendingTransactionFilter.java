@@ -16,13 +16,14 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter;
 
 import org.hyperledger.besu.ethereum.core.Hash;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+
+import com.google.common.collect.EvictingQueue;
 
 /** Tracks new pending transactions that have arrived in the transaction pool */
 class PendingTransactionFilter extends Filter {
 
-  private final List<Hash> transactionHashes = new ArrayList<>();
+  private final Collection<Hash> transactionHashes = EvictingQueue.create(MAX_BUFFERED_CHANGES);
 
   PendingTransactionFilter(final String id) {
     super(id);
@@ -32,7 +33,7 @@ class PendingTransactionFilter extends Filter {
     transactionHashes.add(hash);
   }
 
-  List<Hash> transactionHashes() {
+  Collection<Hash> transactionHashes() {
     return transactionHashes;
   }
 
@@ -0,0 +1,131 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.CONTRACT_COUNT_METRIC;
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.CONTRACT_TIME_METRIC;
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.OPERATION_COUNT_METRIC;
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.OPERATION_TIME_METRIC;
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.PRECOMPILE_COUNT_METRIC;
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.PRECOMPILE_TIME_METRIC;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.metrics.ObservableMetricsSystem;
+import org.hyperledger.besu.metrics.Observation;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reports the number of executions and the time spent executing each opcode, each precompiled
+ * contract and the code with each hash, most expensive first. The report is assembled from the
+ * metrics of the EVM profiler, so is empty unless both metrics and EVM profiling are enabled.
+ */
+public class DebugEvmProfile implements JsonRpcMethod {
+
+  private final ObservableMetricsSystem metricsSystem;
+
+  public DebugEvmProfile(final ObservableMetricsSystem metricsSystem) {
+    this.metricsSystem = metricsSystem;
+  }
+
+  @Override
+  public String getName() {
+    return RpcMethod.DEBUG_EVM_PROFILE.getMethodName();
+  }
+
+  @Override
+  public JsonRpcResponse response(final JsonRpcRequestContext requestContext) {
+    final Map<String, ProfileEntry> operations = new HashMap<>();
+    final Map<String, ProfileEntry> precompiles = new HashMap<>();
+    final Map<String, ProfileEntry> contracts = new HashMap<>();
+    metricsSystem
+        .streamObservations(BesuMetricCategory.BLOCKCHAIN)
+        .forEach(
+            observation -> {
+              switch (observation.getMetricName()) {
+                case OPERATION_COUNT_METRIC:
+                  entry(operations, observation).count = value(observation);
+                  break;
+                case OPERATION_TIME_METRIC:
+                  entry(operations, observation).totalNanos = value(observation);
+                  break;
+                case PRECOMPILE_COUNT_METRIC:
+                  entry(precompiles, observation).count = value(observation);
+                  break;
+                case PRECOMPILE_TIME_METRIC:
+                  entry(precompiles, observation).totalNanos = value(observation);
+                  break;
+                case CONTRACT_COUNT_METRIC:
+                  entry(contracts, observation).count = value(observation);
+                  break;
+                case CONTRACT_TIME_METRIC:
+                  entry(contracts, observation).totalNanos = value(observation);
+                  break;
+                default:
+                  break;
+              }
+            });
+    final Map<String, Object> result = new TreeMap<>();
+    result.put("operations", toResult(operations));
+    result.put("precompiles", toResult(precompiles));
+    result.put("contracts", toResult(contracts));
+    return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), result);
+  }
+
+  private ProfileEntry entry(
+      final Map<String, ProfileEntry> entries, final Observation observation) {
+    final List<String> labels = observation.getLabels();
+    return entries.computeIfAbsent(labels.get(0), label -> new ProfileEntry());
+  }
+
+  private long value(final Observation observation) {
+    return observation.getValue() instanceof Number
+        ? ((Number) observation.getValue()).longValue()
+        : 0;
+  }
+
+  private Map<String, Object> toResult(final Map<String, ProfileEntry> entries) {
+    final Map<String, Object> result = new LinkedHashMap<>();
+    entries.entrySet().stream()
+        .sorted(
+            Comparator.comparing(
+                    (Map.Entry<String, ProfileEntry> entry) -> entry.getValue().totalNanos)
+                .reversed())
+        .forEach(entry -> result.put(entry.getKey(), entry.getValue().toResult()));
+    return result;
+  }
+
+  private static class ProfileEntry {
+    private long count;
+    private long totalNanos;
+
+    Map<String, Object> toResult() {
+      final Map<String, Object> result = new TreeMap<>();
+      result.put("count", count);
+      result.put("totalNanos", totalNanos);
+      result.put("averageNanos", count > 0 ? totalNanos / count : 0L);
+      return result;
+    }
+  }
+}
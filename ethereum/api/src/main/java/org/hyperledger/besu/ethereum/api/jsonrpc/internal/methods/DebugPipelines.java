@@ -0,0 +1,172 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.metrics.ObservableMetricsSystem;
+import org.hyperledger.besu.metrics.Observation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reports, for each stage of each pipeline, the time spent processing, waiting for input and
+ * waiting for capacity to output, the average latency of its items and the number of items queued
+ * in its output pipe, so the bottleneck of a stalled pipeline can be identified. The report is
+ * assembled from the pipeline metrics, so is empty unless metrics are enabled.
+ */
+public class DebugPipelines implements JsonRpcMethod {
+  private static final String PROCESSED_METRIC_SUFFIX = "_pipeline_processed_total";
+  private static final String STAGE_TIME_METRIC_SUFFIX = "_pipeline_stage_seconds";
+  private static final String OUTPUT_PIPE_SUFFIX = "_outputPipe";
+
+  private final ObservableMetricsSystem metricsSystem;
+
+  public DebugPipelines(final ObservableMetricsSystem metricsSystem) {
+    this.metricsSystem = metricsSystem;
+  }
+
+  @Override
+  public String getName() {
+    return RpcMethod.DEBUG_PIPELINES.getMethodName();
+  }
+
+  @Override
+  public JsonRpcResponse response(final JsonRpcRequestContext requestContext) {
+    final Map<String, Map<String, StageReport>> pipelines = new TreeMap<>();
+    metricsSystem
+        .streamObservations(BesuMetricCategory.SYNCHRONIZER)
+        .forEach(observation -> addObservation(pipelines, observation));
+    final Map<String, Object> result = new TreeMap<>();
+    pipelines.forEach(
+        (pipelineName, stages) -> {
+          final Map<String, Object> stageResults = new TreeMap<>();
+          stages.forEach((stageName, report) -> stageResults.put(stageName, report.toResult()));
+          result.put(pipelineName, stageResults);
+        });
+    return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), result);
+  }
+
+  private void addObservation(
+      final Map<String, Map<String, StageReport>> pipelines, final Observation observation) {
+    final String metricName = observation.getMetricName();
+    final List<String> labels = observation.getLabels();
+    if (!(observation.getValue() instanceof Number)) {
+      return;
+    }
+    final double value = ((Number) observation.getValue()).doubleValue();
+    if (metricName.endsWith(PROCESSED_METRIC_SUFFIX) && labels.size() == 2) {
+      final String step = labels.get(0);
+      if (!step.endsWith(OUTPUT_PIPE_SUFFIX)) {
+        return;
+      }
+      final String stageName = step.substring(0, step.length() - OUTPUT_PIPE_SUFFIX.length());
+      stageReport(pipelines, metricName, PROCESSED_METRIC_SUFFIX, stageName)
+          .addPipeCount(labels.get(1), value);
+    } else if (metricName.endsWith(STAGE_TIME_METRIC_SUFFIX) && labels.size() == 3) {
+      stageReport(pipelines, metricName, STAGE_TIME_METRIC_SUFFIX, labels.get(0))
+          .addTime(labels.get(1), labels.get(2), value);
+    }
+  }
+
+  private StageReport stageReport(
+      final Map<String, Map<String, StageReport>> pipelines,
+      final String metricName,
+      final String suffix,
+      final String stageName) {
+    final String pipelineName = metricName.substring(0, metricName.length() - suffix.length());
+    return pipelines
+        .computeIfAbsent(pipelineName, name -> new TreeMap<>())
+        .computeIfAbsent(stageName, name -> new StageReport());
+  }
+
+  private static class StageReport {
+    private double processingSeconds;
+    private double waitingForInputSeconds;
+    private double waitingForOutputSeconds;
+    private double iterations;
+    private double itemSeconds;
+    private double items;
+    private double added;
+    private double removed;
+    private double aborted;
+
+    void addPipeCount(final String action, final double value) {
+      switch (action) {
+        case "added":
+          added = value;
+          break;
+        case "removed":
+          removed = value;
+          break;
+        case "aborted":
+          aborted = value;
+          break;
+        default:
+          break;
+      }
+    }
+
+    void addTime(final String state, final String sampleType, final double value) {
+      if ("count".equals(sampleType) && "processing".equals(state)) {
+        iterations = value;
+      }
+      if ("count".equals(sampleType) && "item".equals(state)) {
+        items = value;
+      }
+      if (!"sum".equals(sampleType)) {
+        return;
+      }
+      switch (state) {
+        case "processing":
+          processingSeconds = value;
+          break;
+        case "waiting_for_input":
+          waitingForInputSeconds = value;
+          break;
+        case "waiting_for_output":
+          waitingForOutputSeconds = value;
+          break;
+        case "item":
+          itemSeconds = value;
+          break;
+        default:
+          break;
+      }
+    }
+
+    Map<String, Object> toResult() {
+      final Map<String, Object> result = new TreeMap<>();
+      // Waiting happens within processing for stages which read input while processing.
+      final double busySeconds =
+          Math.max(0, processingSeconds - waitingForInputSeconds - waitingForOutputSeconds);
+      result.put("busySeconds", busySeconds);
+      result.put("waitingForInputSeconds", waitingForInputSeconds);
+      result.put("waitingForOutputSeconds", waitingForOutputSeconds);
+      result.put("iterations", (long) iterations);
+      result.put(
+          "averageIterationMillis", iterations > 0 ? processingSeconds * 1000 / iterations : 0d);
+      result.put("items", (long) items);
+      result.put("averageItemMillis", items > 0 ? itemSeconds * 1000 / items : 0d);
+      result.put("queuedOutputItems", (long) Math.max(0, added - removed - aborted));
+      return result;
+    }
+  }
+}
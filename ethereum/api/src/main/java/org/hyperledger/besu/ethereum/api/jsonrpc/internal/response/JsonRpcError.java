@@ -24,6 +24,7 @@ public enum JsonRpcError {
   // Standard errors
   PARSE_ERROR(-32700, "Parse error"),
   INVALID_REQUEST(-32600, "Invalid Request"),
+  EXCEEDS_RPC_MAX_BATCH_SIZE(-32600, "Number of requests exceeds max batch size"),
   METHOD_NOT_FOUND(-32601, "Method not found"),
   INVALID_PARAMS(-32602, "Invalid params"),
   INTERNAL_ERROR(-32603, "Internal error"),
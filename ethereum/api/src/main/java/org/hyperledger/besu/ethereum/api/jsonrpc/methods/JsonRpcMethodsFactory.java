@@ -31,6 +31,7 @@ import org.hyperledger.besu.ethereum.p2p.network.P2PNetwork;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
 import org.hyperledger.besu.ethereum.permissioning.AccountLocalConfigPermissioningController;
 import org.hyperledger.besu.ethereum.permissioning.NodeLocalConfigPermissioningController;
+import org.hyperledger.besu.ethereum.transaction.CallResultCache;
 import org.hyperledger.besu.metrics.ObservableMetricsSystem;
 import org.hyperledger.besu.metrics.prometheus.MetricsConfiguration;
 import org.hyperledger.besu.nat.NatService;
@@ -55,6 +56,7 @@ public class JsonRpcMethodsFactory {
       final Synchronizer synchronizer,
       final ProtocolSchedule<?> protocolSchedule,
       final FilterManager filterManager,
+      final Optional<CallResultCache> callResultCache,
       final TransactionPool transactionPool,
       final MiningCoordinator miningCoordinator,
       final ObservableMetricsSystem metricsSystem,
@@ -94,7 +96,8 @@ public class JsonRpcMethodsFactory {
                   filterManager,
                   transactionPool,
                   miningCoordinator,
-                  supportedCapabilities),
+                  supportedCapabilities,
+                  callResultCache),
               new NetJsonRpcMethods(
                   p2pNetwork,
                   protocolSchedule,
@@ -15,15 +15,19 @@
 package org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription;
 
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.JsonRpcResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.logs.LogsSubscription;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscribeRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscriptionType;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.UnsubscribeRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.response.SubscriptionResponse;
+import org.hyperledger.besu.ethereum.api.query.LogsQueryIndex;
+import org.hyperledger.besu.ethereum.core.Log;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -31,6 +35,8 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.util.RawValue;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.Json;
@@ -51,6 +57,8 @@ public class SubscriptionManager extends AbstractVerticle {
   private final AtomicLong subscriptionCounter = new AtomicLong(0);
   private final Map<Long, Subscription> subscriptions = new ConcurrentHashMap<>();
   private final SubscriptionBuilder subscriptionBuilder = new SubscriptionBuilder();
+  private final LogsQueryIndex<LogsSubscription> logsSubscriptionIndex =
+      new LogsQueryIndex<>(LogsSubscription::getLogsQuery);
   private final LabelledMetric<Counter> subscribeCounter;
   private final LabelledMetric<Counter> unsubscribeCounter;
 
@@ -82,6 +90,9 @@ public class SubscriptionManager extends AbstractVerticle {
     final Subscription subscription =
         subscriptionBuilder.build(subscriptionId, request.getConnectionId(), request);
     subscriptions.put(subscription.getSubscriptionId(), subscription);
+    if (subscription instanceof LogsSubscription) {
+      logsSubscriptionIndex.add((LogsSubscription) subscription);
+    }
 
     return subscription.getSubscriptionId();
   }
@@ -104,6 +115,9 @@ public class SubscriptionManager extends AbstractVerticle {
 
   private void destroySubscription(final long subscriptionId) {
     final Subscription removed = subscriptions.remove(subscriptionId);
+    if (removed instanceof LogsSubscription) {
+      logsSubscriptionIndex.remove((LogsSubscription) removed);
+    }
     if (removed != null) {
       unsubscribeCounter.labels(removed.getSubscriptionType().getCode()).inc();
     }
@@ -133,6 +147,22 @@ public class SubscriptionManager extends AbstractVerticle {
         .collect(Collectors.toList());
   }
 
+  public List<LogsSubscription> logsSubscriptionsMatching(final Log log) {
+    return logsSubscriptionIndex.matching(log);
+  }
+
+  /**
+   * Sends the same result to each of the given subscriptions. The result is serialized once and
+   * the encoding shared, rather than being serialized again for every subscriber.
+   *
+   * @param subscriptionIds the subscriptions to notify
+   * @param msg the result to send
+   */
+  public void sendMessage(final Collection<Long> subscriptionIds, final JsonRpcResult msg) {
+    final JsonRpcResult encodedResult = new EncodedResult(Json.encode(msg));
+    subscriptionIds.forEach(subscriptionId -> sendMessage(subscriptionId, encodedResult));
+  }
+
   public void sendMessage(final Long subscriptionId, final JsonRpcResult msg) {
     final SubscriptionResponse response = new SubscriptionResponse(subscriptionId, msg);
 
@@ -158,4 +188,17 @@ public class SubscriptionManager extends AbstractVerticle {
           }
         });
   }
+
+  private static class EncodedResult implements JsonRpcResult {
+    private final RawValue json;
+
+    private EncodedResult(final String json) {
+      this.json = new RawValue(json);
+    }
+
+    @JsonValue
+    public RawValue getJson() {
+      return json;
+    }
+  }
 }
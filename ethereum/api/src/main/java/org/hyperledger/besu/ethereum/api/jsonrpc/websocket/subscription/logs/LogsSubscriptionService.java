@@ -16,10 +16,11 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.logs;
 
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.LogResult;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.SubscriptionManager;
-import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscriptionType;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public class LogsSubscriptionService implements Consumer<LogWithMetadata> {
 
@@ -31,11 +32,12 @@ public class LogsSubscriptionService implements Consumer<LogWithMetadata> {
 
   @Override
   public void accept(final LogWithMetadata logWithMetadata) {
-    subscriptionManager.subscriptionsOfType(SubscriptionType.LOGS, LogsSubscription.class).stream()
-        .filter(logsSubscription -> logsSubscription.getLogsQuery().matches(logWithMetadata))
-        .forEach(
-            logsSubscription ->
-                subscriptionManager.sendMessage(
-                    logsSubscription.getSubscriptionId(), new LogResult(logWithMetadata)));
+    final List<Long> subscriptionIds =
+        subscriptionManager.logsSubscriptionsMatching(logWithMetadata).stream()
+            .map(LogsSubscription::getSubscriptionId)
+            .collect(Collectors.toList());
+    if (!subscriptionIds.isEmpty()) {
+      subscriptionManager.sendMessage(subscriptionIds, new LogResult(logWithMetadata));
+    }
   }
 }
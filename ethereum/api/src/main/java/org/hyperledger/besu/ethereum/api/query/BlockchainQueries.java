@@ -43,7 +43,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -488,13 +490,66 @@ public class BlockchainQueries {
     // getTransactionLocation should not return if the TX or block doesn't exist, so throwing
     // on a missing optional is appropriate.
     final TransactionLocation location = maybeLocation.get();
-    final BlockBody blockBody = blockchain.getBlockBody(location.getBlockHash()).orElseThrow();
-    final Transaction transaction = blockBody.getTransactions().get(location.getTransactionIndex());
-
     final Hash blockhash = location.getBlockHash();
+    final BlockBody blockBody = blockchain.getBlockBody(blockhash).orElseThrow();
     final BlockHeader header = blockchain.getBlockHeader(blockhash).orElseThrow();
     final List<TransactionReceipt> transactionReceipts =
         blockchain.getTxReceipts(blockhash).orElseThrow();
+    return Optional.of(
+        transactionReceipt(transactionHash, location, header, blockBody, transactionReceipts));
+  }
+
+  /**
+   * Given a list of transaction hashes, returns the receipt of each transaction. The header, body
+   * and receipts of a block are only read once however many of its transactions are requested.
+   *
+   * @param transactionHashes The hashes of the transactions whose receipts are requested.
+   * @return The receipt of each transaction, in the order of the requested hashes, or empty for
+   *     transactions which are not on the canonical chain.
+   */
+  public List<Optional<TransactionReceiptWithMetadata>> transactionReceiptsByTransactionHashes(
+      final List<Hash> transactionHashes) {
+    final Map<Hash, Block> blocks = new HashMap<>();
+    final Map<Hash, List<TransactionReceipt>> blockReceipts = new HashMap<>();
+    final List<Optional<TransactionReceiptWithMetadata>> results =
+        new ArrayList<>(transactionHashes.size());
+    for (final Hash transactionHash : transactionHashes) {
+      final Optional<TransactionLocation> maybeLocation =
+          blockchain.getTransactionLocation(transactionHash);
+      if (maybeLocation.isEmpty()) {
+        results.add(Optional.empty());
+        continue;
+      }
+      final TransactionLocation location = maybeLocation.get();
+      final Block block =
+          blocks.computeIfAbsent(
+              location.getBlockHash(),
+              hash ->
+                  new Block(
+                      blockchain.getBlockHeader(hash).orElseThrow(),
+                      blockchain.getBlockBody(hash).orElseThrow()));
+      final List<TransactionReceipt> transactionReceipts =
+          blockReceipts.computeIfAbsent(
+              location.getBlockHash(), hash -> blockchain.getTxReceipts(hash).orElseThrow());
+      results.add(
+          Optional.of(
+              transactionReceipt(
+                  transactionHash,
+                  location,
+                  block.getHeader(),
+                  block.getBody(),
+                  transactionReceipts)));
+    }
+    return results;
+  }
+
+  private TransactionReceiptWithMetadata transactionReceipt(
+      final Hash transactionHash,
+      final TransactionLocation location,
+      final BlockHeader header,
+      final BlockBody blockBody,
+      final List<TransactionReceipt> transactionReceipts) {
+    final Transaction transaction = blockBody.getTransactions().get(location.getTransactionIndex());
     final TransactionReceipt transactionReceipt =
         transactionReceipts.get(location.getTransactionIndex());
 
@@ -505,15 +560,14 @@ public class BlockchainQueries {
               - transactionReceipts.get(location.getTransactionIndex() - 1).getCumulativeGasUsed();
     }
 
-    return Optional.of(
-        TransactionReceiptWithMetadata.create(
-            transactionReceipt,
-            transaction,
-            transactionHash,
-            location.getTransactionIndex(),
-            gasUsed,
-            blockhash,
-            header.getNumber()));
+    return TransactionReceiptWithMetadata.create(
+        transactionReceipt,
+        transaction,
+        transactionHash,
+        location.getTransactionIndex(),
+        gasUsed,
+        header.getHash(),
+        header.getNumber());
   }
 
   /**
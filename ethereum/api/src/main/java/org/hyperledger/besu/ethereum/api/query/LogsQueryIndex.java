@@ -0,0 +1,124 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Log;
+import org.hyperledger.besu.ethereum.core.LogTopic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Indexes items holding a {@link LogsQuery}, such as logs subscriptions and log filters, so that a
+ * log is only checked against the items whose query could match it.
+ *
+ * <p>Items whose query filters on addresses are indexed by each of those addresses. Items matching
+ * any address but requiring specific first topics are indexed by each of those topics. The
+ * remaining items can match any log and are checked against every log.
+ *
+ * @param <T> the type of the indexed items
+ */
+public class LogsQueryIndex<T> {
+
+  private final Function<T, LogsQuery> queryOf;
+  private final Map<Address, Set<T>> byAddress = new HashMap<>();
+  private final Map<LogTopic, Set<T>> byFirstTopic = new HashMap<>();
+  private final Set<T> unindexed = new LinkedHashSet<>();
+
+  public LogsQueryIndex(final Function<T, LogsQuery> queryOf) {
+    this.queryOf = queryOf;
+  }
+
+  public synchronized void add(final T item) {
+    final LogsQuery query = queryOf.apply(item);
+    if (!query.getAddresses().isEmpty()) {
+      query.getAddresses().forEach(address -> addTo(byAddress, address, item));
+    } else if (hasRequiredFirstTopic(query)) {
+      query.getTopics().get(0).forEach(topic -> addTo(byFirstTopic, topic, item));
+    } else {
+      unindexed.add(item);
+    }
+  }
+
+  public synchronized void remove(final T item) {
+    final LogsQuery query = queryOf.apply(item);
+    query.getAddresses().forEach(address -> removeFrom(byAddress, address, item));
+    if (!query.getTopics().isEmpty()) {
+      query.getTopics().get(0).stream()
+          .filter(Objects::nonNull)
+          .forEach(topic -> removeFrom(byFirstTopic, topic, item));
+    }
+    unindexed.remove(item);
+  }
+
+  public synchronized void clear() {
+    byAddress.clear();
+    byFirstTopic.clear();
+    unindexed.clear();
+  }
+
+  /**
+   * Returns the items whose query matches the given log.
+   *
+   * @param log the log to match
+   * @return the matching items, each included once
+   */
+  public synchronized List<T> matching(final Log log) {
+    final List<T> matches = new ArrayList<>();
+    // An item is only ever indexed in one of these, so the candidates never overlap
+    addMatches(matches, byAddress.get(log.getLogger()), log);
+    if (!log.getTopics().isEmpty()) {
+      addMatches(matches, byFirstTopic.get(log.getTopics().get(0)), log);
+    }
+    addMatches(matches, unindexed, log);
+    return matches;
+  }
+
+  private static boolean hasRequiredFirstTopic(final LogsQuery query) {
+    return !query.getTopics().isEmpty()
+        && !query.getTopics().get(0).isEmpty()
+        && !query.getTopics().get(0).contains(null);
+  }
+
+  private void addMatches(final List<T> matches, final Collection<T> candidates, final Log log) {
+    if (candidates == null) {
+      return;
+    }
+    for (final T candidate : candidates) {
+      if (queryOf.apply(candidate).matches(log)) {
+        matches.add(candidate);
+      }
+    }
+  }
+
+  private static <K, T> void addTo(final Map<K, Set<T>> index, final K key, final T item) {
+    index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(item);
+  }
+
+  private static <K, T> void removeFrom(final Map<K, Set<T>> index, final K key, final T item) {
+    final Set<T> items = index.get(key);
+    if (items != null && items.remove(item) && items.isEmpty()) {
+      index.remove(key);
+    }
+  }
+}
@@ -101,6 +101,7 @@ public class EthGraphQLHttpBySpecTest extends AbstractEthGraphQLHttpServiceTest
     specs.add("graphql_blocks_byFrom");
     specs.add("graphql_blocks_byRange");
     specs.add("graphql_blocks_byWrongRange");
+    specs.add("graphql_blocks_rangeTooLarge");
 
     specs.add("graphql_pending");
 
@@ -133,7 +133,11 @@ public abstract class AbstractJsonRpcHttpServiceTest {
     when(filterIdGenerator.nextId()).thenReturn("0x1");
     filterManager =
         new FilterManager(
-            blockchainQueries, transactionPoolMock, filterIdGenerator, filterRepository);
+            blockchainQueries,
+            transactionPoolMock,
+            filterIdGenerator,
+            filterRepository,
+            new NoOpMetricsSystem());
 
     final Set<Capability> supportedCapabilities = new HashSet<>();
     supportedCapabilities.add(EthProtocol.ETH62);
@@ -151,6 +155,7 @@ public abstract class AbstractJsonRpcHttpServiceTest {
             synchronizerMock,
             blockchainSetupUtil.getProtocolSchedule(),
             filterManager,
+            Optional.empty(),
             transactionPoolMock,
             miningCoordinatorMock,
             new NoOpMetricsSystem(),
@@ -0,0 +1,91 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import org.junit.Test;
+
+public class JsonResponseStreamerTest {
+
+  private final HttpServerResponse response = mock(HttpServerResponse.class);
+
+  @Test
+  public void shouldWriteBytesToResponse() throws IOException {
+    final JsonResponseStreamer streamer = new JsonResponseStreamer(response);
+
+    streamer.write(new byte[] {1, 2, 3}, 1, 2);
+
+    verify(response).setChunked(true);
+    verify(response).write(Buffer.buffer(new byte[] {2, 3}));
+  }
+
+  @Test
+  public void shouldWaitForWriteQueueToDrain() throws IOException {
+    when(response.writeQueueFull()).thenReturn(true, false);
+    doAnswer(
+            invocation -> {
+              final Handler<Void> drainHandler = invocation.getArgument(0);
+              drainHandler.handle(null);
+              return response;
+            })
+        .when(response)
+        .drainHandler(any());
+    final JsonResponseStreamer streamer = new JsonResponseStreamer(response);
+
+    streamer.write(1);
+
+    verify(response).drainHandler(any());
+    verify(response).write(Buffer.buffer(new byte[] {1}));
+  }
+
+  @Test
+  public void shouldStopWritingWhenConnectionIsClosed() {
+    when(response.closed()).thenReturn(true);
+    final JsonResponseStreamer streamer = new JsonResponseStreamer(response);
+
+    assertThatThrownBy(() -> streamer.write(1)).isInstanceOf(IOException.class);
+    verify(response, never()).write(any(Buffer.class));
+  }
+
+  @Test
+  public void shouldStopWritingWhenConnectionIsClosedWhileWaitingToDrain() {
+    when(response.writeQueueFull()).thenReturn(true);
+    when(response.closed()).thenReturn(false, true);
+    final JsonResponseStreamer streamer = new JsonResponseStreamer(response);
+
+    assertThatThrownBy(() -> streamer.write(1)).isInstanceOf(IOException.class);
+    verify(response, never()).write(any(Buffer.class));
+  }
+
+  @Test
+  public void shouldReportWritesRejectedByClosedConnection() {
+    when(response.write(any(Buffer.class))).thenThrow(new IllegalStateException());
+    final JsonResponseStreamer streamer = new JsonResponseStreamer(response);
+
+    assertThatThrownBy(() -> streamer.write(1)).isInstanceOf(IOException.class);
+  }
+}
@@ -132,6 +132,7 @@ public class JsonRpcHttpServiceLoginTest {
                     synchronizer,
                     MainnetProtocolSchedule.fromConfig(genesisConfigOptions),
                     mock(FilterManager.class),
+                    Optional.empty(),
                     mock(TransactionPool.class),
                     mock(EthHashMiningCoordinator.class),
                     new NoOpMetricsSystem(),
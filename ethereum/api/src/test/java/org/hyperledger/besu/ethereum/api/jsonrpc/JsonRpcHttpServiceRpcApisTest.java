@@ -199,6 +199,7 @@ public class JsonRpcHttpServiceRpcApisTest {
                     mock(Synchronizer.class),
                     MainnetProtocolSchedule.create(),
                     mock(FilterManager.class),
+                    Optional.empty(),
                     mock(TransactionPool.class),
                     mock(EthHashMiningCoordinator.class),
                     new NoOpMetricsSystem(),
@@ -292,6 +293,7 @@ public class JsonRpcHttpServiceRpcApisTest {
                     mock(Synchronizer.class),
                     MainnetProtocolSchedule.create(),
                     mock(FilterManager.class),
+                    Optional.empty(),
                     mock(TransactionPool.class),
                     mock(EthHashMiningCoordinator.class),
                     new NoOpMetricsSystem(),
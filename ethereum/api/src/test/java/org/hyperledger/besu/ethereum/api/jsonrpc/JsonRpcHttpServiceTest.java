@@ -70,6 +70,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
 import io.vertx.core.Vertx;
@@ -134,6 +135,7 @@ public class JsonRpcHttpServiceTest {
                     MainnetProtocolSchedule.fromConfig(
                         new StubGenesisConfigOptions().constantinopleBlock(0).chainId(CHAIN_ID)),
                     mock(FilterManager.class),
+                    Optional.empty(),
                     mock(TransactionPool.class),
                     mock(EthHashMiningCoordinator.class),
                     new NoOpMetricsSystem(),
@@ -318,6 +320,26 @@ public class JsonRpcHttpServiceTest {
     }
   }
 
+  @Test
+  public void responseIsStreamedAsCompactChunkedJson() throws Exception {
+    final String id = "123";
+    final RequestBody body =
+        RequestBody.create(
+            JSON,
+            "{\"jsonrpc\":\"2.0\",\"id\":"
+                + Json.encode(id)
+                + ",\"method\":\"web3_clientVersion\"}");
+
+    try (final Response resp = client.newCall(buildPostRequest(body)).execute()) {
+      assertThat(resp.code()).isEqualTo(200);
+      assertThat(resp.header("Transfer-Encoding")).isEqualTo("chunked");
+      assertThat(resp.header("Content-Type")).startsWith("application/json");
+      assertThat(resp.body().string())
+          .isEqualTo(
+              "{\"jsonrpc\":\"2.0\",\"id\":\"123\",\"result\":\"" + CLIENT_VERSION + "\"}");
+    }
+  }
+
   @Test
   public void netVersionSuccessful() throws Exception {
     final String id = "123";
@@ -1649,6 +1671,46 @@ public class JsonRpcHttpServiceTest {
     }
   }
 
+  @Test
+  public void batchResponsesAreReturnedInRequestOrder() throws Exception {
+    final int requestCount = JsonRpcConfiguration.DEFAULT_MAX_BATCH_CONCURRENCY * 4;
+    final StringJoiner batch = new StringJoiner(",", "[", "]");
+    for (int id = 0; id < requestCount; id++) {
+      final String method = id % 2 == 0 ? "web3_clientVersion" : "net_version";
+      batch.add("{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"" + method + "\"}");
+    }
+    final RequestBody body = RequestBody.create(JSON, batch.toString());
+
+    try (final Response resp = client.newCall(buildPostRequest(body)).execute()) {
+      assertThat(resp.code()).isEqualTo(200);
+      final JsonArray json = new JsonArray(resp.body().string());
+      assertThat(json.size()).isEqualTo(requestCount);
+      for (int id = 0; id < requestCount; id++) {
+        final JsonObject response = json.getJsonObject(id);
+        testHelper.assertValidJsonRpcResult(response, id);
+        assertThat(response.getString("result"))
+            .isEqualTo(id % 2 == 0 ? CLIENT_VERSION : String.valueOf(CHAIN_ID));
+      }
+    }
+  }
+
+  @Test
+  public void batchRequestLargerThanMaxBatchSizeIsRejected() throws Exception {
+    final StringJoiner batch = new StringJoiner(",", "[", "]");
+    for (int id = 0; id <= JsonRpcConfiguration.DEFAULT_MAX_BATCH_SIZE; id++) {
+      batch.add("{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"net_version\"}");
+    }
+    final RequestBody body = RequestBody.create(JSON, batch.toString());
+
+    try (final Response resp = client.newCall(buildPostRequest(body)).execute()) {
+      assertThat(resp.code()).isEqualTo(400);
+      final JsonObject json = new JsonObject(resp.body().string());
+      final JsonRpcError expectedError = JsonRpcError.EXCEEDS_RPC_MAX_BATCH_SIZE;
+      testHelper.assertValidJsonRpcError(
+          json, null, expectedError.getCode(), expectedError.getMessage());
+    }
+  }
+
   @Test
   public void batchRequestParseError() throws Exception {
     final String req =
@@ -14,6 +14,8 @@
  */
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -36,8 +38,8 @@ import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,7 +67,11 @@ public class FilterManagerLogFilterTest {
     when(blockchainQueries.getBlockchain()).thenReturn(blockchain);
     this.filterManager =
         new FilterManager(
-            blockchainQueries, transactionPool, new FilterIdGenerator(), filterRepository);
+            blockchainQueries,
+            transactionPool,
+            new FilterIdGenerator(),
+            filterRepository,
+            new NoOpMetricsSystem());
   }
 
   @Test
@@ -80,48 +86,64 @@ public class FilterManagerLogFilterTest {
   }
 
   @Test
-  public void shouldCheckMatchingLogsWhenRecordedNewBlockEvent() {
-    when(blockchainQueries.headBlockNumber()).thenReturn(100L);
+  public void shouldRecordMatchingLogsFromAddedBlock() {
+    final LogWithMetadata log = logWithMetadata();
 
-    filterManager.installLogFilter(latest(), latest(), logsQuery());
-    recordNewBlockEvent();
+    final String filterId = filterManager.installLogFilter(latest(), latest(), logsQuery());
+    recordNewBlockEvent(log);
 
-    verify(blockchainQueries).matchingLogs(eq(100L), eq(100L), eq(logsQuery()));
+    assertThat(filterManager.logsChanges(filterId)).isEqualTo(singletonList(log));
+    verify(blockchainQueries, times(0)).matchingLogs(anyLong(), anyLong(), any());
   }
 
   @Test
-  public void shouldUseHeadBlockAsFromBlockNumberWhenCheckingLogsForChanges() {
-    when(blockchainQueries.headBlockNumber()).thenReturn(3L);
+  public void shouldNotRecordLogsBeyondFilterToBlock() {
+    final String filterId =
+        filterManager.installLogFilter(blockNum(1L), blockNum(10L), logsQuery());
+    recordNewBlockEvent(logWithMetadata(10L, Address.fromHexString("0x0")));
+    recordNewBlockEvent(logWithMetadata(11L, Address.fromHexString("0x0")));
 
-    filterManager.installLogFilter(blockNum(1L), blockNum(10L), logsQuery());
-    recordNewBlockEvent();
+    final List<LogWithMetadata> retrievedLogs = filterManager.logsChanges(filterId);
 
-    verify(blockchainQueries).matchingLogs(eq(3L), eq(10L), eq(logsQuery()));
+    assertThat(retrievedLogs.size()).isEqualTo(1);
+    assertThat(retrievedLogs.get(0).getBlockNumber()).isEqualTo(10L);
   }
 
   @Test
-  public void shouldReturnLogWhenLogFilterMatches() {
-    final LogWithMetadata log = logWithMetadata();
-    when(blockchainQueries.headBlockNumber()).thenReturn(100L);
-    when(blockchainQueries.matchingLogs(eq(100L), eq(100L), eq(logsQuery())))
-        .thenReturn(Lists.newArrayList(log));
+  public void shouldNotRecordLogsForNonMatchingFilter() {
+    final Address otherAddress = Address.fromHexString("0x1");
+    final String filterId =
+        filterManager.installLogFilter(
+            latest(), latest(), new LogsQuery.Builder().address(otherAddress).build());
+    recordNewBlockEvent(logWithMetadata());
 
-    final String filterId = filterManager.installLogFilter(latest(), latest(), logsQuery());
-    recordNewBlockEvent();
+    assertThat(filterManager.logsChanges(filterId)).isEqualTo(emptyList());
+  }
 
-    final List<LogWithMetadata> retrievedLogs = filterManager.logsChanges(filterId);
+  @Test
+  public void shouldRecordLogsForEveryMatchingLogFilter() {
+    final LogWithMetadata log = logWithMetadata();
+    final List<String> filterIds =
+        Lists.newArrayList(
+            filterManager.installLogFilter(latest(), latest(), logsQuery()),
+            filterManager.installLogFilter(latest(), latest(), logsQuery()),
+            filterManager.installLogFilter(
+                latest(), latest(), new LogsQuery.Builder().address(log.getLogger()).build()));
+    recordNewBlockEvent(log);
 
-    assertThat(retrievedLogs).isEqualToComparingFieldByFieldRecursively(Lists.newArrayList(log));
+    filterIds.forEach(
+        filterId -> assertThat(filterManager.logsChanges(filterId)).isEqualTo(singletonList(log)));
   }
 
   @Test
-  public void shouldCheckLogsForEveryLogFilter() {
-    filterManager.installLogFilter(latest(), latest(), logsQuery());
-    filterManager.installLogFilter(latest(), latest(), logsQuery());
-    filterManager.installLogFilter(latest(), latest(), logsQuery());
-    recordNewBlockEvent();
+  public void shouldNotRecordLogsForUninstalledFilter() {
+    final String filterId = filterManager.installLogFilter(latest(), latest(), logsQuery());
+    final LogFilter filter = filterRepository.getFilter(filterId, LogFilter.class).orElseThrow();
+    filterManager.uninstallFilter(filterId);
 
-    verify(blockchainQueries, times(3)).matchingLogs(anyLong(), anyLong(), any());
+    recordNewBlockEvent(logWithMetadata());
+
+    assertThat(filter.logs().isEmpty()).isTrue();
   }
 
   @Test
@@ -134,25 +156,19 @@ public class FilterManagerLogFilterTest {
 
   @Test
   public void shouldClearLogsAfterGettingLogChanges() {
-    when(blockchainQueries.matchingLogs(anyLong(), anyLong(), any()))
-        .thenReturn(Lists.newArrayList(logWithMetadata()));
-
     final String filterId = filterManager.installLogFilter(latest(), latest(), logsQuery());
-    recordNewBlockEvent();
-    recordNewBlockEvent();
+    recordNewBlockEvent(logWithMetadata());
+    recordNewBlockEvent(logWithMetadata());
 
     assertThat(filterManager.logsChanges(filterId).size()).isEqualTo(2);
     assertThat(filterManager.logsChanges(filterId).size()).isEqualTo(0);
   }
 
-  private void recordNewBlockEvent() {
+  private void recordNewBlockEvent(final LogWithMetadata log) {
     final BlockDataGenerator gen = new BlockDataGenerator();
     final Block block = gen.block();
     filterManager.recordBlockEvent(
-        BlockAddedEvent.createForHeadAdvancement(
-            block,
-            LogWithMetadata.generate(block, gen.receipts(block), false),
-            Collections.emptyList()),
+        BlockAddedEvent.createForHeadAdvancement(block, singletonList(log), emptyList()),
         blockchainQueries.getBlockchain());
   }
 
@@ -195,13 +211,17 @@ public class FilterManagerLogFilterTest {
   }
 
   private LogWithMetadata logWithMetadata() {
+    return logWithMetadata(100L, Address.fromHexString("0x0"));
+  }
+
+  private LogWithMetadata logWithMetadata(final long blockNumber, final Address address) {
     return new LogWithMetadata(
         0,
-        100L,
+        blockNumber,
         Hash.ZERO,
         Hash.ZERO,
         0,
-        Address.fromHexString("0x0"),
+        address,
         Bytes.EMPTY,
         Lists.newArrayList(),
         false);
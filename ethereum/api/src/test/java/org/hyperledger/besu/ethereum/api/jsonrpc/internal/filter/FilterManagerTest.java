@@ -30,6 +30,7 @@ import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
 import java.util.Collections;
 import java.util.List;
@@ -62,7 +63,11 @@ public class FilterManagerTest {
     this.currentBlock = blockGenerator.genesisBlock();
     this.filterManager =
         new FilterManager(
-            blockchainQueries, transactionPool, new FilterIdGenerator(), filterRepository);
+            blockchainQueries,
+            transactionPool,
+            new FilterIdGenerator(),
+            filterRepository,
+            new NoOpMetricsSystem());
   }
 
   @Test
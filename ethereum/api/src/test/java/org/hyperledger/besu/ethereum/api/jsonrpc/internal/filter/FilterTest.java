@@ -16,9 +16,12 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.hyperledger.besu.ethereum.core.Hash;
+
 import java.time.Duration;
 import java.time.Instant;
 
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.Test;
 
 public class FilterTest {
@@ -47,4 +50,17 @@ public class FilterTest {
     assertThat(filter.getExpireTime())
         .isBeforeOrEqualTo(Instant.now().plus(Duration.ofMinutes(10)));
   }
+
+  @Test
+  public void shouldDropOldestChangesWhenBufferIsFull() {
+    final PendingTransactionFilter filter = new PendingTransactionFilter("foo");
+    for (int i = 0; i <= Filter.MAX_BUFFERED_CHANGES; i++) {
+      filter.addTransactionHash(Hash.hash(Bytes.ofUnsignedInt(i)));
+    }
+
+    assertThat(filter.transactionHashes())
+        .hasSize(Filter.MAX_BUFFERED_CHANGES)
+        .doesNotContain(Hash.hash(Bytes.ofUnsignedInt(0)))
+        .contains(Hash.hash(Bytes.ofUnsignedInt(Filter.MAX_BUFFERED_CHANGES)));
+  }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hyperledger.besu.metrics.BesuMetricCategory.BLOCKCHAIN;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.metrics.ObservableMetricsSystem;
+import org.hyperledger.besu.metrics.Observation;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class DebugEvmProfileTest {
+
+  private static final JsonRpcRequestContext REQUEST =
+      new JsonRpcRequestContext(new JsonRpcRequest("2.0", "debug_evmProfile", new Object[0]));
+  private final ObservableMetricsSystem metricsSystem = mock(ObservableMetricsSystem.class);
+
+  private final DebugEvmProfile method = new DebugEvmProfile(metricsSystem);
+
+  @Test
+  public void shouldHaveCorrectName() {
+    assertThat(method.getName()).isEqualTo("debug_evmProfile");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldReportEmptyProfileWhenNoProfilingMetrics() {
+    when(metricsSystem.streamObservations(BLOCKCHAIN))
+        .thenReturn(Stream.of(observation("chain_head_timestamp", "ignored", 1)));
+
+    final Map<String, Object> profile = getResult();
+    assertThat(profile).containsOnlyKeys("operations", "precompiles", "contracts");
+    assertThat((Map<String, Object>) profile.get("operations")).isEmpty();
+    assertThat((Map<String, Object>) profile.get("precompiles")).isEmpty();
+    assertThat((Map<String, Object>) profile.get("contracts")).isEmpty();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldReportCountsAndTimesMostExpensiveFirst() {
+    when(metricsSystem.streamObservations(BLOCKCHAIN))
+        .thenReturn(
+            Stream.of(
+                observation("evm_operation_executions_total", "ADD", 10),
+                observation("evm_operation_nanoseconds_total", "ADD", 200),
+                observation("evm_operation_executions_total", "SSTORE", 2),
+                observation("evm_operation_nanoseconds_total", "SSTORE", 5000),
+                observation("evm_precompile_executions_total", "0x02", 4),
+                observation("evm_precompile_nanoseconds_total", "0x02", 1000),
+                observation("evm_contract_operations_total", "0xabcd", 12),
+                observation("evm_contract_nanoseconds_total", "0xabcd", 5200)));
+
+    final Map<String, Object> profile = getResult();
+    final Map<String, Object> operations = (Map<String, Object>) profile.get("operations");
+    assertThat(operations.keySet()).containsExactly("SSTORE", "ADD");
+    assertThat((Map<String, Object>) operations.get("ADD"))
+        .containsEntry("count", 10L)
+        .containsEntry("totalNanos", 200L)
+        .containsEntry("averageNanos", 20L);
+    assertThat((Map<String, Object>) operations.get("SSTORE"))
+        .containsEntry("averageNanos", 2500L);
+
+    final Map<String, Object> precompiles = (Map<String, Object>) profile.get("precompiles");
+    assertThat((Map<String, Object>) precompiles.get("0x02"))
+        .containsEntry("count", 4L)
+        .containsEntry("averageNanos", 250L);
+
+    final Map<String, Object> contracts = (Map<String, Object>) profile.get("contracts");
+    assertThat((Map<String, Object>) contracts.get("0xabcd"))
+        .containsEntry("count", 12L)
+        .containsEntry("totalNanos", 5200L);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> getResult() {
+    final JsonRpcSuccessResponse response = (JsonRpcSuccessResponse) method.response(REQUEST);
+    return (Map<String, Object>) response.getResult();
+  }
+
+  private Observation observation(final String metricName, final String label, final double value) {
+    return new Observation(BLOCKCHAIN, metricName, value, singletonList(label));
+  }
+}
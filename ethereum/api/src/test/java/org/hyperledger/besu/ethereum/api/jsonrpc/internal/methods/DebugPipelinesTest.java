@@ -0,0 +1,116 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hyperledger.besu.metrics.BesuMetricCategory.SYNCHRONIZER;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.metrics.ObservableMetricsSystem;
+import org.hyperledger.besu.metrics.Observation;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class DebugPipelinesTest {
+
+  private static final JsonRpcRequestContext REQUEST =
+      new JsonRpcRequestContext(new JsonRpcRequest("2.0", "debug_pipelines", new Object[0]));
+  private final ObservableMetricsSystem metricsSystem = mock(ObservableMetricsSystem.class);
+
+  private final DebugPipelines method = new DebugPipelines(metricsSystem);
+
+  @Test
+  public void shouldHaveCorrectName() {
+    assertThat(method.getName()).isEqualTo("debug_pipelines");
+  }
+
+  @Test
+  public void shouldReportEmptyResultWhenNoPipelineMetrics() {
+    when(metricsSystem.streamObservations(SYNCHRONIZER))
+        .thenReturn(Stream.of(new Observation(SYNCHRONIZER, "other", 1d, asList("a", "b"))));
+
+    assertThat(getResult()).isEmpty();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldReportTimesAndQueuedItemsForEachStage() {
+    when(metricsSystem.streamObservations(SYNCHRONIZER))
+        .thenReturn(
+            Stream.of(
+                stageTime("downloadHeaders", "processing", "sum", 10),
+                stageTime("downloadHeaders", "processing", "count", 4),
+                stageTime("downloadHeaders", "waiting_for_input", "sum", 3),
+                stageTime("downloadHeaders", "waiting_for_output", "sum", 5),
+                stageTime("downloadHeaders", "processing", "quantile", 0.5),
+                stageTime("downloadHeaders", "item", "sum", 12),
+                stageTime("downloadHeaders", "item", "count", 8),
+                stageTime("downloadHeaders", "item", "bucket", 8),
+                processed("downloadHeaders_outputPipe", "added", 10),
+                processed("downloadHeaders_outputPipe", "removed", 6),
+                processed("downloadHeaders_outputPipe", "aborted", 1),
+                processed("fetchCheckpoints_outputPipe", "added", 2)));
+
+    final Map<String, Object> pipelines = getResult();
+    assertThat(pipelines).containsOnlyKeys("chain_download");
+    final Map<String, Object> stages = (Map<String, Object>) pipelines.get("chain_download");
+    assertThat(stages).containsOnlyKeys("downloadHeaders", "fetchCheckpoints");
+
+    final Map<String, Object> downloadHeaders = (Map<String, Object>) stages.get("downloadHeaders");
+    assertThat(downloadHeaders)
+        .containsEntry("busySeconds", 2d)
+        .containsEntry("waitingForInputSeconds", 3d)
+        .containsEntry("waitingForOutputSeconds", 5d)
+        .containsEntry("iterations", 4L)
+        .containsEntry("averageIterationMillis", 2500d)
+        .containsEntry("items", 8L)
+        .containsEntry("averageItemMillis", 1500d)
+        .containsEntry("queuedOutputItems", 3L);
+
+    final Map<String, Object> fetchCheckpoints =
+        (Map<String, Object>) stages.get("fetchCheckpoints");
+    assertThat(fetchCheckpoints).containsEntry("queuedOutputItems", 2L);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> getResult() {
+    final JsonRpcSuccessResponse response = (JsonRpcSuccessResponse) method.response(REQUEST);
+    return (Map<String, Object>) response.getResult();
+  }
+
+  private Observation stageTime(
+      final String stage, final String state, final String sampleType, final double value) {
+    return new Observation(
+        SYNCHRONIZER,
+        "chain_download_pipeline_stage_seconds",
+        value,
+        "quantile".equals(sampleType) || "bucket".equals(sampleType)
+            ? asList(stage, state, sampleType, "0.5")
+            : asList(stage, state, sampleType));
+  }
+
+  private Observation processed(final String step, final String action, final double value) {
+    return new Observation(
+        SYNCHRONIZER, "chain_download_pipeline_processed_total", value, asList(step, action));
+  }
+}
@@ -21,8 +21,12 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.JsonRpcResult;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscribeRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscriptionType;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.response.SubscriptionResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.syncing.NotSynchronisingResult;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 import io.vertx.core.Vertx;
@@ -76,6 +80,39 @@ public class SubscriptionManagerSendMessageTest {
     async.awaitSuccess(VERTX_AWAIT_TIMEOUT_MILLIS);
   }
 
+  @Test
+  public void shouldSendSharedResultToEachSubscription(final TestContext context) {
+    final String connectionId = UUID.randomUUID().toString();
+    final SubscribeRequest subscribeRequest =
+        new SubscribeRequest(SubscriptionType.SYNCING, null, null, connectionId);
+    final Long firstSubscriptionId = subscriptionManager.subscribe(subscribeRequest);
+    final Long secondSubscriptionId = subscriptionManager.subscribe(subscribeRequest);
+
+    final JsonRpcResult result = new NotSynchronisingResult();
+    final Set<String> expectedMessages =
+        new HashSet<>(
+            Arrays.asList(
+                Json.encode(new SubscriptionResponse(firstSubscriptionId, result)),
+                Json.encode(new SubscriptionResponse(secondSubscriptionId, result))));
+
+    final Async async = context.async(2);
+
+    vertx
+        .eventBus()
+        .consumer(connectionId)
+        .handler(
+            msg -> {
+              context.assertTrue(expectedMessages.remove(msg.body()));
+              async.countDown();
+            })
+        .completionHandler(
+            v ->
+                subscriptionManager.sendMessage(
+                    Arrays.asList(firstSubscriptionId, secondSubscriptionId), result));
+
+    async.awaitSuccess(VERTX_AWAIT_TIMEOUT_MILLIS);
+  }
+
   @Test
   public void shouldNotSendMessageOnTheConnectionIdEventBusAddressForAbsentSubscription(
       final TestContext context) {
@@ -22,15 +22,21 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.internal.matchers.ThrowableMessageMatcher.hasMessage;
 
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.blockheaders.NewBlockHeadersSubscription;
+import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.logs.LogsSubscription;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscribeRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscriptionType;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.UnsubscribeRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.syncing.SyncingSubscription;
+import org.hyperledger.besu.ethereum.api.query.LogsQuery;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Log;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -179,6 +185,33 @@ public class SubscriptionManagerTest {
     assertThat(subscriptions).hasSize(0);
   }
 
+  @Test
+  public void logsSubscriptionsMatchingReturnsOnlyActiveMatchingSubscriptions() {
+    final Address address = Address.fromHexString("0x1");
+    final LogsQuery logsQuery = new LogsQuery.Builder().address(address).build();
+    final Long matchingId =
+        subscriptionManager.subscribe(
+            new SubscribeRequest(SubscriptionType.LOGS, logsQuery, null, CONNECTION_ID));
+    final Long removedId =
+        subscriptionManager.subscribe(
+            new SubscribeRequest(SubscriptionType.LOGS, logsQuery, null, CONNECTION_ID));
+    subscriptionManager.subscribe(
+        new SubscribeRequest(
+            SubscriptionType.LOGS,
+            new LogsQuery.Builder().address(Address.fromHexString("0x2")).build(),
+            null,
+            CONNECTION_ID));
+    subscriptionManager.unsubscribe(new UnsubscribeRequest(removedId, CONNECTION_ID));
+
+    final List<LogsSubscription> matching =
+        subscriptionManager.logsSubscriptionsMatching(
+            new Log(address, Bytes.EMPTY, Collections.emptyList()));
+
+    assertThat(matching)
+        .extracting(LogsSubscription::getSubscriptionId)
+        .containsExactly(matchingId);
+  }
+
   @Test
   public void unsubscribeOthersSubscriptionsNotHavingOwnSubscriptionShouldReturnNotFound() {
     final SubscribeRequest subscribeRequest = subscribeRequest(CONNECTION_ID);
@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.logs;
 
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -25,6 +26,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.LogResult;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.Quantity;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.SubscriptionManager;
 import org.hyperledger.besu.ethereum.api.query.LogsQuery;
+import org.hyperledger.besu.ethereum.api.query.LogsQueryIndex;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.Block;
@@ -47,7 +49,6 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import com.google.common.collect.Lists;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.Before;
 import org.junit.Test;
@@ -89,7 +90,8 @@ public class LogsSubscriptionServiceTest {
     blockchain.appendBlock(blockWithReceipts.getBlock(), blockWithReceipts.getReceipts());
 
     final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
-    verify(subscriptionManager).sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+    verify(subscriptionManager)
+        .sendMessage(eq(singletonList(subscription.getSubscriptionId())), captor.capture());
 
     final List<LogResult> logResults = captor.getAllValues();
 
@@ -123,7 +125,7 @@ public class LogsSubscriptionServiceTest {
 
     final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
     verify(subscriptionManager, times(2))
-        .sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+        .sendMessage(eq(singletonList(subscription.getSubscriptionId())), captor.capture());
 
     final List<LogResult> logResults = captor.getAllValues();
 
@@ -166,7 +168,7 @@ public class LogsSubscriptionServiceTest {
 
     final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
     verify(subscriptionManager, times(3))
-        .sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+        .sendMessage(eq(singletonList(subscription.getSubscriptionId())), captor.capture());
 
     final List<LogResult> logResults = captor.getAllValues();
 
@@ -204,7 +206,7 @@ public class LogsSubscriptionServiceTest {
 
     final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
     verify(subscriptionManager, times(targetBlocks.size() * txCount))
-        .sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+        .sendMessage(eq(singletonList(subscription.getSubscriptionId())), captor.capture());
     final List<LogResult> logResults = captor.getAllValues();
 
     // Verify all logs are emitted
@@ -241,17 +243,18 @@ public class LogsSubscriptionServiceTest {
     registerSubscriptions(subscriptions);
     blockchain.appendBlock(blockWithReceipts.getBlock(), blockWithReceipts.getReceipts());
 
-    for (LogsSubscription subscription : subscriptions) {
-      final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
-      verify(subscriptionManager)
-          .sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+    final List<Long> subscriptionIds =
+        subscriptions.stream()
+            .map(LogsSubscription::getSubscriptionId)
+            .collect(Collectors.toList());
+    final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
+    verify(subscriptionManager).sendMessage(eq(subscriptionIds), captor.capture());
 
-      final List<LogResult> logResults = captor.getAllValues();
+    final List<LogResult> logResults = captor.getAllValues();
 
-      assertThat(logResults).hasSize(1);
-      final LogResult result = logResults.get(0);
-      assertLogResultMatches(result, block, receipts, txIndex, logIndex, false);
-    }
+    assertThat(logResults).hasSize(1);
+    final LogResult result = logResults.get(0);
+    assertLogResultMatches(result, block, receipts, txIndex, logIndex, false);
   }
 
   @Test
@@ -265,7 +268,7 @@ public class LogsSubscriptionServiceTest {
 
     final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
     verify(subscriptionManager, times(0))
-        .sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+        .sendMessage(eq(singletonList(subscription.getSubscriptionId())), captor.capture());
   }
 
   @Test
@@ -279,7 +282,7 @@ public class LogsSubscriptionServiceTest {
 
     final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
     verify(subscriptionManager, times(0))
-        .sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+        .sendMessage(eq(singletonList(subscription.getSubscriptionId())), captor.capture());
   }
 
   private void assertLogResultMatches(
@@ -362,7 +365,10 @@ public class LogsSubscriptionServiceTest {
   }
 
   private void registerSubscriptions(final List<LogsSubscription> subscriptions) {
-    when(subscriptionManager.subscriptionsOfType(any(), any()))
-        .thenReturn(Lists.newArrayList(subscriptions));
+    final LogsQueryIndex<LogsSubscription> index =
+        new LogsQueryIndex<>(LogsSubscription::getLogsQuery);
+    subscriptions.forEach(index::add);
+    when(subscriptionManager.logsSubscriptionsMatching(any()))
+        .thenAnswer(invocation -> index.matching(invocation.getArgument(0)));
   }
 }
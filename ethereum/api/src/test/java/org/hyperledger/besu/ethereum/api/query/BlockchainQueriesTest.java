@@ -486,6 +486,37 @@ public class BlockchainQueriesTest {
     assertThat(retrievedOmmerBlockHeader).isEqualTo(ommerBlockHeader);
   }
 
+  @Test
+  public void transactionReceiptsByTransactionHashesShouldMatchSingleLookups() {
+    final BlockchainWithData data = setupBlockchain(4);
+    final BlockchainQueries queries = data.blockchainQueries;
+
+    final List<Hash> transactionHashes = new ArrayList<>();
+    for (final BlockData blockData : data.blockData.subList(1, data.blockData.size())) {
+      blockData.block.getBody().getTransactions().stream()
+          .map(Transaction::getHash)
+          .forEach(transactionHashes::add);
+    }
+    final Hash unknownTransactionHash = gen.hash();
+    transactionHashes.add(1, unknownTransactionHash);
+
+    final List<Optional<TransactionReceiptWithMetadata>> receipts =
+        queries.transactionReceiptsByTransactionHashes(transactionHashes);
+
+    assertThat(receipts).hasSize(transactionHashes.size());
+    assertThat(receipts.get(1)).isEmpty();
+    for (int i = 0; i < transactionHashes.size(); i++) {
+      final Optional<TransactionReceiptWithMetadata> expected =
+          queries.transactionReceiptByTransactionHash(transactionHashes.get(i));
+      assertThat(receipts.get(i).map(TransactionReceiptWithMetadata::getReceipt))
+          .isEqualTo(expected.map(TransactionReceiptWithMetadata::getReceipt));
+      assertThat(receipts.get(i).map(TransactionReceiptWithMetadata::getGasUsed))
+          .isEqualTo(expected.map(TransactionReceiptWithMetadata::getGasUsed));
+      assertThat(receipts.get(i).map(TransactionReceiptWithMetadata::getBlockHash))
+          .isEqualTo(expected.map(TransactionReceiptWithMetadata::getBlockHash));
+    }
+  }
+
   private void assertBlockMatchesResult(
       final Block targetBlock, final BlockWithMetadata<TransactionWithMetadata, Hash> result) {
     assertThat(result.getHeader()).isEqualTo(targetBlock.getHeader());
@@ -0,0 +1,121 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Log;
+import org.hyperledger.besu.ethereum.core.LogTopic;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class LogsQueryIndexTest {
+
+  private static final Address ADDRESS_1 = Address.fromHexString("0x1");
+  private static final Address ADDRESS_2 = Address.fromHexString("0x2");
+  private static final LogTopic TOPIC_1 = LogTopic.fromHexString("0x" + "01".repeat(32));
+  private static final LogTopic TOPIC_2 = LogTopic.fromHexString("0x" + "02".repeat(32));
+
+  private final LogsQueryIndex<LogsQuery> index = new LogsQueryIndex<>(Function.identity());
+
+  @Test
+  public void matchesQueriesByAddress() {
+    final LogsQuery query = query(Arrays.asList(ADDRESS_1, ADDRESS_2), emptyList());
+    index.add(query);
+
+    assertThat(index.matching(log(ADDRESS_1, TOPIC_1))).containsExactly(query);
+    assertThat(index.matching(log(ADDRESS_2, TOPIC_1))).containsExactly(query);
+    assertThat(index.matching(log(Address.fromHexString("0x3"), TOPIC_1))).isEmpty();
+  }
+
+  @Test
+  public void matchesQueriesByFirstTopicWhenAnyAddressMatches() {
+    final LogsQuery query = query(emptyList(), singletonList(singletonList(TOPIC_1)));
+    index.add(query);
+
+    assertThat(index.matching(log(ADDRESS_1, TOPIC_1))).containsExactly(query);
+    assertThat(index.matching(log(ADDRESS_2, TOPIC_1))).containsExactly(query);
+    assertThat(index.matching(log(ADDRESS_1, TOPIC_2))).isEmpty();
+    assertThat(index.matching(log(ADDRESS_1))).isEmpty();
+  }
+
+  @Test
+  public void matchesWildcardQueriesAgainstEveryLog() {
+    final LogsQuery matchAll = query(emptyList(), emptyList());
+    final LogsQuery secondTopic =
+        query(emptyList(), Arrays.asList(singletonList(null), singletonList(TOPIC_2)));
+    index.add(matchAll);
+    index.add(secondTopic);
+
+    assertThat(index.matching(log(ADDRESS_1))).containsExactly(matchAll);
+    assertThat(index.matching(log(ADDRESS_1, TOPIC_1, TOPIC_2)))
+        .containsExactly(matchAll, secondTopic);
+  }
+
+  @Test
+  public void appliesFullQueryToIndexedCandidates() {
+    final LogsQuery query = query(singletonList(ADDRESS_1), singletonList(singletonList(TOPIC_2)));
+    index.add(query);
+
+    assertThat(index.matching(log(ADDRESS_1, TOPIC_1))).isEmpty();
+    assertThat(index.matching(log(ADDRESS_1, TOPIC_2))).containsExactly(query);
+  }
+
+  @Test
+  public void returnsEachMatchingItemOnce() {
+    final LogsQuery byAddress = query(singletonList(ADDRESS_1), emptyList());
+    final LogsQuery byTopic = query(emptyList(), singletonList(Arrays.asList(TOPIC_1, TOPIC_2)));
+    final LogsQuery matchAll = query(emptyList(), emptyList());
+    index.add(byAddress);
+    index.add(byTopic);
+    index.add(matchAll);
+
+    assertThat(index.matching(log(ADDRESS_1, TOPIC_1)))
+        .containsExactlyInAnyOrder(byAddress, byTopic, matchAll);
+  }
+
+  @Test
+  public void doesNotMatchRemovedItems() {
+    final LogsQuery byAddress = query(singletonList(ADDRESS_1), emptyList());
+    final LogsQuery byTopic = query(emptyList(), singletonList(singletonList(TOPIC_1)));
+    final LogsQuery matchAll = query(emptyList(), emptyList());
+    index.add(byAddress);
+    index.add(byTopic);
+    index.add(matchAll);
+
+    index.remove(byAddress);
+    index.remove(byTopic);
+    index.remove(matchAll);
+
+    assertThat(index.matching(log(ADDRESS_1, TOPIC_1))).isEmpty();
+  }
+
+  private static LogsQuery query(
+      final List<Address> addresses, final List<List<LogTopic>> topics) {
+    return new LogsQuery(addresses, topics);
+  }
+
+  private static Log log(final Address address, final LogTopic... topics) {
+    return new Log(address, Bytes.EMPTY, Arrays.asList(topics));
+  }
+}
@@ -75,6 +75,8 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
 
   private final AtomicBoolean isCancelled = new AtomicBoolean(false);
 
+  private Optional<CandidateBlock> candidateBlock = Optional.empty();
+
   public AbstractBlockCreator(
       final Address coinbase,
       final ExtraDataCalculator extraDataCalculator,
@@ -125,16 +127,37 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
     return createBlock(Optional.of(transactions), Optional.of(ommers), timestamp);
   }
 
+  /**
+   * Builds up a candidate for the block with the given timestamp ahead of {@link
+   * #createBlock(long)} being called with that timestamp.
+   *
+   * <p>The first call applies transactions from the PendingTransactions to a candidate block on top
+   * of the parent. Subsequent calls only apply transactions which have not already been included,
+   * so this can be called repeatedly while waiting for the block to become due. When the block is
+   * then created, only transactions that arrived since the last call need to be executed before the
+   * block reward is paid and the state root computed. A call with a different timestamp discards
+   * the candidate and starts again.
+   *
+   * @param timestamp the timestamp of the block which will be created
+   */
+  public void buildCandidateBlock(final long timestamp) {
+    getOrCreateCandidateBlock(timestamp).selector.buildTransactionListForBlock();
+  }
+
   private Block createBlock(
       final Optional<List<Transaction>> maybeTransactions,
       final Optional<List<BlockHeader>> maybeOmmers,
       final long timestamp) {
     try {
-      final ProcessableBlockHeader processableBlockHeader = createPendingBlockHeader(timestamp);
-
-      throwIfStopped();
-
-      final MutableWorldState disposableWorldState = duplicateWorldStateAtParent();
+      final CandidateBlock candidate =
+          maybeTransactions.isPresent()
+              ? createCandidateBlock(timestamp)
+              : getOrCreateCandidateBlock(timestamp);
+      // The candidate's world state is about to have the block reward applied to it, so it can't
+      // be built on any further.
+      candidateBlock = Optional.empty();
+      final ProcessableBlockHeader processableBlockHeader = candidate.processableBlockHeader;
+      final MutableWorldState disposableWorldState = candidate.worldState;
 
       throwIfStopped();
 
@@ -143,7 +166,9 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
       throwIfStopped();
 
       final BlockTransactionSelector.TransactionSelectionResults transactionResults =
-          selectTransactions(processableBlockHeader, disposableWorldState, maybeTransactions);
+          maybeTransactions.isPresent()
+              ? candidate.selector.evaluateTransactions(maybeTransactions.get())
+              : candidate.selector.buildTransactionListForBlock();
 
       throwIfStopped();
 
@@ -189,11 +214,32 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
     }
   }
 
-  private BlockTransactionSelector.TransactionSelectionResults selectTransactions(
+  private CandidateBlock getOrCreateCandidateBlock(final long timestamp) {
+    if (!candidateBlock.isPresent() || candidateBlock.get().timestamp != timestamp) {
+      candidateBlock = Optional.of(createCandidateBlock(timestamp));
+    }
+    return candidateBlock.get();
+  }
+
+  private CandidateBlock createCandidateBlock(final long timestamp) {
+    final ProcessableBlockHeader processableBlockHeader = createPendingBlockHeader(timestamp);
+
+    throwIfStopped();
+
+    final MutableWorldState disposableWorldState = duplicateWorldStateAtParent();
+
+    throwIfStopped();
+
+    return new CandidateBlock(
+        timestamp,
+        processableBlockHeader,
+        disposableWorldState,
+        createTransactionSelector(processableBlockHeader, disposableWorldState));
+  }
+
+  private BlockTransactionSelector createTransactionSelector(
       final ProcessableBlockHeader processableBlockHeader,
-      final MutableWorldState disposableWorldState,
-      final Optional<List<Transaction>> transactions)
-      throws RuntimeException {
+      final MutableWorldState disposableWorldState) {
     final long blockNumber = processableBlockHeader.getNumber();
 
     final TransactionProcessor transactionProcessor =
@@ -202,23 +248,16 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
     final MainnetBlockProcessor.TransactionReceiptFactory transactionReceiptFactory =
         protocolSchedule.getByBlockNumber(blockNumber).getTransactionReceiptFactory();
 
-    final BlockTransactionSelector selector =
-        new BlockTransactionSelector(
-            transactionProcessor,
-            protocolContext.getBlockchain(),
-            disposableWorldState,
-            pendingTransactions,
-            processableBlockHeader,
-            transactionReceiptFactory,
-            minTransactionGasPrice,
-            isCancelled::get,
-            miningBeneficiary);
-
-    if (transactions.isPresent()) {
-      return selector.evaluateTransactions(transactions.get());
-    } else {
-      return selector.buildTransactionListForBlock();
-    }
+    return new BlockTransactionSelector(
+        transactionProcessor,
+        protocolContext.getBlockchain(),
+        disposableWorldState,
+        pendingTransactions,
+        processableBlockHeader,
+        transactionReceiptFactory,
+        minTransactionGasPrice,
+        isCancelled::get,
+        miningBeneficiary);
   }
 
   private MutableWorldState duplicateWorldStateAtParent() {
@@ -320,4 +359,22 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
 
   protected abstract BlockHeader createFinalBlockHeader(
       final SealableBlockHeader sealableBlockHeader);
+
+  private static class CandidateBlock {
+    private final long timestamp;
+    private final ProcessableBlockHeader processableBlockHeader;
+    private final MutableWorldState worldState;
+    private final BlockTransactionSelector selector;
+
+    private CandidateBlock(
+        final long timestamp,
+        final ProcessableBlockHeader processableBlockHeader,
+        final MutableWorldState worldState,
+        final BlockTransactionSelector selector) {
+      this.timestamp = timestamp;
+      this.processableBlockHeader = processableBlockHeader;
+      this.worldState = worldState;
+      this.selector = selector;
+    }
+  }
 }
@@ -17,6 +17,8 @@ package org.hyperledger.besu.ethereum.blockcreation;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.function.LongConsumer;
 
 public abstract class AbstractBlockScheduler {
 
@@ -35,6 +37,39 @@ public abstract class AbstractBlockScheduler {
     return result.timestampForHeader;
   }
 
+  /**
+   * Waits until the next block can be mined, as {@link #waitUntilNextBlockCanBeMined(BlockHeader)}
+   * does. Rather than sleeping throughout, it passes the timestamp of the next block to {@code
+   * whileWaiting} when waiting starts, and again every {@code refreshInterval} until the block can
+   * be mined. This lets the block be built up while waiting for it to become due.
+   *
+   * @param parentHeader the parent of the block to be mined
+   * @param whileWaiting called with the next block's timestamp while waiting
+   * @param refreshInterval the interval at which whileWaiting is called
+   * @return the timestamp of the next block
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public long waitUntilNextBlockCanBeMined(
+      final BlockHeader parentHeader,
+      final LongConsumer whileWaiting,
+      final Duration refreshInterval)
+      throws InterruptedException {
+    final BlockCreationTimeResult result = getNextTimestamp(parentHeader);
+    final long validAt = clock.millis() + result.millisecondsUntilValid;
+
+    long millisecondsUntilValid = result.millisecondsUntilValid;
+    while (millisecondsUntilValid > 0) {
+      whileWaiting.accept(result.timestampForHeader);
+      millisecondsUntilValid = validAt - clock.millis();
+      if (millisecondsUntilValid > 0) {
+        Thread.sleep(Math.min(millisecondsUntilValid, refreshInterval.toMillis()));
+        millisecondsUntilValid = validAt - clock.millis();
+      }
+    }
+
+    return result.timestampForHeader;
+  }
+
   public abstract BlockCreationTimeResult getNextTimestamp(final BlockHeader parentHeader);
 
   public static class BlockCreationTimeResult {
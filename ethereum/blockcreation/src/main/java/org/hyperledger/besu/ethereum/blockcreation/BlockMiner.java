@@ -24,6 +24,7 @@ import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.util.Subscribers;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.TimeUnit;
@@ -46,6 +47,7 @@ import org.apache.logging.log4j.Logger;
 public class BlockMiner<C, M extends AbstractBlockCreator<C>> implements Runnable {
 
   private static final Logger LOG = LogManager.getLogger();
+  private static final Duration CANDIDATE_BLOCK_REFRESH_INTERVAL = Duration.ofMillis(100);
 
   protected final Function<BlockHeader, M> blockCreatorFactory;
   protected final M minerBlockCreator;
@@ -113,10 +115,15 @@ public class BlockMiner<C, M extends AbstractBlockCreator<C>> implements Runnabl
 
   protected boolean mineBlock() throws InterruptedException {
     // Ensure the block is allowed to be mined - i.e. the timestamp on the new block is sufficiently
-    // ahead of the parent, and still within allowable clock tolerance.
+    // ahead of the parent, and still within allowable clock tolerance. Any time spent waiting is
+    // used to build up the block from pending transactions, leaving less to do once it is due.
     LOG.trace("Started a mining operation.");
 
-    final long newBlockTimestamp = scheduler.waitUntilNextBlockCanBeMined(parentHeader);
+    final long newBlockTimestamp =
+        scheduler.waitUntilNextBlockCanBeMined(
+            parentHeader,
+            minerBlockCreator::buildCandidateBlock,
+            CANDIDATE_BLOCK_REFRESH_INTERVAL);
 
     final Stopwatch stopwatch = Stopwatch.createStarted();
     LOG.trace("Mining a new block with timestamp {}", newBlockTimestamp);
@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.blockcreation;
 
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.ProcessableBlockHeader;
 import org.hyperledger.besu.ethereum.core.Transaction;
@@ -30,7 +31,9 @@ import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidator;
 import org.hyperledger.besu.ethereum.vm.BlockHashLookup;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.function.Supplier;
 
@@ -54,7 +57,9 @@ import com.google.common.collect.Lists;
  * </ul>
  *
  * Once "used" this class must be discarded and another created. This class contains state which is
- * not cleared between executions of buildTransactionListForBlock().
+ * not cleared between executions of buildTransactionListForBlock(). That state is what allows
+ * buildTransactionListForBlock() to be called repeatedly on the same block: transactions already
+ * selected are skipped, so each call only executes transactions that were not available before.
  */
 public class BlockTransactionSelector {
 
@@ -99,6 +104,7 @@ public class BlockTransactionSelector {
 
   private final TransactionSelectionResults transactionSelectionResult =
       new TransactionSelectionResults();
+  private final Set<Hash> selectedTransactions = new HashSet<>();
 
   public BlockTransactionSelector(
       final TransactionProcessor transactionProcessor,
@@ -157,6 +163,10 @@ public class BlockTransactionSelector {
       throw new CancellationException("Cancelled during transaction selection.");
     }
 
+    if (selectedTransactions.contains(transaction.getHash())) {
+      return TransactionSelectionResult.CONTINUE;
+    }
+
     if (transactionTooLargeForBlock(transaction)) {
       if (blockOccupancyAboveThreshold()) {
         return TransactionSelectionResult.COMPLETE_OPERATION;
@@ -216,6 +226,7 @@ public class BlockTransactionSelector {
         transaction,
         transactionReceiptFactory.create(result, worldState, cumulativeGasUsed),
         gasUsedByTransaction);
+    selectedTransactions.add(transaction.getHash());
   }
 
   private boolean transactionTooLargeForBlock(final Transaction transaction) {
@@ -69,7 +69,7 @@ public class BlockMinerTest {
 
     final MinedBlockObserver observer = mock(MinedBlockObserver.class);
     final DefaultBlockScheduler scheduler = mock(DefaultBlockScheduler.class);
-    when(scheduler.waitUntilNextBlockCanBeMined(any())).thenReturn(5L);
+    when(scheduler.waitUntilNextBlockCanBeMined(any(), any(), any())).thenReturn(5L);
     final BlockMiner<Void, EthHashBlockCreator> miner =
         new EthHashBlockMiner(
             blockCreatorSupplier,
@@ -109,7 +109,7 @@ public class BlockMinerTest {
 
     final MinedBlockObserver observer = mock(MinedBlockObserver.class);
     final DefaultBlockScheduler scheduler = mock(DefaultBlockScheduler.class);
-    when(scheduler.waitUntilNextBlockCanBeMined(any())).thenReturn(5L);
+    when(scheduler.waitUntilNextBlockCanBeMined(any(), any(), any())).thenReturn(5L);
     final BlockMiner<Void, EthHashBlockCreator> miner =
         new EthHashBlockMiner(
             blockCreatorSupplier,
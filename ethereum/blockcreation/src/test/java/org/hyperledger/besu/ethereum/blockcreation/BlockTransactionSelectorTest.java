@@ -19,6 +19,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.config.GenesisConfigFile;
@@ -511,6 +513,45 @@ public class BlockTransactionSelectorTest {
     assertThat(results.getTransactions().size()).isEqualTo(0);
   }
 
+  @Test
+  public void repeatedSelectionOnlyExecutesTransactionsNotAlreadySelected() {
+    final Transaction firstTransaction = createTransaction(0);
+    final Transaction secondTransaction = createTransaction(1);
+    pendingTransactions.addRemoteTransaction(firstTransaction);
+
+    when(transactionProcessor.processTransaction(
+            any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
+        .thenReturn(
+            MainnetTransactionProcessor.Result.successful(
+                new ArrayList<>(), 0, Bytes.EMPTY, ValidationResult.valid()));
+
+    final BlockTransactionSelector selector =
+        new BlockTransactionSelector(
+            transactionProcessor,
+            blockchain,
+            worldState,
+            pendingTransactions,
+            createBlockWithGasLimit(5000),
+            this::createReceipt,
+            Wei.ZERO,
+            isCancelled,
+            AddressHelpers.ofValue(1));
+
+    selector.buildTransactionListForBlock();
+    pendingTransactions.addRemoteTransaction(secondTransaction);
+    final BlockTransactionSelector.TransactionSelectionResults results =
+        selector.buildTransactionListForBlock();
+
+    assertThat(results.getTransactions()).containsExactly(firstTransaction, secondTransaction);
+    assertThat(results.getReceipts().size()).isEqualTo(2);
+    verify(transactionProcessor, times(1))
+        .processTransaction(
+            any(), any(), any(), eq(firstTransaction), any(), any(), anyBoolean(), any());
+    verify(transactionProcessor, times(1))
+        .processTransaction(
+            any(), any(), any(), eq(secondTransaction), any(), any(), anyBoolean(), any());
+  }
+
   private Transaction createTransaction(final int transactionNumber) {
     return Transaction.builder()
         .gasLimit(100)
@@ -15,13 +15,19 @@
 package org.hyperledger.besu.ethereum.blockcreation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.function.LongConsumer;
 
 import org.junit.Test;
 
@@ -101,4 +107,40 @@ public class DefaultBlockSchedulerTest {
 
     assertThat(result.getTimestampForHeader()).isEqualTo(secondsSinceEpoch);
   }
+
+  @Test
+  public void blockIsBuiltUpWhileWaitingUntilItCanBeMined() throws InterruptedException {
+    final Clock clock = mock(Clock.class);
+    final DefaultBlockScheduler scheduler =
+        new DefaultBlockScheduler(interBlockSeconds, acceptableClockDrift, clock);
+    final LongConsumer whileWaiting = mock(LongConsumer.class);
+
+    final long waitStart = (parentTimeStamp - acceptableClockDrift) * 1000;
+    when(clock.millis())
+        .thenReturn(waitStart, waitStart, waitStart + 400, waitStart + 800, waitStart + 1000);
+
+    final BlockHeaderTestFixture headerBuilder = new BlockHeaderTestFixture();
+    final BlockHeader parentBlock = headerBuilder.timestamp(parentTimeStamp).buildHeader();
+    final long timestamp =
+        scheduler.waitUntilNextBlockCanBeMined(parentBlock, whileWaiting, Duration.ofMillis(1));
+
+    assertThat(timestamp).isEqualTo(parentTimeStamp + interBlockSeconds);
+    verify(whileWaiting, times(2)).accept(parentTimeStamp + interBlockSeconds);
+  }
+
+  @Test
+  public void blockIsNotBuiltUpWhenItCanBeMinedImmediately() throws InterruptedException {
+    final Clock clock = mock(Clock.class);
+    final DefaultBlockScheduler scheduler =
+        new DefaultBlockScheduler(interBlockSeconds, acceptableClockDrift, clock);
+    final LongConsumer whileWaiting = mock(LongConsumer.class);
+
+    when(clock.millis()).thenReturn(parentTimeStamp * 1000);
+
+    final BlockHeaderTestFixture headerBuilder = new BlockHeaderTestFixture();
+    final BlockHeader parentBlock = headerBuilder.timestamp(parentTimeStamp).buildHeader();
+    scheduler.waitUntilNextBlockCanBeMined(parentBlock, whileWaiting, Duration.ofMillis(1));
+
+    verify(whileWaiting, never()).accept(anyLong());
+  }
 }
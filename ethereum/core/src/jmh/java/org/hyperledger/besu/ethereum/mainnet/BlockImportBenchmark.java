@@ -0,0 +1,251 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import org.hyperledger.besu.config.GenesisConfigFile;
+import org.hyperledger.besu.ethereum.ProtocolContext;
+import org.hyperledger.besu.ethereum.chain.DefaultBlockchain;
+import org.hyperledger.besu.ethereum.chain.GenesisState;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueStoragePrefixedKeyBlockchainStorage;
+import org.hyperledger.besu.ethereum.storage.keyvalue.WorldStateKeyValueStorage;
+import org.hyperledger.besu.ethereum.storage.keyvalue.WorldStatePreimageKeyValueStorage;
+import org.hyperledger.besu.ethereum.util.RawBlockIterator;
+import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDBMetricsFactory;
+import org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBConfigurationBuilder;
+import org.hyperledger.besu.plugin.services.storage.rocksdb.unsegmented.RocksDBKeyValueStorage;
+import org.hyperledger.besu.testutil.BlockTestUtil;
+import org.hyperledger.besu.testutil.BlockTestUtil.ChainResources;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import com.google.common.io.Resources;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Imports a recorded chain into freshly created RocksDB databases and reports the blocks and gas
+ * imported per second, along with the time spent executing blocks, checking their body roots and
+ * persisting them.
+ *
+ * <p>Headers are not validated, so proof-of-work verification does not dominate the results.
+ * Trie hashing happens as state changes are committed, so it is counted as execution.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BlockImportBenchmark {
+
+  public enum Corpus {
+    TEST_CHAIN(BlockTestUtil::getTestChainResources),
+    MAINNET(BlockTestUtil::getMainnetResources);
+
+    private final Supplier<ChainResources> resources;
+
+    Corpus(final Supplier<ChainResources> resources) {
+      this.resources = resources;
+    }
+  }
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class ImportRate {
+    public long blocks;
+    public long gas;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      blocks = 0;
+      gas = 0;
+    }
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class PhaseTimes {
+    public double executionMillis;
+    public double rootsMillis;
+    public double persistenceMillis;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      executionMillis = 0;
+      rootsMillis = 0;
+      persistenceMillis = 0;
+    }
+  }
+
+  @Param({"TEST_CHAIN", "MAINNET"})
+  public Corpus corpus;
+
+  private ProtocolSchedule<Void> protocolSchedule;
+  private GenesisState genesisState;
+  private List<Block> blocks;
+
+  private Path storageDirectory;
+  private CommitTimingKeyValueStorage blockchainStorage;
+  private CommitTimingKeyValueStorage worldStateStorage;
+  private CommitTimingKeyValueStorage preimageStorage;
+  private MutableBlockchain blockchain;
+  private WorldStateArchive worldStateArchive;
+  private ProtocolContext<Void> protocolContext;
+
+  @Setup(Level.Trial)
+  public void loadCorpus() throws Exception {
+    final ChainResources resources = corpus.resources.get();
+    final String genesisJson = Resources.toString(resources.getGenesisURL(), Charsets.UTF_8);
+    protocolSchedule =
+        MainnetProtocolSchedule.fromConfig(
+            GenesisConfigFile.fromConfig(genesisJson).getConfigOptions());
+    genesisState = GenesisState.fromJson(genesisJson, protocolSchedule);
+
+    final BlockHeaderFunctions blockHeaderFunctions =
+        ScheduleBasedBlockHeaderFunctions.create(protocolSchedule);
+    blocks = new ArrayList<>();
+    try (final RawBlockIterator iterator =
+        new RawBlockIterator(
+            Path.of(resources.getBlocksURL().toURI()),
+            rlp -> BlockHeader.readFrom(rlp, blockHeaderFunctions))) {
+      while (iterator.hasNext()) {
+        final Block block = iterator.next();
+        if (block.getHeader().getNumber() != BlockHeader.GENESIS_BLOCK_NUMBER) {
+          blocks.add(block);
+        }
+      }
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void createDatabases() throws IOException {
+    storageDirectory = Files.createTempDirectory("block-import");
+    blockchainStorage = openStorage("blockchain");
+    worldStateStorage = openStorage("worldstate");
+    preimageStorage = openStorage("preimages");
+
+    blockchain =
+        DefaultBlockchain.createMutable(
+            genesisState.getBlock(),
+            new KeyValueStoragePrefixedKeyBlockchainStorage(
+                blockchainStorage, ScheduleBasedBlockHeaderFunctions.create(protocolSchedule)),
+            new NoOpMetricsSystem());
+    worldStateArchive =
+        new WorldStateArchive(
+            new WorldStateKeyValueStorage(worldStateStorage),
+            new WorldStatePreimageKeyValueStorage(preimageStorage));
+    genesisState.writeStateTo(worldStateArchive.getMutable());
+    protocolContext = new ProtocolContext<>(blockchain, worldStateArchive, null);
+    takeWorldStateCommitNanos();
+    blockchainStorage.takeCommitNanos();
+  }
+
+  private CommitTimingKeyValueStorage openStorage(final String name) {
+    return new CommitTimingKeyValueStorage(
+        new RocksDBKeyValueStorage(
+            new RocksDBConfigurationBuilder().databaseDir(storageDirectory.resolve(name)).build(),
+            new NoOpMetricsSystem(),
+            RocksDBMetricsFactory.PUBLIC_ROCKS_DB_METRICS));
+  }
+
+  @TearDown(Level.Invocation)
+  public void deleteDatabases() throws IOException {
+    blockchainStorage.close();
+    worldStateStorage.close();
+    preimageStorage.close();
+    MoreFiles.deleteRecursively(storageDirectory, RecursiveDeleteOption.ALLOW_INSECURE);
+  }
+
+  @Benchmark
+  public long importCorpus(final ImportRate importRate, final PhaseTimes phaseTimes) {
+    for (final Block block : blocks) {
+      importBlock(block, importRate, phaseTimes);
+    }
+    return blockchain.getChainHeadBlockNumber();
+  }
+
+  private void importBlock(
+      final Block block, final ImportRate importRate, final PhaseTimes phaseTimes) {
+    final BlockHeader header = block.getHeader();
+    final ProtocolSpec<Void> protocolSpec = protocolSchedule.getByBlockNumber(header.getNumber());
+    final BlockHeader parentHeader =
+        blockchain
+            .getBlockHeader(header.getParentHash())
+            .orElseThrow(() -> new IllegalStateException("Missing parent of " + header));
+    final MutableWorldState worldState =
+        worldStateArchive
+            .getMutable(parentHeader.getStateRoot())
+            .orElseThrow(() -> new IllegalStateException("Missing parent state of " + header));
+
+    final long start = System.nanoTime();
+    final BlockProcessor.Result result =
+        protocolSpec.getBlockProcessor().processBlock(blockchain, worldState, block);
+    final long processed = System.nanoTime();
+    if (!result.isSuccessful()) {
+      throw new IllegalStateException("Unable to process " + header);
+    }
+    if (!protocolSpec
+        .getBlockBodyValidator()
+        .validateBody(
+            protocolContext,
+            block,
+            result.getReceipts(),
+            worldState.rootHash(),
+            HeaderValidationMode.NONE)) {
+      throw new IllegalStateException("Invalid body for " + header);
+    }
+    final long validated = System.nanoTime();
+    blockchain.appendBlock(block, result.getReceipts());
+    final long appended = System.nanoTime();
+
+    final long worldStateCommitNanos = takeWorldStateCommitNanos();
+    blockchainStorage.takeCommitNanos();
+    importRate.blocks++;
+    importRate.gas += header.getGasUsed();
+    phaseTimes.executionMillis += toMillis(processed - start - worldStateCommitNanos);
+    phaseTimes.rootsMillis += toMillis(validated - processed);
+    phaseTimes.persistenceMillis += toMillis(worldStateCommitNanos + appended - validated);
+  }
+
+  private long takeWorldStateCommitNanos() {
+    return worldStateStorage.takeCommitNanos() + preimageStorage.takeCommitNanos();
+  }
+
+  private static double toMillis(final long nanos) {
+    return nanos / 1_000_000d;
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet.precompiles;
+
+import org.hyperledger.besu.config.StubGenesisConfigOptions;
+import org.hyperledger.besu.ethereum.core.Account;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.mainnet.MainnetProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.PrecompiledContract;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the Istanbul precompiled contracts with valid inputs, reporting the gas charged per
+ * second alongside the throughput of each contract.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrecompiledContractBenchmark {
+
+  private static final Bytes G1_GENERATOR =
+      Bytes.concatenate(UInt256.valueOf(1).toBytes(), UInt256.valueOf(2).toBytes());
+  private static final Bytes G2_GENERATOR =
+      Bytes.concatenate(
+          Bytes.fromHexString(
+              "0x198e9393920d483a7260bfb731fb5d25f1aa493335a9e71297e485b7aef312c2"),
+          Bytes.fromHexString(
+              "0x1800deef121f1e76426a00665e5c4479674322d4f75edadd46debd5cd992f6ed"),
+          Bytes.fromHexString(
+              "0x090689d0585ff075ec9e99ad690c3395bc4b313370b38ef355acdadcd122975b"),
+          Bytes.fromHexString(
+              "0x12c85ea5db8c6deb4aab71808dcb408fe3d1e7690c43d37b4ce6cc0166fa7daa"));
+
+  public enum Precompile {
+    ECREC(
+        Address.ECREC,
+        Bytes.concatenate(
+            Bytes.fromHexString(
+                "0x0049872459827432342344987245982743234234498724598274323423429943"),
+            Bytes.fromHexString(
+                "0x000000000000000000000000000000000000000000000000000000000000001b"),
+            Bytes.fromHexString(
+                "0xe8359c341771db7f9ea3a662a1741d27775ce277961470028e054ed3285aab8e"),
+            Bytes.fromHexString(
+                "0x31f63eaac35c4e6178abbc2a1073040ac9bbb0b67f2bc89a2e9593ba9abe8c53"))),
+    SHA256(Address.SHA256, Bytes.random(128, new Random(1))),
+    RIPEMD160(Address.RIPEMD160, Bytes.random(128, new Random(2))),
+    ID(Address.ID, Bytes.random(128, new Random(3))),
+    MODEXP(
+        Address.MODEXP,
+        Bytes.concatenate(
+            UInt256.valueOf(32).toBytes(),
+            UInt256.valueOf(32).toBytes(),
+            UInt256.valueOf(32).toBytes(),
+            Bytes.random(96, new Random(4)))),
+    ALTBN128_ADD(Address.ALTBN128_ADD, Bytes.concatenate(G1_GENERATOR, G1_GENERATOR)),
+    ALTBN128_MUL(
+        Address.ALTBN128_MUL, Bytes.concatenate(G1_GENERATOR, Bytes.random(32, new Random(5)))),
+    ALTBN128_PAIRING(
+        Address.ALTBN128_PAIRING,
+        Bytes.concatenate(
+            G1_GENERATOR,
+            G2_GENERATOR,
+            Bytes.fromHexString(
+                "0x0000000000000000000000000000000000000000000000000000000000000001"),
+            Bytes.fromHexString(
+                "0x30644e72e131a029b85045b68181585d97816a916871ca8d3c208c16d87cfd45"),
+            G2_GENERATOR)),
+    BLAKE2B_F_COMPRESSION(
+        Address.BLAKE2B_F_COMPRESSION,
+        Bytes.fromHexString(
+            "0x0000000c48c9bdf267e6096a3ba7ca8485ae67bb2bf894fe72f36e3cf1361d5f3af54fa5d182e6ad"
+                + "7f520e511f6c3e2b8c68059b6bbd41fbabd9831f79217e1319cde05b616263000000000000000000"
+                + "00000000000000000000000000000000000000000000000000000000000000000000000000000000"
+                + "00000000000000000000000000000000000000000000000000000000000000000000000000000000"
+                + "00000000000000000000000000000000000000000000000000000000000000000000000003000000"
+                + "00000000000000000000000001"));
+
+    private final Address address;
+    private final Bytes input;
+
+    Precompile(final Address address, final Bytes input) {
+      this.address = address;
+      this.input = input;
+    }
+  }
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class GasCounter {
+    public long gas;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      gas = 0;
+    }
+  }
+
+  @Param({
+    "ECREC",
+    "SHA256",
+    "RIPEMD160",
+    "ID",
+    "MODEXP",
+    "ALTBN128_ADD",
+    "ALTBN128_MUL",
+    "ALTBN128_PAIRING",
+    "BLAKE2B_F_COMPRESSION"
+  })
+  public Precompile precompile;
+
+  private PrecompiledContract contract;
+  private Bytes input;
+
+  @Setup
+  public void prepare() {
+    contract =
+        MainnetProtocolSchedule.fromConfig(new StubGenesisConfigOptions().istanbulBlock(0))
+            .getByBlockNumber(0)
+            .getPrecompileContractRegistry()
+            .get(precompile.address, Account.DEFAULT_VERSION);
+    input = precompile.input;
+    if (contract.compute(input, null) == null) {
+      throw new IllegalStateException("Invalid input for " + precompile);
+    }
+  }
+
+  @Benchmark
+  public Bytes compute(final GasCounter gasCounter) {
+    gasCounter.gas += contract.gasRequirement(input).toLong();
+    // None of the mainnet precompiled contracts read the message frame.
+    return contract.compute(input, null);
+  }
+}
@@ -24,6 +24,7 @@ import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.ExecutionContextTestFixture;
 import org.hyperledger.besu.ethereum.core.MessageFrameTestFixture;
 import org.hyperledger.besu.ethereum.vm.MessageFrame;
+import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDBMetricsFactory;
@@ -41,14 +42,17 @@ public class OperationBenchmarkHelper {
 
   private final Path storageDirectory;
   private final KeyValueStorage keyValueStorage;
+  private final WorldStateArchive worldStateArchive;
   private final MessageFrame messageFrame;
 
   private OperationBenchmarkHelper(
       final Path storageDirectory,
       final KeyValueStorage keyValueStorage,
+      final WorldStateArchive worldStateArchive,
       final MessageFrame messageFrame) {
     this.storageDirectory = storageDirectory;
     this.keyValueStorage = keyValueStorage;
+    this.worldStateArchive = worldStateArchive;
     this.messageFrame = messageFrame;
   }
 
@@ -85,7 +89,12 @@ public class OperationBenchmarkHelper {
                     .difficulty(Difficulty.ONE)
                     .buildHeader())
             .build();
-    return new OperationBenchmarkHelper(storageDirectory, keyValueStorage, messageFrame);
+    return new OperationBenchmarkHelper(
+        storageDirectory, keyValueStorage, executionContext.getStateArchive(), messageFrame);
+  }
+
+  public WorldStateArchive getWorldStateArchive() {
+    return worldStateArchive;
   }
 
   public MessageFrame createMessageFrame() {
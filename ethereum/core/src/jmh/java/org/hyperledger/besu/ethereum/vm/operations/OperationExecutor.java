@@ -0,0 +1,339 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.vm.operations;
+
+import org.hyperledger.besu.config.StubGenesisConfigOptions;
+import org.hyperledger.besu.ethereum.core.Account;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.AddressHelpers;
+import org.hyperledger.besu.ethereum.core.Gas;
+import org.hyperledger.besu.ethereum.core.MutableAccount;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
+import org.hyperledger.besu.ethereum.mainnet.MainnetProtocolSchedule;
+import org.hyperledger.besu.ethereum.vm.Code;
+import org.hyperledger.besu.ethereum.vm.EVM;
+import org.hyperledger.besu.ethereum.vm.MessageFrame;
+import org.hyperledger.besu.ethereum.vm.Operation;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt256;
+
+/**
+ * Executes a single operation of the Istanbul EVM repeatedly against a RocksDB-backed world state,
+ * feeding it operands drawn from distributions resembling real contract code.
+ */
+class OperationExecutor {
+
+  private static final int OPERAND_SETS = 1024;
+  private static final int ACCOUNT_COUNT = 64;
+  private static final int STORAGE_SLOT_COUNT = 256;
+  private static final Address CONTRACT = AddressHelpers.ofValue(0x1000);
+  private static final Gas INITIAL_GAS = Gas.of(10_000_000);
+
+  private enum Operand {
+    /** Mostly small integers, with some address-sized and full-width values. */
+    WORD,
+    ZERO,
+    /** A byte index into a word. */
+    INDEX,
+    /** A shift amount or small exponent. */
+    SHIFT,
+    /** A memory or data offset within the first kilobyte. */
+    OFFSET,
+    /** A memory or data length of up to 256 bytes. */
+    SIZE,
+    /** One of the existing accounts. */
+    ADDRESS,
+    /** One of the populated storage slots of the executing contract. */
+    KEY,
+    /** A block number within, or just beyond, the range BLOCKHASH can look up. */
+    BLOCK_NUMBER,
+    GAS
+  }
+
+  private static final Map<String, Operand[]> OPERANDS = new HashMap<>();
+
+  static {
+    operands("EXP", Operand.WORD, Operand.SHIFT);
+    operands("SIGNEXTEND", Operand.INDEX, Operand.WORD);
+    operands("BYTE", Operand.INDEX, Operand.WORD);
+    operands("SHL", Operand.SHIFT, Operand.WORD);
+    operands("SHR", Operand.SHIFT, Operand.WORD);
+    operands("SAR", Operand.SHIFT, Operand.WORD);
+    operands("SHA3", Operand.OFFSET, Operand.SIZE);
+    operands("BALANCE", Operand.ADDRESS);
+    operands("CALLDATALOAD", Operand.OFFSET);
+    operands("CALLDATACOPY", Operand.OFFSET, Operand.INDEX, Operand.SIZE);
+    operands("CODECOPY", Operand.OFFSET, Operand.INDEX, Operand.SIZE);
+    operands("EXTCODESIZE", Operand.ADDRESS);
+    operands("EXTCODECOPY", Operand.ADDRESS, Operand.OFFSET, Operand.INDEX, Operand.SIZE);
+    operands("RETURNDATACOPY", Operand.OFFSET, Operand.INDEX, Operand.SIZE);
+    operands("EXTCODEHASH", Operand.ADDRESS);
+    operands("BLOCKHASH", Operand.BLOCK_NUMBER);
+    operands("MLOAD", Operand.OFFSET);
+    operands("MSTORE", Operand.OFFSET, Operand.WORD);
+    operands("MSTORE8", Operand.OFFSET, Operand.WORD);
+    operands("SLOAD", Operand.KEY);
+    operands("SSTORE", Operand.KEY, Operand.WORD);
+    operands("JUMP", Operand.ZERO);
+    operands("JUMPI", Operand.ZERO, Operand.WORD);
+    for (int topics = 0; topics <= 4; topics++) {
+      final Operand[] log = new Operand[topics + 2];
+      log[0] = Operand.OFFSET;
+      log[1] = Operand.SIZE;
+      for (int i = 2; i < log.length; i++) {
+        log[i] = Operand.WORD;
+      }
+      operands("LOG" + topics, log);
+    }
+    operands("CREATE", Operand.ZERO, Operand.OFFSET, Operand.SIZE);
+    operands("CALL", callOperands(true));
+    operands("CALLCODE", callOperands(true));
+    operands("RETURN", Operand.OFFSET, Operand.SIZE);
+    operands("DELEGATECALL", callOperands(false));
+    operands("CREATE2", Operand.ZERO, Operand.OFFSET, Operand.SIZE, Operand.WORD);
+    operands("STATICCALL", callOperands(false));
+    operands("REVERT", Operand.OFFSET, Operand.SIZE);
+    operands("SELFDESTRUCT", Operand.ADDRESS);
+  }
+
+  private static void operands(final String operation, final Operand... operands) {
+    OPERANDS.put(operation, operands);
+  }
+
+  private static Operand[] callOperands(final boolean withValue) {
+    final List<Operand> operands = new ArrayList<>();
+    operands.add(Operand.GAS);
+    operands.add(Operand.ADDRESS);
+    if (withValue) {
+      operands.add(Operand.ZERO);
+    }
+    operands.add(Operand.OFFSET);
+    operands.add(Operand.SIZE);
+    operands.add(Operand.OFFSET);
+    operands.add(Operand.SIZE);
+    return operands.toArray(new Operand[0]);
+  }
+
+  private final Random random = new Random(42);
+  private final OperationBenchmarkHelper helper;
+  private final Operation operation;
+  private final boolean warmStorage;
+  private final MutableWorldState worldState;
+  private final Bytes code;
+  private final Bytes inputData;
+  private final Bytes returnData;
+  private MessageFrame frame;
+  private int frameStackDepth;
+  private final Bytes32[][] operandSets;
+  private int nextOperandSet;
+
+  private final Address[] accounts = new Address[ACCOUNT_COUNT];
+  private final UInt256[] storageKeys = new UInt256[STORAGE_SLOT_COUNT];
+
+  /**
+   * Creates the world state and message frame the operation runs against.
+   *
+   * @param helper provides the blockchain and storage the operation runs against
+   * @param operationName the name of the operation, e.g. {@code ADD} or {@code PUSH32}
+   * @param warmStorage whether storage slots are served from values already written in the
+   *     current transaction rather than read from the persisted storage trie
+   */
+  OperationExecutor(
+      final OperationBenchmarkHelper helper,
+      final String operationName,
+      final boolean warmStorage) {
+    this.helper = helper;
+    this.warmStorage = warmStorage;
+    operation = lookupOperation(operationName);
+
+    code = randomBytes(1024);
+    worldState = helper.getWorldStateArchive().getMutable();
+    final WorldUpdater setup = worldState.updater();
+    final MutableAccount contract =
+        setup.createAccount(CONTRACT, 1, Wei.fromEth(1000)).getMutable();
+    contract.setCode(code);
+    for (int i = 0; i < STORAGE_SLOT_COUNT; i++) {
+      storageKeys[i] = UInt256.fromBytes(Bytes32.random(random));
+      contract.setStorageValue(storageKeys[i], UInt256.fromBytes(Bytes32.random(random)));
+    }
+    for (int i = 0; i < ACCOUNT_COUNT; i++) {
+      accounts[i] = AddressHelpers.ofValue(0x2000 + i);
+      setup.createAccount(accounts[i], 0, Wei.fromEth(1)).getMutable().setCode(randomBytes(64));
+    }
+    setup.commit();
+    worldState.persist();
+
+    inputData = randomBytes(256);
+    returnData = randomBytes(512);
+    resetWorldState();
+
+    final Operand[] operands =
+        OPERANDS.getOrDefault(operationName, defaultOperands(operation.getStackItemsConsumed()));
+    operandSets = new Bytes32[OPERAND_SETS][];
+    for (int i = 0; i < OPERAND_SETS; i++) {
+      operandSets[i] = new Bytes32[operands.length];
+      for (int j = 0; j < operands.length; j++) {
+        operandSets[i][j] = generate(operands[j]);
+      }
+    }
+  }
+
+  private static Operation lookupOperation(final String operationName) {
+    final EVM evm =
+        MainnetProtocolSchedule.fromConfig(new StubGenesisConfigOptions().istanbulBlock(0))
+            .getByBlockNumber(0)
+            .getEvm();
+    for (int opcode = 0; opcode < 256; opcode++) {
+      final Operation[] found = new Operation[1];
+      evm.forEachOperation(
+          new Code(Bytes.of(opcode)),
+          Account.DEFAULT_VERSION,
+          (candidate, pc) -> {
+            if (pc == 0) {
+              found[0] = candidate;
+            }
+          });
+      if (found[0].getName().equals(operationName)) {
+        return found[0];
+      }
+    }
+    throw new IllegalArgumentException("Unknown operation " + operationName);
+  }
+
+  private static Operand[] defaultOperands(final int count) {
+    final Operand[] operands = new Operand[count];
+    for (int i = 0; i < count; i++) {
+      operands[i] = Operand.WORD;
+    }
+    return operands;
+  }
+
+  private Bytes32 generate(final Operand operand) {
+    switch (operand) {
+      case WORD:
+        return randomWord();
+      case ZERO:
+        return Bytes32.ZERO;
+      case INDEX:
+        return UInt256.valueOf(random.nextInt(32)).toBytes();
+      case SHIFT:
+        return UInt256.valueOf(random.nextInt(256)).toBytes();
+      case OFFSET:
+        return UInt256.valueOf(random.nextInt(1024)).toBytes();
+      case SIZE:
+        return UInt256.valueOf(random.nextInt(257)).toBytes();
+      case ADDRESS:
+        return Bytes32.leftPad(accounts[random.nextInt(ACCOUNT_COUNT)]);
+      case KEY:
+        return storageKeys[random.nextInt(STORAGE_SLOT_COUNT)].toBytes();
+      case BLOCK_NUMBER:
+        return UInt256.valueOf(random.nextInt(300)).toBytes();
+      case GAS:
+        return UInt256.valueOf(100_000).toBytes();
+      default:
+        throw new IllegalStateException("Unhandled operand " + operand);
+    }
+  }
+
+  private Bytes32 randomWord() {
+    final int kind = random.nextInt(4);
+    if (kind < 2) {
+      return UInt256.valueOf(random.nextInt(1 << 16)).toBytes();
+    } else if (kind == 2) {
+      return Bytes32.leftPad(Bytes.random(Address.SIZE, random));
+    } else {
+      return Bytes32.random(random);
+    }
+  }
+
+  private Bytes randomBytes(final int size) {
+    return Bytes.random(size, random);
+  }
+
+  Operation getOperation() {
+    return operation;
+  }
+
+  /**
+   * Replaces the frame with one executing against a new updater of the persisted world state, so
+   * storage written by earlier executions is no longer seen as written in the current transaction.
+   */
+  void resetWorldState() {
+    final WorldUpdater worldUpdater = worldState.updater();
+    if (warmStorage) {
+      final MutableAccount account = worldUpdater.getAccount(CONTRACT).getMutable();
+      for (final UInt256 key : storageKeys) {
+        account.setStorageValue(key, account.getStorageValue(key));
+      }
+    }
+
+    frame =
+        helper
+            .createMessageFrameBuilder()
+            .worldState(worldUpdater)
+            .initialGas(INITIAL_GAS)
+            .address(CONTRACT)
+            .contract(CONTRACT)
+            .inputData(inputData)
+            .code(new Code(code))
+            .build();
+    frame.setCurrentOperation(operation);
+    frame.setReturnData(returnData);
+    frameStackDepth = frame.getMessageFrameStack().size();
+  }
+
+  /**
+   * Executes the operation once with the next set of operands, then restores the frame.
+   *
+   * @return the gas charged for the execution
+   */
+  long execute() {
+    final Bytes32[] operands = operandSets[nextOperandSet];
+    nextOperandSet = (nextOperandSet + 1) & (OPERAND_SETS - 1);
+    for (int i = operands.length - 1; i >= 0; i--) {
+      frame.pushStackItem(operands[i]);
+    }
+    final Gas cost = operation.cost(frame);
+    operation.execute(frame);
+    reset();
+    return cost == null ? 0 : cost.toLong();
+  }
+
+  private void reset() {
+    frame.popStackItems(frame.stackSize());
+    frame.setPC(0);
+    // Calls and creates pass most of the remaining gas on to the child frame.
+    frame.setGasRemaining(INITIAL_GAS);
+    frame.setState(MessageFrame.State.CODE_EXECUTING);
+    frame.getExceptionalHaltReasons().clear();
+    frame.clearLogs();
+    frame.clearSelfDestructs();
+    final Deque<MessageFrame> messageFrameStack = frame.getMessageFrameStack();
+    while (messageFrameStack.size() > frameStackDepth) {
+      messageFrameStack.removeFirst();
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.vm.operations;
+
+import org.hyperledger.besu.ethereum.vm.operations.OperationBenchmark.GasCounter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares storage operations on slots that must be read from the persisted storage trie with
+ * slots already written earlier in the same transaction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StorageOperationBenchmark {
+
+  @Param({"SLOAD", "SSTORE"})
+  public String operation;
+
+  @Param({"COLD", "WARM"})
+  public String storage;
+
+  private OperationBenchmarkHelper operationBenchmarkHelper;
+  private OperationExecutor executor;
+
+  @Setup
+  public void prepare() throws Exception {
+    operationBenchmarkHelper = OperationBenchmarkHelper.create();
+    executor = new OperationExecutor(operationBenchmarkHelper, operation, "WARM".equals(storage));
+  }
+
+  /**
+   * Gives each execution a new world state updater. Otherwise, after the first few executions every
+   * slot would already have been written in the current transaction, so cold slots would measure
+   * the same path as warm ones and SSTORE would be charged the dirty slot price.
+   */
+  @Setup(Level.Invocation)
+  public void resetWorldState() {
+    executor.resetWorldState();
+  }
+
+  @TearDown
+  public void cleanUp() throws Exception {
+    operationBenchmarkHelper.cleanUp();
+  }
+
+  @Benchmark
+  public void executeOperation(final GasCounter gasCounter) {
+    gasCounter.gas += executor.execute();
+  }
+}
@@ -41,6 +41,23 @@ public interface BlockValidator<C> {
       final HeaderValidationMode headerValidationMode,
       final HeaderValidationMode ommerValidationMode);
 
+  /**
+   * Validates a block that has already been executed against its parent world state, reusing the
+   * outputs of that execution instead of processing the block's transactions again.
+   *
+   * @param context The context to validate against
+   * @param block The block, which may carry a different header than the one that was executed as
+   *     long as it hashes identically
+   * @param processingOutputs The outputs of the earlier execution of this block
+   * @param headerValidationMode Determines the validation to perform on this header.
+   * @return {@code true} if the header is valid and matches the state held by the outputs
+   */
+  boolean validateProcessedBlock(
+      final ProtocolContext<C> context,
+      final Block block,
+      final BlockProcessingOutputs processingOutputs,
+      final HeaderValidationMode headerValidationMode);
+
   boolean fastBlockValidation(
       final ProtocolContext<C> context,
       final Block block,
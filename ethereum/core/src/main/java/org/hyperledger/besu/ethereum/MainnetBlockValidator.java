@@ -99,6 +99,28 @@ public class MainnetBlockValidator<C> implements BlockValidator<C> {
     return Optional.of(new BlockProcessingOutputs(worldState, receipts));
   }
 
+  @Override
+  public boolean validateProcessedBlock(
+      final ProtocolContext<C> context,
+      final Block block,
+      final BlockProcessingOutputs processingOutputs,
+      final HeaderValidationMode headerValidationMode) {
+    final BlockHeader header = block.getHeader();
+    if (!blockHeaderValidator.validateHeader(header, context, headerValidationMode)) {
+      return false;
+    }
+
+    if (!processingOutputs.worldState.rootHash().equals(header.getStateRoot())) {
+      LOG.debug(
+          "Unable to reuse processed state for block {} because state root {} does not match {}",
+          header.getNumber(),
+          processingOutputs.worldState.rootHash(),
+          header.getStateRoot());
+      return false;
+    }
+    return true;
+  }
+
   @Override
   public boolean fastBlockValidation(
       final ProtocolContext<C> context,
@@ -47,6 +47,7 @@ import java.util.stream.Stream;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import org.apache.tuweni.bytes.Bytes;
 
 public class DefaultBlockchain implements MutableBlockchain {
 
@@ -184,6 +185,11 @@ public class DefaultBlockchain implements MutableBlockchain {
     return blockchainStorage.getBlockBody(blockHeaderHash);
   }
 
+  @Override
+  public Optional<Bytes> getBlockBodyRlp(final Hash blockHeaderHash) {
+    return blockchainStorage.getBlockBodyRlp(blockHeaderHash);
+  }
+
   @Override
   public Optional<List<TransactionReceipt>> getTxReceipts(final Hash blockHeaderHash) {
     return blockchainStorage.getTransactionReceipts(blockHeaderHash);
@@ -160,6 +160,14 @@ public abstract class AbstractWorldUpdater<W extends WorldView, A extends Accoun
     return deletedAccounts;
   }
 
+  /**
+   * Marks the end of a transaction, so that the original storage values seen by updaters created
+   * on top of this one are the values of the accounts modified so far.
+   */
+  public void markTransactionBoundary() {
+    updatedAccounts().forEach(UpdateTrackingAccount::markTransactionBoundary);
+  }
+
   /**
    * A implementation of {@link MutableAccount} that tracks updates made to the account since the
    * creation of the updater this is linked to.
@@ -469,9 +477,5 @@ public abstract class AbstractWorldUpdater<W extends WorldView, A extends Accoun
         update.getUpdatedStorage().forEach(existing::setStorageValue);
       }
     }
-
-    public void markTransactionBoundary() {
-      updatedAccounts().forEach(UpdateTrackingAccount::markTransactionBoundary);
-    }
   }
 }
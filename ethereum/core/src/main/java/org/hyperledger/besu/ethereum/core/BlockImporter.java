@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.core;
 
+import org.hyperledger.besu.ethereum.BlockValidator.BlockProcessingOutputs;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
 
@@ -60,6 +61,24 @@ public interface BlockImporter<C> {
       HeaderValidationMode headerValidationMode,
       HeaderValidationMode ommerValidationMode);
 
+  /**
+   * Attempts to import a block whose transactions have already been executed, for example while
+   * validating it as a consensus proposal. The block's header is still validated, but the world
+   * state and receipts held by the processing outputs are persisted as-is.
+   *
+   * @param context The context to attempt to update
+   * @param block The block
+   * @param processingOutputs The outputs of the earlier execution of this block
+   * @param headerValidationMode Determines the validation to perform on this header.
+   * @return {@code true} if the block was added somewhere in the blockchain; otherwise {@code
+   *     false}
+   */
+  boolean importProcessedBlock(
+      ProtocolContext<C> context,
+      Block block,
+      BlockProcessingOutputs processingOutputs,
+      HeaderValidationMode headerValidationMode);
+
   /**
    * Attempts to import the given block. Uses "fast" validation. Performs light validation using the
    * block's receipts rather than processing all transactions and fully validating world state.
@@ -24,10 +24,14 @@ import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.core.WorldState;
 import org.hyperledger.besu.ethereum.core.WorldUpdater;
+import org.hyperledger.besu.ethereum.mainnet.parallelization.ParallelTransactionExecutor;
+import org.hyperledger.besu.ethereum.mainnet.parallelization.SpeculativeExecution;
 import org.hyperledger.besu.ethereum.vm.BlockHashLookup;
+import org.hyperledger.besu.ethereum.vm.OperationTracer;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import com.google.common.collect.ImmutableList;
 import org.apache.logging.log4j.LogManager;
@@ -39,6 +43,40 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
 
     TransactionReceipt create(
         TransactionProcessor.Result result, WorldState worldState, long gasUsed);
+
+    /**
+     * Returns whether the created receipts include the state root after their transaction, which
+     * requires the world state root hash to be computed after each transaction.
+     *
+     * @return {@code true} unless the factory was created by {@link #withoutStateRoot}
+     */
+    default boolean includesStateRoot() {
+      return true;
+    }
+
+    /**
+     * Marks a factory as creating receipts that don't include the state root after their
+     * transaction.
+     *
+     * @param factory the factory creating status receipts
+     * @return a factory delegating to {@code factory}
+     */
+    static TransactionReceiptFactory withoutStateRoot(final TransactionReceiptFactory factory) {
+      return new TransactionReceiptFactory() {
+        @Override
+        public TransactionReceipt create(
+            final TransactionProcessor.Result result,
+            final WorldState worldState,
+            final long gasUsed) {
+          return factory.create(result, worldState, gasUsed);
+        }
+
+        @Override
+        public boolean includesStateRoot() {
+          return false;
+        }
+      };
+    }
   }
 
   private static final Logger LOG = LogManager.getLogger();
@@ -89,6 +127,10 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
 
   private final MiningBeneficiaryCalculator miningBeneficiaryCalculator;
 
+  private Optional<ParallelTransactionExecutor> parallelTransactionExecutor = Optional.empty();
+
+  private OperationTracer operationTracer = OperationTracer.NO_TRACING;
+
   public AbstractBlockProcessor(final AbstractBlockProcessor blockProcessor) {
     this(
         blockProcessor.transactionProcessor,
@@ -96,6 +138,8 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
         blockProcessor.blockReward,
         blockProcessor.miningBeneficiaryCalculator,
         blockProcessor.skipZeroBlockRewards);
+    this.parallelTransactionExecutor = blockProcessor.parallelTransactionExecutor;
+    this.operationTracer = blockProcessor.operationTracer;
   }
 
   public AbstractBlockProcessor(
@@ -111,6 +155,34 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
     this.skipZeroBlockRewards = skipZeroBlockRewards;
   }
 
+  /**
+   * Executes the transactions of the blocks processed from now on speculatively in parallel before
+   * applying them in order.
+   *
+   * @param parallelTransactionExecutor the executor to use for the speculative executions.
+   */
+  void enableParallelTransactionExecution(
+      final ParallelTransactionExecutor parallelTransactionExecutor) {
+    this.parallelTransactionExecutor = Optional.of(parallelTransactionExecutor);
+  }
+
+  /**
+   * Traces the in-order execution of the transactions of the blocks processed from now on.
+   * Speculative parallel executions are not traced.
+   *
+   * @param operationTracer the tracer to execute the transactions with.
+   */
+  void traceOperations(final OperationTracer operationTracer) {
+    this.operationTracer = operationTracer;
+  }
+
+  @Override
+  public boolean supportsLayeredWorldState() {
+    // Intermediate state roots need the root hash after each transaction and speculative executions
+    // copy the world state, neither of which a layered world state provides.
+    return !transactionReceiptFactory.includesStateRoot() && parallelTransactionExecutor.isEmpty();
+  }
+
   @Override
   public AbstractBlockProcessor.Result processBlock(
       final Blockchain blockchain,
@@ -119,10 +191,47 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
       final List<Transaction> transactions,
       final List<BlockHeader> ommers) {
 
+    final Address miningBeneficiary = miningBeneficiaryCalculator.calculateBeneficiary(blockHeader);
+    final Optional<SpeculativeExecution> speculativeExecution =
+        transactions.size() > 1
+            ? parallelTransactionExecutor.map(
+                executor ->
+                    executor.execute(
+                        transactionProcessor,
+                        blockchain,
+                        worldState,
+                        blockHeader,
+                        transactions,
+                        miningBeneficiary))
+            : Optional.empty();
+    try {
+      return processBlock(
+          blockchain,
+          worldState,
+          blockHeader,
+          transactions,
+          ommers,
+          miningBeneficiary,
+          speculativeExecution);
+    } finally {
+      speculativeExecution.ifPresent(SpeculativeExecution::cancel);
+    }
+  }
+
+  private AbstractBlockProcessor.Result processBlock(
+      final Blockchain blockchain,
+      final MutableWorldState worldState,
+      final BlockHeader blockHeader,
+      final List<Transaction> transactions,
+      final List<BlockHeader> ommers,
+      final Address miningBeneficiary,
+      final Optional<SpeculativeExecution> speculativeExecution) {
+
     long gasUsed = 0;
     final List<TransactionReceipt> receipts = new ArrayList<>();
 
-    for (final Transaction transaction : transactions) {
+    for (int i = 0; i < transactions.size(); i++) {
+      final Transaction transaction = transactions.get(i);
       final long remainingGasBudget = blockHeader.getGasLimit() - gasUsed;
       if (Long.compareUnsigned(transaction.getGasLimit(), remainingGasBudget) > 0) {
         LOG.warn(
@@ -133,20 +242,30 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
       }
 
       final WorldUpdater worldStateUpdater = worldState.updater();
-      final BlockHashLookup blockHashLookup = new BlockHashLookup(blockHeader, blockchain);
-      final Address miningBeneficiary =
-          miningBeneficiaryCalculator.calculateBeneficiary(blockHeader);
-
-      final TransactionProcessor.Result result =
-          transactionProcessor.processTransaction(
-              blockchain,
-              worldStateUpdater,
-              blockHeader,
-              transaction,
-              miningBeneficiary,
-              blockHashLookup,
-              true,
-              TransactionValidationParams.processingBlock());
+      final int transactionIndex = i;
+      final Optional<TransactionProcessor.Result> speculativeResult =
+          speculativeExecution.flatMap(
+              execution -> execution.applyTo(transactionIndex, worldStateUpdater));
+
+      final TransactionProcessor.Result result;
+      if (speculativeResult.isPresent()) {
+        result = speculativeResult.get();
+      } else {
+        final BlockHashLookup blockHashLookup = new BlockHashLookup(blockHeader, blockchain);
+        result =
+            transactionProcessor.processTransaction(
+                blockchain,
+                worldStateUpdater,
+                blockHeader,
+                transaction,
+                miningBeneficiary,
+                operationTracer,
+                blockHashLookup,
+                true,
+                TransactionValidationParams.processingBlock());
+        speculativeExecution.ifPresent(
+            execution -> execution.recordExecution(worldStateUpdater, worldState));
+      }
       if (result.isInvalid()) {
         return AbstractBlockProcessor.Result.failed();
       }
@@ -158,6 +277,15 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
       receipts.add(transactionReceipt);
     }
 
+    speculativeExecution.ifPresent(
+        execution ->
+            LOG.trace(
+                "Applied {} of {} transactions of block {} from their parallel execution, {} conflicted",
+                execution.getAppliedCount(),
+                transactions.size(),
+                blockHeader.getNumber(),
+                execution.getConflictCount()));
+
     if (!rewardCoinbase(worldState, blockHeader, ommers, skipZeroBlockRewards)) {
       return AbstractBlockProcessor.Result.failed();
     }
@@ -82,6 +82,16 @@ public interface BlockProcessor {
       List<Transaction> transactions,
       List<BlockHeader> ommers);
 
+  /**
+   * Returns whether blocks can be processed against a world state layered on uncommitted changes,
+   * whose root hash can't be computed and which can't be copied.
+   *
+   * @return {@code true} if blocks can be processed against a layered world state
+   */
+  default boolean supportsLayeredWorldState() {
+    return false;
+  }
+
   /**
    * Get ommer reward in ${@link Wei}
    *
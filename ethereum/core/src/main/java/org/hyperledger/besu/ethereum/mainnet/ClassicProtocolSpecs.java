@@ -108,9 +108,10 @@ public class ClassicProtocolSpecs {
         .precompileContractRegistryBuilder(MainnetPrecompiledContractRegistries::byzantium)
         .difficultyCalculator(ClassicDifficultyCalculators.EIP100)
         .transactionReceiptFactory(
-            enableRevertReason
-                ? ClassicProtocolSpecs::byzantiumTransactionReceiptFactoryWithReasonEnabled
-                : ClassicProtocolSpecs::byzantiumTransactionReceiptFactory)
+            MainnetBlockProcessor.TransactionReceiptFactory.withoutStateRoot(
+                enableRevertReason
+                    ? ClassicProtocolSpecs::byzantiumTransactionReceiptFactoryWithReasonEnabled
+                    : ClassicProtocolSpecs::byzantiumTransactionReceiptFactory))
         .contractCreationProcessorBuilder(
             (gasCalculator, evm) ->
                 new MainnetContractCreationProcessor(
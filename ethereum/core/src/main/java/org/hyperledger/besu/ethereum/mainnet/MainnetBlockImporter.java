@@ -51,6 +51,25 @@ public class MainnetBlockImporter<C> implements BlockImporter<C> {
     return outputs.isPresent();
   }
 
+  @Override
+  public synchronized boolean importProcessedBlock(
+      final ProtocolContext<C> context,
+      final Block block,
+      final BlockValidator.BlockProcessingOutputs processingOutputs,
+      final HeaderValidationMode headerValidationMode) {
+    if (context.getBlockchain().contains(block.getHash())) {
+      return true;
+    }
+
+    if (!blockValidator.validateProcessedBlock(
+        context, block, processingOutputs, headerValidationMode)) {
+      return false;
+    }
+
+    persistState(processingOutputs, block, context);
+    return true;
+  }
+
   private void persistState(
       final BlockValidator.BlockProcessingOutputs processingOutputs,
       final Block block,
@@ -130,8 +130,10 @@ public class MainnetMessageCallProcessor extends AbstractMessageProcessor {
       frame.setState(MessageFrame.State.EXCEPTIONAL_HALT);
     } else {
       frame.decrementRemainingGas(gasRequirement);
+      final long startNanos = System.nanoTime();
       final Bytes output = contract.compute(frame.getInputData(), frame);
-      operationTracer.tracePrecompileCall(frame, gasRequirement, output);
+      operationTracer.tracePrecompileCall(
+          frame, gasRequirement, output, System.nanoTime() - startNanos);
       if (output != null) {
         if (contract.getName().equals("Privacy") || contract.getName().equals("OnChainPrivacy")) {
           // do not decrement the gas requirement for a privacy pre-compile contract call -> leads
@@ -247,9 +247,10 @@ public abstract class MainnetProtocolSpecs {
         .precompileContractRegistryBuilder(MainnetPrecompiledContractRegistries::byzantium)
         .difficultyCalculator(MainnetDifficultyCalculators.BYZANTIUM)
         .transactionReceiptFactory(
-            enableRevertReason
-                ? MainnetProtocolSpecs::byzantiumTransactionReceiptFactoryWithReasonEnabled
-                : MainnetProtocolSpecs::byzantiumTransactionReceiptFactory)
+            MainnetBlockProcessor.TransactionReceiptFactory.withoutStateRoot(
+                enableRevertReason
+                    ? MainnetProtocolSpecs::byzantiumTransactionReceiptFactoryWithReasonEnabled
+                    : MainnetProtocolSpecs::byzantiumTransactionReceiptFactory))
         .blockReward(BYZANTIUM_BLOCK_REWARD)
         .privateTransactionValidatorBuilder(() -> new PrivateTransactionValidator(chainId))
         .privateTransactionProcessorBuilder(
@@ -437,6 +438,11 @@ public abstract class MainnetProtocolSpecs {
       return wrapped.processBlock(blockchain, worldState, blockHeader, transactions, ommers);
     }
 
+    @Override
+    public boolean supportsLayeredWorldState() {
+      return wrapped.supportsLayeredWorldState();
+    }
+
     private static final Address DAO_REFUND_CONTRACT_ADDRESS =
         Address.fromHexString("0xbf4ed7b27f1d666546e30d74d50d173d20bca754");
 
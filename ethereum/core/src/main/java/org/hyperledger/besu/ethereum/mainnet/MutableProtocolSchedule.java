@@ -17,6 +17,7 @@ package org.hyperledger.besu.ethereum.mainnet;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import org.hyperledger.besu.ethereum.core.TransactionFilter;
+import org.hyperledger.besu.ethereum.vm.OperationTracer;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.math.BigInteger;
@@ -88,4 +89,10 @@ public class MutableProtocolSchedule<C> implements ProtocolSchedule<C> {
             spec.getSpec()
                 .setPublicWorldStateArchiveForPrivacyBlockProcessor(publicWorldStateArchive));
   }
+
+  @Override
+  public void setBlockProcessingOperationTracer(final OperationTracer operationTracer) {
+    protocolSpecs.forEach(
+        spec -> spec.getSpec().setBlockProcessingOperationTracer(operationTracer));
+  }
 }
@@ -22,6 +22,7 @@ import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.privacy.PrivateTransactionProcessor;
 import org.hyperledger.besu.ethereum.vm.EVM;
 import org.hyperledger.besu.ethereum.vm.GasCalculator;
+import org.hyperledger.besu.ethereum.vm.OperationTracer;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 /** A protocol specification. */
@@ -295,4 +296,10 @@ public class ProtocolSpec<C> {
     if (PrivacyBlockProcessor.class.isAssignableFrom(blockProcessor.getClass()))
       ((PrivacyBlockProcessor) blockProcessor).setPublicWorldStateArchive(publicWorldStateArchive);
   }
+
+  public void setBlockProcessingOperationTracer(final OperationTracer operationTracer) {
+    if (blockProcessor instanceof AbstractBlockProcessor) {
+      ((AbstractBlockProcessor) blockProcessor).traceOperations(operationTracer);
+    }
+  }
 }
@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.mainnet;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import org.hyperledger.besu.config.experimental.ExperimentalBlockProcessing;
 import org.hyperledger.besu.ethereum.BlockValidator;
 import org.hyperledger.besu.ethereum.core.Account;
 import org.hyperledger.besu.ethereum.core.Address;
@@ -23,6 +24,7 @@ import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.core.BlockImporter;
 import org.hyperledger.besu.ethereum.core.PrivacyParameters;
 import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.mainnet.parallelization.ParallelTransactionExecutor;
 import org.hyperledger.besu.ethereum.mainnet.precompiles.privacy.OnChainPrivacyPrecompiledContract;
 import org.hyperledger.besu.ethereum.mainnet.precompiles.privacy.PrivacyPrecompiledContract;
 import org.hyperledger.besu.ethereum.privacy.PrivateTransactionProcessor;
@@ -299,6 +301,14 @@ public class ProtocolSpecBuilder<T> {
             blockReward,
             miningBeneficiaryCalculator,
             skipZeroBlockRewards);
+    // Private transactions update the private state from within the public transaction execution,
+    // which can't be done speculatively.
+    if (ExperimentalBlockProcessing.parallelTransactionExecutionEnabled
+        && !privacyParameters.isEnabled()
+        && blockProcessor instanceof AbstractBlockProcessor) {
+      ((AbstractBlockProcessor) blockProcessor)
+          .enableParallelTransactionExecution(ParallelTransactionExecutor.create());
+    }
     // Set private Tx Processor
     PrivateTransactionProcessor privateTransactionProcessor = null;
     if (privacyParameters.isEnabled()) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet.parallelization;
+
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor;
+import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
+import org.hyperledger.besu.ethereum.vm.BlockHashLookup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Optimistically executes the transactions of a block in parallel.
+ *
+ * <p>Every transaction is executed against the state the block starts from while the accounts and
+ * storage slots it reads and writes are recorded. The block processor then walks the transactions
+ * in order, applying the speculative result of those that don't conflict with the preceding ones
+ * and executing the others again, so that the outcome is identical to a sequential execution.
+ */
+public class ParallelTransactionExecutor {
+
+  private final ExecutorService executorService;
+
+  public ParallelTransactionExecutor(final ExecutorService executorService) {
+    this.executorService = executorService;
+  }
+
+  public static ParallelTransactionExecutor create() {
+    return new ParallelTransactionExecutor(SharedExecutorHolder.EXECUTOR);
+  }
+
+  public SpeculativeExecution execute(
+      final TransactionProcessor transactionProcessor,
+      final Blockchain blockchain,
+      final MutableWorldState worldState,
+      final BlockHeader blockHeader,
+      final List<Transaction> transactions,
+      final Address miningBeneficiary) {
+    final List<Future<SpeculativeTransactionResult>> results = new ArrayList<>(transactions.size());
+    for (final Transaction transaction : transactions) {
+      // The world state is modified as the block gets processed, so each speculative execution
+      // reads from its own copy of the state the block starts from.
+      final MutableWorldState initialState = worldState.copy();
+      results.add(
+          executorService.submit(
+              () ->
+                  speculate(
+                      transactionProcessor,
+                      blockchain,
+                      initialState,
+                      blockHeader,
+                      transaction,
+                      miningBeneficiary)));
+    }
+    return new SpeculativeExecution(results, miningBeneficiary);
+  }
+
+  private static SpeculativeTransactionResult speculate(
+      final TransactionProcessor transactionProcessor,
+      final Blockchain blockchain,
+      final MutableWorldState initialState,
+      final BlockHeader blockHeader,
+      final Transaction transaction,
+      final Address miningBeneficiary) {
+    final StateAccessSet accessSet = new StateAccessSet();
+    final SpeculativeWorldUpdater updater =
+        new SpeculativeWorldUpdater(
+            new AccessTrackingWorldView(initialState, accessSet), miningBeneficiary);
+
+    final TransactionProcessor.Result result =
+        transactionProcessor.processTransaction(
+            blockchain,
+            updater,
+            blockHeader,
+            transaction,
+            miningBeneficiary,
+            new BlockHashLookup(blockHeader, blockchain),
+            true,
+            TransactionValidationParams.processingBlock());
+
+    accessSet.recordWrites(updater, initialState);
+    final Optional<Wei> miningBeneficiaryCredit = updater.getMiningBeneficiaryCredit();
+    if (miningBeneficiaryCredit.isPresent()) {
+      accessSet.forgetAccount(miningBeneficiary);
+    }
+    return new SpeculativeTransactionResult(result, updater, accessSet, miningBeneficiaryCredit);
+  }
+
+  private static class SharedExecutorHolder {
+    private static final ExecutorService EXECUTOR =
+        Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("ParallelTransactionExecutor-%d")
+                .build());
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet.parallelization;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
+import org.hyperledger.besu.ethereum.core.WorldView;
+import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The speculative execution of the transactions of a block.
+ *
+ * <p>Transactions must be consumed in block order: each one is either applied from its
+ * speculative result through {@link #applyTo(int, WorldUpdater)}, or executed again by the caller,
+ * in which case its changes must be reported through {@link #recordExecution(WorldUpdater,
+ * WorldView)} so that later transactions observing them are detected as conflicting.
+ */
+public class SpeculativeExecution {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final List<Future<SpeculativeTransactionResult>> results;
+  private final Address miningBeneficiary;
+  private final StateAccessSet blockWrites = new StateAccessSet();
+  private int appliedCount = 0;
+  private int conflictCount = 0;
+
+  SpeculativeExecution(
+      final List<Future<SpeculativeTransactionResult>> results, final Address miningBeneficiary) {
+    this.results = results;
+    this.miningBeneficiary = miningBeneficiary;
+  }
+
+  /**
+   * Applies the speculative result of a transaction, provided it didn't access any state modified
+   * by the transactions that precede it in the block.
+   *
+   * @param index the index of the transaction in the block.
+   * @param updater a fresh updater on top of the state resulting from all preceding transactions.
+   * @return the result of the transaction if it could be applied, empty if it must be executed
+   *     again by the caller.
+   */
+  public Optional<TransactionProcessor.Result> applyTo(
+      final int index, final WorldUpdater updater) {
+    final Optional<SpeculativeTransactionResult> maybeSpeculativeResult = awaitResult(index);
+    if (maybeSpeculativeResult.isEmpty()) {
+      return Optional.empty();
+    }
+    final SpeculativeTransactionResult speculativeResult = maybeSpeculativeResult.get();
+    if (speculativeResult.getAccessSet().conflictsWith(blockWrites)) {
+      conflictCount++;
+      return Optional.empty();
+    }
+    if (!speculativeResult.applyTo(updater, miningBeneficiary)) {
+      updater.revert();
+      conflictCount++;
+      return Optional.empty();
+    }
+
+    blockWrites.mergeWrites(speculativeResult.getAccessSet());
+    if (speculativeResult.getMiningBeneficiaryCredit().isPresent()) {
+      blockWrites.recordAccountWrite(miningBeneficiary);
+    }
+    appliedCount++;
+    return Optional.of(speculativeResult.getResult());
+  }
+
+  /**
+   * Records the changes of a transaction that was executed by the caller rather than applied from
+   * its speculative result.
+   *
+   * @param updater the updater holding the changes of the transaction, before it is committed.
+   * @param stateBeforeTransaction the state the transaction was executed on top of.
+   */
+  public void recordExecution(final WorldUpdater updater, final WorldView stateBeforeTransaction) {
+    blockWrites.recordWrites(updater, stateBeforeTransaction);
+  }
+
+  /** Stops any speculative execution that hasn't started yet. */
+  public void cancel() {
+    results.forEach(result -> result.cancel(false));
+  }
+
+  public int getAppliedCount() {
+    return appliedCount;
+  }
+
+  public int getConflictCount() {
+    return conflictCount;
+  }
+
+  private Optional<SpeculativeTransactionResult> awaitResult(final int index) {
+    try {
+      return Optional.of(results.get(index).get());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Optional.empty();
+    } catch (final ExecutionException e) {
+      LOG.debug("Speculative execution of transaction {} failed", index, e.getCause());
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet.parallelization;
+
+import org.hyperledger.besu.ethereum.core.AbstractWorldUpdater.UpdateTrackingAccount;
+import org.hyperledger.besu.ethereum.core.Account;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.DefaultEvmAccount;
+import org.hyperledger.besu.ethereum.core.MutableAccount;
+import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
+import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor;
+
+import java.util.Optional;
+
+/** The outcome of executing a transaction against the state the block started from. */
+class SpeculativeTransactionResult {
+
+  private final TransactionProcessor.Result result;
+  private final WorldUpdater updater;
+  private final StateAccessSet accessSet;
+  private final Optional<Wei> miningBeneficiaryCredit;
+
+  SpeculativeTransactionResult(
+      final TransactionProcessor.Result result,
+      final WorldUpdater updater,
+      final StateAccessSet accessSet,
+      final Optional<Wei> miningBeneficiaryCredit) {
+    this.result = result;
+    this.updater = updater;
+    this.accessSet = accessSet;
+    this.miningBeneficiaryCredit = miningBeneficiaryCredit;
+  }
+
+  TransactionProcessor.Result getResult() {
+    return result;
+  }
+
+  StateAccessSet getAccessSet() {
+    return accessSet;
+  }
+
+  Optional<Wei> getMiningBeneficiaryCredit() {
+    return miningBeneficiaryCredit;
+  }
+
+  /**
+   * Replays the changes made by the transaction on the provided updater.
+   *
+   * <p>This is only valid if none of the accounts and storage slots accessed by the transaction
+   * have been modified since the block started, which is checked by the caller.
+   *
+   * @param target the updater to apply the changes to.
+   * @param miningBeneficiary the mining beneficiary of the block.
+   * @return {@code false} if the state of {@code target} unexpectedly doesn't allow the changes to
+   *     be applied, in which case {@code target} must be reverted.
+   */
+  boolean applyTo(final WorldUpdater target, final Address miningBeneficiary) {
+    for (final Address deleted : updater.getDeletedAccountAddresses()) {
+      target.deleteAccount(deleted);
+    }
+    for (final UpdateTrackingAccount<? extends Account> account : updater.getTouchedAccounts()) {
+      final Address address = account.getAddress();
+      if (miningBeneficiaryCredit.isPresent() && address.equals(miningBeneficiary)) {
+        continue;
+      }
+      final MutableAccount mutable;
+      if (account.getWrappedAccount() == null) {
+        mutable =
+            target.createAccount(address, account.getNonce(), account.getBalance()).getMutable();
+        mutable.setVersion(account.getVersion());
+      } else {
+        final DefaultEvmAccount existing = target.getAccount(address);
+        if (existing == null) {
+          return false;
+        }
+        mutable = existing.getMutable();
+        mutable.setNonce(account.getNonce());
+        mutable.setBalance(account.getBalance());
+        if (account.getStorageWasCleared()) {
+          mutable.clearStorage();
+        }
+      }
+      if (account.codeWasUpdated()) {
+        mutable.setCode(account.getCode());
+        mutable.setVersion(account.getVersion());
+      }
+      account.getUpdatedStorage().forEach(mutable::setStorageValue);
+    }
+    miningBeneficiaryCredit.ifPresent(
+        credit -> target.getOrCreate(miningBeneficiary).getMutable().incrementBalance(credit));
+    return true;
+  }
+}
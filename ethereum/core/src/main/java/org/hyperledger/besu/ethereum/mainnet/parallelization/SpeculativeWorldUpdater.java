@@ -0,0 +1,137 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet.parallelization;
+
+import org.hyperledger.besu.ethereum.core.AbstractWorldUpdater;
+import org.hyperledger.besu.ethereum.core.Account;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.DefaultEvmAccount;
+import org.hyperledger.besu.ethereum.core.Wei;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * The updater a transaction is speculatively executed against.
+ *
+ * <p>Every transaction credits its fee to the mining beneficiary, which would make every pair of
+ * transactions conflict if that credit was treated as a regular read followed by a write. This
+ * updater detects when the only access to the mining beneficiary is the final fee credit made by
+ * the transaction processor, in which case the credit can be applied as a delta on top of the
+ * actual beneficiary balance.
+ */
+class SpeculativeWorldUpdater extends AbstractWorldUpdater<AccessTrackingWorldView, Account> {
+
+  private final Address miningBeneficiary;
+
+  private boolean miningBeneficiaryAccessedByExecution = false;
+  private boolean miningBeneficiaryLoadedByRequest = false;
+  private int miningBeneficiaryRequests = 0;
+  private boolean resolvingMiningBeneficiaryRequest = false;
+
+  SpeculativeWorldUpdater(final AccessTrackingWorldView world, final Address miningBeneficiary) {
+    super(world);
+    this.miningBeneficiary = miningBeneficiary;
+  }
+
+  @Override
+  protected Account getForMutation(final Address address) {
+    if (address.equals(miningBeneficiary)) {
+      if (resolvingMiningBeneficiaryRequest) {
+        miningBeneficiaryLoadedByRequest = true;
+      } else {
+        miningBeneficiaryAccessedByExecution = true;
+      }
+    }
+    return wrappedWorldView().get(address);
+  }
+
+  @Override
+  public Account get(final Address address) {
+    if (address.equals(miningBeneficiary)) {
+      miningBeneficiaryAccessedByExecution = true;
+    }
+    return super.get(address);
+  }
+
+  @Override
+  public DefaultEvmAccount getAccount(final Address address) {
+    if (!address.equals(miningBeneficiary)) {
+      return super.getAccount(address);
+    }
+    miningBeneficiaryRequests++;
+    resolvingMiningBeneficiaryRequest = true;
+    try {
+      return super.getAccount(address);
+    } finally {
+      resolvingMiningBeneficiaryRequest = false;
+    }
+  }
+
+  /**
+   * The amount credited to the mining beneficiary, provided that credit is the only access the
+   * transaction made to that account.
+   *
+   * @return the amount credited to the mining beneficiary, or empty if the transaction otherwise
+   *     accessed the beneficiary account or did not credit it anything.
+   */
+  Optional<Wei> getMiningBeneficiaryCredit() {
+    if (miningBeneficiaryAccessedByExecution
+        || miningBeneficiaryRequests != 1
+        || !miningBeneficiaryLoadedByRequest) {
+      return Optional.empty();
+    }
+    for (final UpdateTrackingAccount<Account> account : updatedAccounts()) {
+      if (!account.getAddress().equals(miningBeneficiary)) {
+        continue;
+      }
+      final Account original = account.getWrappedAccount();
+      final Wei originalBalance = original == null ? Wei.ZERO : original.getBalance();
+      final long originalNonce = original == null ? Account.DEFAULT_NONCE : original.getNonce();
+      if (account.getNonce() != originalNonce
+          || (original != null && account.codeWasUpdated())
+          || account.getStorageWasCleared()
+          || !account.getUpdatedStorage().isEmpty()
+          || account.getBalance().compareTo(originalBalance) <= 0) {
+        return Optional.empty();
+      }
+      return Optional.of(account.getBalance().subtract(originalBalance));
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public Collection<UpdateTrackingAccount<? extends Account>> getTouchedAccounts() {
+    return new ArrayList<>(updatedAccounts());
+  }
+
+  @Override
+  public Collection<Address> getDeletedAccountAddresses() {
+    return new ArrayList<>(deletedAccounts());
+  }
+
+  @Override
+  public void revert() {
+    deletedAccounts().clear();
+    updatedAccounts().clear();
+  }
+
+  @Override
+  public void commit() {
+    throw new UnsupportedOperationException(
+        "Speculative changes must be applied by the block processor");
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet.parallelization;
+
+import org.hyperledger.besu.ethereum.core.AbstractWorldUpdater.UpdateTrackingAccount;
+import org.hyperledger.besu.ethereum.core.Account;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
+import org.hyperledger.besu.ethereum.core.WorldView;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.tuweni.units.bigints.UInt256;
+
+/**
+ * The accounts and storage slots read and written by one or more transactions.
+ *
+ * <p>Account reads and writes cover the account fields visible to the EVM (existence, nonce,
+ * balance and code). Storage is tracked per slot, except for operations affecting the whole storage
+ * of an account (clearing it, or creating/deleting the account) which are tracked separately.
+ */
+public class StateAccessSet {
+
+  private final Set<Address> accountReads = new HashSet<>();
+  private final Map<Address, Set<UInt256>> storageReads = new HashMap<>();
+  private final Set<Address> storageScans = new HashSet<>();
+
+  private final Set<Address> accountWrites = new HashSet<>();
+  private final Map<Address, Set<UInt256>> storageWrites = new HashMap<>();
+  private final Set<Address> storageClears = new HashSet<>();
+
+  public void recordAccountRead(final Address address) {
+    accountReads.add(address);
+  }
+
+  public void recordStorageRead(final Address address, final UInt256 key) {
+    storageReads.computeIfAbsent(address, a -> new HashSet<>()).add(key);
+  }
+
+  public void recordStorageScan(final Address address) {
+    storageScans.add(address);
+  }
+
+  public void recordAccountWrite(final Address address) {
+    accountWrites.add(address);
+  }
+
+  public void recordStorageWrite(final Address address, final UInt256 key) {
+    storageWrites.computeIfAbsent(address, a -> new HashSet<>()).add(key);
+  }
+
+  public void recordStorageClear(final Address address) {
+    storageClears.add(address);
+  }
+
+  /**
+   * Records the writes accumulated in a transaction level updater.
+   *
+   * @param updater the updater holding the changes of a single transaction.
+   * @param originalState the state on top of which the updater was created, used to tell apart
+   *     the deletion of an existing account from the removal of an account the transaction created
+   *     (or merely touched) itself.
+   */
+  public void recordWrites(final WorldUpdater updater, final WorldView originalState) {
+    for (final UpdateTrackingAccount<? extends Account> account : updater.getTouchedAccounts()) {
+      recordWrites(account);
+    }
+    for (final Address deleted : updater.getDeletedAccountAddresses()) {
+      if (originalState.get(deleted) != null) {
+        accountWrites.add(deleted);
+        storageClears.add(deleted);
+      }
+    }
+  }
+
+  private void recordWrites(final UpdateTrackingAccount<? extends Account> account) {
+    final Address address = account.getAddress();
+    final Account original = account.getWrappedAccount();
+    if (original == null) {
+      // Either a brand new account, or an existing account that was reset.
+      accountWrites.add(address);
+      storageClears.add(address);
+    } else {
+      if (account.getNonce() != original.getNonce()
+          || !account.getBalance().equals(original.getBalance())
+          || account.codeWasUpdated()
+          || account.getStorageWasCleared()) {
+        accountWrites.add(address);
+      }
+      if (account.getStorageWasCleared()) {
+        storageClears.add(address);
+      }
+    }
+    account.getUpdatedStorage().keySet().forEach(key -> recordStorageWrite(address, key));
+  }
+
+  /**
+   * Removes any access to the provided account from this set.
+   *
+   * @param address the account to forget about.
+   */
+  public void forgetAccount(final Address address) {
+    accountReads.remove(address);
+    storageReads.remove(address);
+    storageScans.remove(address);
+    accountWrites.remove(address);
+    storageWrites.remove(address);
+    storageClears.remove(address);
+  }
+
+  /**
+   * Whether the accesses in this set may observe, or overwrite, any of the writes in {@code
+   * previousWrites}.
+   *
+   * @param previousWrites the writes of the transactions that precede the ones in this set.
+   * @return {@code true} if executing the transactions of this set without seeing {@code
+   *     previousWrites} may lead to a different result.
+   */
+  public boolean conflictsWith(final StateAccessSet previousWrites) {
+    if (!Collections.disjoint(accountReads, previousWrites.accountWrites)
+        || !Collections.disjoint(accountWrites, previousWrites.accountWrites)) {
+      return true;
+    }
+    if (storageConflictsWith(storageReads, previousWrites)
+        || storageConflictsWith(storageWrites, previousWrites)) {
+      return true;
+    }
+    return wholeStorageConflictsWith(storageScans, previousWrites)
+        || wholeStorageConflictsWith(storageClears, previousWrites);
+  }
+
+  private static boolean storageConflictsWith(
+      final Map<Address, Set<UInt256>> accesses, final StateAccessSet previousWrites) {
+    for (final Map.Entry<Address, Set<UInt256>> entry : accesses.entrySet()) {
+      final Address address = entry.getKey();
+      if (previousWrites.storageClears.contains(address)) {
+        return true;
+      }
+      final Set<UInt256> written = previousWrites.storageWrites.get(address);
+      if (written != null && !Collections.disjoint(entry.getValue(), written)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean wholeStorageConflictsWith(
+      final Set<Address> accesses, final StateAccessSet previousWrites) {
+    for (final Address address : accesses) {
+      if (previousWrites.storageClears.contains(address)
+          || previousWrites.storageWrites.containsKey(address)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Adds the writes (but not the reads) of another set to this one.
+   *
+   * @param other the set whose writes should be added.
+   */
+  public void mergeWrites(final StateAccessSet other) {
+    accountWrites.addAll(other.accountWrites);
+    other.storageWrites.forEach(
+        (address, keys) ->
+            storageWrites.computeIfAbsent(address, a -> new HashSet<>()).addAll(keys));
+    storageClears.addAll(other.storageClears);
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.transaction;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A bounded cache of simulated call results. Entries are keyed by the hash of the block the call
+ * was executed against, which commits to its state root as well as the header values visible to
+ * the EVM, so a block's results never go stale. The results for the chain head stop being looked
+ * up once a new block is imported, and are evicted as the cache fills.
+ */
+public class CallResultCache {
+
+  private final Cache<Key, TransactionSimulatorResult> results;
+  private final Counter hits;
+  private final Counter misses;
+
+  public CallResultCache(final long maximumSize, final MetricsSystem metricsSystem) {
+    final Counter evictions =
+        metricsSystem.createCounter(
+            BesuMetricCategory.RPC,
+            "call_cache_evictions_total",
+            "Number of call results evicted from the cache to stay within its size limit");
+    this.results =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .<Key, TransactionSimulatorResult>removalListener(
+                notification -> {
+                  if (notification.wasEvicted()) {
+                    evictions.inc();
+                  }
+                })
+            .build();
+    this.hits =
+        metricsSystem.createCounter(
+            BesuMetricCategory.RPC,
+            "call_cache_hits_total",
+            "Number of simulated calls answered from the cache");
+    this.misses =
+        metricsSystem.createCounter(
+            BesuMetricCategory.RPC,
+            "call_cache_misses_total",
+            "Number of simulated calls not found in the cache");
+  }
+
+  /**
+   * Returns the cached result for the call, or runs the simulation and caches its result.
+   * Simulations that could not run, because the block or its state is missing, are not cached.
+   *
+   * @param key the block and parameters of the call
+   * @param simulation executes the call
+   * @return the result of the call
+   */
+  Optional<TransactionSimulatorResult> getOrSimulate(
+      final Key key, final Supplier<Optional<TransactionSimulatorResult>> simulation) {
+    final TransactionSimulatorResult cached = results.getIfPresent(key);
+    if (cached != null) {
+      hits.inc();
+      return Optional.of(cached);
+    }
+    misses.inc();
+    final Optional<TransactionSimulatorResult> result = simulation.get();
+    result.ifPresent(simulated -> results.put(key, simulated));
+    return result;
+  }
+
+  long size() {
+    return results.size();
+  }
+
+  static class Key {
+    private final Hash blockHash;
+    private final Address from;
+    private final Address to;
+    private final Bytes payload;
+    private final Wei value;
+    private final long gasLimit;
+    private final Wei gasPrice;
+
+    Key(
+        final Hash blockHash,
+        final Address from,
+        final Address to,
+        final Bytes payload,
+        final Wei value,
+        final long gasLimit,
+        final Wei gasPrice) {
+      this.blockHash = blockHash;
+      this.from = from;
+      this.to = to;
+      this.payload = payload;
+      this.value = value;
+      this.gasLimit = gasLimit;
+      this.gasPrice = gasPrice;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final Key that = (Key) o;
+      return gasLimit == that.gasLimit
+          && blockHash.equals(that.blockHash)
+          && from.equals(that.from)
+          && Objects.equals(to, that.to)
+          && payload.equals(that.payload)
+          && value.equals(that.value)
+          && gasPrice.equals(that.gasPrice);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(blockHash, from, to, payload, value, gasLimit, gasPrice);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("blockHash", blockHash)
+          .add("from", from)
+          .add("to", to)
+          .add("payload", payload)
+          .add("value", value)
+          .add("gasLimit", gasLimit)
+          .add("gasPrice", gasPrice)
+          .toString();
+    }
+  }
+}
@@ -31,6 +31,7 @@ import org.hyperledger.besu.ethereum.vm.BlockHashLookup;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.apache.tuweni.bytes.Bytes;
 
@@ -54,14 +55,24 @@ public class TransactionSimulator {
   private final Blockchain blockchain;
   private final WorldStateArchive worldStateArchive;
   private final ProtocolSchedule<?> protocolSchedule;
+  private final Optional<CallResultCache> resultCache;
 
   public TransactionSimulator(
       final Blockchain blockchain,
       final WorldStateArchive worldStateArchive,
       final ProtocolSchedule<?> protocolSchedule) {
+    this(blockchain, worldStateArchive, protocolSchedule, Optional.empty());
+  }
+
+  public TransactionSimulator(
+      final Blockchain blockchain,
+      final WorldStateArchive worldStateArchive,
+      final ProtocolSchedule<?> protocolSchedule,
+      final Optional<CallResultCache> resultCache) {
     this.blockchain = blockchain;
     this.worldStateArchive = worldStateArchive;
     this.protocolSchedule = protocolSchedule;
+    this.resultCache = resultCache;
   }
 
   public Optional<TransactionSimulatorResult> process(
@@ -85,28 +96,57 @@ public class TransactionSimulator {
     if (header == null) {
       return Optional.empty();
     }
-    final MutableWorldState worldState =
-        worldStateArchive.getMutable(header.getStateRoot()).orElse(null);
-    if (worldState == null) {
-      return Optional.empty();
-    }
 
     final Address senderAddress =
         callParams.getFrom() != null ? callParams.getFrom() : DEFAULT_FROM;
-    final Account sender = worldState.get(senderAddress);
-    final long nonce = sender != null ? sender.getNonce() : 0L;
     final long gasLimit =
         callParams.getGasLimit() >= 0 ? callParams.getGasLimit() : header.getGasLimit();
     final Wei gasPrice = callParams.getGasPrice() != null ? callParams.getGasPrice() : Wei.ZERO;
     final Wei value = callParams.getValue() != null ? callParams.getValue() : Wei.ZERO;
     final Bytes payload = callParams.getPayload() != null ? callParams.getPayload() : Bytes.EMPTY;
 
+    final Supplier<Optional<TransactionSimulatorResult>> simulation =
+        () ->
+            simulate(header, senderAddress, callParams.getTo(), gasLimit, gasPrice, value, payload);
+    return resultCache
+        .map(
+            cache ->
+                cache.getOrSimulate(
+                    new CallResultCache.Key(
+                        header.getHash(),
+                        senderAddress,
+                        callParams.getTo(),
+                        payload,
+                        value,
+                        gasLimit,
+                        gasPrice),
+                    simulation))
+        .orElseGet(simulation);
+  }
+
+  private Optional<TransactionSimulatorResult> simulate(
+      final BlockHeader header,
+      final Address senderAddress,
+      final Address to,
+      final long gasLimit,
+      final Wei gasPrice,
+      final Wei value,
+      final Bytes payload) {
+    final MutableWorldState worldState =
+        worldStateArchive.getMutable(header.getStateRoot()).orElse(null);
+    if (worldState == null) {
+      return Optional.empty();
+    }
+
+    final Account sender = worldState.get(senderAddress);
+    final long nonce = sender != null ? sender.getNonce() : 0L;
+
     final Transaction transaction =
         Transaction.builder()
             .nonce(nonce)
             .gasPrice(gasPrice)
             .gasLimit(gasLimit)
-            .to(callParams.getTo())
+            .to(to)
             .sender(senderAddress)
             .value(value)
             .payload(payload)
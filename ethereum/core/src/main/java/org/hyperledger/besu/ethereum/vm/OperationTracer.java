@@ -33,6 +33,14 @@ public interface OperationTracer {
   default void tracePrecompileCall(
       final MessageFrame frame, final Gas gasRequirement, final Bytes output) {};
 
+  default void tracePrecompileCall(
+      final MessageFrame frame,
+      final Gas gasRequirement,
+      final Bytes output,
+      final long durationNanos) {
+    tracePrecompileCall(frame, gasRequirement, output);
+  }
+
   default void traceAccountCreationResult(
       final MessageFrame frame, final Optional<ExceptionalHaltReason> haltReason) {}
 
@@ -0,0 +1,324 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.vm;
+
+import org.hyperledger.besu.ethereum.core.Account;
+import org.hyperledger.besu.ethereum.core.Gas;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.vm.ehalt.ExceptionalHaltException;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Aggregates the number of executions and the cumulative execution time of each opcode, each
+ * precompiled contract and the code of each contract into counters, so where EVM time goes can be
+ * read from the metrics of a live node.
+ *
+ * <p>Only the execution of the operation itself is timed: the time a call spends in the called
+ * contract is attributed to the operations of that contract. Contracts are identified by the code
+ * hash stored in the world state. Init code, which is nearly always unique, is aggregated under
+ * {@link #CONTRACT_CREATION_LABEL}.
+ *
+ * <p>To bound the number of series, at most {@link #MAX_CONTRACT_LABELS} contracts get a label of
+ * their own. Labels are handed out periodically, a few at a time, to the contracts that have
+ * accumulated the most execution time so far. Until a contract has a label, its execution is
+ * aggregated under {@link #OTHER_CONTRACTS_LABEL}.
+ */
+public class ProfilingOperationTracer implements OperationTracer {
+  public static final String OPERATION_COUNT_METRIC = "evm_operation_executions_total";
+  public static final String OPERATION_TIME_METRIC = "evm_operation_nanoseconds_total";
+  public static final String PRECOMPILE_COUNT_METRIC = "evm_precompile_executions_total";
+  public static final String PRECOMPILE_TIME_METRIC = "evm_precompile_nanoseconds_total";
+  public static final String CONTRACT_COUNT_METRIC = "evm_contract_operations_total";
+  public static final String CONTRACT_TIME_METRIC = "evm_contract_nanoseconds_total";
+  static final int MAX_CONTRACT_LABELS = 1000;
+  static final String OTHER_CONTRACTS_LABEL = "other";
+  static final String CONTRACT_CREATION_LABEL = "contract_creation";
+  private static final long LABEL_REVIEW_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  private final LabelledMetric<Counter> operationCount;
+  private final LabelledMetric<Counter> operationTime;
+  private final LabelledMetric<Counter> precompileCount;
+  private final LabelledMetric<Counter> precompileTime;
+  private final LabelledMetric<Counter> contractCount;
+  private final LabelledMetric<Counter> contractTime;
+
+  private final CounterPair[] operationCounters = new CounterPair[256];
+  private final int maxContractLabels;
+  private final int maxContractCandidates;
+  private final int contractLabelsPerReview;
+  private final Map<Hash, ContractCost> contractCosts = new ConcurrentHashMap<>();
+  private final CounterPair otherContractCounters;
+  private final CounterPair contractCreationCounters;
+  private final ThreadLocal<CurrentCode> currentCode = ThreadLocal.withInitial(CurrentCode::new);
+  private volatile long nextLabelReviewNanos;
+  private int contractLabels;
+
+  public ProfilingOperationTracer(final MetricsSystem metricsSystem) {
+    this(metricsSystem, MAX_CONTRACT_LABELS);
+  }
+
+  ProfilingOperationTracer(final MetricsSystem metricsSystem, final int maxContractLabels) {
+    this.maxContractLabels = maxContractLabels;
+    this.maxContractCandidates = 10 * maxContractLabels;
+    this.contractLabelsPerReview = Math.max(1, maxContractLabels / 10);
+    operationCount =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.BLOCKCHAIN,
+            OPERATION_COUNT_METRIC,
+            "Number of executions of each EVM operation",
+            "operation");
+    operationTime =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.BLOCKCHAIN,
+            OPERATION_TIME_METRIC,
+            "Cumulative time spent executing each EVM operation, in nanoseconds",
+            "operation");
+    precompileCount =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.BLOCKCHAIN,
+            PRECOMPILE_COUNT_METRIC,
+            "Number of executions of each precompiled contract",
+            "address");
+    precompileTime =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.BLOCKCHAIN,
+            PRECOMPILE_TIME_METRIC,
+            "Cumulative time spent executing each precompiled contract, in nanoseconds",
+            "address");
+    contractCount =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.BLOCKCHAIN,
+            CONTRACT_COUNT_METRIC,
+            "Number of EVM operations executed in the code with each hash",
+            "code_hash");
+    contractTime =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.BLOCKCHAIN,
+            CONTRACT_TIME_METRIC,
+            "Cumulative time spent executing the code with each hash, in nanoseconds",
+            "code_hash");
+    otherContractCounters = contractCounters(OTHER_CONTRACTS_LABEL);
+    contractCreationCounters = contractCounters(CONTRACT_CREATION_LABEL);
+    nextLabelReviewNanos = System.nanoTime() + LABEL_REVIEW_INTERVAL_NANOS;
+  }
+
+  @Override
+  public void traceExecution(
+      final MessageFrame frame,
+      final Optional<Gas> currentGasCost,
+      final ExecuteOperation executeOperation)
+      throws ExceptionalHaltException {
+    final Operation operation = frame.getCurrentOperation();
+    final long startNanos = System.nanoTime();
+    try {
+      executeOperation.execute();
+    } finally {
+      final long durationNanos = System.nanoTime() - startNanos;
+      operationCounters(operation).record(durationNanos);
+      contractCost(frame, startNanos).record(durationNanos);
+    }
+  }
+
+  @Override
+  public void tracePrecompileCall(
+      final MessageFrame frame,
+      final Gas gasRequirement,
+      final Bytes output,
+      final long durationNanos) {
+    final String address = frame.getContractAddress().toHexString();
+    precompileCount.labels(address).inc();
+    precompileTime.labels(address).inc(durationNanos);
+  }
+
+  private CounterPair operationCounters(final Operation operation) {
+    final int opcode = operation.getOpcode() & 0xff;
+    CounterPair counters = operationCounters[opcode];
+    if (counters == null) {
+      // Racing threads get the same children from the labelled metrics.
+      final String name = operation.getName();
+      counters = new CounterPair(operationCount.labels(name), operationTime.labels(name));
+      operationCounters[opcode] = counters;
+    }
+    return counters;
+  }
+
+  private CostRecorder contractCost(final MessageFrame frame, final long nowNanos) {
+    final CurrentCode current = currentCode.get();
+    if (current.code != frame.getCode()) {
+      // A new Code is created for every frame, so this runs once per frame rather than per
+      // operation.
+      current.code = frame.getCode();
+      current.cost =
+          frame.getType() == MessageFrame.Type.CONTRACT_CREATION
+              ? contractCreationCounters
+              : lookupContractCost(frame);
+      if (nowNanos - nextLabelReviewNanos >= 0) {
+        reviewContractLabels();
+      }
+    }
+    return current.cost;
+  }
+
+  private ContractCost lookupContractCost(final MessageFrame frame) {
+    final Account contract = frame.getWorldState().get(frame.getContractAddress());
+    final Hash codeHash = contract != null ? contract.getCodeHash() : Hash.EMPTY;
+    final ContractCost cost = contractCosts.get(codeHash);
+    if (cost != null) {
+      return cost;
+    }
+    if (contractCosts.size() >= maxContractCandidates) {
+      reviewContractLabels();
+    }
+    return contractCosts.computeIfAbsent(codeHash, ContractCost::new);
+  }
+
+  /**
+   * Exports the execution recorded since the last review, gives the most expensive unlabelled
+   * contracts a label of their own while labels remain and, if too many contracts are being
+   * tracked, forgets the cheaper half of the unlabelled ones.
+   */
+  synchronized void reviewContractLabels() {
+    nextLabelReviewNanos = System.nanoTime() + LABEL_REVIEW_INTERVAL_NANOS;
+    final List<ContractCost> unlabelled = new ArrayList<>();
+    for (final ContractCost cost : contractCosts.values()) {
+      if (!cost.isLabelled()) {
+        cost.collect();
+        unlabelled.add(cost);
+      }
+    }
+    unlabelled.sort(Comparator.comparingLong(ContractCost::totalNanos).reversed());
+    int promoted = 0;
+    for (final ContractCost cost : unlabelled) {
+      if (promoted < contractLabelsPerReview && contractLabels < maxContractLabels) {
+        cost.label();
+        promoted++;
+        contractLabels++;
+      } else {
+        cost.exportTo(otherContractCounters);
+      }
+    }
+    if (contractCosts.size() >= maxContractCandidates) {
+      unlabelled
+          .subList(unlabelled.size() / 2, unlabelled.size())
+          .forEach(cost -> contractCosts.remove(cost.codeHash));
+    }
+  }
+
+  private CounterPair contractCounters(final String label) {
+    return new CounterPair(contractCount.labels(label), contractTime.labels(label));
+  }
+
+  private interface CostRecorder {
+    void record(long durationNanos);
+  }
+
+  private static class CounterPair implements CostRecorder {
+    private final Counter count;
+    private final Counter nanos;
+
+    CounterPair(final Counter count, final Counter nanos) {
+      this.count = count;
+      this.nanos = nanos;
+    }
+
+    @Override
+    public void record(final long durationNanos) {
+      count.inc();
+      nanos.inc(durationNanos);
+    }
+
+    void add(final long count, final long nanos) {
+      this.count.inc(count);
+      this.nanos.inc(nanos);
+    }
+  }
+
+  /**
+   * The execution of one contract. Until the contract has a label, execution is buffered here and
+   * exported to the "other" counters at each review. Reviews are serialised, so the fields other
+   * than the adders and the counters are only accessed while holding the tracer's lock.
+   */
+  private class ContractCost implements CostRecorder {
+    private final Hash codeHash;
+    private final LongAdder pendingCount = new LongAdder();
+    private final LongAdder pendingNanos = new LongAdder();
+    private volatile CounterPair counters;
+    private long collectedCount;
+    private long collectedNanos;
+    private long totalNanos;
+
+    ContractCost(final Hash codeHash) {
+      this.codeHash = codeHash;
+    }
+
+    @Override
+    public void record(final long durationNanos) {
+      final CounterPair labelledCounters = counters;
+      if (labelledCounters != null) {
+        labelledCounters.record(durationNanos);
+      } else {
+        pendingCount.increment();
+        pendingNanos.add(durationNanos);
+      }
+    }
+
+    boolean isLabelled() {
+      return counters != null;
+    }
+
+    long totalNanos() {
+      return totalNanos;
+    }
+
+    void collect() {
+      final long nanos = pendingNanos.sumThenReset();
+      collectedCount += pendingCount.sumThenReset();
+      collectedNanos += nanos;
+      totalNanos += nanos;
+    }
+
+    void label() {
+      counters = contractCounters(codeHash.toHexString());
+      // Execution recorded by threads which had not yet seen the label goes to the new label.
+      collect();
+      exportTo(counters);
+    }
+
+    void exportTo(final CounterPair target) {
+      target.add(collectedCount, collectedNanos);
+      collectedCount = 0;
+      collectedNanos = 0;
+    }
+  }
+
+  private static class CurrentCode {
+    private Code code;
+    private CostRecorder cost;
+  }
+}
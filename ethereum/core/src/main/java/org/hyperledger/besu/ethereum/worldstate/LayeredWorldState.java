@@ -0,0 +1,87 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.worldstate;
+
+import org.hyperledger.besu.ethereum.core.AbstractWorldUpdater;
+import org.hyperledger.besu.ethereum.core.Account;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
+
+import java.util.stream.Stream;
+
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * A world state that buffers its changes in memory on top of another world state.
+ *
+ * <p>Changes are only applied to the underlying world state when {@link #commit()} is called, so
+ * the underlying world state can be read concurrently (to compute its root hash for instance) until
+ * then. As a consequence, the root hash of a layered world state can't be computed, nor can it be
+ * copied or streamed, and calling {@link #persist()} does nothing.
+ */
+public class LayeredWorldState implements MutableWorldState {
+
+  private final AbstractWorldUpdater<?, ?> layer;
+
+  public LayeredWorldState(final MutableWorldState parent) {
+    final WorldUpdater layer = parent.updater();
+    if (!(layer instanceof AbstractWorldUpdater)) {
+      throw new IllegalArgumentException(
+          "Cannot layer changes on top of a world state that doesn't buffer its updates");
+    }
+    this.layer = (AbstractWorldUpdater<?, ?>) layer;
+  }
+
+  /** Applies the changes made to this world state to the underlying world state. */
+  public void commit() {
+    layer.commit();
+  }
+
+  @Override
+  public Account get(final Address address) {
+    return layer.get(address);
+  }
+
+  @Override
+  public WorldUpdater updater() {
+    // Each updater processes a new transaction, for which the original storage values are the
+    // ones left by the transactions already applied to this layer.
+    layer.markTransactionBoundary();
+    return layer.updater();
+  }
+
+  @Override
+  public Hash rootHash() {
+    throw new UnsupportedOperationException(
+        "The root hash of a layered world state can't be computed before it is committed");
+  }
+
+  @Override
+  public MutableWorldState copy() {
+    throw new UnsupportedOperationException("Layered world states can't be copied");
+  }
+
+  @Override
+  public void persist() {
+    // Changes are kept in memory until committed to the underlying world state.
+  }
+
+  @Override
+  public Stream<StreamableAccount> streamAccounts(final Bytes32 startKeyHash, final int limit) {
+    throw new UnsupportedOperationException("Layered world states can't be streamed");
+  }
+}
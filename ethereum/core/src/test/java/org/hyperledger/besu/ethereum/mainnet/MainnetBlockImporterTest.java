@@ -26,6 +26,9 @@ import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -40,6 +43,7 @@ public class MainnetBlockImporterTest {
   @Mock private MutableBlockchain blockchain;
   @Mock private Block block;
   @Mock private Hash hash;
+  @Mock private MutableWorldState worldState;
   private MainnetBlockImporter<Object> blockImporter;
 
   @Before
@@ -62,4 +66,35 @@ public class MainnetBlockImporterTest {
             context, block, HeaderValidationMode.FULL, HeaderValidationMode.FULL);
     verify(blockchain, never()).appendBlock(eq(block), any());
   }
+
+  @Test
+  public void importProcessedBlockPersistsRetainedStateWithoutReprocessing() {
+    final BlockValidator.BlockProcessingOutputs outputs =
+        new BlockValidator.BlockProcessingOutputs(worldState, Collections.emptyList());
+    when(blockValidator.validateProcessedBlock(context, block, outputs, HeaderValidationMode.FULL))
+        .thenReturn(true);
+
+    assertThat(
+            blockImporter.importProcessedBlock(
+                context, block, outputs, HeaderValidationMode.FULL))
+        .isTrue();
+    verify(worldState).persist();
+    verify(blockchain).appendBlock(block, outputs.receipts);
+    verify(blockValidator, never()).validateAndProcessBlock(any(), any(), any(), any());
+  }
+
+  @Test
+  public void importProcessedBlockDoesNotPersistStateWhenValidationFails() {
+    final BlockValidator.BlockProcessingOutputs outputs =
+        new BlockValidator.BlockProcessingOutputs(worldState, Collections.emptyList());
+    when(blockValidator.validateProcessedBlock(context, block, outputs, HeaderValidationMode.FULL))
+        .thenReturn(false);
+
+    assertThat(
+            blockImporter.importProcessedBlock(
+                context, block, outputs, HeaderValidationMode.FULL))
+        .isFalse();
+    verify(worldState, never()).persist();
+    verify(blockchain, never()).appendBlock(any(), any());
+  }
 }
@@ -85,4 +85,30 @@ public class MainnetBlockProcessorTest {
     // An empty block with 0 reward should change the world state prior to EIP158
     assertThat(worldState.rootHash()).isNotEqualTo(initialHash);
   }
+
+  @Test
+  public void layeredWorldStateSupportedOnlyWhenReceiptsDoNotIncludeStateRoot() {
+    final MainnetBlockProcessor.TransactionReceiptFactory stateRootReceiptFactory =
+        (result, worldState, gasUsed) -> null;
+
+    assertThat(
+            new MainnetBlockProcessor(
+                    transactionProcessor,
+                    stateRootReceiptFactory,
+                    Wei.ZERO,
+                    BlockHeader::getCoinbase,
+                    false)
+                .supportsLayeredWorldState())
+        .isFalse();
+    assertThat(
+            new MainnetBlockProcessor(
+                    transactionProcessor,
+                    MainnetBlockProcessor.TransactionReceiptFactory.withoutStateRoot(
+                        stateRootReceiptFactory),
+                    Wei.ZERO,
+                    BlockHeader::getCoinbase,
+                    false)
+                .supportsLayeredWorldState())
+        .isTrue();
+  }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet.parallelization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hyperledger.besu.ethereum.core.InMemoryStorageProvider.createInMemoryBlockchain;
+import static org.hyperledger.besu.ethereum.core.InMemoryStorageProvider.createInMemoryWorldStateArchive;
+
+import org.hyperledger.besu.config.GenesisConfigFile;
+import org.hyperledger.besu.config.experimental.ExperimentalBlockProcessing;
+import org.hyperledger.besu.ethereum.ProtocolContext;
+import org.hyperledger.besu.ethereum.chain.GenesisState;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
+import org.hyperledger.besu.ethereum.mainnet.MainnetProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.util.RawBlockIterator;
+import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
+import org.hyperledger.besu.testutil.BlockTestUtil;
+import org.hyperledger.besu.testutil.BlockTestUtil.ChainResources;
+
+import java.nio.file.Path;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Resources;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelTransactionExecutionTest {
+
+  @Before
+  public void enableParallelTransactionExecution() {
+    ExperimentalBlockProcessing.parallelTransactionExecutionEnabled = true;
+  }
+
+  @After
+  public void resetParallelTransactionExecution() {
+    ExperimentalBlockProcessing.parallelTransactionExecutionEnabled =
+        ExperimentalBlockProcessing.PARALLEL_TRANSACTION_EXECUTION_ENABLED_DEFAULT_VALUE;
+  }
+
+  @Test
+  public void importsTestChainWithTransactionsExecutedInParallel() throws Exception {
+    final ChainResources chainResources = BlockTestUtil.getTestChainResources();
+    final String genesisJson = Resources.toString(chainResources.getGenesisURL(), Charsets.UTF_8);
+    final ProtocolSchedule<Void> protocolSchedule =
+        MainnetProtocolSchedule.fromConfig(
+            GenesisConfigFile.fromConfig(genesisJson).getConfigOptions());
+    final GenesisState genesisState = GenesisState.fromJson(genesisJson, protocolSchedule);
+    final MutableBlockchain blockchain = createInMemoryBlockchain(genesisState.getBlock());
+    final WorldStateArchive worldStateArchive = createInMemoryWorldStateArchive();
+    genesisState.writeStateTo(worldStateArchive.getMutable());
+    final ProtocolContext<Void> protocolContext =
+        new ProtocolContext<>(blockchain, worldStateArchive, null);
+
+    final BlockHeaderFunctions blockHeaderFunctions =
+        ScheduleBasedBlockHeaderFunctions.create(protocolSchedule);
+    long lastBlockNumber = BlockHeader.GENESIS_BLOCK_NUMBER;
+    try (final RawBlockIterator iterator =
+        new RawBlockIterator(
+            Path.of(chainResources.getBlocksURL().toURI()),
+            rlp -> BlockHeader.readFrom(rlp, blockHeaderFunctions))) {
+      while (iterator.hasNext()) {
+        final Block block = iterator.next();
+        final long number = block.getHeader().getNumber();
+        if (number == BlockHeader.GENESIS_BLOCK_NUMBER) {
+          continue;
+        }
+        // The importer validates the resulting state root and receipts against the block header.
+        assertThat(
+                protocolSchedule
+                    .getByBlockNumber(number)
+                    .getBlockImporter()
+                    .importBlock(protocolContext, block, HeaderValidationMode.FULL))
+            .isTrue();
+        lastBlockNumber = number;
+      }
+    }
+
+    assertThat(lastBlockNumber).isGreaterThan(BlockHeader.GENESIS_BLOCK_NUMBER);
+    assertThat(blockchain.getChainHeadBlockNumber()).isEqualTo(lastBlockNumber);
+  }
+}
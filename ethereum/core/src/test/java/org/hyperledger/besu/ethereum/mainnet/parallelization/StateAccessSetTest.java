@@ -0,0 +1,169 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet.parallelization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.InMemoryStorageProvider;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
+
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StateAccessSetTest {
+
+  private static final Address ACCOUNT = Address.fromHexString("0x01");
+  private static final Address OTHER_ACCOUNT = Address.fromHexString("0x02");
+
+  private final MutableWorldState worldState = InMemoryStorageProvider.createInMemoryWorldState();
+
+  @Before
+  public void setUp() {
+    final WorldUpdater updater = worldState.updater();
+    updater
+        .createAccount(ACCOUNT, 0, Wei.of(100))
+        .getMutable()
+        .setStorageValue(UInt256.ONE, UInt256.ONE);
+    updater.commit();
+    worldState.persist();
+  }
+
+  @Test
+  public void readingAnAccountWrittenBeforeConflicts() {
+    final StateAccessSet previous = new StateAccessSet();
+    previous.recordAccountWrite(ACCOUNT);
+
+    final StateAccessSet current = new StateAccessSet();
+    current.recordAccountRead(ACCOUNT);
+
+    assertThat(current.conflictsWith(previous)).isTrue();
+  }
+
+  @Test
+  public void accessingDifferentAccountsDoesNotConflict() {
+    final StateAccessSet previous = new StateAccessSet();
+    previous.recordAccountWrite(ACCOUNT);
+    previous.recordStorageWrite(ACCOUNT, UInt256.ONE);
+
+    final StateAccessSet current = new StateAccessSet();
+    current.recordAccountRead(OTHER_ACCOUNT);
+    current.recordStorageRead(OTHER_ACCOUNT, UInt256.ONE);
+    current.recordAccountWrite(OTHER_ACCOUNT);
+
+    assertThat(current.conflictsWith(previous)).isFalse();
+  }
+
+  @Test
+  public void accessingDifferentSlotsOfTheSameAccountDoesNotConflict() {
+    final StateAccessSet previous = new StateAccessSet();
+    previous.recordStorageWrite(ACCOUNT, UInt256.ONE);
+
+    final StateAccessSet current = new StateAccessSet();
+    current.recordAccountRead(ACCOUNT);
+    current.recordStorageRead(ACCOUNT, UInt256.valueOf(2));
+    current.recordStorageWrite(ACCOUNT, UInt256.valueOf(2));
+
+    assertThat(current.conflictsWith(previous)).isFalse();
+  }
+
+  @Test
+  public void readingASlotWrittenBeforeConflicts() {
+    final StateAccessSet previous = new StateAccessSet();
+    previous.recordStorageWrite(ACCOUNT, UInt256.ONE);
+
+    final StateAccessSet current = new StateAccessSet();
+    current.recordStorageRead(ACCOUNT, UInt256.ONE);
+
+    assertThat(current.conflictsWith(previous)).isTrue();
+  }
+
+  @Test
+  public void readingAnySlotOfAClearedStorageConflicts() {
+    final StateAccessSet previous = new StateAccessSet();
+    previous.recordStorageClear(ACCOUNT);
+
+    final StateAccessSet current = new StateAccessSet();
+    current.recordStorageRead(ACCOUNT, UInt256.valueOf(42));
+
+    assertThat(current.conflictsWith(previous)).isTrue();
+  }
+
+  @Test
+  public void storageOnlyUpdateIsNotAnAccountWrite() {
+    final WorldUpdater updater = worldState.updater();
+    updater.getAccount(ACCOUNT).getMutable().setStorageValue(UInt256.ONE, UInt256.valueOf(2));
+
+    final StateAccessSet previous = new StateAccessSet();
+    previous.recordWrites(updater, worldState);
+
+    final StateAccessSet accountReader = new StateAccessSet();
+    accountReader.recordAccountRead(ACCOUNT);
+    assertThat(accountReader.conflictsWith(previous)).isFalse();
+
+    final StateAccessSet slotReader = new StateAccessSet();
+    slotReader.recordStorageRead(ACCOUNT, UInt256.ONE);
+    assertThat(slotReader.conflictsWith(previous)).isTrue();
+  }
+
+  @Test
+  public void deletingAnAccountThatNeverExistedIsNotAWrite() {
+    final WorldUpdater updater = worldState.updater();
+    updater.createAccount(OTHER_ACCOUNT);
+    updater.deleteAccount(OTHER_ACCOUNT);
+
+    final StateAccessSet previous = new StateAccessSet();
+    previous.recordWrites(updater, worldState);
+
+    final StateAccessSet current = new StateAccessSet();
+    current.recordAccountRead(OTHER_ACCOUNT);
+    assertThat(current.conflictsWith(previous)).isFalse();
+  }
+
+  @Test
+  public void deletingAnExistingAccountConflictsWithItsStorage() {
+    final WorldUpdater updater = worldState.updater();
+    updater.deleteAccount(ACCOUNT);
+
+    final StateAccessSet previous = new StateAccessSet();
+    previous.recordWrites(updater, worldState);
+
+    final StateAccessSet current = new StateAccessSet();
+    current.recordStorageRead(ACCOUNT, UInt256.ONE);
+    assertThat(current.conflictsWith(previous)).isTrue();
+  }
+
+  @Test
+  public void mergedWritesAreConsideredForConflicts() {
+    final StateAccessSet first = new StateAccessSet();
+    first.recordAccountRead(OTHER_ACCOUNT);
+    first.recordStorageWrite(ACCOUNT, UInt256.ONE);
+
+    final StateAccessSet blockWrites = new StateAccessSet();
+    blockWrites.mergeWrites(first);
+
+    final StateAccessSet reader = new StateAccessSet();
+    reader.recordStorageRead(ACCOUNT, UInt256.ONE);
+    assertThat(reader.conflictsWith(blockWrites)).isTrue();
+
+    // Reads are not merged, so writing an account the first transaction only read is fine.
+    final StateAccessSet writer = new StateAccessSet();
+    writer.recordAccountWrite(OTHER_ACCOUNT);
+    assertThat(writer.conflictsWith(blockWrites)).isFalse();
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.metrics.StubMetricsSystem;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class CallResultCacheTest {
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final CallResultCache cache = new CallResultCache(2, metricsSystem);
+  private final AtomicInteger simulations = new AtomicInteger();
+
+  @Test
+  public void shouldOnlySimulateOnceForEqualKeys() {
+    final Optional<TransactionSimulatorResult> first = call(key(Hash.ZERO, Bytes.of(1)));
+    final Optional<TransactionSimulatorResult> second = call(key(Hash.ZERO, Bytes.of(1)));
+
+    assertThat(second).isEqualTo(first);
+    assertThat(simulations).hasValue(1);
+    assertThat(metricsSystem.getCounterValue("call_cache_hits_total")).isEqualTo(1);
+    assertThat(metricsSystem.getCounterValue("call_cache_misses_total")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldSimulateAgainForDifferentBlockOrParameters() {
+    call(key(Hash.ZERO, Bytes.of(1)));
+    call(key(Hash.EMPTY, Bytes.of(1)));
+    call(key(Hash.ZERO, Bytes.of(2)));
+
+    assertThat(simulations).hasValue(3);
+    assertThat(metricsSystem.getCounterValue("call_cache_hits_total")).isZero();
+  }
+
+  @Test
+  public void shouldNotCacheMissingResults() {
+    final CallResultCache.Key key = key(Hash.ZERO, Bytes.of(1));
+    cache.getOrSimulate(key, Optional::empty);
+
+    assertThat(cache.size()).isZero();
+    assertThat(metricsSystem.getCounterValue("call_cache_misses_total")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldEvictEntriesBeyondMaximumSize() {
+    for (int i = 0; i < 5; i++) {
+      call(key(Hash.ZERO, Bytes.of(i)));
+    }
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(metricsSystem.getCounterValue("call_cache_evictions_total")).isEqualTo(3);
+  }
+
+  private Optional<TransactionSimulatorResult> call(final CallResultCache.Key key) {
+    return cache.getOrSimulate(
+        key,
+        () -> {
+          simulations.incrementAndGet();
+          return Optional.of(mock(TransactionSimulatorResult.class));
+        });
+  }
+
+  private static CallResultCache.Key key(final Hash blockHash, final Bytes payload) {
+    return new CallResultCache.Key(
+        blockHash, Address.ID, Address.ECREC, payload, Wei.ZERO, 21_000L, Wei.ZERO);
+  }
+}
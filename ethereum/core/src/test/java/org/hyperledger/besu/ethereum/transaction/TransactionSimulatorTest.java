@@ -19,6 +19,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +38,7 @@ import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor;
 import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor.Result;
 import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor.Result.Status;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
+import org.hyperledger.besu.metrics.StubMetricsSystem;
 
 import java.util.Optional;
 
@@ -303,6 +305,65 @@ public class TransactionSimulatorTest {
     verifyTransactionWasProcessed(expectedTransaction);
   }
 
+  @Test
+  public void shouldReturnCachedResultForRepeatedCallAtSameBlock() {
+    final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+    final TransactionSimulator cachingSimulator =
+        new TransactionSimulator(
+            blockchain,
+            worldStateArchive,
+            protocolSchedule,
+            Optional.of(new CallResultCache(10, metricsSystem)));
+    final CallParameter callParameter = callParameter();
+
+    final BlockHeader blockHeader =
+        mockBlockchainForBlockHeader(Hash.ZERO, 1L, DEFAULT_BLOCK_HEADER_HASH);
+    when(blockHeader.getHash()).thenReturn(DEFAULT_BLOCK_HEADER_HASH);
+    mockWorldStateForAccount(Hash.ZERO, Address.fromHexString("0x0"), 1L);
+    final Transaction expectedTransaction =
+        Transaction.builder()
+            .nonce(1L)
+            .gasPrice(callParameter.getGasPrice())
+            .gasLimit(callParameter.getGasLimit())
+            .to(callParameter.getTo())
+            .sender(callParameter.getFrom())
+            .value(callParameter.getValue())
+            .payload(callParameter.getPayload())
+            .signature(FAKE_SIGNATURE)
+            .build();
+    mockProcessorStatusForTransaction(1L, expectedTransaction, Status.SUCCESSFUL);
+
+    final Optional<TransactionSimulatorResult> first = cachingSimulator.process(callParameter, 1L);
+    final Optional<TransactionSimulatorResult> second =
+        cachingSimulator.process(callParameter, DEFAULT_BLOCK_HEADER_HASH);
+
+    assertThat(second).isEqualTo(first);
+    verify(transactionProcessor, times(1))
+        .processTransaction(
+            any(), any(), any(), eq(expectedTransaction), any(), any(), anyBoolean(), any());
+    assertThat(metricsSystem.getCounterValue("call_cache_hits_total")).isEqualTo(1);
+    assertThat(metricsSystem.getCounterValue("call_cache_misses_total")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotCacheCallWhenStateIsMissing() {
+    final TransactionSimulator cachingSimulator =
+        new TransactionSimulator(
+            blockchain,
+            worldStateArchive,
+            protocolSchedule,
+            Optional.of(new CallResultCache(10, new StubMetricsSystem())));
+
+    final BlockHeader blockHeader =
+        mockBlockchainForBlockHeader(Hash.ZERO, 1L, DEFAULT_BLOCK_HEADER_HASH);
+    when(blockHeader.getHash()).thenReturn(DEFAULT_BLOCK_HEADER_HASH);
+    when(worldStateArchive.getMutable(eq(Hash.ZERO))).thenReturn(Optional.empty());
+
+    assertThat(cachingSimulator.process(callParameter(), 1L)).isEmpty();
+    assertThat(cachingSimulator.process(callParameter(), 1L)).isEmpty();
+    verify(worldStateArchive, times(2)).getMutable(Hash.ZERO);
+  }
+
   private void mockWorldStateForAccount(
       final Hash stateRoot, final Address address, final long nonce) {
     final Account account = mock(Account.class);
@@ -320,13 +381,14 @@ public class TransactionSimulatorTest {
     mockBlockchainForBlockHeader(stateRoot, blockNumber, Hash.ZERO);
   }
 
-  private void mockBlockchainForBlockHeader(
+  private BlockHeader mockBlockchainForBlockHeader(
       final Hash stateRoot, final long blockNumber, final Hash headerHash) {
     final BlockHeader blockHeader = mock(BlockHeader.class);
     when(blockHeader.getStateRoot()).thenReturn(stateRoot);
     when(blockHeader.getNumber()).thenReturn(blockNumber);
     when(blockchain.getBlockHeader(blockNumber)).thenReturn(Optional.of(blockHeader));
     when(blockchain.getBlockHeader(headerHash)).thenReturn(Optional.of(blockHeader));
+    return blockHeader;
   }
 
   private void mockProcessorStatusForTransaction(
@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.vm;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.hyperledger.besu.config.experimental.ExperimentalBlockProcessing;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.Block;
@@ -35,6 +36,12 @@ import java.util.List;
 import org.assertj.core.api.Assertions;
 
 public class BlockchainReferenceTestTools {
+  static {
+    // Must be set before the protocol schedules are created, as it is read when building them.
+    ExperimentalBlockProcessing.parallelTransactionExecutionEnabled =
+        Boolean.getBoolean("test.ethereum.blockchain.parallel");
+  }
+
   private static final ReferenceTestProtocolSchedules REFERENCE_TEST_PROTOCOL_SCHEDULES =
       ReferenceTestProtocolSchedules.create();
 
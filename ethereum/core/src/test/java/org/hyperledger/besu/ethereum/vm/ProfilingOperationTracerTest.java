@@ -0,0 +1,182 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.vm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.CONTRACT_COUNT_METRIC;
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.CONTRACT_CREATION_LABEL;
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.OPERATION_COUNT_METRIC;
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.OPERATION_TIME_METRIC;
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.OTHER_CONTRACTS_LABEL;
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.PRECOMPILE_COUNT_METRIC;
+import static org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.PRECOMPILE_TIME_METRIC;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.core.Account;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Gas;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
+import org.hyperledger.besu.ethereum.vm.ehalt.ExceptionalHaltException;
+import org.hyperledger.besu.metrics.StubMetricsSystem;
+
+import java.util.EnumSet;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class ProfilingOperationTracerTest {
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final ProfilingOperationTracer tracer = new ProfilingOperationTracer(metricsSystem);
+  private final Address contractAddress = Address.fromHexString("0x0100");
+  private final Hash codeHash = Hash.hash(Bytes.of(0x02));
+  private final Hash otherCodeHash = Hash.hash(Bytes.of(0x02, 0x02));
+
+  private final Operation mulOperation =
+      new AbstractOperation(0x02, "MUL", 2, 1, false, 1, null) {
+        @Override
+        public Gas cost(final MessageFrame frame) {
+          return Gas.of(5);
+        }
+
+        @Override
+        public void execute(final MessageFrame frame) {}
+      };
+
+  @Test
+  public void shouldCountAndTimeEachOperation() throws Exception {
+    final MessageFrame frame = frame(codeHash);
+
+    tracer.traceExecution(frame, Optional.of(Gas.of(5)), () -> sleepMillis(1));
+    tracer.traceExecution(frame, Optional.of(Gas.of(5)), () -> {});
+
+    assertThat(metricsSystem.getCounterValue(OPERATION_COUNT_METRIC, "MUL")).isEqualTo(2);
+    assertThat(metricsSystem.getCounterValue(OPERATION_TIME_METRIC, "MUL"))
+        .isGreaterThanOrEqualTo(1_000_000);
+  }
+
+  @Test
+  public void shouldAttributeOperationsToTheCodeHashOfTheContract() throws Exception {
+    tracer.traceExecution(frame(codeHash), Optional.empty(), () -> {});
+    tracer.traceExecution(frame(otherCodeHash), Optional.empty(), () -> {});
+    tracer.traceExecution(frame(codeHash), Optional.empty(), () -> {});
+    tracer.reviewContractLabels();
+
+    assertThat(metricsSystem.getCounterValue(CONTRACT_COUNT_METRIC, codeHash.toHexString()))
+        .isEqualTo(2);
+    assertThat(metricsSystem.getCounterValue(CONTRACT_COUNT_METRIC, otherCodeHash.toHexString()))
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void shouldAggregateInitCodeUnderItsOwnLabel() throws Exception {
+    tracer.traceExecution(
+        frame(MessageFrame.Type.CONTRACT_CREATION, codeHash), Optional.empty(), () -> {});
+    tracer.reviewContractLabels();
+
+    assertThat(metricsSystem.getCounterValue(CONTRACT_COUNT_METRIC, CONTRACT_CREATION_LABEL))
+        .isEqualTo(1);
+    assertThat(metricsSystem.getCounterValue(CONTRACT_COUNT_METRIC, codeHash.toHexString()))
+        .isZero();
+  }
+
+  @Test
+  public void shouldGiveLabelsToTheMostExpensiveContracts() throws Exception {
+    final ProfilingOperationTracer tracer = new ProfilingOperationTracer(metricsSystem, 1);
+
+    tracer.traceExecution(frame(codeHash), Optional.empty(), () -> {});
+    tracer.traceExecution(frame(codeHash), Optional.empty(), () -> {});
+    tracer.traceExecution(frame(otherCodeHash), Optional.empty(), () -> sleepMillis(1));
+    tracer.reviewContractLabels();
+
+    assertThat(metricsSystem.getCounterValue(CONTRACT_COUNT_METRIC, otherCodeHash.toHexString()))
+        .isEqualTo(1);
+    assertThat(metricsSystem.getCounterValue(CONTRACT_COUNT_METRIC, codeHash.toHexString()))
+        .isZero();
+    assertThat(metricsSystem.getCounterValue(CONTRACT_COUNT_METRIC, OTHER_CONTRACTS_LABEL))
+        .isEqualTo(2);
+
+    // No labels are left, so the cheaper contract stays under "other".
+    tracer.traceExecution(frame(codeHash), Optional.empty(), () -> sleepMillis(2));
+    tracer.reviewContractLabels();
+
+    assertThat(metricsSystem.getCounterValue(CONTRACT_COUNT_METRIC, codeHash.toHexString()))
+        .isZero();
+    assertThat(metricsSystem.getCounterValue(CONTRACT_COUNT_METRIC, OTHER_CONTRACTS_LABEL))
+        .isEqualTo(3);
+  }
+
+  @Test
+  public void shouldCountOperationsWhichHalt() {
+    final MessageFrame frame = frame(codeHash);
+
+    assertThatThrownBy(
+            () ->
+                tracer.traceExecution(
+                    frame,
+                    Optional.empty(),
+                    () -> {
+                      throw new ExceptionalHaltException(
+                          EnumSet.of(ExceptionalHaltReason.INSUFFICIENT_GAS));
+                    }))
+        .isInstanceOf(ExceptionalHaltException.class);
+    assertThat(metricsSystem.getCounterValue(OPERATION_COUNT_METRIC, "MUL")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldCountAndTimeEachPrecompileByAddress() {
+    final Address precompileAddress = Address.fromHexString("0x02");
+    final MessageFrame frame = mock(MessageFrame.class);
+    when(frame.getContractAddress()).thenReturn(precompileAddress);
+
+    tracer.tracePrecompileCall(frame, Gas.of(60), Bytes.EMPTY, 500);
+    tracer.tracePrecompileCall(frame, Gas.of(60), Bytes.EMPTY, 700);
+
+    final String label = precompileAddress.toHexString();
+    assertThat(metricsSystem.getCounterValue(PRECOMPILE_COUNT_METRIC, label)).isEqualTo(2);
+    assertThat(metricsSystem.getCounterValue(PRECOMPILE_TIME_METRIC, label)).isEqualTo(1200);
+  }
+
+  private MessageFrame frame(final Hash codeHash) {
+    return frame(MessageFrame.Type.MESSAGE_CALL, codeHash);
+  }
+
+  private MessageFrame frame(final MessageFrame.Type type, final Hash codeHash) {
+    final Account contract = mock(Account.class);
+    when(contract.getCodeHash()).thenReturn(codeHash);
+    final WorldUpdater worldState = mock(WorldUpdater.class);
+    when(worldState.get(contractAddress)).thenReturn(contract);
+    final MessageFrame frame = mock(MessageFrame.class);
+    when(frame.getType()).thenReturn(type);
+    when(frame.getCurrentOperation()).thenReturn(mulOperation);
+    // Each frame executes its own Code instance, as in the EVM.
+    when(frame.getCode()).thenReturn(new Code(Bytes.of(0x02)));
+    when(frame.getContractAddress()).thenReturn(contractAddress);
+    when(frame.getWorldState()).thenReturn(worldState);
+    return frame;
+  }
+
+  private void sleepMillis(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
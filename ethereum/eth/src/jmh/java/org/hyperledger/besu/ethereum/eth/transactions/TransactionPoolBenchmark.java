@@ -0,0 +1,168 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import org.hyperledger.besu.crypto.SECP256K1.KeyPair;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.ExecutionContextTestFixture;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.TransactionTestFixture;
+import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.eth.EthProtocol;
+import org.hyperledger.besu.ethereum.eth.manager.EthContext;
+import org.hyperledger.besu.ethereum.eth.manager.EthMessages;
+import org.hyperledger.besu.ethereum.eth.manager.EthPeers;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.eth.sync.state.SyncState;
+import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures how many gossiped transactions per second the transaction pool admits, comparing a
+ * whole transactions message admitted as one batch against the same transactions admitted one at
+ * a time.
+ */
+@State(Scope.Thread)
+public class TransactionPoolBenchmark {
+
+  private static final int MESSAGE_SIZE = 200;
+
+  @Param({"1", "20", "200"})
+  public int senderCount;
+
+  private final NoOpMetricsSystem metricsSystem = new NoOpMetricsSystem();
+  private EthScheduler ethScheduler;
+  private PendingTransactions pendingTransactions;
+  private TransactionPool transactionPool;
+  private List<Bytes> encodedTransactions;
+  private List<Transaction> transactions;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final ExecutionContextTestFixture executionContext = ExecutionContextTestFixture.create();
+    final MutableBlockchain blockchain = executionContext.getBlockchain();
+    // The mainnet genesis gas limit is too low for a simple transfer, so build on a block with
+    // a realistic gas limit that shares the genesis world state.
+    blockchain.appendBlock(
+        new Block(
+            new BlockHeaderTestFixture()
+                .parentHash(blockchain.getChainHeadHash())
+                .number(1)
+                .difficulty(Difficulty.ONE)
+                .gasLimit(10_000_000)
+                .stateRoot(executionContext.getGenesis().getHeader().getStateRoot())
+                .buildHeader(),
+            new BlockBody(emptyList(), emptyList())),
+        emptyList());
+
+    final EthPeers ethPeers = new EthPeers(EthProtocol.NAME, Clock.systemUTC(), metricsSystem);
+    ethScheduler = new EthScheduler(1, 1, 1, metricsSystem);
+    pendingTransactions =
+        new PendingTransactions(
+            TransactionPoolConfiguration.DEFAULT_TX_RETENTION_HOURS,
+            MESSAGE_SIZE,
+            TransactionPoolConfiguration.MAX_PENDING_TRANSACTIONS_HASHES,
+            Clock.systemUTC(),
+            metricsSystem);
+    transactionPool =
+        new TransactionPool(
+            pendingTransactions,
+            executionContext.getProtocolSchedule(),
+            executionContext.getProtocolContext(),
+            addedTransactions -> {},
+            addedTransactions -> {},
+            new SyncState(blockchain, ethPeers),
+            new EthContext(ethPeers, new EthMessages(), ethScheduler),
+            new PeerTransactionTracker(),
+            new PeerPendingTransactionTracker(pendingTransactions),
+            Wei.ZERO,
+            metricsSystem);
+
+    final List<KeyPair> senders = new ArrayList<>();
+    for (int i = 0; i < senderCount; i++) {
+      senders.add(KeyPair.generate());
+    }
+    encodedTransactions = new ArrayList<>();
+    for (int i = 0; i < MESSAGE_SIZE; i++) {
+      final Transaction transaction =
+          new TransactionTestFixture()
+              .nonce(i / senderCount)
+              .gasLimit(21_000)
+              .gasPrice(Wei.ZERO)
+              .value(Wei.ZERO)
+              .chainId(Optional.empty())
+              .createTransaction(senders.get(i % senderCount));
+      final BytesValueRLPOutput out = new BytesValueRLPOutput();
+      transaction.writeTo(out);
+      encodedTransactions.add(out.encoded());
+    }
+    transactions = new ArrayList<>();
+  }
+
+  @Setup(Level.Invocation)
+  public void receiveMessage() {
+    transactions.forEach(pendingTransactions::transactionAddedToBlock);
+    // Decode afresh so senders have to be recovered again, as they would for a real message.
+    transactions.clear();
+    for (final Bytes encoded : encodedTransactions) {
+      transactions.add(Transaction.readFrom(RLP.input(encoded)));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    ethScheduler.stop();
+    ethScheduler.awaitStop();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MESSAGE_SIZE)
+  public int admitMessageAsBatch() {
+    transactionPool.addRemoteTransactions(transactions);
+    return pendingTransactions.size();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MESSAGE_SIZE)
+  public int admitMessageIndividually() {
+    for (final Transaction transaction : transactions) {
+      transactionPool.addRemoteTransactions(singletonList(transaction));
+    }
+    return pendingTransactions.size();
+  }
+}
@@ -38,6 +38,8 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -65,11 +67,12 @@ public class EthPeer {
   private final AtomicBoolean statusHasBeenReceivedFromPeer = new AtomicBoolean(false);
 
   private volatile long lastRequestTimestamp = 0;
-  private final RequestManager headersRequestManager = new RequestManager(this);
-  private final RequestManager bodiesRequestManager = new RequestManager(this);
-  private final RequestManager receiptsRequestManager = new RequestManager(this);
-  private final RequestManager nodeDataRequestManager = new RequestManager(this);
-  private final RequestManager pooledTransactionsRequestManager = new RequestManager(this);
+  private final RequestManager headersRequestManager;
+  private final RequestManager bodiesRequestManager;
+  private final RequestManager receiptsRequestManager;
+  private final RequestManager nodeDataRequestManager;
+  private final RequestManager pooledTransactionsRequestManager;
+  private final ResponseThroughput throughput = new ResponseThroughput();
 
   private final AtomicReference<Consumer<EthPeer>> onStatusesExchanged = new AtomicReference<>();
   private final PeerReputation reputation = new PeerReputation();
@@ -84,6 +87,11 @@ public class EthPeer {
     this.connection = connection;
     this.protocolName = protocolName;
     this.clock = clock;
+    this.headersRequestManager = new RequestManager(this, clock);
+    this.bodiesRequestManager = new RequestManager(this, clock);
+    this.receiptsRequestManager = new RequestManager(this, clock);
+    this.nodeDataRequestManager = new RequestManager(this, clock);
+    this.pooledTransactionsRequestManager = new RequestManager(this, clock);
     knownBlocks =
         Collections.newSetFromMap(
             Collections.synchronizedMap(
@@ -135,6 +143,8 @@ public class EthPeer {
 
   public void recordRequestTimeout(final int requestCode) {
     LOG.debug("Timed out while waiting for response from peer {}", this);
+    throughput.recordTimeout();
+    requestManager(requestCode).ifPresent(manager -> manager.throughput().recordTimeout());
     reputation.recordRequestTimeout(requestCode).ifPresent(this::disconnect);
   }
 
@@ -255,33 +265,70 @@ public class EthPeer {
    * Routes messages originating from this peer to listeners.
    *
    * @param message the message to dispatch
+   * @return the time taken for the peer to respond, if the message is a response to a request
    */
-  void dispatch(final EthMessage message) {
+  OptionalLong dispatch(final EthMessage message) {
     checkArgument(message.getPeer().equals(this), "Mismatched message sent to peer for dispatch");
+    final OptionalLong latency;
     switch (message.getData().getCode()) {
       case EthPV62.BLOCK_HEADERS:
         reputation.resetTimeoutCount(EthPV62.GET_BLOCK_HEADERS);
-        headersRequestManager.dispatchResponse(message);
+        latency = headersRequestManager.dispatchResponse(message);
         break;
       case EthPV62.BLOCK_BODIES:
         reputation.resetTimeoutCount(EthPV62.GET_BLOCK_BODIES);
-        bodiesRequestManager.dispatchResponse(message);
+        latency = bodiesRequestManager.dispatchResponse(message);
         break;
       case EthPV63.RECEIPTS:
         reputation.resetTimeoutCount(EthPV63.GET_RECEIPTS);
-        receiptsRequestManager.dispatchResponse(message);
+        latency = receiptsRequestManager.dispatchResponse(message);
         break;
       case EthPV63.NODE_DATA:
         reputation.resetTimeoutCount(EthPV63.GET_NODE_DATA);
-        nodeDataRequestManager.dispatchResponse(message);
+        latency = nodeDataRequestManager.dispatchResponse(message);
         break;
       case EthPV65.POOLED_TRANSACTIONS:
         reputation.resetTimeoutCount(EthPV65.GET_POOLED_TRANSACTIONS);
-        pooledTransactionsRequestManager.dispatchResponse(message);
+        latency = pooledTransactionsRequestManager.dispatchResponse(message);
         break;
       default:
-        // Nothing to do
+        latency = OptionalLong.empty();
     }
+    latency.ifPresent(
+        responseTime -> throughput.recordResponse(responseTime, message.getData().getSize()));
+    return latency;
+  }
+
+  private Optional<RequestManager> requestManager(final int requestCode) {
+    switch (requestCode) {
+      case EthPV62.GET_BLOCK_HEADERS:
+        return Optional.of(headersRequestManager);
+      case EthPV62.GET_BLOCK_BODIES:
+        return Optional.of(bodiesRequestManager);
+      case EthPV63.GET_RECEIPTS:
+        return Optional.of(receiptsRequestManager);
+      case EthPV63.GET_NODE_DATA:
+        return Optional.of(nodeDataRequestManager);
+      case EthPV65.GET_POOLED_TRANSACTIONS:
+        return Optional.of(pooledTransactionsRequestManager);
+      default:
+        return Optional.empty();
+    }
+  }
+
+  /**
+   * Returns the moving averages of response latency and throughput for a type of request.
+   *
+   * @param requestCode the message code of the request
+   * @return the throughput for the request type, or empty if the code is not a request
+   */
+  public Optional<ResponseThroughput> responseThroughput(final int requestCode) {
+    return requestManager(requestCode).map(RequestManager::throughput);
+  }
+
+  /** @return the moving averages of response latency and throughput across all requests. */
+  public ResponseThroughput responseThroughput() {
+    return throughput;
   }
 
   public Map<Integer, AtomicInteger> timeoutCounts() {
@@ -15,10 +15,15 @@
 package org.hyperledger.besu.ethereum.eth.manager;
 
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer.DisconnectCallback;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV62;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV63;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV65;
 import org.hyperledger.besu.ethereum.eth.peervalidation.PeerValidator;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.util.Subscribers;
 
 import java.time.Clock;
@@ -28,6 +33,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -42,8 +48,14 @@ public class EthPeers {
 
   public static final Comparator<EthPeer> BEST_CHAIN = TOTAL_DIFFICULTY.thenComparing(CHAIN_HEIGHT);
 
+  public static final Comparator<EthPeer> HIGHEST_TO_LOWEST_THROUGHPUT =
+      Comparator.comparingDouble(
+              (final EthPeer p) -> p.responseThroughput().getAverageBytesPerSecond())
+          .reversed();
+
   public static final Comparator<EthPeer> LEAST_TO_MOST_BUSY =
       Comparator.comparing(EthPeer::outstandingRequests)
+          .thenComparing(HIGHEST_TO_LOWEST_THROUGHPUT)
           .thenComparing(EthPeer::getLastRequestTimestamp);
 
   private final Map<PeerConnection, EthPeer> connections = new ConcurrentHashMap<>();
@@ -52,6 +64,9 @@ public class EthPeers {
   private final Subscribers<ConnectCallback> connectCallbacks = Subscribers.create();
   private final Subscribers<DisconnectCallback> disconnectCallbacks = Subscribers.create();
   private final Collection<PendingPeerRequest> pendingRequests = new ArrayList<>();
+  private final LabelledMetric<Counter> responseCounter;
+  private final LabelledMetric<Counter> responseBytesCounter;
+  private final LabelledMetric<Counter> responseLatencyCounter;
 
   public EthPeers(final String protocolName, final Clock clock, final MetricsSystem metricsSystem) {
     this.protocolName = protocolName;
@@ -61,6 +76,24 @@ public class EthPeers {
         "pending_peer_requests_current",
         "Number of peer requests currently pending because peers are busy",
         pendingRequests::size);
+    responseCounter =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.PEERS,
+            "peer_responses_total",
+            "Number of responses received from peers, by response type",
+            "response");
+    responseBytesCounter =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.PEERS,
+            "peer_response_bytes_total",
+            "Number of bytes received in responses from peers, by response type",
+            "response");
+    responseLatencyCounter =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.PEERS,
+            "peer_response_latency_milliseconds_total",
+            "Total time spent waiting for peers to respond to requests, by response type",
+            "response");
   }
 
   void registerConnection(
@@ -97,12 +130,37 @@ public class EthPeers {
   }
 
   public void dispatchMessage(final EthPeer peer, final EthMessage ethMessage) {
-    peer.dispatch(ethMessage);
+    final OptionalLong latency = peer.dispatch(ethMessage);
+    latency.ifPresent(responseTime -> recordResponse(ethMessage, responseTime));
     if (peer.hasAvailableRequestCapacity()) {
       checkPendingConnections();
     }
   }
 
+  private void recordResponse(final EthMessage ethMessage, final long responseTime) {
+    final String responseType = responseType(ethMessage.getData().getCode());
+    responseCounter.labels(responseType).inc();
+    responseBytesCounter.labels(responseType).inc(ethMessage.getData().getSize());
+    responseLatencyCounter.labels(responseType).inc(responseTime);
+  }
+
+  private static String responseType(final int code) {
+    switch (code) {
+      case EthPV62.BLOCK_HEADERS:
+        return "block_headers";
+      case EthPV62.BLOCK_BODIES:
+        return "block_bodies";
+      case EthPV63.RECEIPTS:
+        return "receipts";
+      case EthPV63.NODE_DATA:
+        return "node_data";
+      case EthPV65.POOLED_TRANSACTIONS:
+        return "pooled_transactions";
+      default:
+        return "other";
+    }
+  }
+
   private void checkPendingConnections() {
     synchronized (this) {
       pendingRequests.removeIf(PendingPeerRequest::attemptExecution);
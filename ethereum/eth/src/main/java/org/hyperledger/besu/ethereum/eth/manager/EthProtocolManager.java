@@ -114,6 +114,7 @@ public class EthProtocolManager implements ProtocolManager, MinedBlockObserver {
         worldStateArchive,
         transactionPool,
         ethMessages,
+        scheduler,
         ethereumWireProtocolConfiguration);
   }
 
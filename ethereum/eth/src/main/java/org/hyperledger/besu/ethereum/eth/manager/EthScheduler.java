@@ -47,12 +47,19 @@ public class EthScheduler {
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final CountDownLatch shutdown = new CountDownLatch(1);
   private static final int TX_WORKER_CAPACITY = 1000000;
+  private static final int SERVING_WORKER_COUNT = 2;
+  private static final int SERVING_WORKER_CAPACITY = 1000;
+  private static final int TX_VALIDATION_WORKER_COUNT =
+      Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+  private static final int TX_VALIDATION_WORKER_CAPACITY = 10000;
 
   protected final ExecutorService syncWorkerExecutor;
   protected final ScheduledExecutorService scheduler;
   protected final ExecutorService txWorkerExecutor;
   protected final ExecutorService servicesExecutor;
   protected final ExecutorService computationExecutor;
+  protected final ExecutorService servingExecutor;
+  protected final ExecutorService txValidationExecutor;
 
   private final Collection<CompletableFuture<?>> pendingFutures = new ConcurrentLinkedDeque<>();
 
@@ -85,6 +92,16 @@ public class EthScheduler {
         MonitoredExecutors.newFixedThreadPool(
             EthScheduler.class.getSimpleName() + "-Computation",
             computationWorkerCount,
+            metricsSystem),
+        MonitoredExecutors.newBoundedThreadPool(
+            EthScheduler.class.getSimpleName() + "-Serving",
+            SERVING_WORKER_COUNT,
+            SERVING_WORKER_CAPACITY,
+            metricsSystem),
+        MonitoredExecutors.newBoundedThreadPool(
+            EthScheduler.class.getSimpleName() + "-TransactionValidation",
+            TX_VALIDATION_WORKER_COUNT,
+            TX_VALIDATION_WORKER_CAPACITY,
             metricsSystem));
   }
 
@@ -93,12 +110,16 @@ public class EthScheduler {
       final ScheduledExecutorService scheduler,
       final ExecutorService txWorkerExecutor,
       final ExecutorService servicesExecutor,
-      final ExecutorService computationExecutor) {
+      final ExecutorService computationExecutor,
+      final ExecutorService servingExecutor,
+      final ExecutorService txValidationExecutor) {
     this.syncWorkerExecutor = syncWorkerExecutor;
     this.scheduler = scheduler;
     this.txWorkerExecutor = txWorkerExecutor;
     this.servicesExecutor = servicesExecutor;
     this.computationExecutor = computationExecutor;
+    this.servingExecutor = servingExecutor;
+    this.txValidationExecutor = txValidationExecutor;
   }
 
   public <T> CompletableFuture<T> scheduleSyncWorkerTask(
@@ -131,6 +152,31 @@ public class EthScheduler {
     txWorkerExecutor.execute(command);
   }
 
+  /**
+   * Schedules a task which responds to a request from a peer. Serving runs on its own bounded pool
+   * so that peers requesting data cannot starve our own sync workers.
+   *
+   * @param command the task serving the request
+   * @throws java.util.concurrent.RejectedExecutionException if too many requests are pending
+   */
+  public void scheduleServingTask(final Runnable command) {
+    servingExecutor.execute(command);
+  }
+
+  /**
+   * Schedules the validation of a transaction received from a peer. Validation recovers the sender
+   * from the signature, so it runs on its own bounded pool rather than on the thread handling the
+   * message or on the common fork-join pool.
+   *
+   * @param validation the validation to run
+   * @param <T> the type of the validation result
+   * @return a future completed with the validation result
+   * @throws java.util.concurrent.RejectedExecutionException if too many validations are pending
+   */
+  public <T> CompletableFuture<T> scheduleTxValidationTask(final Supplier<T> validation) {
+    return CompletableFuture.supplyAsync(validation, txValidationExecutor);
+  }
+
   public <T> CompletableFuture<T> scheduleServiceTask(final EthTask<T> task) {
     final CompletableFuture<T> serviceFuture = task.runAsync(servicesExecutor);
     pendingFutures.add(serviceFuture);
@@ -225,6 +271,8 @@ public class EthScheduler {
       scheduler.shutdownNow();
       servicesExecutor.shutdownNow();
       computationExecutor.shutdownNow();
+      servingExecutor.shutdownNow();
+      txValidationExecutor.shutdownNow();
       shutdown.countDown();
     } else {
       LOG.trace("Attempted to stop already stopped " + getClass().getSimpleName());
@@ -253,6 +301,14 @@ public class EthScheduler {
       LOG.error(
           "{} computation executor did not shutdown cleanly.", this.getClass().getSimpleName());
     }
+    if (!servingExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+      LOG.error("{} serving executor did not shutdown cleanly.", this.getClass().getSimpleName());
+    }
+    if (!txValidationExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+      LOG.error(
+          "{} transaction validation executor did not shutdown cleanly.",
+          this.getClass().getSimpleName());
+    }
     LOG.trace("{} stopped.", this.getClass().getSimpleName());
   }
 
@@ -15,7 +15,6 @@
 package org.hyperledger.besu.ethereum.eth.manager;
 
 import org.hyperledger.besu.ethereum.chain.Blockchain;
-import org.hyperledger.besu.ethereum.core.BlockBody;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.Transaction;
@@ -38,6 +37,7 @@ import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.DisconnectReason;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.rlp.RLPException;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
@@ -46,6 +46,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import com.google.common.collect.Lists;
 import org.apache.logging.log4j.LogManager;
@@ -55,10 +56,15 @@ import org.apache.tuweni.bytes.Bytes;
 class EthServer {
   private static final Logger LOG = LogManager.getLogger();
 
+  // Responses stop growing once they reach this many bytes so a single response cannot tie up the
+  // connection, matching the soft limit used by other clients.
+  static final int SOFT_RESPONSE_LIMIT = 2 * 1024 * 1024;
+
   private final Blockchain blockchain;
   private final WorldStateArchive worldStateArchive;
   private final TransactionPool transactionPool;
   private final EthMessages ethMessages;
+  private final EthScheduler scheduler;
   private final EthProtocolConfiguration ethereumWireProtocolConfiguration;
 
   EthServer(
@@ -66,21 +72,38 @@ class EthServer {
       final WorldStateArchive worldStateArchive,
       final TransactionPool transactionPool,
       final EthMessages ethMessages,
+      final EthScheduler scheduler,
       final EthProtocolConfiguration ethereumWireProtocolConfiguration) {
     this.blockchain = blockchain;
     this.worldStateArchive = worldStateArchive;
     this.transactionPool = transactionPool;
     this.ethMessages = ethMessages;
+    this.scheduler = scheduler;
     this.ethereumWireProtocolConfiguration = ethereumWireProtocolConfiguration;
     this.setupListeners();
   }
 
   private void setupListeners() {
-    ethMessages.subscribe(EthPV62.GET_BLOCK_HEADERS, this::handleGetBlockHeaders);
-    ethMessages.subscribe(EthPV62.GET_BLOCK_BODIES, this::handleGetBlockBodies);
-    ethMessages.subscribe(EthPV63.GET_RECEIPTS, this::handleGetReceipts);
-    ethMessages.subscribe(EthPV63.GET_NODE_DATA, this::handleGetNodeData);
-    ethMessages.subscribe(EthPV65.GET_POOLED_TRANSACTIONS, this::handleGetPooledTransactions);
+    ethMessages.subscribe(EthPV62.GET_BLOCK_HEADERS, serve(this::handleGetBlockHeaders));
+    ethMessages.subscribe(EthPV62.GET_BLOCK_BODIES, serve(this::handleGetBlockBodies));
+    ethMessages.subscribe(EthPV63.GET_RECEIPTS, serve(this::handleGetReceipts));
+    ethMessages.subscribe(EthPV63.GET_NODE_DATA, serve(this::handleGetNodeData));
+    ethMessages.subscribe(
+        EthPV65.GET_POOLED_TRANSACTIONS, serve(this::handleGetPooledTransactions));
+  }
+
+  private EthMessages.MessageCallback serve(final EthMessages.MessageCallback handler) {
+    return message -> {
+      try {
+        scheduler.scheduleServingTask(() -> handler.exec(message));
+      } catch (final RejectedExecutionException e) {
+        // Too many requests are already queued, the peer will see this request time out
+        LOG.debug(
+            "Dropping request with code {} from {}, too many pending requests",
+            message.getData().getCode(),
+            message.getPeer());
+      }
+    };
   }
 
   private void handleGetBlockHeaders(final EthMessage message) {
@@ -211,34 +234,54 @@ class EthServer {
 
   static MessageData constructGetBodiesResponse(
       final Blockchain blockchain, final MessageData message, final int requestLimit) {
+    return constructGetBodiesResponse(blockchain, message, requestLimit, SOFT_RESPONSE_LIMIT);
+  }
+
+  static MessageData constructGetBodiesResponse(
+      final Blockchain blockchain,
+      final MessageData message,
+      final int requestLimit,
+      final int responseSizeLimit) {
     final GetBlockBodiesMessage getBlockBodiesMessage = GetBlockBodiesMessage.readFrom(message);
     final Iterable<Hash> hashes = getBlockBodiesMessage.hashes();
 
-    final Collection<BlockBody> bodies = new ArrayList<>();
+    final List<Bytes> bodies = new ArrayList<>();
     int count = 0;
+    int responseSize = 0;
     for (final Hash hash : hashes) {
-      if (count >= requestLimit) {
+      if (count >= requestLimit || responseSize >= responseSizeLimit) {
         break;
       }
       count++;
-      final Optional<BlockBody> maybeBody = blockchain.getBlockBody(hash);
+      // Bodies are stored in their wire encoding so can be sent without decoding them
+      final Optional<Bytes> maybeBody = blockchain.getBlockBodyRlp(hash);
       if (!maybeBody.isPresent()) {
         continue;
       }
       bodies.add(maybeBody.get());
+      responseSize += maybeBody.get().size();
     }
-    return BlockBodiesMessage.create(bodies);
+    return BlockBodiesMessage.createUnsafe(bodies);
   }
 
   static MessageData constructGetReceiptsResponse(
       final Blockchain blockchain, final MessageData message, final int requestLimit) {
+    return constructGetReceiptsResponse(blockchain, message, requestLimit, SOFT_RESPONSE_LIMIT);
+  }
+
+  static MessageData constructGetReceiptsResponse(
+      final Blockchain blockchain,
+      final MessageData message,
+      final int requestLimit,
+      final int responseSizeLimit) {
     final GetReceiptsMessage getReceipts = GetReceiptsMessage.readFrom(message);
     final Iterable<Hash> hashes = getReceipts.hashes();
 
-    final List<List<TransactionReceipt>> receipts = new ArrayList<>();
+    final List<Bytes> receipts = new ArrayList<>();
     int count = 0;
+    int responseSize = 0;
     for (final Hash hash : hashes) {
-      if (count >= requestLimit) {
+      if (count >= requestLimit || responseSize >= responseSizeLimit) {
         break;
       }
       count++;
@@ -246,9 +289,13 @@ class EthServer {
       if (!maybeReceipts.isPresent()) {
         continue;
       }
-      receipts.add(maybeReceipts.get());
+      // Stored receipts include the revert reason so must be re-encoded in their wire format
+      final Bytes encodedReceipts =
+          RLP.encode(out -> out.writeList(maybeReceipts.get(), TransactionReceipt::writeTo));
+      receipts.add(encodedReceipts);
+      responseSize += encodedReceipts.size();
     }
-    return ReceiptsMessage.create(receipts);
+    return ReceiptsMessage.createUnsafe(receipts);
   }
 
   static MessageData constructGetPooledTransactionsResponse(
@@ -277,18 +324,32 @@ class EthServer {
       final WorldStateArchive worldStateArchive,
       final MessageData message,
       final int requestLimit) {
+    return constructGetNodeDataResponse(
+        worldStateArchive, message, requestLimit, SOFT_RESPONSE_LIMIT);
+  }
+
+  static MessageData constructGetNodeDataResponse(
+      final WorldStateArchive worldStateArchive,
+      final MessageData message,
+      final int requestLimit,
+      final int responseSizeLimit) {
     final GetNodeDataMessage getNodeDataMessage = GetNodeDataMessage.readFrom(message);
     final Iterable<Hash> hashes = getNodeDataMessage.hashes();
 
     final List<Bytes> nodeData = new ArrayList<>();
     int count = 0;
+    int responseSize = 0;
     for (final Hash hash : hashes) {
-      if (count >= requestLimit) {
+      if (count >= requestLimit || responseSize >= responseSizeLimit) {
         break;
       }
       count++;
 
-      worldStateArchive.getNodeData(hash).ifPresent(nodeData::add);
+      final Optional<Bytes> maybeNodeData = worldStateArchive.getNodeData(hash);
+      if (maybeNodeData.isPresent()) {
+        nodeData.add(maybeNodeData.get());
+        responseSize += maybeNodeData.get().size();
+      }
     }
     return NodeDataMessage.create(nodeData);
   }
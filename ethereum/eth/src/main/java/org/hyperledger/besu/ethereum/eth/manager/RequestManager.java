@@ -17,12 +17,16 @@ package org.hyperledger.besu.ethereum.eth.manager;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -30,11 +34,22 @@ public class RequestManager {
   private final AtomicLong responseStreamId = new AtomicLong(0L);
   private final Map<Long, ResponseStream> responseStreams = new ConcurrentHashMap<>();
   private final EthPeer peer;
+  private final Clock clock;
 
   private final AtomicInteger outstandingRequests = new AtomicInteger(0);
+  // Send times of unanswered requests by response stream id, dropped when their stream is closed.
+  // Peers respond to requests in order, so a response belongs to the oldest one.
+  private final ConcurrentNavigableMap<Long, Long> requestTimestamps =
+      new ConcurrentSkipListMap<>();
+  private final ResponseThroughput throughput = new ResponseThroughput();
 
   public RequestManager(final EthPeer peer) {
+    this(peer, Clock.systemUTC());
+  }
+
+  public RequestManager(final EthPeer peer, final Clock clock) {
     this.peer = peer;
+    this.clock = clock;
   }
 
   public int outstandingRequests() {
@@ -43,29 +58,49 @@ public class RequestManager {
 
   public ResponseStream dispatchRequest(final RequestSender sender) throws PeerNotConnected {
     outstandingRequests.incrementAndGet();
-    final ResponseStream stream = createStream();
+    final ResponseStream stream = createStream(clock.millis());
     sender.send();
     return stream;
   }
 
-  public void dispatchResponse(final EthMessage message) {
+  public ResponseThroughput throughput() {
+    return throughput;
+  }
+
+  /**
+   * Dispatches a response to the outstanding response streams.
+   *
+   * @param message the response
+   * @return the time taken for the peer to respond, if the matching request was found
+   */
+  public OptionalLong dispatchResponse(final EthMessage message) {
     final Collection<ResponseStream> streams = new ArrayList<>(responseStreams.values());
     final int count = outstandingRequests.decrementAndGet();
+    final Map.Entry<Long, Long> request = requestTimestamps.pollFirstEntry();
+    final OptionalLong latency;
+    if (request != null) {
+      latency = OptionalLong.of(clock.millis() - request.getValue());
+      throughput.recordResponse(latency.getAsLong(), message.getData().getSize());
+    } else {
+      latency = OptionalLong.empty();
+    }
 
     streams.forEach(s -> s.processMessage(message.getData()));
     if (count == 0) {
       // No possibility of any remaining outstanding messages
       closeOutstandingStreams(streams);
     }
+    return latency;
   }
 
   public void close() {
     closeOutstandingStreams(responseStreams.values());
   }
 
-  private ResponseStream createStream() {
+  private ResponseStream createStream(final long requestTimestamp) {
     final long listenerId = nextStreamId();
     final ResponseStream stream = new ResponseStream(peer, () -> deregisterStream(listenerId));
+    requestTimestamps.put(listenerId, requestTimestamp);
     responseStreams.put(listenerId, stream);
     return stream;
   }
@@ -77,6 +112,7 @@ public class RequestManager {
 
   private void deregisterStream(final long id) {
     responseStreams.remove(id);
+    requestTimestamps.remove(id);
   }
 
   private long nextStreamId() {
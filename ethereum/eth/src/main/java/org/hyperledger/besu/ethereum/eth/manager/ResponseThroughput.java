@@ -0,0 +1,73 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.manager;
+
+/**
+ * Exponentially weighted moving averages of how long a peer takes to respond to requests and how
+ * many bytes per second it delivers. Recent responses carry more weight so the estimate follows
+ * changes in the peer's connection.
+ */
+public class ResponseThroughput {
+  // Weight given to the latest sample
+  private static final double SMOOTHING_FACTOR = 0.2;
+  // Floor applied to latencies so a response arriving within the clock resolution does not produce
+  // an unbounded throughput
+  private static final long MIN_LATENCY_MILLIS = 1;
+
+  private boolean hasEstimate = false;
+  private double averageLatencyMillis = 0;
+  private double averageBytesPerSecond = 0;
+
+  public synchronized void recordResponse(final long latencyMillis, final int bytes) {
+    final long latency = Math.max(latencyMillis, MIN_LATENCY_MILLIS);
+    final double bytesPerSecond = bytes * 1000.0 / latency;
+    if (!hasEstimate) {
+      averageLatencyMillis = latency;
+      averageBytesPerSecond = bytesPerSecond;
+      hasEstimate = true;
+    } else {
+      averageLatencyMillis += SMOOTHING_FACTOR * (latency - averageLatencyMillis);
+      averageBytesPerSecond += SMOOTHING_FACTOR * (bytesPerSecond - averageBytesPerSecond);
+    }
+  }
+
+  /**
+   * Penalise the throughput estimate when a request times out. A peer which has never responded
+   * is treated as having no throughput at all.
+   */
+  public synchronized void recordTimeout() {
+    averageBytesPerSecond = hasEstimate ? averageBytesPerSecond / 2 : 0;
+    hasEstimate = true;
+  }
+
+  public synchronized boolean hasEstimate() {
+    return hasEstimate;
+  }
+
+  public synchronized double getAverageLatencyMillis() {
+    return averageLatencyMillis;
+  }
+
+  /**
+   * Returns the estimated number of bytes per second delivered by the peer. Peers which have not
+   * yet been measured are optimistically given an unbounded estimate so they are tried and
+   * measured.
+   *
+   * @return the estimated bytes per second
+   */
+  public synchronized double getAverageBytesPerSecond() {
+    return hasEstimate ? averageBytesPerSecond : Double.POSITIVE_INFINITY;
+  }
+}
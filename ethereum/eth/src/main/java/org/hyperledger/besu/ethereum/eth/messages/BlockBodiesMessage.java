@@ -49,6 +49,21 @@ public final class BlockBodiesMessage extends AbstractMessageData {
     return new BlockBodiesMessage(tmp.encoded());
   }
 
+  /**
+   * Create a message from block bodies which are already RLP encoded, such as when read directly
+   * from storage. The encoded bodies are not validated.
+   *
+   * @param encodedBodies the RLP encoded block bodies
+   * @return the new message
+   */
+  public static BlockBodiesMessage createUnsafe(final Iterable<Bytes> encodedBodies) {
+    final BytesValueRLPOutput tmp = new BytesValueRLPOutput();
+    tmp.startList();
+    encodedBodies.forEach(tmp::writeRLPUnsafe);
+    tmp.endList();
+    return new BlockBodiesMessage(tmp.encoded());
+  }
+
   private BlockBodiesMessage(final Bytes data) {
     super(data);
   }
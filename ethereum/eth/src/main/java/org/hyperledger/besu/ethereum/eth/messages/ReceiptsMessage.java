@@ -53,6 +53,21 @@ public final class ReceiptsMessage extends AbstractMessageData {
     return new ReceiptsMessage(tmp.encoded());
   }
 
+  /**
+   * Create a message from the receipts of each block, where each block's receipts are already RLP
+   * encoded as a list. The encoded receipts are not validated.
+   *
+   * @param encodedReceipts the RLP encoded receipt lists, one per block
+   * @return the new message
+   */
+  public static ReceiptsMessage createUnsafe(final Iterable<Bytes> encodedReceipts) {
+    final BytesValueRLPOutput tmp = new BytesValueRLPOutput();
+    tmp.startList();
+    encodedReceipts.forEach(tmp::writeRLPUnsafe);
+    tmp.endList();
+    return new ReceiptsMessage(tmp.encoded());
+  }
+
   private ReceiptsMessage(final Bytes data) {
     super(data);
   }
@@ -0,0 +1,80 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.sync;
+
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.services.pipeline.AdaptiveConcurrencyLimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the limit on concurrent requests for each stage of a chain download pipeline. Limits
+ * outlive the pipelines they're used by, so what was learnt about the capacity of our peers is kept
+ * when the download pipeline is restarted, e.g. after switching sync target.
+ */
+public class DownloadConcurrencyLimits {
+  private final SynchronizerConfiguration syncConfig;
+  private final MetricsSystem metricsSystem;
+  private final String metricPrefix;
+  private final Map<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the limits for a kind of chain download.
+   *
+   * @param syncConfig the synchronizer configuration bounding the limits.
+   * @param metricsSystem the metrics system to report the current limit and in flight requests to.
+   * @param metricPrefix the prefix for the metric names, unique to the kind of chain download.
+   */
+  public DownloadConcurrencyLimits(
+      final SynchronizerConfiguration syncConfig,
+      final MetricsSystem metricsSystem,
+      final String metricPrefix) {
+    this.syncConfig = syncConfig;
+    this.metricsSystem = metricsSystem;
+    this.metricPrefix = metricPrefix;
+  }
+
+  /**
+   * Returns the limit for the given stage, creating it on first use.
+   *
+   * @param stageName the name of the stage, used in the metric names.
+   * @return the limit for the stage.
+   */
+  public AdaptiveConcurrencyLimit forStage(final String stageName) {
+    return limits.computeIfAbsent(stageName, this::createLimit);
+  }
+
+  private AdaptiveConcurrencyLimit createLimit(final String stageName) {
+    final int parallelism = syncConfig.getDownloaderParallelism();
+    final int maxParallelism = syncConfig.getMaxDownloaderParallelism();
+    final AdaptiveConcurrencyLimit limit =
+        maxParallelism > parallelism
+            ? new AdaptiveConcurrencyLimit(1, parallelism, maxParallelism)
+            : AdaptiveConcurrencyLimit.fixed(parallelism);
+    metricsSystem.createIntegerGauge(
+        BesuMetricCategory.SYNCHRONIZER,
+        metricPrefix + "_" + stageName + "_concurrency_limit_current",
+        "Current limit on concurrent requests for the " + stageName + " stage",
+        limit::getLimit);
+    metricsSystem.createIntegerGauge(
+        BesuMetricCategory.SYNCHRONIZER,
+        metricPrefix + "_" + stageName + "_inflight_requests_current",
+        "Number of in progress requests for the " + stageName + " stage",
+        limit::getInFlightCount);
+    return limit;
+  }
+}
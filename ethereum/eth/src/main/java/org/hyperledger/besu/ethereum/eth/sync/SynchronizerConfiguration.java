@@ -46,6 +46,8 @@ public class SynchronizerConfiguration {
   public static final int DEFAULT_COMPUTATION_PARALLELISM = 2;
   public static final int DEFAULT_WORLD_STATE_TASK_CACHE_SIZE =
       CachingTaskCollection.DEFAULT_CACHE_SIZE;
+  public static final boolean DEFAULT_PIPELINED_IMPORT_ENABLED = false;
+  public static final int DEFAULT_MAX_DOWNLOADER_PARALLELISM = DEFAULT_DOWNLOADER_PARALLELISM;
 
   // Fast sync config
   private final int fastSyncPivotDistance;
@@ -73,6 +75,8 @@ public class SynchronizerConfiguration {
   private final int computationParallelism;
   private final int maxTrailingPeers;
   private final long worldStateMinMillisBeforeStalling;
+  private final boolean pipelinedImportEnabled;
+  private final int maxDownloaderParallelism;
 
   private SynchronizerConfiguration(
       final int fastSyncPivotDistance,
@@ -93,7 +97,9 @@ public class SynchronizerConfiguration {
       final int downloaderParallelism,
       final int transactionsParallelism,
       final int computationParallelism,
-      final int maxTrailingPeers) {
+      final int maxTrailingPeers,
+      final boolean pipelinedImportEnabled,
+      final int maxDownloaderParallelism) {
     this.fastSyncPivotDistance = fastSyncPivotDistance;
     this.fastSyncFullValidationRate = fastSyncFullValidationRate;
     this.fastSyncMinimumPeerCount = fastSyncMinimumPeerCount;
@@ -113,6 +119,8 @@ public class SynchronizerConfiguration {
     this.transactionsParallelism = transactionsParallelism;
     this.computationParallelism = computationParallelism;
     this.maxTrailingPeers = maxTrailingPeers;
+    this.pipelinedImportEnabled = pipelinedImportEnabled;
+    this.maxDownloaderParallelism = maxDownloaderParallelism;
   }
 
   public static Builder builder() {
@@ -219,6 +227,27 @@ public class SynchronizerConfiguration {
     return maxTrailingPeers;
   }
 
+  /**
+   * Whether full sync overlaps the computation of the state root of each imported block with the
+   * execution of the next one.
+   *
+   * @return true if blocks are imported in a pipelined way during full sync.
+   */
+  public boolean isPipelinedImportEnabled() {
+    return pipelinedImportEnabled;
+  }
+
+  /**
+   * The number of concurrent requests each chain download stage may grow to. When greater than
+   * {@link #getDownloaderParallelism()}, the number of concurrent requests adapts between one and
+   * this value, starting from the downloader parallelism.
+   *
+   * @return the maximum number of concurrent requests per chain download stage.
+   */
+  public int getMaxDownloaderParallelism() {
+    return Math.max(maxDownloaderParallelism, downloaderParallelism);
+  }
+
   public static class Builder {
     private SyncMode syncMode = SyncMode.FULL;
     private int fastSyncMinimumPeerCount = DEFAULT_FAST_SYNC_MINIMUM_PEERS;
@@ -243,6 +272,8 @@ public class SynchronizerConfiguration {
         DEFAULT_WORLD_STATE_MAX_REQUESTS_WITHOUT_PROGRESS;
     private long worldStateMinMillisBeforeStalling = DEFAULT_WORLD_STATE_MIN_MILLIS_BEFORE_STALLING;
     private int worldStateTaskCacheSize = DEFAULT_WORLD_STATE_TASK_CACHE_SIZE;
+    private boolean pipelinedImportEnabled = DEFAULT_PIPELINED_IMPORT_ENABLED;
+    private int maxDownloaderParallelism = DEFAULT_MAX_DOWNLOADER_PARALLELISM;
 
     public Builder fastSyncPivotDistance(final int distance) {
       fastSyncPivotDistance = distance;
@@ -350,6 +381,16 @@ public class SynchronizerConfiguration {
       return this;
     }
 
+    public Builder pipelinedImportEnabled(final boolean pipelinedImportEnabled) {
+      this.pipelinedImportEnabled = pipelinedImportEnabled;
+      return this;
+    }
+
+    public Builder maxDownloaderParallelism(final int maxDownloaderParallelism) {
+      this.maxDownloaderParallelism = maxDownloaderParallelism;
+      return this;
+    }
+
     public SynchronizerConfiguration build() {
       return new SynchronizerConfiguration(
           fastSyncPivotDistance,
@@ -370,7 +411,9 @@ public class SynchronizerConfiguration {
           downloaderParallelism,
           transactionsParallelism,
           computationParallelism,
-          maxTrailingPeers);
+          maxTrailingPeers,
+          pipelinedImportEnabled,
+          maxDownloaderParallelism);
     }
   }
 }
@@ -23,6 +23,7 @@ import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.manager.task.WaitForPeersTask;
 import org.hyperledger.besu.ethereum.eth.sync.ChainDownloader;
+import org.hyperledger.besu.ethereum.eth.sync.DownloadConcurrencyLimits;
 import org.hyperledger.besu.ethereum.eth.sync.SynchronizerConfiguration;
 import org.hyperledger.besu.ethereum.eth.sync.state.SyncState;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
@@ -51,6 +52,7 @@ public class FastSyncActions<C> {
   private final MetricsSystem metricsSystem;
   private final Counter pivotBlockSelectionCounter;
   private final AtomicLong pivotBlockGauge = new AtomicLong(0);
+  private final DownloadConcurrencyLimits concurrencyLimits;
 
   public FastSyncActions(
       final SynchronizerConfiguration syncConfig,
@@ -76,6 +78,7 @@ public class FastSyncActions<C> {
         "fast_sync_pivot_block_current",
         "The current fast sync pivot block",
         pivotBlockGauge::get);
+    concurrencyLimits = new DownloadConcurrencyLimits(syncConfig, metricsSystem, "fast_sync");
   }
 
   public CompletableFuture<FastSyncState> waitForSuitablePeers(final FastSyncState fastSyncState) {
@@ -198,6 +201,7 @@ public class FastSyncActions<C> {
         ethContext,
         syncState,
         metricsSystem,
+        concurrencyLimits,
         currentState.getPivotBlockHeader().get());
   }
 }
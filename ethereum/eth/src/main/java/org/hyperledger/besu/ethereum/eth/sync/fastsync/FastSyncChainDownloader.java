@@ -18,6 +18,7 @@ import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.sync.ChainDownloader;
+import org.hyperledger.besu.ethereum.eth.sync.DownloadConcurrencyLimits;
 import org.hyperledger.besu.ethereum.eth.sync.PipelineChainDownloader;
 import org.hyperledger.besu.ethereum.eth.sync.SynchronizerConfiguration;
 import org.hyperledger.besu.ethereum.eth.sync.state.SyncState;
@@ -35,6 +36,7 @@ public class FastSyncChainDownloader {
       final EthContext ethContext,
       final SyncState syncState,
       final MetricsSystem metricsSystem,
+      final DownloadConcurrencyLimits concurrencyLimits,
       final BlockHeader pivotBlockHeader) {
 
     final FastSyncTargetManager<C> syncTargetManager =
@@ -45,7 +47,13 @@ public class FastSyncChainDownloader {
         syncState,
         syncTargetManager,
         new FastSyncDownloadPipelineFactory<>(
-            config, protocolSchedule, protocolContext, ethContext, pivotBlockHeader, metricsSystem),
+            config,
+            protocolSchedule,
+            protocolContext,
+            ethContext,
+            pivotBlockHeader,
+            metricsSystem,
+            concurrencyLimits),
         ethContext.getScheduler(),
         metricsSystem);
   }
@@ -29,6 +29,7 @@ import org.hyperledger.besu.ethereum.eth.sync.CheckpointHeaderFetcher;
 import org.hyperledger.besu.ethereum.eth.sync.CheckpointHeaderValidationStep;
 import org.hyperledger.besu.ethereum.eth.sync.CheckpointRangeSource;
 import org.hyperledger.besu.ethereum.eth.sync.DownloadBodiesStep;
+import org.hyperledger.besu.ethereum.eth.sync.DownloadConcurrencyLimits;
 import org.hyperledger.besu.ethereum.eth.sync.DownloadHeadersStep;
 import org.hyperledger.besu.ethereum.eth.sync.DownloadPipelineFactory;
 import org.hyperledger.besu.ethereum.eth.sync.SynchronizerConfiguration;
@@ -50,6 +51,7 @@ public class FastSyncDownloadPipelineFactory<C> implements DownloadPipelineFacto
   private final EthContext ethContext;
   private final BlockHeader pivotBlockHeader;
   private final MetricsSystem metricsSystem;
+  private final DownloadConcurrencyLimits concurrencyLimits;
   private final FastSyncValidationPolicy attachedValidationPolicy;
   private final FastSyncValidationPolicy detachedValidationPolicy;
   private final FastSyncValidationPolicy ommerValidationPolicy;
@@ -60,13 +62,15 @@ public class FastSyncDownloadPipelineFactory<C> implements DownloadPipelineFacto
       final ProtocolContext<C> protocolContext,
       final EthContext ethContext,
       final BlockHeader pivotBlockHeader,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final DownloadConcurrencyLimits concurrencyLimits) {
     this.syncConfig = syncConfig;
     this.protocolSchedule = protocolSchedule;
     this.protocolContext = protocolContext;
     this.ethContext = ethContext;
     this.pivotBlockHeader = pivotBlockHeader;
     this.metricsSystem = metricsSystem;
+    this.concurrencyLimits = concurrencyLimits;
     final LabelledMetric<Counter> fastSyncValidationCounter =
         metricsSystem.createLabelledCounter(
             BesuMetricCategory.SYNCHRONIZER,
@@ -144,11 +148,23 @@ public class FastSyncDownloadPipelineFactory<C> implements DownloadPipelineFacto
                 "Number of entries process by each chain download pipeline stage",
                 "step",
                 "action"))
-        .thenProcessAsyncOrdered("downloadHeaders", downloadHeadersStep, downloaderParallelism)
+        .withStageTimer(
+            metricsSystem.createLabelledHistogramTimer(
+                BesuMetricCategory.SYNCHRONIZER,
+                "chain_download_pipeline_stage_seconds",
+                "Time spent by each chain download pipeline stage in each state",
+                "stage",
+                "state"))
+        .thenProcessAsyncOrdered(
+            "downloadHeaders", downloadHeadersStep, concurrencyLimits.forStage("download_headers"))
         .thenFlatMap("validateHeadersJoin", validateHeadersJoinUpStep, singleHeaderBufferSize)
         .inBatches(headerRequestSize)
-        .thenProcessAsyncOrdered("downloadBodies", downloadBodiesStep, downloaderParallelism)
-        .thenProcessAsyncOrdered("downloadReceipts", downloadReceiptsStep, downloaderParallelism)
+        .thenProcessAsyncOrdered(
+            "downloadBodies", downloadBodiesStep, concurrencyLimits.forStage("download_bodies"))
+        .thenProcessAsyncOrdered(
+            "downloadReceipts",
+            downloadReceiptsStep,
+            concurrencyLimits.forStage("download_receipts"))
         .andFinishWith("importBlock", importBlockStep);
   }
 
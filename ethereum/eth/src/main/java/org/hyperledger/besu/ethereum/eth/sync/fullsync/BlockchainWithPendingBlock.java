@@ -0,0 +1,137 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.sync.fullsync;
+
+import org.hyperledger.besu.ethereum.chain.BlockAddedObserver;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.chain.ChainHead;
+import org.hyperledger.besu.ethereum.chain.ChainReorgObserver;
+import org.hyperledger.besu.ethereum.chain.TransactionLocation;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A view of a blockchain that also returns the header and body of a block which has been executed
+ * but not appended yet, so the block following it can look up the hashes of its ancestors.
+ */
+class BlockchainWithPendingBlock implements Blockchain {
+
+  private final Blockchain blockchain;
+  private final Block pendingBlock;
+
+  BlockchainWithPendingBlock(final Blockchain blockchain, final Block pendingBlock) {
+    this.blockchain = blockchain;
+    this.pendingBlock = pendingBlock;
+  }
+
+  private boolean isPending(final Hash blockHash) {
+    return pendingBlock.getHash().equals(blockHash);
+  }
+
+  private boolean isPending(final long blockNumber) {
+    return pendingBlock.getHeader().getNumber() == blockNumber;
+  }
+
+  @Override
+  public ChainHead getChainHead() {
+    return blockchain.getChainHead();
+  }
+
+  @Override
+  public long getChainHeadBlockNumber() {
+    return blockchain.getChainHeadBlockNumber();
+  }
+
+  @Override
+  public Hash getChainHeadHash() {
+    return blockchain.getChainHeadHash();
+  }
+
+  @Override
+  public Optional<BlockHeader> getBlockHeader(final long blockNumber) {
+    return isPending(blockNumber)
+        ? Optional.of(pendingBlock.getHeader())
+        : blockchain.getBlockHeader(blockNumber);
+  }
+
+  @Override
+  public Optional<BlockHeader> getBlockHeader(final Hash blockHeaderHash) {
+    return isPending(blockHeaderHash)
+        ? Optional.of(pendingBlock.getHeader())
+        : blockchain.getBlockHeader(blockHeaderHash);
+  }
+
+  @Override
+  public Optional<BlockBody> getBlockBody(final Hash blockHeaderHash) {
+    return isPending(blockHeaderHash)
+        ? Optional.of(pendingBlock.getBody())
+        : blockchain.getBlockBody(blockHeaderHash);
+  }
+
+  @Override
+  public Optional<List<TransactionReceipt>> getTxReceipts(final Hash blockHeaderHash) {
+    return blockchain.getTxReceipts(blockHeaderHash);
+  }
+
+  @Override
+  public Optional<Hash> getBlockHashByNumber(final long number) {
+    return isPending(number)
+        ? Optional.of(pendingBlock.getHash())
+        : blockchain.getBlockHashByNumber(number);
+  }
+
+  @Override
+  public Optional<Difficulty> getTotalDifficultyByHash(final Hash blockHeaderHash) {
+    return blockchain.getTotalDifficultyByHash(blockHeaderHash);
+  }
+
+  @Override
+  public Optional<Transaction> getTransactionByHash(final Hash transactionHash) {
+    return blockchain.getTransactionByHash(transactionHash);
+  }
+
+  @Override
+  public Optional<TransactionLocation> getTransactionLocation(final Hash transactionHash) {
+    return blockchain.getTransactionLocation(transactionHash);
+  }
+
+  @Override
+  public long observeBlockAdded(final BlockAddedObserver observer) {
+    return blockchain.observeBlockAdded(observer);
+  }
+
+  @Override
+  public boolean removeObserver(final long observerId) {
+    return blockchain.removeObserver(observerId);
+  }
+
+  @Override
+  public long observeChainReorg(final ChainReorgObserver observer) {
+    return blockchain.observeChainReorg(observer);
+  }
+
+  @Override
+  public boolean removeChainReorgObserver(final long observerId) {
+    return blockchain.removeChainReorgObserver(observerId);
+  }
+}
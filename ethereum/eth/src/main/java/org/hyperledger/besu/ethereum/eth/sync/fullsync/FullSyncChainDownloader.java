@@ -17,6 +17,7 @@ package org.hyperledger.besu.ethereum.eth.sync.fullsync;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.sync.ChainDownloader;
+import org.hyperledger.besu.ethereum.eth.sync.DownloadConcurrencyLimits;
 import org.hyperledger.besu.ethereum.eth.sync.PipelineChainDownloader;
 import org.hyperledger.besu.ethereum.eth.sync.SynchronizerConfiguration;
 import org.hyperledger.besu.ethereum.eth.sync.state.SyncState;
@@ -42,7 +43,12 @@ public class FullSyncChainDownloader {
         syncState,
         syncTargetManager,
         new FullSyncDownloadPipelineFactory<>(
-            config, protocolSchedule, protocolContext, ethContext, metricsSystem),
+            config,
+            protocolSchedule,
+            protocolContext,
+            ethContext,
+            metricsSystem,
+            new DownloadConcurrencyLimits(config, metricsSystem, "full_sync")),
         ethContext.getScheduler(),
         metricsSystem);
   }
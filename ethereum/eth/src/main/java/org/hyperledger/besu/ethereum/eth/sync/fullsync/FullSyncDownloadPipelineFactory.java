@@ -15,13 +15,16 @@
 package org.hyperledger.besu.ethereum.eth.sync.fullsync;
 
 import org.hyperledger.besu.ethereum.ProtocolContext;
+import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.sync.CheckpointHeaderFetcher;
 import org.hyperledger.besu.ethereum.eth.sync.CheckpointHeaderValidationStep;
+import org.hyperledger.besu.ethereum.eth.sync.CheckpointRange;
 import org.hyperledger.besu.ethereum.eth.sync.CheckpointRangeSource;
 import org.hyperledger.besu.ethereum.eth.sync.DownloadBodiesStep;
+import org.hyperledger.besu.ethereum.eth.sync.DownloadConcurrencyLimits;
 import org.hyperledger.besu.ethereum.eth.sync.DownloadHeadersStep;
 import org.hyperledger.besu.ethereum.eth.sync.DownloadPipelineFactory;
 import org.hyperledger.besu.ethereum.eth.sync.SynchronizerConfiguration;
@@ -43,6 +46,7 @@ public class FullSyncDownloadPipelineFactory<C> implements DownloadPipelineFacto
   private final ProtocolContext<C> protocolContext;
   private final EthContext ethContext;
   private final MetricsSystem metricsSystem;
+  private final DownloadConcurrencyLimits concurrencyLimits;
   private final ValidationPolicy detachedValidationPolicy =
       () -> HeaderValidationMode.DETACHED_ONLY;
   private final BetterSyncTargetEvaluator betterSyncTargetEvaluator;
@@ -52,12 +56,14 @@ public class FullSyncDownloadPipelineFactory<C> implements DownloadPipelineFacto
       final ProtocolSchedule<C> protocolSchedule,
       final ProtocolContext<C> protocolContext,
       final EthContext ethContext,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final DownloadConcurrencyLimits concurrencyLimits) {
     this.syncConfig = syncConfig;
     this.protocolSchedule = protocolSchedule;
     this.protocolContext = protocolContext;
     this.ethContext = ethContext;
     this.metricsSystem = metricsSystem;
+    this.concurrencyLimits = concurrencyLimits;
     betterSyncTargetEvaluator = new BetterSyncTargetEvaluator(syncConfig, ethContext.getEthPeers());
   }
 
@@ -89,25 +95,44 @@ public class FullSyncDownloadPipelineFactory<C> implements DownloadPipelineFacto
     final DownloadBodiesStep<C> downloadBodiesStep =
         new DownloadBodiesStep<>(protocolSchedule, ethContext, metricsSystem);
     final ExtractTxSignaturesStep extractTxSignaturesStep = new ExtractTxSignaturesStep();
-    final FullImportBlockStep<C> importBlockStep =
-        new FullImportBlockStep<>(protocolSchedule, protocolContext, ethContext);
 
-    return PipelineBuilder.createPipelineFrom(
-            "fetchCheckpoints",
-            checkpointRangeSource,
-            downloaderParallelism,
-            metricsSystem.createLabelledCounter(
-                BesuMetricCategory.SYNCHRONIZER,
-                "chain_download_pipeline_processed_total",
-                "Number of entries process by each chain download pipeline stage",
-                "step",
-                "action"))
-        .thenProcessAsyncOrdered("downloadHeaders", downloadHeadersStep, downloaderParallelism)
-        .thenFlatMap("validateHeadersJoin", validateHeadersJoinUpStep, singleHeaderBufferSize)
-        .inBatches(headerRequestSize)
-        .thenProcessAsyncOrdered("downloadBodies", downloadBodiesStep, downloaderParallelism)
-        .thenFlatMap("extractTxSignatures", extractTxSignaturesStep, singleHeaderBufferSize)
-        .andFinishWith("importBlock", importBlockStep);
+    final PipelineBuilder<CheckpointRange, Block> pipelineBuilder =
+        PipelineBuilder.createPipelineFrom(
+                "fetchCheckpoints",
+                checkpointRangeSource,
+                downloaderParallelism,
+                metricsSystem.createLabelledCounter(
+                    BesuMetricCategory.SYNCHRONIZER,
+                    "chain_download_pipeline_processed_total",
+                    "Number of entries process by each chain download pipeline stage",
+                    "step",
+                    "action"))
+            .withStageTimer(
+                metricsSystem.createLabelledHistogramTimer(
+                    BesuMetricCategory.SYNCHRONIZER,
+                    "chain_download_pipeline_stage_seconds",
+                    "Time spent by each chain download pipeline stage in each state",
+                    "stage",
+                    "state"))
+            .thenProcessAsyncOrdered(
+                "downloadHeaders",
+                downloadHeadersStep,
+                concurrencyLimits.forStage("download_headers"))
+            .thenFlatMap("validateHeadersJoin", validateHeadersJoinUpStep, singleHeaderBufferSize)
+            .inBatches(headerRequestSize)
+            .thenProcessAsyncOrdered(
+                "downloadBodies", downloadBodiesStep, concurrencyLimits.forStage("download_bodies"))
+            .thenFlatMap("extractTxSignatures", extractTxSignaturesStep, singleHeaderBufferSize);
+
+    if (syncConfig.isPipelinedImportEnabled()) {
+      return pipelineBuilder
+          .inBatches(headerRequestSize)
+          .andFinishWith(
+              "importBlock",
+              new PipelinedFullImportBlockStep<>(protocolSchedule, protocolContext, ethContext));
+    }
+    return pipelineBuilder.andFinishWith(
+        "importBlock", new FullImportBlockStep<>(protocolSchedule, protocolContext, ethContext));
   }
 
   private boolean shouldContinueDownloadingFromPeer(
@@ -0,0 +1,198 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.sync.fullsync;
+
+import org.hyperledger.besu.ethereum.ProtocolContext;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.eth.manager.EthContext;
+import org.hyperledger.besu.ethereum.eth.sync.tasks.exceptions.InvalidBlockException;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessor;
+import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
+import org.hyperledger.besu.ethereum.worldstate.LayeredWorldState;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Imports batches of consecutive blocks, overlapping the computation of the state root of each
+ * block with the execution of the next one.
+ *
+ * <p>A block is executed against a {@link LayeredWorldState} which buffers its changes on top of
+ * the world state of the previous block while the root hash of the latter is computed on a
+ * computation thread. Once that root hash is known, the previous block is validated, persisted and
+ * appended to the chain and the buffered changes are applied. If the previous block turns out to be
+ * invalid, the changes of the next block are discarded along with the world state they were layered
+ * on.
+ *
+ * <p>Once a block's changes are committed, its world state isn't modified again until its root
+ * hash is known. Trie updates copy the nodes on the updated paths, so the nodes reachable from that
+ * root form an immutable snapshot: the root hash computation and the next block's reads only share
+ * the nodes' lazily loaded children and cached hashes, which are safe to fill in concurrently.
+ *
+ * <p>Blocks whose block processor doesn't support layered world states, such as those of protocol
+ * specs whose transaction receipts include intermediate state roots, are imported sequentially.
+ */
+public class PipelinedFullImportBlockStep<C> implements Consumer<List<Block>> {
+  private static final HeaderValidationMode HEADER_VALIDATION_MODE =
+      HeaderValidationMode.SKIP_DETACHED;
+
+  private final ProtocolSchedule<C> protocolSchedule;
+  private final ProtocolContext<C> protocolContext;
+  private final EthContext ethContext;
+
+  public PipelinedFullImportBlockStep(
+      final ProtocolSchedule<C> protocolSchedule,
+      final ProtocolContext<C> protocolContext,
+      final EthContext ethContext) {
+    this.protocolSchedule = protocolSchedule;
+    this.protocolContext = protocolContext;
+    this.ethContext = ethContext;
+  }
+
+  @Override
+  public void accept(final List<Block> blocks) {
+    final MutableBlockchain blockchain = protocolContext.getBlockchain();
+    PendingBlock pendingBlock = null;
+    for (final Block block : blocks) {
+      final ProtocolSpec<C> protocolSpec =
+          protocolSchedule.getByBlockNumber(block.getHeader().getNumber());
+
+      final MutableWorldState worldState;
+      final Blockchain blockchainView;
+      if (pendingBlock != null) {
+        worldState = pendingBlock.worldState;
+        // The pending block isn't appended yet, but this block may look up the hashes of its
+        // ancestors through it.
+        blockchainView = new BlockchainWithPendingBlock(blockchain, pendingBlock.block);
+      } else if (blockchain.contains(block.getHash())) {
+        continue;
+      } else {
+        worldState = getParentWorldState(block).orElseThrow(() -> invalidBlock(block));
+        blockchainView = blockchain;
+      }
+
+      final BlockProcessor blockProcessor = protocolSpec.getBlockProcessor();
+      final LayeredWorldState layeredWorldState = new LayeredWorldState(worldState);
+      final Optional<BlockProcessor.Result> result =
+          blockProcessor.supportsLayeredWorldState()
+              ? Optional.of(blockProcessor.processBlock(blockchainView, layeredWorldState, block))
+              : Optional.empty();
+
+      if (pendingBlock != null) {
+        importPendingBlock(pendingBlock);
+        pendingBlock = null;
+      }
+
+      if (result.isEmpty()) {
+        importSequentially(protocolSpec, block);
+        continue;
+      }
+      if (!result.get().isSuccessful()) {
+        throw invalidBlock(block);
+      }
+      layeredWorldState.commit();
+      pendingBlock =
+          new PendingBlock(
+              protocolSpec,
+              block,
+              worldState,
+              result.get().getReceipts(),
+              ethContext.getScheduler().scheduleComputationTask(worldState::rootHash));
+    }
+
+    if (pendingBlock != null) {
+      importPendingBlock(pendingBlock);
+    }
+  }
+
+  private Optional<MutableWorldState> getParentWorldState(final Block block) {
+    return protocolContext
+        .getBlockchain()
+        .getBlockHeader(block.getHeader().getParentHash())
+        .flatMap(
+            parentHeader ->
+                protocolContext.getWorldStateArchive().getMutable(parentHeader.getStateRoot()));
+  }
+
+  private void importSequentially(final ProtocolSpec<C> protocolSpec, final Block block) {
+    if (!protocolSpec
+        .getBlockImporter()
+        .importBlock(protocolContext, block, HEADER_VALIDATION_MODE)) {
+      throw invalidBlock(block);
+    }
+    FullImportBlockStep.logImportProgress(ethContext, block);
+  }
+
+  private void importPendingBlock(final PendingBlock pendingBlock) {
+    final Block block = pendingBlock.block;
+    final BlockHeader header = block.getHeader();
+    final Hash stateRoot = pendingBlock.stateRoot.join();
+    if (!pendingBlock
+            .protocolSpec
+            .getBlockHeaderValidator()
+            .validateHeader(header, protocolContext, HEADER_VALIDATION_MODE)
+        || !pendingBlock
+            .protocolSpec
+            .getBlockBodyValidator()
+            .validateBody(
+                protocolContext,
+                block,
+                pendingBlock.receipts,
+                stateRoot,
+                HeaderValidationMode.FULL)) {
+      throw invalidBlock(block);
+    }
+
+    pendingBlock.worldState.persist();
+    protocolContext.getBlockchain().appendBlock(block, pendingBlock.receipts);
+    FullImportBlockStep.logImportProgress(ethContext, block);
+  }
+
+  private static InvalidBlockException invalidBlock(final Block block) {
+    return new InvalidBlockException(
+        "Failed to import block", block.getHeader().getNumber(), block.getHash());
+  }
+
+  private class PendingBlock {
+    private final ProtocolSpec<C> protocolSpec;
+    private final Block block;
+    private final MutableWorldState worldState;
+    private final List<TransactionReceipt> receipts;
+    private final CompletableFuture<Hash> stateRoot;
+
+    private PendingBlock(
+        final ProtocolSpec<C> protocolSpec,
+        final Block block,
+        final MutableWorldState worldState,
+        final List<TransactionReceipt> receipts,
+        final CompletableFuture<Hash> stateRoot) {
+      this.protocolSpec = protocolSpec;
+      this.block = block;
+      this.worldState = worldState;
+      this.receipts = receipts;
+      this.stateRoot = stateRoot;
+    }
+  }
+}
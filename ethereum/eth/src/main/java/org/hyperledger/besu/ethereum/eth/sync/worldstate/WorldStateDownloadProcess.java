@@ -23,6 +23,7 @@ import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.services.pipeline.Pipe;
 import org.hyperledger.besu.services.pipeline.Pipeline;
 import org.hyperledger.besu.services.pipeline.PipelineBuilder;
@@ -203,10 +204,18 @@ public class WorldStateDownloadProcess {
               "Number of entries processed by each world state download pipeline stage",
               "step",
               "action");
+      final LabelledMetric<OperationTimer> stageTimer =
+          metricsSystem.createLabelledHistogramTimer(
+              BesuMetricCategory.SYNCHRONIZER,
+              "world_state_pipeline_stage_seconds",
+              "Time spent by each world state download pipeline stage in each state",
+              "stage",
+              "state");
 
       final Pipeline<Task<NodeDataRequest>> completionPipeline =
           PipelineBuilder.<Task<NodeDataRequest>>createPipeline(
                   "requestDataAvailable", bufferCapacity, outputCounter)
+              .withStageTimer(stageTimer)
               .andFinishWith(
                   "requestCompleteTask",
                   task ->
@@ -220,6 +229,7 @@ public class WorldStateDownloadProcess {
                   new TaskQueueIterator(downloadState),
                   bufferCapacity,
                   outputCounter)
+              .withStageTimer(stageTimer)
               .thenFlatMapInParallel(
                   "requestLoadLocalData",
                   task -> loadLocalDataStep.loadLocalData(task, requestsToComplete),
@@ -29,7 +29,8 @@ import java.util.stream.Collectors;
 
 public class PeerPendingTransactionTracker implements EthPeer.DisconnectCallback {
   private static final int MAX_TRACKED_SEEN_TRANSACTIONS = 10_000;
-  private final Map<EthPeer, Set<Hash>> seenTransactions = new ConcurrentHashMap<>();
+  private static final int MAX_QUEUED_TRANSACTIONS = 10_000;
+  private final Map<EthPeer, SeenHashFilter> seenTransactions = new ConcurrentHashMap<>();
   private final Map<EthPeer, Set<Hash>> transactionsToSend = new ConcurrentHashMap<>();
   private final PendingTransactions pendingTransactions;
 
@@ -39,8 +40,8 @@ public class PeerPendingTransactionTracker implements EthPeer.DisconnectCallback
 
   public synchronized void markTransactionsHashesAsSeen(
       final EthPeer peer, final Collection<Hash> transactions) {
-    final Set<Hash> seenTransactionsForPeer = getOrCreateSeenTransactionsForPeer(peer);
-    transactions.stream().forEach(seenTransactionsForPeer::add);
+    final SeenHashFilter seenTransactionsForPeer = getOrCreateSeenTransactionsForPeer(peer);
+    transactions.forEach(seenTransactionsForPeer::add);
   }
 
   public synchronized void addToPeerSendQueue(final EthPeer peer, final Hash hash) {
@@ -53,6 +54,10 @@ public class PeerPendingTransactionTracker implements EthPeer.DisconnectCallback
     return transactionsToSend.keySet();
   }
 
+  public synchronized int getLargestSendQueueSize() {
+    return transactionsToSend.values().stream().mapToInt(Set::size).max().orElse(0);
+  }
+
   public synchronized Set<Hash> claimTransactionsToSendToPeer(final EthPeer peer) {
     final Set<Hash> transactionsToSend = this.transactionsToSend.remove(peer);
     if (transactionsToSend != null) {
@@ -67,13 +72,14 @@ public class PeerPendingTransactionTracker implements EthPeer.DisconnectCallback
     }
   }
 
-  private Set<Hash> getOrCreateSeenTransactionsForPeer(final EthPeer peer) {
-    return seenTransactions.computeIfAbsent(peer, key -> createTransactionsSet());
+  private SeenHashFilter getOrCreateSeenTransactionsForPeer(final EthPeer peer) {
+    return seenTransactions.computeIfAbsent(
+        peer, key -> new SeenHashFilter(MAX_TRACKED_SEEN_TRANSACTIONS));
   }
 
   private boolean hasPeerSeenTransaction(final EthPeer peer, final Hash hash) {
-    final Set<Hash> seenTransactionsForPeer = seenTransactions.get(peer);
-    return seenTransactionsForPeer != null && seenTransactionsForPeer.contains(hash);
+    final SeenHashFilter seenTransactionsForPeer = seenTransactions.get(peer);
+    return seenTransactionsForPeer != null && seenTransactionsForPeer.mightContain(hash);
   }
 
   private <T> Set<T> createTransactionsSet() {
@@ -81,7 +87,7 @@ public class PeerPendingTransactionTracker implements EthPeer.DisconnectCallback
         new LinkedHashMap<T, Boolean>(1 << 4, 0.75f, true) {
           @Override
           protected boolean removeEldestEntry(final Map.Entry<T, Boolean> eldest) {
-            return size() > MAX_TRACKED_SEEN_TRANSACTIONS;
+            return size() > MAX_QUEUED_TRANSACTIONS;
           }
         });
   }
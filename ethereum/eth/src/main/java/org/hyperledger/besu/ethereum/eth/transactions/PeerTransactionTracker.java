@@ -16,7 +16,6 @@ package org.hyperledger.besu.ethereum.eth.transactions;
 
 import static java.util.Collections.emptySet;
 
-import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 
@@ -29,12 +28,13 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class PeerTransactionTracker implements EthPeer.DisconnectCallback {
   private static final int MAX_TRACKED_SEEN_TRANSACTIONS = 10_000;
-  private final Map<EthPeer, Set<Hash>> seenTransactions = new ConcurrentHashMap<>();
+  private static final int MAX_QUEUED_TRANSACTIONS = 10_000;
+  private final Map<EthPeer, SeenHashFilter> seenTransactions = new ConcurrentHashMap<>();
   private final Map<EthPeer, Set<Transaction>> transactionsToSend = new ConcurrentHashMap<>();
 
   public synchronized void markTransactionsAsSeen(
       final EthPeer peer, final Collection<Transaction> transactions) {
-    final Set<Hash> seenTransactionsForPeer = getOrCreateSeenTransactionsForPeer(peer);
+    final SeenHashFilter seenTransactionsForPeer = getOrCreateSeenTransactionsForPeer(peer);
     transactions.stream().map(Transaction::getHash).forEach(seenTransactionsForPeer::add);
   }
 
@@ -48,6 +48,10 @@ public class PeerTransactionTracker implements EthPeer.DisconnectCallback {
     return transactionsToSend.keySet();
   }
 
+  public synchronized int getLargestSendQueueSize() {
+    return transactionsToSend.values().stream().mapToInt(Set::size).max().orElse(0);
+  }
+
   public synchronized Set<Transaction> claimTransactionsToSendToPeer(final EthPeer peer) {
     final Set<Transaction> transactionsToSend = this.transactionsToSend.remove(peer);
     if (transactionsToSend != null) {
@@ -58,14 +62,15 @@ public class PeerTransactionTracker implements EthPeer.DisconnectCallback {
     }
   }
 
-  private Set<Hash> getOrCreateSeenTransactionsForPeer(final EthPeer peer) {
-    return seenTransactions.computeIfAbsent(peer, key -> createTransactionsSet());
+  private SeenHashFilter getOrCreateSeenTransactionsForPeer(final EthPeer peer) {
+    return seenTransactions.computeIfAbsent(
+        peer, key -> new SeenHashFilter(MAX_TRACKED_SEEN_TRANSACTIONS));
   }
 
   private boolean hasPeerSeenTransaction(final EthPeer peer, final Transaction transaction) {
-    final Set<Hash> seenTransactionsForPeer = seenTransactions.get(peer);
+    final SeenHashFilter seenTransactionsForPeer = seenTransactions.get(peer);
     return seenTransactionsForPeer != null
-        && seenTransactionsForPeer.contains(transaction.getHash());
+        && seenTransactionsForPeer.mightContain(transaction.getHash());
   }
 
   private <T> Set<T> createTransactionsSet() {
@@ -73,7 +78,7 @@ public class PeerTransactionTracker implements EthPeer.DisconnectCallback {
         new LinkedHashMap<T, Boolean>(1 << 4, 0.75f, true) {
           @Override
           protected boolean removeEldestEntry(final Map.Entry<T, Boolean> eldest) {
-            return size() > MAX_TRACKED_SEEN_TRANSACTIONS;
+            return size() > MAX_QUEUED_TRANSACTIONS;
           }
         });
   }
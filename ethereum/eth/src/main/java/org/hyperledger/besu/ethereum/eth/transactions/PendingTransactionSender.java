@@ -21,15 +21,15 @@ import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool.Transactio
 class PendingTransactionSender implements TransactionBatchAddedListener {
 
   private final PeerPendingTransactionTracker transactionTracker;
-  private final PendingTransactionsMessageSender transactionsMessageSender;
+  private final TransactionBroadcastScheduler broadcastScheduler;
   private final EthContext ethContext;
 
   public PendingTransactionSender(
       final PeerPendingTransactionTracker transactionTracker,
-      final PendingTransactionsMessageSender transactionsMessageSender,
+      final TransactionBroadcastScheduler broadcastScheduler,
       final EthContext ethContext) {
     this.transactionTracker = transactionTracker;
-    this.transactionsMessageSender = transactionsMessageSender;
+    this.broadcastScheduler = broadcastScheduler;
     this.ethContext = ethContext;
   }
 
@@ -43,8 +43,6 @@ class PendingTransactionSender implements TransactionBatchAddedListener {
                 transactions.forEach(
                     transaction ->
                         transactionTracker.addToPeerSendQueue(peer, transaction.getHash())));
-    ethContext
-        .getScheduler()
-        .scheduleSyncWorkerTask(transactionsMessageSender::sendTransactionsToPeers);
+    broadcastScheduler.onTransactionsQueued(transactionTracker.getLargestSendQueueSize());
   }
 }
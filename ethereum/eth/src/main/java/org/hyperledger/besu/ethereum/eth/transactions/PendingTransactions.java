@@ -16,14 +16,15 @@ package org.hyperledger.besu.ethereum.eth.transactions;
 
 import static java.util.Comparator.comparing;
 
-import org.hyperledger.besu.ethereum.core.AccountTransactionOrder;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.util.Subscribers;
 
 import java.time.Clock;
@@ -31,10 +32,13 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -43,6 +47,7 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -53,21 +58,32 @@ import com.google.common.collect.EvictingQueue;
  * Holds the current set of pending transactions with the ability to iterate them based on priority
  * for mining or look-up by hash.
  *
+ * <p>Transactions are prioritized with local transactions first, then by gas price and finally by
+ * the order they were added. When the pool is full the highest nonce remote transaction of the
+ * sender of the lowest priority transaction is evicted, so remote transactions with the lowest gas
+ * price are dropped before any local ones, usually without leaving a nonce gap behind. Local
+ * transactions are only evicted once the pool holds nothing else.
+ *
  * <p>This class is safe for use across multiple threads.
  */
 public class PendingTransactions {
 
+  private static final Comparator<TransactionInfo> TRANSACTION_PRIORITY =
+      comparing(TransactionInfo::isReceivedFromLocalSource)
+          .thenComparing(TransactionInfo::getGasPrice)
+          .thenComparing(TransactionInfo::getSequence)
+          .reversed();
+
   private final int maxTransactionRetentionHours;
   private final Clock clock;
 
   private final Queue<Hash> newPooledHashes;
   private final Map<Hash, TransactionInfo> pendingTransactions = new ConcurrentHashMap<>();
   private final SortedSet<TransactionInfo> prioritizedTransactions =
-      new TreeSet<>(
-          comparing(TransactionInfo::isReceivedFromLocalSource)
-              .thenComparing(TransactionInfo::getSequence)
-              .reversed());
+      new TreeSet<>(TRANSACTION_PRIORITY);
   private final Map<Address, TransactionsForSenderInfo> transactionsBySender = new HashMap<>();
+  // The lowest nonce transaction of each sender, which are the only executable ones.
+  private final NavigableSet<TransactionInfo> senderHeads = new TreeSet<>(TRANSACTION_PRIORITY);
 
   private final Subscribers<PendingTransactionListener> pendingTransactionSubscribers =
       Subscribers.create();
@@ -79,6 +95,8 @@ public class PendingTransactions {
   private final Counter localTransactionAddedCounter;
   private final Counter remoteTransactionAddedCounter;
   private final Counter localTransactionHashesAddedCounter;
+  private final LabelledMetric<OperationTimer> admissionTimer;
+  private final AtomicInteger selectionsInProgress = new AtomicInteger();
 
   private final long maxPendingTransactions;
 
@@ -109,6 +127,14 @@ public class PendingTransactions {
             "Count of transactions removed from the transaction pool",
             "source",
             "operation");
+
+    admissionTimer =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.TRANSACTION_POOL,
+            "transactions_admission_seconds",
+            "Time taken to admit a transaction to the transaction pool",
+            "source",
+            "selection_in_progress");
   }
 
   public void evictOldTransactions() {
@@ -130,7 +156,7 @@ public class PendingTransactions {
   public boolean addRemoteTransaction(final Transaction transaction) {
     final TransactionInfo transactionInfo =
         new TransactionInfo(transaction, false, clock.instant());
-    final boolean transactionAdded = addTransaction(transactionInfo);
+    final boolean transactionAdded = admitTransaction(transactionInfo, "remote");
     if (transactionAdded) {
       remoteTransactionAddedCounter.inc();
     }
@@ -151,7 +177,7 @@ public class PendingTransactions {
   @VisibleForTesting
   public boolean addLocalTransaction(final Transaction transaction) {
     final boolean transactionAdded =
-        addTransaction(new TransactionInfo(transaction, true, clock.instant()));
+        admitTransaction(new TransactionInfo(transaction, true, clock.instant()), "local");
     if (transactionAdded) {
       localTransactionAddedCounter.inc();
     }
@@ -188,70 +214,134 @@ public class PendingTransactions {
   }
 
   /*
-   * The BlockTransaction selection process (part of block mining) requires synchronised access to
-   * all pendingTransactions - this allows it to iterate over the available transactions without
-   * releasing the lock in between items.
-   *
+   * The BlockTransaction selection process (part of block mining) evaluates each transaction in the
+   * EVM, so the pool lock is not held while the selector runs. Only the lowest nonce transaction of
+   * each sender is executable, so selection starts from those sender heads in priority order and
+   * promotes the sender's next nonce once its head has been evaluated. New transactions can be
+   * admitted while selection is in progress.
    */
   public void selectTransactions(final TransactionSelector selector) {
+    final NavigableSet<TransactionInfo> executableTransactions;
     synchronized (pendingTransactions) {
+      // Copying a sorted set takes linear time.
+      executableTransactions = new TreeSet<>(senderHeads);
+    }
+
+    selectionsInProgress.incrementAndGet();
+    try {
       final List<Transaction> transactionsToRemove = new ArrayList<>();
-      final Map<Address, AccountTransactionOrder> accountTransactions = new HashMap<>();
-      for (final TransactionInfo transactionInfo : prioritizedTransactions) {
-        final AccountTransactionOrder accountTransactionOrder =
-            accountTransactions.computeIfAbsent(
-                transactionInfo.getSender(), this::createSenderTransactionOrder);
-
-        for (final Transaction transactionToProcess :
-            accountTransactionOrder.transactionsToProcess(transactionInfo.getTransaction())) {
-          final TransactionSelectionResult result =
-              selector.evaluateTransaction(transactionToProcess);
-          switch (result) {
-            case DELETE_TRANSACTION_AND_CONTINUE:
-              transactionsToRemove.add(transactionToProcess);
-              break;
-            case CONTINUE:
-              break;
-            case COMPLETE_OPERATION:
-              transactionsToRemove.forEach(this::removeTransaction);
-              return;
-            default:
-              throw new RuntimeException("Illegal value for TransactionSelectionResult.");
-          }
+      while (!executableTransactions.isEmpty()) {
+        final TransactionInfo transactionInfo = executableTransactions.pollFirst();
+        final Transaction transactionToProcess = transactionInfo.getTransaction();
+        final TransactionSelectionResult result =
+            selector.evaluateTransaction(transactionToProcess);
+        switch (result) {
+          case DELETE_TRANSACTION_AND_CONTINUE:
+            transactionsToRemove.add(transactionToProcess);
+            break;
+          case CONTINUE:
+            break;
+          case COMPLETE_OPERATION:
+            transactionsToRemove.forEach(this::removeTransaction);
+            return;
+          default:
+            throw new RuntimeException("Illegal value for TransactionSelectionResult.");
         }
+        getNextTransactionForSender(transactionInfo).ifPresent(executableTransactions::add);
       }
       transactionsToRemove.forEach(this::removeTransaction);
+    } finally {
+      selectionsInProgress.decrementAndGet();
+    }
+  }
+
+  private Optional<TransactionInfo> getNextTransactionForSender(
+      final TransactionInfo transactionInfo) {
+    synchronized (pendingTransactions) {
+      return Optional.ofNullable(transactionsBySender.get(transactionInfo.getSender()))
+          .flatMap(
+              transactionsForSender ->
+                  transactionsForSender.getTransactionAfterNonce(transactionInfo.getNonce()));
     }
   }
 
-  private AccountTransactionOrder createSenderTransactionOrder(final Address address) {
-    return new AccountTransactionOrder(
-        transactionsBySender.get(address).getTransactionsInfos().values().stream()
-            .map(TransactionInfo::getTransaction));
+  private boolean admitTransaction(final TransactionInfo transactionInfo, final String source) {
+    final boolean selectionInProgress = selectionsInProgress.get() > 0;
+    try (final OperationTimer.TimingContext ignored =
+        admissionTimer.labels(source, Boolean.toString(selectionInProgress)).startTimer()) {
+      return addTransaction(transactionInfo);
+    }
   }
 
-  private boolean addTransaction(final TransactionInfo transactionInfo) {
-    Optional<Transaction> droppedTransaction = Optional.empty();
-    synchronized (pendingTransactions) {
-      if (pendingTransactions.containsKey(transactionInfo.getHash())) {
-        return false;
+  /**
+   * Adds a batch of already validated remote transactions, acquiring the pool lock once for the
+   * whole batch rather than once per transaction.
+   *
+   * @param transactions the transactions to add
+   * @return the transactions that were added to the pool
+   */
+  Set<Transaction> addRemoteTransactions(final Collection<Transaction> transactions) {
+    final Instant addedToPoolAt = clock.instant();
+    final Set<Transaction> addedTransactions = new LinkedHashSet<>();
+    final List<Transaction> droppedTransactions = new ArrayList<>();
+    final boolean selectionInProgress = selectionsInProgress.get() > 0;
+    try (final OperationTimer.TimingContext ignored =
+        admissionTimer.labels("remote_batch", Boolean.toString(selectionInProgress)).startTimer()) {
+      synchronized (pendingTransactions) {
+        for (final Transaction transaction : transactions) {
+          final TransactionInfo transactionInfo =
+              new TransactionInfo(transaction, false, addedToPoolAt);
+          if (doAddTransaction(transactionInfo, droppedTransactions)) {
+            addedTransactions.add(transaction);
+          }
+        }
       }
+    }
+    remoteTransactionAddedCounter.inc(addedTransactions.size());
+    addedTransactions.forEach(this::notifyTransactionAdded);
+    droppedTransactions.forEach(this::notifyTransactionDropped);
+    return addedTransactions;
+  }
 
-      if (!addTransactionForSenderAndNonce(transactionInfo)) {
+  private boolean addTransaction(final TransactionInfo transactionInfo) {
+    final List<Transaction> droppedTransactions = new ArrayList<>();
+    synchronized (pendingTransactions) {
+      if (!doAddTransaction(transactionInfo, droppedTransactions)) {
         return false;
       }
-      prioritizedTransactions.add(transactionInfo);
-      pendingTransactions.put(transactionInfo.getHash(), transactionInfo);
-      tryEvictTransactionHash(transactionInfo.getHash());
-
-      if (pendingTransactions.size() > maxPendingTransactions) {
-        final TransactionInfo toRemove = prioritizedTransactions.last();
-        doRemoveTransaction(toRemove.getTransaction(), false);
-        droppedTransaction = Optional.of(toRemove.getTransaction());
-      }
     }
     notifyTransactionAdded(transactionInfo.getTransaction());
-    droppedTransaction.ifPresent(this::notifyTransactionDropped);
+    droppedTransactions.forEach(this::notifyTransactionDropped);
+    return true;
+  }
+
+  private boolean doAddTransaction(
+      final TransactionInfo transactionInfo, final List<Transaction> droppedTransactions) {
+    if (pendingTransactions.containsKey(transactionInfo.getHash())) {
+      return false;
+    }
+
+    if (!addTransactionForSenderAndNonce(transactionInfo)) {
+      return false;
+    }
+    prioritizedTransactions.add(transactionInfo);
+    pendingTransactions.put(transactionInfo.getHash(), transactionInfo);
+    tryEvictTransactionHash(transactionInfo.getHash());
+
+    if (pendingTransactions.size() > maxPendingTransactions) {
+      // Dropping a lower nonce would leave the sender's later transactions unminable in the pool.
+      // Local transactions are only dropped once the pool holds nothing else.
+      final TransactionInfo lowestPriority = prioritizedTransactions.last();
+      final TransactionsForSenderInfo transactionsForSender =
+          transactionsBySender.get(lowestPriority.getSender());
+      final TransactionInfo toRemove =
+          (lowestPriority.isReceivedFromLocalSource()
+                  ? transactionsForSender.getHighestNonceTransaction()
+                  : transactionsForSender.getHighestNonceRemoteTransaction())
+              .orElse(lowestPriority);
+      doRemoveTransaction(toRemove.getTransaction(), false);
+      droppedTransactions.add(toRemove.getTransaction());
+    }
     return true;
   }
 
@@ -272,14 +362,18 @@ public class PendingTransactions {
     final TransactionsForSenderInfo transactionsForSenderInfo =
         transactionsBySender.computeIfAbsent(
             transactionInfo.getSender(), key -> new TransactionsForSenderInfo());
+    transactionsForSenderInfo.getLowestNonceTransaction().ifPresent(senderHeads::remove);
     transactionsForSenderInfo.addTransactionToTrack(transactionInfo.getNonce(), transactionInfo);
+    transactionsForSenderInfo.getLowestNonceTransaction().ifPresent(senderHeads::add);
   }
 
   private void removeTransactionTrackedBySenderAndNonce(final Transaction transaction) {
     Optional.ofNullable(transactionsBySender.get(transaction.getSender()))
         .ifPresent(
             transactionsForSender -> {
+              transactionsForSender.getLowestNonceTransaction().ifPresent(senderHeads::remove);
               transactionsForSender.getTransactionsInfos().remove(transaction.getNonce());
+              transactionsForSender.getLowestNonceTransaction().ifPresent(senderHeads::add);
               if (transactionsForSender.getTransactionsInfos().isEmpty()) {
                 transactionsBySender.remove(transaction.getSender());
                 transactionsForSender.updateGaps();
@@ -329,6 +423,11 @@ public class PendingTransactions {
         .map(TransactionInfo::getTransaction);
   }
 
+  boolean isLocalTransaction(final Hash transactionHash) {
+    final TransactionInfo transactionInfo = pendingTransactions.get(transactionHash);
+    return transactionInfo != null && transactionInfo.isReceivedFromLocalSource();
+  }
+
   public Set<TransactionInfo> getTransactionInfo() {
     return new HashSet<>(pendingTransactions.values());
   }
@@ -399,6 +498,10 @@ public class PendingTransactions {
       return transaction;
     }
 
+    public Wei getGasPrice() {
+      return transaction.getGasPrice();
+    }
+
     public long getSequence() {
       return sequence;
     }
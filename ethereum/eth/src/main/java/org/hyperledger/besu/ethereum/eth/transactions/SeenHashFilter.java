@@ -0,0 +1,63 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import org.hyperledger.besu.ethereum.core.Hash;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+
+/**
+ * A fixed-size, approximate record of the transaction hashes a peer is known to have seen.
+ *
+ * <p>Two bloom filters are rotated: once the current generation has recorded {@code
+ * hashesPerGeneration} hashes it becomes the previous generation and a fresh filter is started, so
+ * a hash is remembered for between one and two generations. A false positive only means a hash is
+ * not announced to a peer that may not have it yet, which gossip via other peers tolerates.
+ *
+ * <p>Not thread-safe; callers are expected to synchronize access.
+ */
+class SeenHashFilter {
+  private static final double FALSE_POSITIVE_PROBABILITY = 0.001;
+  private static final Funnel<Hash> HASH_FUNNEL =
+      (hash, sink) -> sink.putBytes(hash.toArrayUnsafe());
+
+  private final int hashesPerGeneration;
+  private BloomFilter<Hash> current;
+  private BloomFilter<Hash> previous;
+  private int currentInsertions = 0;
+
+  SeenHashFilter(final int hashesPerGeneration) {
+    this.hashesPerGeneration = hashesPerGeneration;
+    this.current = createFilter();
+    this.previous = createFilter();
+  }
+
+  void add(final Hash hash) {
+    if (current.put(hash) && ++currentInsertions >= hashesPerGeneration) {
+      previous = current;
+      current = createFilter();
+      currentInsertions = 0;
+    }
+  }
+
+  boolean mightContain(final Hash hash) {
+    return current.mightContain(hash) || previous.mightContain(hash);
+  }
+
+  private BloomFilter<Hash> createFilter() {
+    return BloomFilter.create(HASH_FUNNEL, hashesPerGeneration, FALSE_POSITIVE_PROBABILITY);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Batches transaction broadcasts so that each peer receives fewer, larger messages. Queued
+ * transactions are flushed as soon as any peer has a full batch waiting, or otherwise once the
+ * batch interval has elapsed since the first unflushed transaction was queued.
+ */
+class TransactionBroadcastScheduler {
+
+  private final EthScheduler scheduler;
+  private final Duration batchInterval;
+  private final int batchSize;
+  private final Runnable sendQueuedTransactions;
+  private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+  TransactionBroadcastScheduler(
+      final EthScheduler scheduler,
+      final Duration batchInterval,
+      final int batchSize,
+      final Runnable sendQueuedTransactions) {
+    this.scheduler = scheduler;
+    this.batchInterval = batchInterval;
+    this.batchSize = batchSize;
+    this.sendQueuedTransactions = sendQueuedTransactions;
+  }
+
+  void onTransactionsQueued(final int largestPeerQueueSize) {
+    if (batchInterval.isZero() || largestPeerQueueSize >= batchSize) {
+      scheduler.scheduleSyncWorkerTask(sendQueuedTransactions);
+    } else if (flushScheduled.compareAndSet(false, true)) {
+      scheduler.scheduleFutureTask(
+          () -> {
+            flushScheduled.set(false);
+            scheduler.scheduleSyncWorkerTask(sendQueuedTransactions);
+          },
+          batchInterval);
+    }
+  }
+}
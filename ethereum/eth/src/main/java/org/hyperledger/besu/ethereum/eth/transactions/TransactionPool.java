@@ -24,12 +24,15 @@ import org.hyperledger.besu.ethereum.chain.BlockAddedObserver;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.Account;
+import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.core.WorldState;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.eth.sync.state.SyncState;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
@@ -41,11 +44,18 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.logging.log4j.Logger;
 
@@ -73,6 +83,7 @@ public class TransactionPool implements BlockAddedObserver {
   private final LabelledMetric<Counter> duplicateTransactionCounter;
   private final PeerTransactionTracker peerTransactionTracker;
   private final PeerPendingTransactionTracker peerPendingTransactionTracker;
+  private final EthScheduler ethScheduler;
 
   public TransactionPool(
       final PendingTransactions pendingTransactions,
@@ -95,6 +106,7 @@ public class TransactionPool implements BlockAddedObserver {
     this.peerTransactionTracker = peerTransactionTracker;
     this.peerPendingTransactionTracker = peerPendingTransactionTracker;
     this.minTransactionGasPrice = minTransactionGasPrice;
+    this.ethScheduler = ethContext.getScheduler();
 
     duplicateTransactionCounter =
         metricsSystem.createLabelledCounter(
@@ -151,14 +163,24 @@ public class TransactionPool implements BlockAddedObserver {
     return validationResult;
   }
 
+  /**
+   * Admits a batch of transactions received from other nodes. Transactions already in the pool are
+   * discarded before any validation. The remaining transactions have their senders recovered in
+   * parallel on the scheduler's transaction validation pool, are validated against a single chain
+   * head world state (looking up each distinct sender account once) and are then inserted into the
+   * pool as a batch.
+   *
+   * @param transactions the transactions to add
+   */
   public void addRemoteTransactions(final Collection<Transaction> transactions) {
     if (!syncState.isInSync(SYNC_TOLERANCE)) {
       return;
     }
-    final Set<Transaction> addedTransactions = new HashSet<>();
+    final Map<Hash, Transaction> candidates = new LinkedHashMap<>();
     for (final Transaction transaction : transactions) {
       pendingTransactions.tryEvictTransactionHash(transaction.getHash());
-      if (pendingTransactions.containsTransaction(transaction.getHash())) {
+      if (pendingTransactions.containsTransaction(transaction.getHash())
+          || candidates.containsKey(transaction.getHash())) {
         // We already have this transaction, don't even validate it.
         duplicateTransactionCounter.labels(REMOTE).inc();
         continue;
@@ -166,27 +188,100 @@ public class TransactionPool implements BlockAddedObserver {
       if (transaction.getGasPrice().compareTo(minTransactionGasPrice) < 0) {
         continue;
       }
+      candidates.put(transaction.getHash(), transaction);
+    }
+    if (candidates.isEmpty()) {
+      return;
+    }
+
+    final BlockHeader chainHeadBlockHeader = getChainHeadBlockHeader();
+    final TransactionValidator transactionValidator = getTransactionValidator();
+    // Basic validation recovers the sender from the signature, which dominates the cost of
+    // admission, so it is spread across the validation workers. If their queue is full the
+    // transaction is validated on this thread instead, which holds back further messages.
+    final Map<Transaction, CompletableFuture<ValidationResult<TransactionInvalidReason>>>
+        basicValidationResults = new LinkedHashMap<>();
+    for (final Transaction transaction : candidates.values()) {
+      CompletableFuture<ValidationResult<TransactionInvalidReason>> validationResult;
+      try {
+        validationResult =
+            ethScheduler.scheduleTxValidationTask(
+                () ->
+                    validateTransactionForChainHead(
+                        transaction, transactionValidator, chainHeadBlockHeader));
+      } catch (final RejectedExecutionException e) {
+        validationResult =
+            CompletableFuture.completedFuture(
+                validateTransactionForChainHead(
+                    transaction, transactionValidator, chainHeadBlockHeader));
+      }
+      basicValidationResults.put(transaction, validationResult);
+    }
+    final List<Transaction> basicValidTransactions = new ArrayList<>();
+    for (final Map.Entry<Transaction, CompletableFuture<ValidationResult<TransactionInvalidReason>>>
+        basicValidationResult : basicValidationResults.entrySet()) {
+      final ValidationResult<TransactionInvalidReason> validationResult;
+      try {
+        validationResult = basicValidationResult.getValue().get();
+      } catch (final InterruptedException e) {
+        // The scheduler is stopping and may have dropped the queued validations.
+        Thread.currentThread().interrupt();
+        return;
+      } catch (final ExecutionException e) {
+        throw new CompletionException(e.getCause());
+      }
+      if (isValid(basicValidationResult.getKey(), validationResult)) {
+        basicValidTransactions.add(basicValidationResult.getKey());
+      }
+    }
+
+    final Optional<WorldState> maybeWorldState =
+        protocolContext.getWorldStateArchive().get(chainHeadBlockHeader.getStateRoot());
+    if (!maybeWorldState.isPresent()) {
+      LOG.trace(
+          "Chain head world state not available. Discarding {} transactions.",
+          basicValidTransactions.size());
+      return;
+    }
+    final WorldState worldState = maybeWorldState.get();
+    final Map<Address, Optional<Account>> senderAccounts = new HashMap<>();
+    final List<Transaction> validTransactions = new ArrayList<>();
+    for (final Transaction transaction : basicValidTransactions) {
+      final Account senderAccount =
+          senderAccounts
+              .computeIfAbsent(
+                  transaction.getSender(), sender -> Optional.ofNullable(worldState.get(sender)))
+              .orElse(null);
       final ValidationResult<TransactionInvalidReason> validationResult =
-          validateTransaction(transaction);
-      if (validationResult.isValid()) {
-        final boolean added = pendingTransactions.addRemoteTransaction(transaction);
-        if (added) {
-          addedTransactions.add(transaction);
-        } else {
-          duplicateTransactionCounter.labels(REMOTE).inc();
-        }
-      } else {
-        LOG.trace(
-            "Validation failed ({}) for transaction {}. Discarding.",
-            validationResult.getInvalidReason(),
-            transaction);
+          transactionValidator.validateForSender(
+              transaction, senderAccount, TransactionValidationParams.transactionPool());
+      if (isValid(transaction, validationResult)) {
+        validTransactions.add(transaction);
       }
     }
+
+    final Set<Transaction> addedTransactions =
+        pendingTransactions.addRemoteTransactions(validTransactions);
+    duplicateTransactionCounter
+        .labels(REMOTE)
+        .inc(validTransactions.size() - addedTransactions.size());
     if (!addedTransactions.isEmpty()) {
       transactionBatchAddedListener.onTransactionsAdded(addedTransactions);
     }
   }
 
+  private boolean isValid(
+      final Transaction transaction,
+      final ValidationResult<TransactionInvalidReason> validationResult) {
+    if (!validationResult.isValid()) {
+      LOG.trace(
+          "Validation failed ({}) for transaction {}. Discarding.",
+          validationResult.getInvalidReason(),
+          transaction);
+    }
+    return validationResult.isValid();
+  }
+
   public long subscribePendingTransactions(final PendingTransactionListener listener) {
     return pendingTransactions.subscribePendingTransactions(listener);
   }
@@ -222,8 +317,31 @@ public class TransactionPool implements BlockAddedObserver {
   private ValidationResult<TransactionInvalidReason> validateTransaction(
       final Transaction transaction) {
     final BlockHeader chainHeadBlockHeader = getChainHeadBlockHeader();
+    final TransactionValidator transactionValidator = getTransactionValidator();
+    final ValidationResult<TransactionInvalidReason> chainHeadValidationResult =
+        validateTransactionForChainHead(transaction, transactionValidator, chainHeadBlockHeader);
+    if (!chainHeadValidationResult.isValid()) {
+      return chainHeadValidationResult;
+    }
+
+    return protocolContext
+        .getWorldStateArchive()
+        .get(chainHeadBlockHeader.getStateRoot())
+        .map(
+            worldState -> {
+              final Account senderAccount = worldState.get(transaction.getSender());
+              return transactionValidator.validateForSender(
+                  transaction, senderAccount, TransactionValidationParams.transactionPool());
+            })
+        .orElseGet(() -> ValidationResult.invalid(CHAIN_HEAD_WORLD_STATE_NOT_AVAILABLE));
+  }
+
+  private ValidationResult<TransactionInvalidReason> validateTransactionForChainHead(
+      final Transaction transaction,
+      final TransactionValidator transactionValidator,
+      final BlockHeader chainHeadBlockHeader) {
     final ValidationResult<TransactionInvalidReason> basicValidationResult =
-        getTransactionValidator().validate(transaction);
+        transactionValidator.validate(transaction);
     if (!basicValidationResult.isValid()) {
       return basicValidationResult;
     }
@@ -235,18 +353,7 @@ public class TransactionPool implements BlockAddedObserver {
               "Transaction gas limit of %s exceeds block gas limit of %s",
               transaction.getGasLimit(), chainHeadBlockHeader.getGasLimit()));
     }
-
-    return protocolContext
-        .getWorldStateArchive()
-        .get(chainHeadBlockHeader.getStateRoot())
-        .map(
-            worldState -> {
-              final Account senderAccount = worldState.get(transaction.getSender());
-              return getTransactionValidator()
-                  .validateForSender(
-                      transaction, senderAccount, TransactionValidationParams.transactionPool());
-            })
-        .orElseGet(() -> ValidationResult.invalid(CHAIN_HEAD_WORLD_STATE_NOT_AVAILABLE));
+    return basicValidationResult;
   }
 
   public Optional<Transaction> getTransactionByHash(final Hash hash) {
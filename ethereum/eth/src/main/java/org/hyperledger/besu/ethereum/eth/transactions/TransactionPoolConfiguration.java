@@ -21,21 +21,37 @@ public class TransactionPoolConfiguration {
   public static final int MAX_PENDING_TRANSACTIONS = 4096;
   public static final int MAX_PENDING_TRANSACTIONS_HASHES = 4096;
   public static final int DEFAULT_TX_RETENTION_HOURS = 13;
+  public static final int DEFAULT_TX_BROADCAST_BATCH_INTERVAL_MILLIS = 200;
+  public static final int DEFAULT_TX_BROADCAST_BATCH_SIZE = 1000;
+  public static final boolean DEFAULT_JOURNAL_ENABLED = true;
+  public static final boolean DEFAULT_JOURNAL_REMOTE_TRANSACTIONS = false;
 
   private final int txPoolMaxSize;
   private final int pooledTransactionHashesSize;
   private final int pendingTxRetentionPeriod;
   private final int txMessageKeepAliveSeconds;
+  private final int txBroadcastBatchIntervalMillis;
+  private final int txBroadcastBatchSize;
+  private final boolean journalEnabled;
+  private final boolean journalRemoteTransactions;
 
   public TransactionPoolConfiguration(
       final int txPoolMaxSize,
       final int pooledTransactionHashesSize,
       final int pendingTxRetentionPeriod,
-      final int txMessageKeepAliveSeconds) {
+      final int txMessageKeepAliveSeconds,
+      final int txBroadcastBatchIntervalMillis,
+      final int txBroadcastBatchSize,
+      final boolean journalEnabled,
+      final boolean journalRemoteTransactions) {
     this.txPoolMaxSize = txPoolMaxSize;
     this.pooledTransactionHashesSize = pooledTransactionHashesSize;
     this.pendingTxRetentionPeriod = pendingTxRetentionPeriod;
     this.txMessageKeepAliveSeconds = txMessageKeepAliveSeconds;
+    this.txBroadcastBatchIntervalMillis = txBroadcastBatchIntervalMillis;
+    this.txBroadcastBatchSize = txBroadcastBatchSize;
+    this.journalEnabled = journalEnabled;
+    this.journalRemoteTransactions = journalRemoteTransactions;
   }
 
   public int getTxPoolMaxSize() {
@@ -54,6 +70,22 @@ public class TransactionPoolConfiguration {
     return txMessageKeepAliveSeconds;
   }
 
+  public int getTxBroadcastBatchIntervalMillis() {
+    return txBroadcastBatchIntervalMillis;
+  }
+
+  public int getTxBroadcastBatchSize() {
+    return txBroadcastBatchSize;
+  }
+
+  public boolean isJournalEnabled() {
+    return journalEnabled;
+  }
+
+  public boolean isJournalRemoteTransactions() {
+    return journalRemoteTransactions;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -65,12 +97,23 @@ public class TransactionPoolConfiguration {
     final TransactionPoolConfiguration that = (TransactionPoolConfiguration) o;
     return txPoolMaxSize == that.txPoolMaxSize
         && Objects.equals(pendingTxRetentionPeriod, that.pendingTxRetentionPeriod)
-        && Objects.equals(txMessageKeepAliveSeconds, that.txMessageKeepAliveSeconds);
+        && Objects.equals(txMessageKeepAliveSeconds, that.txMessageKeepAliveSeconds)
+        && txBroadcastBatchIntervalMillis == that.txBroadcastBatchIntervalMillis
+        && txBroadcastBatchSize == that.txBroadcastBatchSize
+        && journalEnabled == that.journalEnabled
+        && journalRemoteTransactions == that.journalRemoteTransactions;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(txPoolMaxSize, pendingTxRetentionPeriod, txMessageKeepAliveSeconds);
+    return Objects.hash(
+        txPoolMaxSize,
+        pendingTxRetentionPeriod,
+        txMessageKeepAliveSeconds,
+        txBroadcastBatchIntervalMillis,
+        txBroadcastBatchSize,
+        journalEnabled,
+        journalRemoteTransactions);
   }
 
   @Override
@@ -82,6 +125,14 @@ public class TransactionPoolConfiguration {
         + pendingTxRetentionPeriod
         + ", txMessageKeepAliveSeconds="
         + txMessageKeepAliveSeconds
+        + ", txBroadcastBatchIntervalMillis="
+        + txBroadcastBatchIntervalMillis
+        + ", txBroadcastBatchSize="
+        + txBroadcastBatchSize
+        + ", journalEnabled="
+        + journalEnabled
+        + ", journalRemoteTransactions="
+        + journalRemoteTransactions
         + '}';
   }
 
@@ -94,6 +145,10 @@ public class TransactionPoolConfiguration {
     private int pendingTxRetentionPeriod = DEFAULT_TX_RETENTION_HOURS;
     private Integer txMessageKeepAliveSeconds = DEFAULT_TX_MSG_KEEP_ALIVE;
     private int pooledTransactionHashesSize = MAX_PENDING_TRANSACTIONS_HASHES;
+    private int txBroadcastBatchIntervalMillis = DEFAULT_TX_BROADCAST_BATCH_INTERVAL_MILLIS;
+    private int txBroadcastBatchSize = DEFAULT_TX_BROADCAST_BATCH_SIZE;
+    private boolean journalEnabled = DEFAULT_JOURNAL_ENABLED;
+    private boolean journalRemoteTransactions = DEFAULT_JOURNAL_REMOTE_TRANSACTIONS;
 
     public Builder txPoolMaxSize(final int txPoolMaxSize) {
       this.txPoolMaxSize = txPoolMaxSize;
@@ -115,12 +170,36 @@ public class TransactionPoolConfiguration {
       return this;
     }
 
+    public Builder txBroadcastBatchIntervalMillis(final int txBroadcastBatchIntervalMillis) {
+      this.txBroadcastBatchIntervalMillis = txBroadcastBatchIntervalMillis;
+      return this;
+    }
+
+    public Builder txBroadcastBatchSize(final int txBroadcastBatchSize) {
+      this.txBroadcastBatchSize = txBroadcastBatchSize;
+      return this;
+    }
+
+    public Builder journalEnabled(final boolean journalEnabled) {
+      this.journalEnabled = journalEnabled;
+      return this;
+    }
+
+    public Builder journalRemoteTransactions(final boolean journalRemoteTransactions) {
+      this.journalRemoteTransactions = journalRemoteTransactions;
+      return this;
+    }
+
     public TransactionPoolConfiguration build() {
       return new TransactionPoolConfiguration(
           txPoolMaxSize,
           pooledTransactionHashesSize,
           pendingTxRetentionPeriod,
-          txMessageKeepAliveSeconds);
+          txMessageKeepAliveSeconds,
+          txBroadcastBatchIntervalMillis,
+          txBroadcastBatchSize,
+          journalEnabled,
+          journalRemoteTransactions);
     }
   }
 }
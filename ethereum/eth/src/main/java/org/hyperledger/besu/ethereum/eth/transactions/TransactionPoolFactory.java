@@ -25,6 +25,7 @@ import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 
 import java.time.Clock;
+import java.time.Duration;
 
 public class TransactionPoolFactory {
 
@@ -48,20 +49,37 @@ public class TransactionPoolFactory {
 
     final PeerTransactionTracker transactionTracker = new PeerTransactionTracker();
     final TransactionsMessageSender transactionsMessageSender =
-        new TransactionsMessageSender(transactionTracker);
+        new TransactionsMessageSender(transactionTracker, metricsSystem);
     final PeerPendingTransactionTracker pendingTransactionTracker =
         new PeerPendingTransactionTracker(pendingTransactions);
 
     final PendingTransactionsMessageSender pendingTransactionsMessageSender =
-        new PendingTransactionsMessageSender(pendingTransactionTracker);
+        new PendingTransactionsMessageSender(pendingTransactionTracker, metricsSystem);
+
+    final Duration broadcastBatchInterval =
+        Duration.ofMillis(transactionPoolConfiguration.getTxBroadcastBatchIntervalMillis());
+    final int broadcastBatchSize = transactionPoolConfiguration.getTxBroadcastBatchSize();
+    final TransactionBroadcastScheduler transactionBroadcastScheduler =
+        new TransactionBroadcastScheduler(
+            ethContext.getScheduler(),
+            broadcastBatchInterval,
+            broadcastBatchSize,
+            transactionsMessageSender::sendTransactionsToPeers);
+    final TransactionBroadcastScheduler pendingTransactionBroadcastScheduler =
+        new TransactionBroadcastScheduler(
+            ethContext.getScheduler(),
+            broadcastBatchInterval,
+            broadcastBatchSize,
+            pendingTransactionsMessageSender::sendTransactionsToPeers);
+
     final TransactionPool transactionPool =
         new TransactionPool(
             pendingTransactions,
             protocolSchedule,
             protocolContext,
-            new TransactionSender(transactionTracker, transactionsMessageSender, ethContext),
+            new TransactionSender(transactionTracker, transactionBroadcastScheduler, ethContext),
             new PendingTransactionSender(
-                pendingTransactionTracker, pendingTransactionsMessageSender, ethContext),
+                pendingTransactionTracker, pendingTransactionBroadcastScheduler, ethContext),
             syncState,
             ethContext,
             transactionTracker,
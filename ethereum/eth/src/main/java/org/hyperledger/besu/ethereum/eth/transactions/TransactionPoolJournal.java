@@ -0,0 +1,276 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import static org.apache.logging.log4j.LogManager.getLogger;
+
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions.TransactionInfo;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * An append-only file of pending transactions used to restore the transaction pool after a
+ * restart.
+ *
+ * <p>Each entry is an RLP list holding a local-source flag and the transaction. Entries are
+ * appended in batches on a dedicated thread as transactions enter the pool. Transactions that later
+ * leave the pool stay in the file until it is rotated, and are simply rejected by validation if
+ * they are replayed. The file is rotated, i.e. rewritten with the current pool contents, after
+ * replay on startup, on close, and whenever the number of appended entries exceeds twice the
+ * maximum pool size.
+ */
+public class TransactionPoolJournal implements PendingTransactionListener, Closeable {
+  public static final String JOURNAL_FILE_NAME = "transaction-pool.journal";
+  private static final Logger LOG = getLogger();
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+  private final Path journalFile;
+  private final TransactionPool transactionPool;
+  private final PendingTransactions pendingTransactions;
+  private final boolean journalRemoteTransactions;
+  private final long rotationThreshold;
+  private final ExecutorService writer;
+  private final Queue<Bytes> unwrittenEntries = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+
+  // Only accessed from the writer thread once the journal has started.
+  private OutputStream output;
+  private long entriesSinceRotation;
+  private long subscriptionId;
+
+  public TransactionPoolJournal(
+      final Path journalFile,
+      final TransactionPool transactionPool,
+      final boolean journalRemoteTransactions) {
+    this.journalFile = journalFile;
+    this.transactionPool = transactionPool;
+    this.pendingTransactions = transactionPool.getPendingTransactions();
+    this.journalRemoteTransactions = journalRemoteTransactions;
+    this.rotationThreshold = Math.max(2 * pendingTransactions.maxSize(), 1);
+    this.writer =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat(TransactionPoolJournal.class.getSimpleName())
+                .build());
+  }
+
+  /**
+   * Replays the journal into the transaction pool, rewrites it with the resulting pool contents and
+   * starts recording transactions subsequently added to the pool.
+   */
+  public void start() {
+    replay();
+    try {
+      rotate();
+    } catch (final IOException e) {
+      LOG.warn("Unable to rewrite transaction pool journal {}", journalFile, e);
+    }
+    subscriptionId = transactionPool.subscribePendingTransactions(this);
+  }
+
+  @Override
+  public void onTransactionAdded(final Transaction transaction) {
+    final boolean local = pendingTransactions.isLocalTransaction(transaction.getHash());
+    if (!local && !journalRemoteTransactions) {
+      return;
+    }
+    unwrittenEntries.add(encodeEntry(transaction, local));
+    if (writeScheduled.compareAndSet(false, true)) {
+      writer.execute(this::writeUnwrittenEntries);
+    }
+  }
+
+  @Override
+  public void close() {
+    transactionPool.unsubscribePendingTransactions(subscriptionId);
+    // The output is closed on the writer thread so that it is never closed under a write that is
+    // still in progress, even if waiting for the writer below times out.
+    writer.execute(
+        () -> {
+          try {
+            rotate();
+          } catch (final IOException e) {
+            LOG.warn("Unable to rewrite transaction pool journal {}", journalFile, e);
+          }
+          closeOutput();
+        });
+    writer.shutdown();
+    try {
+      if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOG.warn("Timed out waiting for transaction pool journal to be written");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void closeOutput() {
+    if (output == null) {
+      return;
+    }
+    try {
+      output.close();
+    } catch (final IOException e) {
+      LOG.warn("Unable to close transaction pool journal {}", journalFile, e);
+    }
+    output = null;
+  }
+
+  private void replay() {
+    if (!Files.exists(journalFile)) {
+      return;
+    }
+    final List<Transaction> localTransactions = new ArrayList<>();
+    final List<Transaction> remoteTransactions = new ArrayList<>();
+    try {
+      final Bytes journal = Bytes.wrap(Files.readAllBytes(journalFile));
+      int offset = 0;
+      while (offset < journal.size()) {
+        final Bytes remaining = journal.slice(offset);
+        final int entrySize = RLP.calculateSize(remaining);
+        if (entrySize > remaining.size()) {
+          LOG.debug("Ignoring truncated entry at end of transaction pool journal");
+          break;
+        }
+        final RLPInput input = RLP.input(remaining.slice(0, entrySize));
+        input.enterList();
+        final boolean local = input.readIntScalar() != 0;
+        final Transaction transaction = Transaction.readFrom(input);
+        input.leaveList();
+        (local ? localTransactions : remoteTransactions).add(transaction);
+        offset += entrySize;
+      }
+    } catch (final IOException | RuntimeException e) {
+      // Besides RLPException, decoding a corrupt transaction can fail with other runtime
+      // exceptions, e.g. on an unsupported signature value.
+      LOG.warn(
+          "Unable to fully read transaction pool journal {}, restoring the entries read so far",
+          journalFile,
+          e);
+    }
+
+    final List<Transaction> recoveredLocalTransactions = recoverSenders(localTransactions);
+    final List<Transaction> recoveredRemoteTransactions = recoverSenders(remoteTransactions);
+    recoveredLocalTransactions.forEach(transactionPool::addLocalTransaction);
+    transactionPool.addRemoteTransactions(recoveredRemoteTransactions);
+    LOG.info(
+        "Restored {} of {} journaled transactions into the transaction pool",
+        pendingTransactions.size(),
+        localTransactions.size() + remoteTransactions.size());
+  }
+
+  /**
+   * Recovers transaction senders in parallel so that admitting the transactions to the pool, which
+   * needs the sender of each one, does not pay for signature recovery serially.
+   */
+  private static List<Transaction> recoverSenders(final List<Transaction> transactions) {
+    return transactions.parallelStream()
+        .filter(TransactionPoolJournal::hasRecoverableSender)
+        .sorted(Comparator.comparingLong(Transaction::getNonce))
+        .collect(Collectors.toList());
+  }
+
+  private static boolean hasRecoverableSender(final Transaction transaction) {
+    try {
+      transaction.getSender();
+      return true;
+    } catch (final IllegalStateException e) {
+      LOG.debug("Dropping journaled transaction with invalid signature {}", transaction.getHash());
+      return false;
+    }
+  }
+
+  private void writeUnwrittenEntries() {
+    writeScheduled.set(false);
+    try {
+      Bytes entry;
+      while ((entry = unwrittenEntries.poll()) != null) {
+        output.write(entry.toArrayUnsafe());
+        entriesSinceRotation++;
+      }
+      output.flush();
+      if (entriesSinceRotation > rotationThreshold) {
+        rotate();
+      }
+    } catch (final IOException e) {
+      LOG.warn("Unable to append to transaction pool journal {}", journalFile, e);
+    }
+  }
+
+  private void rotate() throws IOException {
+    if (output != null) {
+      output.close();
+    }
+    unwrittenEntries.clear();
+    final Path rotatedFile = journalFile.resolveSibling(journalFile.getFileName() + ".new");
+    try (final OutputStream rotatedOutput =
+        new BufferedOutputStream(Files.newOutputStream(rotatedFile))) {
+      for (final TransactionInfo transactionInfo : pendingTransactions.getTransactionInfo()) {
+        if (transactionInfo.isReceivedFromLocalSource() || journalRemoteTransactions) {
+          rotatedOutput.write(
+              encodeEntry(
+                      transactionInfo.getTransaction(),
+                      transactionInfo.isReceivedFromLocalSource())
+                  .toArrayUnsafe());
+        }
+      }
+    }
+    Files.move(
+        rotatedFile,
+        journalFile,
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+    output =
+        new BufferedOutputStream(
+            Files.newOutputStream(
+                journalFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    entriesSinceRotation = 0;
+  }
+
+  private static Bytes encodeEntry(final Transaction transaction, final boolean local) {
+    return RLP.encode(
+        out -> {
+          out.startList();
+          out.writeIntScalar(local ? 1 : 0);
+          transaction.writeTo(out);
+          out.endList();
+        });
+  }
+}
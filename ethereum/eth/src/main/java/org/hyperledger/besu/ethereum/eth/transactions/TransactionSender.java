@@ -21,15 +21,15 @@ import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool.Transactio
 class TransactionSender implements TransactionBatchAddedListener {
 
   private final PeerTransactionTracker transactionTracker;
-  private final TransactionsMessageSender transactionsMessageSender;
+  private final TransactionBroadcastScheduler broadcastScheduler;
   private final EthContext ethContext;
 
   public TransactionSender(
       final PeerTransactionTracker transactionTracker,
-      final TransactionsMessageSender transactionsMessageSender,
+      final TransactionBroadcastScheduler broadcastScheduler,
       final EthContext ethContext) {
     this.transactionTracker = transactionTracker;
-    this.transactionsMessageSender = transactionsMessageSender;
+    this.broadcastScheduler = broadcastScheduler;
     this.ethContext = ethContext;
   }
 
@@ -42,8 +42,6 @@ class TransactionSender implements TransactionBatchAddedListener {
             peer ->
                 transactions.forEach(
                     transaction -> transactionTracker.addToPeerSendQueue(peer, transaction)));
-    ethContext
-        .getScheduler()
-        .scheduleSyncWorkerTask(transactionsMessageSender::sendTransactionsToPeers);
+    broadcastScheduler.onTransactionsQueued(transactionTracker.getLargestSendQueueSize());
   }
 }
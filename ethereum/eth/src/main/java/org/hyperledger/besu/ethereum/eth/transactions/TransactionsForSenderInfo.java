@@ -16,6 +16,8 @@
 package org.hyperledger.besu.ethereum.eth.transactions;
 
 import java.util.Iterator;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.SortedMap;
@@ -23,7 +25,7 @@ import java.util.TreeMap;
 import java.util.stream.LongStream;
 
 class TransactionsForSenderInfo {
-  private final SortedMap<Long, PendingTransactions.TransactionInfo> transactionsInfos;
+  private final NavigableMap<Long, PendingTransactions.TransactionInfo> transactionsInfos;
   private final Queue<Long> gaps = new PriorityQueue<>();
 
   TransactionsForSenderInfo() {
@@ -57,6 +59,32 @@ class TransactionsForSenderInfo {
     }
   }
 
+  Optional<PendingTransactions.TransactionInfo> getLowestNonceTransaction() {
+    return transactionsInfos.isEmpty()
+        ? Optional.empty()
+        : Optional.of(transactionsInfos.get(transactionsInfos.firstKey()));
+  }
+
+  Optional<PendingTransactions.TransactionInfo> getHighestNonceTransaction() {
+    return transactionsInfos.isEmpty()
+        ? Optional.empty()
+        : Optional.of(transactionsInfos.get(transactionsInfos.lastKey()));
+  }
+
+  Optional<PendingTransactions.TransactionInfo> getHighestNonceRemoteTransaction() {
+    return transactionsInfos.descendingMap().values().stream()
+        .filter(transactionInfo -> !transactionInfo.isReceivedFromLocalSource())
+        .findFirst();
+  }
+
+  Optional<PendingTransactions.TransactionInfo> getTransactionAfterNonce(final long nonce) {
+    final SortedMap<Long, PendingTransactions.TransactionInfo> laterTransactions =
+        transactionsInfos.tailMap(nonce + 1);
+    return laterTransactions.isEmpty()
+        ? Optional.empty()
+        : Optional.of(laterTransactions.get(laterTransactions.firstKey()));
+  }
+
   SortedMap<Long, PendingTransactions.TransactionInfo> getTransactionsInfos() {
     return transactionsInfos;
   }
@@ -18,6 +18,10 @@ import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.messages.LimitedTransactionsMessages;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 
 import java.util.Set;
 import java.util.stream.StreamSupport;
@@ -25,9 +29,28 @@ import java.util.stream.StreamSupport;
 class TransactionsMessageSender {
 
   private final PeerTransactionTracker transactionTracker;
+  private final Counter messagesSentCounter;
+  private final Counter bytesSentCounter;
 
-  public TransactionsMessageSender(final PeerTransactionTracker transactionTracker) {
+  public TransactionsMessageSender(
+      final PeerTransactionTracker transactionTracker, final MetricsSystem metricsSystem) {
     this.transactionTracker = transactionTracker;
+    this.messagesSentCounter =
+        metricsSystem
+            .createLabelledCounter(
+                BesuMetricCategory.TRANSACTION_POOL,
+                "transaction_broadcast_messages_total",
+                "Total number of transaction broadcast messages sent to peers",
+                "message")
+            .labels("transactions");
+    this.bytesSentCounter =
+        metricsSystem
+            .createLabelledCounter(
+                BesuMetricCategory.TRANSACTION_POOL,
+                "transaction_broadcast_bytes_total",
+                "Total size in bytes of transaction broadcast messages sent to peers",
+                "message")
+            .labels("transactions");
   }
 
   public void sendTransactionsToPeers() {
@@ -42,8 +65,11 @@ class TransactionsMessageSender {
       final LimitedTransactionsMessages limitedTransactionsMessages =
           LimitedTransactionsMessages.createLimited(allTxToSend);
       allTxToSend.removeAll(limitedTransactionsMessages.getIncludedTransactions());
+      final MessageData message = limitedTransactionsMessages.getTransactionsMessage();
       try {
-        peer.send(limitedTransactionsMessages.getTransactionsMessage());
+        peer.send(message);
+        messagesSentCounter.inc();
+        bytesSentCounter.inc(message.getSize());
       } catch (final PeerNotConnected e) {
         return;
       }
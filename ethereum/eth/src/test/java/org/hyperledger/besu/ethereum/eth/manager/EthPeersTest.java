@@ -247,6 +247,23 @@ public class EthPeersTest {
     assertRequestFailure(pendingRequest, CancellationException.class);
   }
 
+  @Test
+  public void shouldUseHighestThroughputPeerWhenBothHaveSameNumberOfOutstandingRequests()
+      throws Exception {
+    final RespondingEthPeer slowPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000);
+    final RespondingEthPeer fastPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000);
+    slowPeer.getEthPeer().responseThroughput().recordResponse(1000, 1000);
+    fastPeer.getEthPeer().responseThroughput().recordResponse(10, 1000);
+
+    final PendingPeerRequest pendingRequest =
+        ethPeers.executePeerRequest(peerRequest, 10, Optional.empty());
+
+    verify(peerRequest).sendRequest(fastPeer.getEthPeer());
+    assertRequestSuccessful(pendingRequest);
+  }
+
   private void freeUpCapacity(final EthPeer ethPeer) {
     ethPeers.dispatchMessage(ethPeer, new EthMessage(ethPeer, NodeDataMessage.create(emptyList())));
   }
@@ -32,6 +32,8 @@ public class EthSchedulerShutdownTest {
   private ExecutorService txWorkerExecutor;
   private ExecutorService servicesExecutor;
   private ExecutorService computationExecutor;
+  private ExecutorService servingExecutor;
+  private ExecutorService txValidationExecutor;
 
   @Before
   public void setup() {
@@ -40,13 +42,17 @@ public class EthSchedulerShutdownTest {
     txWorkerExecutor = Executors.newSingleThreadExecutor();
     servicesExecutor = Executors.newSingleThreadExecutor();
     computationExecutor = Executors.newSingleThreadExecutor();
+    servingExecutor = Executors.newSingleThreadExecutor();
+    txValidationExecutor = Executors.newSingleThreadExecutor();
     ethScheduler =
         new EthScheduler(
             syncWorkerExecutor,
             scheduledExecutor,
             txWorkerExecutor,
             servicesExecutor,
-            computationExecutor);
+            computationExecutor,
+            servingExecutor,
+            txValidationExecutor);
   }
 
   @Test
@@ -143,4 +149,48 @@ public class EthSchedulerShutdownTest {
     assertThat(computationExecutor.isTerminated()).isTrue();
     assertThat(task2.hasBeenStarted()).isFalse();
   }
+
+  @Test
+  public void shutdown_servingShutsDown() throws InterruptedException {
+    final MockEthTask task1 = new MockEthTask(1);
+    final MockEthTask task2 = new MockEthTask();
+
+    ethScheduler.scheduleServingTask(task1::executeTask);
+    ethScheduler.scheduleServingTask(task2::executeTask);
+    ethScheduler.stop();
+
+    assertThat(servingExecutor.isShutdown()).isTrue();
+
+    ethScheduler.awaitStop();
+
+    assertThat(servingExecutor.isShutdown()).isTrue();
+    assertThat(servingExecutor.isTerminated()).isTrue();
+    assertThat(task2.hasBeenStarted()).isFalse();
+  }
+
+  @Test
+  public void shutdown_txValidationShutsDown() throws InterruptedException {
+    final MockEthTask task1 = new MockEthTask(1);
+    final MockEthTask task2 = new MockEthTask();
+
+    ethScheduler.scheduleTxValidationTask(
+        () -> {
+          task1.executeTask();
+          return Integer.MAX_VALUE;
+        });
+    ethScheduler.scheduleTxValidationTask(
+        () -> {
+          task2.executeTask();
+          return Integer.MAX_VALUE;
+        });
+    ethScheduler.stop();
+
+    assertThat(txValidationExecutor.isShutdown()).isTrue();
+
+    ethScheduler.awaitStop();
+
+    assertThat(txValidationExecutor.isShutdown()).isTrue();
+    assertThat(txValidationExecutor.isTerminated()).isTrue();
+    assertThat(task2.hasBeenStarted()).isFalse();
+  }
 }
@@ -16,16 +16,24 @@ package org.hyperledger.besu.ethereum.eth.manager;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.eth.EthProtocolConfiguration;
+import org.hyperledger.besu.ethereum.eth.messages.BlockBodiesMessage;
+import org.hyperledger.besu.ethereum.eth.messages.GetBlockBodiesMessage;
 import org.hyperledger.besu.ethereum.eth.messages.GetNodeDataMessage;
 import org.hyperledger.besu.ethereum.eth.messages.NodeDataMessage;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.util.Optional;
@@ -55,6 +63,7 @@ public class EthServerTest {
         worldStateArchive,
         transactionPool,
         ethMessages,
+        new DeterministicEthScheduler(),
         new EthProtocolConfiguration(2, 2, 2, 2, 2));
   }
 
@@ -97,4 +106,27 @@ public class EthServerTest {
 
     verify(ethPeer).send(NodeDataMessage.create(singletonList(VALUE1)));
   }
+
+  @Test
+  public void shouldLimitTheSizeOfNodeDataResponses() {
+    when(worldStateArchive.getNodeData(HASH1)).thenReturn(Optional.of(VALUE1));
+    when(worldStateArchive.getNodeData(HASH2)).thenReturn(Optional.of(VALUE2));
+
+    assertThat(
+            EthServer.constructGetNodeDataResponse(
+                worldStateArchive, GetNodeDataMessage.create(asList(HASH1, HASH2)), 10, 1))
+        .isEqualTo(NodeDataMessage.create(singletonList(VALUE1)));
+  }
+
+  @Test
+  public void shouldRespondToBlockBodiesRequestsWithoutDecodingStoredBodies() throws Exception {
+    final BlockBody body = new BlockDataGenerator().block().getBody();
+    when(blockchain.getBlockBodyRlp(HASH1)).thenReturn(Optional.of(RLP.encode(body::writeTo)));
+    when(blockchain.getBlockBodyRlp(HASH2)).thenReturn(Optional.empty());
+    ethMessages.dispatch(
+        new EthMessage(ethPeer, GetBlockBodiesMessage.create(asList(HASH1, HASH2))));
+
+    verify(ethPeer).send(BlockBodiesMessage.create(singletonList(body)));
+    verify(blockchain, never()).getBlockBody(any());
+  }
 }
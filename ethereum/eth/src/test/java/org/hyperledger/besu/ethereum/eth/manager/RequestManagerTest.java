@@ -211,6 +211,38 @@ public class RequestManagerTest {
     assertThat(closedCountB.get()).isEqualTo(1);
   }
 
+  @Test
+  public void recordsResponseLatencyAgainstOldestOutstandingRequest() throws Exception {
+    final TestClock clock = new TestClock();
+    final EthPeer peer = createPeer();
+    final RequestManager requestManager = new RequestManager(peer, clock);
+
+    requestManager.dispatchRequest(() -> {});
+    clock.stepMillis(100);
+    requestManager.dispatchRequest(() -> {});
+    clock.stepMillis(50);
+
+    assertThat(requestManager.dispatchResponse(mockMessage(peer))).hasValue(150);
+    assertThat(requestManager.dispatchResponse(mockMessage(peer))).hasValue(50);
+    assertThat(requestManager.throughput().hasEstimate()).isTrue();
+  }
+
+  @Test
+  public void doesNotRecordResponseLatencyAgainstClosedStreams() throws Exception {
+    final TestClock clock = new TestClock();
+    final EthPeer peer = createPeer();
+    final RequestManager requestManager = new RequestManager(peer, clock);
+
+    final RequestManager.ResponseStream timedOutStream = requestManager.dispatchRequest(() -> {});
+    clock.stepMillis(100);
+    requestManager.dispatchRequest(() -> {});
+    clock.stepMillis(50);
+    timedOutStream.close();
+
+    assertThat(requestManager.dispatchResponse(mockMessage(peer))).hasValue(50);
+    assertThat(requestManager.dispatchResponse(mockMessage(peer))).isEmpty();
+  }
+
   private EthMessage mockMessage(final EthPeer peer) {
     return new EthMessage(peer, new RawMessage(1, Bytes.EMPTY));
   }
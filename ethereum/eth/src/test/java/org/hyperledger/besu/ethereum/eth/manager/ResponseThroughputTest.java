@@ -0,0 +1,71 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ResponseThroughputTest {
+
+  private final ResponseThroughput throughput = new ResponseThroughput();
+
+  @Test
+  public void shouldBeOptimisticBeforeAnyResponseIsRecorded() {
+    assertThat(throughput.hasEstimate()).isFalse();
+    assertThat(throughput.getAverageBytesPerSecond()).isEqualTo(Double.POSITIVE_INFINITY);
+  }
+
+  @Test
+  public void shouldUseFirstResponseAsInitialEstimate() {
+    throughput.recordResponse(500, 1000);
+
+    assertThat(throughput.hasEstimate()).isTrue();
+    assertThat(throughput.getAverageLatencyMillis()).isEqualTo(500);
+    assertThat(throughput.getAverageBytesPerSecond()).isEqualTo(2000);
+  }
+
+  @Test
+  public void shouldMoveAverageTowardsLaterResponses() {
+    throughput.recordResponse(500, 1000);
+    throughput.recordResponse(100, 1000);
+
+    assertThat(throughput.getAverageLatencyMillis()).isBetween(100.0, 500.0);
+    assertThat(throughput.getAverageBytesPerSecond()).isBetween(2000.0, 10000.0);
+  }
+
+  @Test
+  public void shouldTreatInstantResponsesAsTakingOneMillisecond() {
+    throughput.recordResponse(0, 10);
+
+    assertThat(throughput.getAverageBytesPerSecond()).isEqualTo(10000);
+  }
+
+  @Test
+  public void shouldHalveThroughputOnTimeout() {
+    throughput.recordResponse(1000, 1000);
+    throughput.recordTimeout();
+
+    assertThat(throughput.getAverageBytesPerSecond()).isEqualTo(500);
+  }
+
+  @Test
+  public void shouldHaveNoThroughputWhenFirstRequestTimesOut() {
+    throughput.recordTimeout();
+
+    assertThat(throughput.hasEstimate()).isTrue();
+    assertThat(throughput.getAverageBytesPerSecond()).isZero();
+  }
+}
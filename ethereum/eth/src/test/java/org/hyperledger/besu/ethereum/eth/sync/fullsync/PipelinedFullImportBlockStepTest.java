@@ -0,0 +1,221 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.sync.fullsync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderBuilder;
+import org.hyperledger.besu.ethereum.core.BlockchainSetupUtil;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.eth.manager.EthContext;
+import org.hyperledger.besu.ethereum.eth.sync.tasks.exceptions.InvalidBlockException;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessor;
+import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
+import org.hyperledger.besu.ethereum.vm.BlockHashLookup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.junit.Test;
+
+public class PipelinedFullImportBlockStepTest {
+
+  @Test
+  public void shouldImportBlocks() {
+    final BlockchainSetupUtil<Void> setupUtil = BlockchainSetupUtil.forUpgradedFork();
+
+    createImportBlockStep(setupUtil).accept(setupUtil.getBlocks());
+
+    assertChainHeadIs(setupUtil, last(setupUtil.getBlocks()));
+  }
+
+  @Test
+  public void shouldImportBlocksWithIntermediateStateRootsInReceipts() {
+    final BlockchainSetupUtil<Void> setupUtil = BlockchainSetupUtil.forTesting();
+
+    createImportBlockStep(setupUtil).accept(setupUtil.getBlocks());
+
+    assertChainHeadIs(setupUtil, last(setupUtil.getBlocks()));
+  }
+
+  @Test
+  public void shouldImportBlocksAcrossSeveralBatches() {
+    final BlockchainSetupUtil<Void> setupUtil = BlockchainSetupUtil.forUpgradedFork();
+    final List<Block> blocks = setupUtil.getBlocks();
+    final PipelinedFullImportBlockStep<Void> importBlockStep = createImportBlockStep(setupUtil);
+
+    importBlockStep.accept(blocks.subList(0, 3));
+    assertChainHeadIs(setupUtil, blocks.get(2));
+
+    // Blocks already imported are skipped.
+    importBlockStep.accept(blocks.subList(2, blocks.size()));
+    assertChainHeadIs(setupUtil, last(blocks));
+  }
+
+  @Test
+  public void shouldNotImportBlocksFollowingAnInvalidBlock() {
+    final BlockchainSetupUtil<Void> setupUtil = BlockchainSetupUtil.forUpgradedFork();
+    final List<Block> blocks = new ArrayList<>(setupUtil.getBlocks().subList(0, 6));
+    final Block invalidBlock = withInvalidStateRoot(blocks.get(4));
+    blocks.set(4, invalidBlock);
+
+    assertThatThrownBy(() -> createImportBlockStep(setupUtil).accept(blocks))
+        .isInstanceOf(InvalidBlockException.class);
+
+    assertChainHeadIs(setupUtil, blocks.get(3));
+    assertThat(setupUtil.getBlockchain().contains(invalidBlock.getHash())).isFalse();
+  }
+
+  @Test
+  public void shouldLookUpAncestorHashesThroughPendingBlock() {
+    final BlockchainSetupUtil<Void> setupUtil = BlockchainSetupUtil.forUpgradedFork();
+    final List<Block> blocks = setupUtil.getBlocks();
+    final Map<Long, Hash> grandparentHashes = new HashMap<>();
+
+    final ProtocolSchedule<Void> protocolSchedule =
+        interceptingBlockProcessing(
+            setupUtil.getProtocolSchedule(),
+            blockProcessor ->
+                (blockchain, worldState, header, transactions, ommers) -> {
+                  grandparentHashes.put(
+                      header.getNumber(),
+                      new BlockHashLookup(header, blockchain).getBlockHash(header.getNumber() - 2));
+                  return blockProcessor.processBlock(
+                      blockchain, worldState, header, transactions, ommers);
+                });
+
+    createImportBlockStep(setupUtil, protocolSchedule).accept(blocks);
+
+    assertChainHeadIs(setupUtil, last(blocks));
+    // Block N + 1 is executed before block N is appended, so BLOCKHASH(N - 1) has to go through
+    // the header of the pending block N.
+    for (final Block block : blocks) {
+      final long number = block.getHeader().getNumber();
+      if (number >= 2) {
+        assertThat(grandparentHashes.get(number)).isEqualTo(blocks.get((int) number - 2).getHash());
+      }
+    }
+  }
+
+  @Test
+  public void shouldPropagateUnsupportedOperationsFromBlockProcessing() {
+    final BlockchainSetupUtil<Void> setupUtil = BlockchainSetupUtil.forUpgradedFork();
+    final UnsupportedOperationException error = new UnsupportedOperationException();
+    final ProtocolSchedule<Void> protocolSchedule =
+        interceptingBlockProcessing(
+            setupUtil.getProtocolSchedule(),
+            blockProcessor ->
+                (blockchain, worldState, header, transactions, ommers) -> {
+                  throw error;
+                });
+
+    assertThatThrownBy(
+            () -> createImportBlockStep(setupUtil, protocolSchedule).accept(setupUtil.getBlocks()))
+        .isSameAs(error);
+  }
+
+  private PipelinedFullImportBlockStep<Void> createImportBlockStep(
+      final BlockchainSetupUtil<Void> setupUtil) {
+    return createImportBlockStep(setupUtil, setupUtil.getProtocolSchedule());
+  }
+
+  private PipelinedFullImportBlockStep<Void> createImportBlockStep(
+      final BlockchainSetupUtil<Void> setupUtil, final ProtocolSchedule<Void> protocolSchedule) {
+    final EthContext ethContext = mock(EthContext.class);
+    when(ethContext.getScheduler()).thenReturn(setupUtil.getScheduler());
+    return new PipelinedFullImportBlockStep<>(
+        protocolSchedule, setupUtil.getProtocolContext(), ethContext);
+  }
+
+  @SuppressWarnings("unchecked")
+  private ProtocolSchedule<Void> interceptingBlockProcessing(
+      final ProtocolSchedule<Void> protocolSchedule,
+      final UnaryOperator<BlockProcessor> interceptor) {
+    final Map<ProtocolSpec<Void>, ProtocolSpec<Void>> interceptingSpecs = new HashMap<>();
+    final ProtocolSchedule<Void> interceptingSchedule = mock(ProtocolSchedule.class);
+    when(interceptingSchedule.getByBlockNumber(anyLong()))
+        .thenAnswer(
+            invocation ->
+                interceptingSpecs.computeIfAbsent(
+                    protocolSchedule.getByBlockNumber(invocation.getArgument(0)),
+                    protocolSpec -> {
+                      final BlockProcessor blockProcessor = protocolSpec.getBlockProcessor();
+                      final BlockProcessor intercepted = interceptor.apply(blockProcessor);
+                      final ProtocolSpec<Void> interceptingSpec = spy(protocolSpec);
+                      doReturn(intercepting(blockProcessor, intercepted))
+                          .when(interceptingSpec)
+                          .getBlockProcessor();
+                      return interceptingSpec;
+                    }));
+    return interceptingSchedule;
+  }
+
+  private static BlockProcessor intercepting(
+      final BlockProcessor blockProcessor, final BlockProcessor intercepted) {
+    return new BlockProcessor() {
+      @Override
+      public Result processBlock(
+          final Blockchain blockchain,
+          final MutableWorldState worldState,
+          final BlockHeader blockHeader,
+          final List<Transaction> transactions,
+          final List<BlockHeader> ommers) {
+        return intercepted.processBlock(blockchain, worldState, blockHeader, transactions, ommers);
+      }
+
+      @Override
+      public boolean supportsLayeredWorldState() {
+        return blockProcessor.supportsLayeredWorldState();
+      }
+    };
+  }
+
+  private void assertChainHeadIs(final BlockchainSetupUtil<Void> setupUtil, final Block block) {
+    final MutableBlockchain blockchain = setupUtil.getBlockchain();
+    assertThat(blockchain.getChainHeadHash()).isEqualTo(block.getHash());
+    assertThat(setupUtil.getWorldArchive().isWorldStateAvailable(block.getHeader().getStateRoot()))
+        .isTrue();
+  }
+
+  private Block withInvalidStateRoot(final Block block) {
+    final BlockHeader header =
+        BlockHeaderBuilder.fromHeader(block.getHeader())
+            .stateRoot(Hash.EMPTY_TRIE_HASH)
+            .blockHeaderFunctions(new MainnetBlockHeaderFunctions())
+            .buildBlockHeader();
+    return new Block(header, block.getBody());
+  }
+
+  private static Block last(final List<Block> blocks) {
+    return blocks.get(blocks.size() - 1);
+  }
+}
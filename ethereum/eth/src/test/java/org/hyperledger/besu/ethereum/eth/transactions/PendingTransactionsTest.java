@@ -34,6 +34,9 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.Lists;
 import org.junit.Test;
@@ -108,7 +111,7 @@ public class PendingTransactionsTest {
 
   @Test
   public void shouldDropOldestTransactionWhenLimitExceeded() {
-    final Transaction oldestTransaction = createTransaction(0);
+    final Transaction oldestTransaction = transactionWithNonceAndSender(0, KEYS2);
     transactions.addRemoteTransaction(oldestTransaction);
     for (int i = 1; i < MAX_TRANSACTIONS; i++) {
       transactions.addRemoteTransaction(createTransaction(i));
@@ -122,6 +125,52 @@ public class PendingTransactionsTest {
     assertThat(metricsSystem.getCounterValue(REMOVED_COUNTER, REMOTE, DROPPED)).isEqualTo(1);
   }
 
+  @Test
+  public void shouldDropHighestNonceTransactionOfLowestGasPriceSenderWhenLimitExceeded() {
+    final Transaction sender1Head = transactionWithNonceSenderAndGasPrice(0, KEYS1, 10);
+    final Transaction cheapTransaction = transactionWithNonceSenderAndGasPrice(1, KEYS1, 1);
+    final Transaction sender1Tail = transactionWithNonceSenderAndGasPrice(2, KEYS1, 10);
+    transactions.addRemoteTransaction(sender1Head);
+    transactions.addRemoteTransaction(cheapTransaction);
+    transactions.addRemoteTransaction(sender1Tail);
+    for (int i = 0; i < MAX_TRANSACTIONS - 3; i++) {
+      transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(i, KEYS2, 10));
+    }
+    assertThat(transactions.size()).isEqualTo(MAX_TRANSACTIONS);
+
+    final Transaction sender2Tail =
+        transactionWithNonceSenderAndGasPrice(MAX_TRANSACTIONS - 3, KEYS2, 10);
+    transactions.addRemoteTransaction(sender2Tail);
+
+    assertThat(transactions.size()).isEqualTo(MAX_TRANSACTIONS);
+    assertTransactionNotPending(sender1Tail);
+    assertTransactionPending(sender1Head);
+    assertTransactionPending(cheapTransaction);
+    assertTransactionPending(sender2Tail);
+    // No nonce gap is left behind for the sender of the cheapest transaction.
+    assertMaximumNonceForSender(sender1Head.getSender(), 2);
+  }
+
+  @Test
+  public void shouldNotDropLocalTransactionOfLowestGasPriceSenderWhenLimitExceeded() {
+    final Transaction cheapTransaction = transactionWithNonceSenderAndGasPrice(0, KEYS1, 1);
+    final Transaction localTransaction = transactionWithNonceSenderAndGasPrice(1, KEYS1, 10);
+    transactions.addRemoteTransaction(cheapTransaction);
+    transactions.addLocalTransaction(localTransaction);
+    for (int i = 0; i < MAX_TRANSACTIONS - 2; i++) {
+      transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(i, KEYS2, 10));
+    }
+    assertThat(transactions.size()).isEqualTo(MAX_TRANSACTIONS);
+
+    transactions.addRemoteTransaction(
+        transactionWithNonceSenderAndGasPrice(MAX_TRANSACTIONS - 2, KEYS2, 10));
+
+    assertThat(transactions.size()).isEqualTo(MAX_TRANSACTIONS);
+    assertTransactionPending(localTransaction);
+    assertTransactionNotPending(cheapTransaction);
+    assertThat(metricsSystem.getCounterValue(REMOVED_COUNTER, LOCAL, DROPPED)).isZero();
+  }
+
   @Test
   public void shouldHandleMaximumTransactionLimitCorrectlyWhenSameTransactionAddedMultipleTimes() {
     transactions.addRemoteTransaction(createTransaction(0));
@@ -154,11 +203,14 @@ public class PendingTransactionsTest {
     final Transaction firstLocalTransaction = createTransaction(0);
     transactions.addLocalTransaction(firstLocalTransaction);
 
-    for (int i = 1; i <= MAX_TRANSACTIONS; i++) {
+    for (int i = 1; i < MAX_TRANSACTIONS; i++) {
       transactions.addLocalTransaction(createTransaction(i));
     }
+    final Transaction lastLocalTransaction = createTransaction(MAX_TRANSACTIONS);
+    transactions.addLocalTransaction(lastLocalTransaction);
     assertThat(transactions.size()).isEqualTo(MAX_TRANSACTIONS);
-    assertTransactionNotPending(firstLocalTransaction);
+    assertTransactionPending(firstLocalTransaction);
+    assertTransactionNotPending(lastLocalTransaction);
   }
 
   @Test
@@ -278,6 +330,36 @@ public class PendingTransactionsTest {
     assertThat(parsedTransactions.get(1)).isEqualTo(transaction1);
   }
 
+  @Test
+  public void shouldAdmitTransactionsWhileSelectionIsInProgress() throws Exception {
+    transactions.addRemoteTransaction(transaction1);
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final List<Transaction> parsedTransactions = Lists.newArrayList();
+      final List<Boolean> admittedDuringSelection = Lists.newArrayList();
+      transactions.selectTransactions(
+          transaction -> {
+            parsedTransactions.add(transaction);
+            try {
+              admittedDuringSelection.add(
+                  executor
+                      .submit(() -> transactions.addRemoteTransaction(transaction2))
+                      .get(5, TimeUnit.SECONDS));
+            } catch (final Exception e) {
+              throw new AssertionError("Transaction admission blocked by selection", e);
+            }
+            return PendingTransactions.TransactionSelectionResult.CONTINUE;
+          });
+
+      assertThat(admittedDuringSelection).containsExactly(true);
+      // Only later nonces are promoted during selection so the new transaction waits a block
+      assertThat(parsedTransactions).containsExactly(transaction1);
+      assertTransactionPending(transaction2);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   public void shouldNotSelectReplacedTransaction() {
     final Transaction transaction1 = transactionWithNonceSenderAndGasPrice(1, KEYS1, 1);
@@ -517,6 +599,44 @@ public class PendingTransactionsTest {
         .containsExactly(transaction4, transaction1, transaction2, transaction3);
   }
 
+  @Test
+  public void shouldSelectSenderHeadsInGasPriceOrder() {
+    final Transaction expensiveTransaction = transactionWithNonceSenderAndGasPrice(0, KEYS1, 50);
+    final Transaction cheapTransaction = transactionWithNonceSenderAndGasPrice(0, KEYS2, 10);
+
+    transactions.addRemoteTransaction(expensiveTransaction);
+    transactions.addRemoteTransaction(cheapTransaction);
+
+    final List<Transaction> iterationOrder = new ArrayList<>();
+    transactions.selectTransactions(
+        transaction -> {
+          iterationOrder.add(transaction);
+          return PendingTransactions.TransactionSelectionResult.CONTINUE;
+        });
+
+    assertThat(iterationOrder).containsExactly(expensiveTransaction, cheapTransaction);
+  }
+
+  @Test
+  public void shouldPromoteNextNonceOnlyAfterSenderHeadIsSelected() {
+    final Transaction sender1Head = transactionWithNonceSenderAndGasPrice(0, KEYS1, 1);
+    final Transaction sender1Next = transactionWithNonceSenderAndGasPrice(1, KEYS1, 100);
+    final Transaction sender2Head = transactionWithNonceSenderAndGasPrice(0, KEYS2, 50);
+
+    transactions.addRemoteTransaction(sender1Next);
+    transactions.addRemoteTransaction(sender1Head);
+    transactions.addRemoteTransaction(sender2Head);
+
+    final List<Transaction> iterationOrder = new ArrayList<>();
+    transactions.selectTransactions(
+        transaction -> {
+          iterationOrder.add(transaction);
+          return PendingTransactions.TransactionSelectionResult.CONTINUE;
+        });
+
+    assertThat(iterationOrder).containsExactly(sender2Head, sender1Head, sender1Next);
+  }
+
   private void assertMaximumNonceForSender(final Address sender1, final int i) {
     assertThat(transactions.getNextNonceForSender(sender1)).isEqualTo(OptionalLong.of(i));
   }
@@ -0,0 +1,62 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.core.Hash;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class SeenHashFilterTest {
+
+  private final SeenHashFilter filter = new SeenHashFilter(100);
+
+  @Test
+  public void shouldContainAddedHashes() {
+    final Hash hash = hashOf(42);
+
+    assertThat(filter.mightContain(hash)).isFalse();
+    filter.add(hash);
+    assertThat(filter.mightContain(hash)).isTrue();
+  }
+
+  @Test
+  public void shouldRememberHashesForOneFullGenerationAfterTheirOwn() {
+    final Hash first = hashOf(0);
+    filter.add(first);
+    for (int i = 1; i < 100; i++) {
+      filter.add(hashOf(i));
+    }
+    // The first generation has rotated out of current but is still retained as previous.
+    assertThat(filter.mightContain(first)).isTrue();
+  }
+
+  @Test
+  public void shouldForgetHashesAfterTwoGenerations() {
+    final Hash first = hashOf(0);
+    filter.add(first);
+    for (int i = 1; i < 250; i++) {
+      filter.add(hashOf(i));
+    }
+
+    assertThat(filter.mightContain(first)).isFalse();
+  }
+
+  private static Hash hashOf(final int value) {
+    return Hash.hash(Bytes.ofUnsignedInt(value));
+  }
+}
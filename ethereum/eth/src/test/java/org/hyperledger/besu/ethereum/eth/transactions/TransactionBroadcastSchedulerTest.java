@@ -0,0 +1,86 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+
+import java.time.Duration;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TransactionBroadcastSchedulerTest {
+
+  private static final Duration BATCH_INTERVAL = Duration.ofMillis(200);
+  private static final int BATCH_SIZE = 10;
+
+  private final EthScheduler ethScheduler = mock(EthScheduler.class);
+  private final Runnable sendQueuedTransactions = mock(Runnable.class);
+  private final TransactionBroadcastScheduler broadcastScheduler =
+      new TransactionBroadcastScheduler(
+          ethScheduler, BATCH_INTERVAL, BATCH_SIZE, sendQueuedTransactions);
+
+  @Test
+  public void shouldSendImmediatelyWhenAPeerHasAFullBatch() {
+    broadcastScheduler.onTransactionsQueued(BATCH_SIZE);
+
+    verify(ethScheduler).scheduleSyncWorkerTask(sendQueuedTransactions);
+    verify(ethScheduler, never()).scheduleFutureTask(any(Runnable.class), any());
+  }
+
+  @Test
+  public void shouldScheduleASingleFlushForPartialBatches() {
+    broadcastScheduler.onTransactionsQueued(1);
+    broadcastScheduler.onTransactionsQueued(2);
+    broadcastScheduler.onTransactionsQueued(3);
+
+    verify(ethScheduler, times(1)).scheduleFutureTask(any(Runnable.class), eq(BATCH_INTERVAL));
+    verify(ethScheduler, never()).scheduleSyncWorkerTask(any(Runnable.class));
+  }
+
+  @Test
+  public void shouldScheduleANewFlushOnceThePreviousOneHasRun() {
+    broadcastScheduler.onTransactionsQueued(1);
+    final ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+    verify(ethScheduler).scheduleFutureTask(flush.capture(), eq(BATCH_INTERVAL));
+
+    flush.getValue().run();
+    verify(ethScheduler).scheduleSyncWorkerTask(sendQueuedTransactions);
+
+    broadcastScheduler.onTransactionsQueued(1);
+    verify(ethScheduler, times(2)).scheduleFutureTask(any(Runnable.class), eq(BATCH_INTERVAL));
+  }
+
+  @Test
+  public void shouldSendImmediatelyWhenBatchIntervalIsZero() {
+    final TransactionBroadcastScheduler unbatched =
+        new TransactionBroadcastScheduler(
+            ethScheduler, Duration.ZERO, BATCH_SIZE, sendQueuedTransactions);
+
+    unbatched.onTransactionsQueued(1);
+
+    verify(ethScheduler).scheduleSyncWorkerTask(sendQueuedTransactions);
+    verify(ethScheduler, never()).scheduleFutureTask(any(Runnable.class), any());
+    verifyZeroInteractions(sendQueuedTransactions);
+  }
+}
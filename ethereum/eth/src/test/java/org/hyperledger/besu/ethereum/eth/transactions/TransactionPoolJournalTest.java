@@ -0,0 +1,190 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.testutil.TestClock;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TransactionPoolJournalTest {
+
+  @Rule public final TemporaryFolder tempDirRule = new TemporaryFolder();
+
+  private final BlockDataGenerator generator = new BlockDataGenerator();
+  private final Transaction localTransaction1 = generator.transaction();
+  private final Transaction localTransaction2 = generator.transaction();
+  private final Transaction remoteTransaction = generator.transaction();
+
+  private final PendingTransactions pendingTransactions = createPendingTransactions();
+  private final TransactionPool transactionPool = mock(TransactionPool.class);
+  private final TransactionPool restoredTransactionPool = mock(TransactionPool.class);
+  private Path journalFile;
+
+  @Before
+  public void setUp() {
+    journalFile = tempDirRule.getRoot().toPath().resolve(TransactionPoolJournal.JOURNAL_FILE_NAME);
+    when(transactionPool.getPendingTransactions()).thenReturn(pendingTransactions);
+    when(restoredTransactionPool.getPendingTransactions())
+        .thenReturn(createPendingTransactions());
+  }
+
+  @Test
+  public void shouldRestoreLocalTransactionsFromJournal() throws IOException {
+    pendingTransactions.addLocalTransaction(localTransaction1);
+    pendingTransactions.addLocalTransaction(localTransaction2);
+    pendingTransactions.addRemoteTransaction(remoteTransaction);
+    final TransactionPoolJournal journal =
+        new TransactionPoolJournal(journalFile, transactionPool, false);
+    journal.start();
+    journal.close();
+
+    final TransactionPoolJournal restoredJournal =
+        new TransactionPoolJournal(journalFile, restoredTransactionPool, false);
+    restoredJournal.start();
+
+    verify(restoredTransactionPool).addLocalTransaction(localTransaction1);
+    verify(restoredTransactionPool).addLocalTransaction(localTransaction2);
+    verify(restoredTransactionPool, never()).addLocalTransaction(remoteTransaction);
+    verify(restoredTransactionPool).addRemoteTransactions(emptyList());
+    restoredJournal.close();
+  }
+
+  @Test
+  public void shouldRestoreRemoteTransactionsWhenJournalingThem() throws IOException {
+    pendingTransactions.addRemoteTransaction(remoteTransaction);
+    final TransactionPoolJournal journal =
+        new TransactionPoolJournal(journalFile, transactionPool, true);
+    journal.start();
+    journal.close();
+
+    final TransactionPoolJournal restoredJournal =
+        new TransactionPoolJournal(journalFile, restoredTransactionPool, true);
+    restoredJournal.start();
+
+    verify(restoredTransactionPool).addRemoteTransactions(singletonList(remoteTransaction));
+    verify(restoredTransactionPool, never()).addLocalTransaction(any());
+    restoredJournal.close();
+  }
+
+  @Test
+  public void shouldAppendTransactionsAddedAfterStart() throws IOException {
+    final TransactionPoolJournal journal =
+        new TransactionPoolJournal(journalFile, transactionPool, false);
+    journal.start();
+    verify(transactionPool).subscribePendingTransactions(journal);
+
+    pendingTransactions.addLocalTransaction(localTransaction1);
+    journal.onTransactionAdded(localTransaction1);
+    Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> Files.size(journalFile) > 0);
+
+    final TransactionPoolJournal restoredJournal =
+        new TransactionPoolJournal(journalFile, restoredTransactionPool, false);
+    restoredJournal.start();
+
+    verify(restoredTransactionPool).addLocalTransaction(localTransaction1);
+    restoredJournal.close();
+    journal.close();
+  }
+
+  @Test
+  public void shouldRestoreEntriesPrecedingATruncatedEntry() throws IOException {
+    pendingTransactions.addLocalTransaction(localTransaction1);
+    final TransactionPoolJournal journal =
+        new TransactionPoolJournal(journalFile, transactionPool, false);
+    journal.start();
+    journal.close();
+    final byte[] journalBytes = Files.readAllBytes(journalFile);
+    final byte[] truncated = Arrays.copyOf(journalBytes, journalBytes.length * 2 - 10);
+    System.arraycopy(journalBytes, 0, truncated, journalBytes.length, journalBytes.length - 10);
+    Files.write(journalFile, truncated);
+
+    final TransactionPoolJournal restoredJournal =
+        new TransactionPoolJournal(journalFile, restoredTransactionPool, false);
+    restoredJournal.start();
+
+    verify(restoredTransactionPool).addLocalTransaction(localTransaction1);
+    restoredJournal.close();
+  }
+
+  @Test
+  public void shouldRestoreEntriesPrecedingAnUndecodableEntry() throws IOException {
+    pendingTransactions.addLocalTransaction(localTransaction1);
+    final TransactionPoolJournal journal =
+        new TransactionPoolJournal(journalFile, transactionPool, false);
+    journal.start();
+    journal.close();
+    final Bytes unsupportedSignatureEntry =
+        RLP.encode(
+            out -> {
+              out.startList();
+              out.writeIntScalar(1);
+              out.startList();
+              out.writeLongScalar(0);
+              out.writeUInt256Scalar(UInt256.ONE);
+              out.writeLongScalar(21_000);
+              out.writeBytes(Bytes.EMPTY);
+              out.writeUInt256Scalar(UInt256.ZERO);
+              out.writeBytes(Bytes.EMPTY);
+              out.writeBigIntegerScalar(BigInteger.valueOf(5));
+              out.writeUInt256Scalar(UInt256.ONE);
+              out.writeUInt256Scalar(UInt256.ONE);
+              out.endList();
+              out.endList();
+            });
+    Files.write(journalFile, unsupportedSignatureEntry.toArrayUnsafe(), StandardOpenOption.APPEND);
+
+    final TransactionPoolJournal restoredJournal =
+        new TransactionPoolJournal(journalFile, restoredTransactionPool, false);
+    restoredJournal.start();
+
+    verify(restoredTransactionPool).addLocalTransaction(localTransaction1);
+    restoredJournal.close();
+  }
+
+  private static PendingTransactions createPendingTransactions() {
+    return new PendingTransactions(
+        TransactionPoolConfiguration.DEFAULT_TX_RETENTION_HOURS,
+        100,
+        100,
+        TestClock.fixed(),
+        new NoOpMetricsSystem());
+  }
+}
@@ -30,6 +30,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -49,10 +50,12 @@ import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.core.TransactionTestFixture;
 import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.eth.manager.DeterministicEthScheduler;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeers;
 import org.hyperledger.besu.ethereum.eth.manager.EthProtocolManager;
 import org.hyperledger.besu.ethereum.eth.manager.EthProtocolManagerTestUtil;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.eth.manager.RespondingEthPeer;
 import org.hyperledger.besu.ethereum.eth.sync.state.SyncState;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
@@ -69,7 +72,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
+import com.google.common.collect.ImmutableSet;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -125,6 +130,7 @@ public class TransactionPoolTest {
     ethContext = mock(EthContext.class);
     EthPeers ethPeers = mock(EthPeers.class);
     when(ethContext.getEthPeers()).thenReturn(ethPeers);
+    when(ethContext.getScheduler()).thenReturn(new DeterministicEthScheduler());
     peerTransactionTracker = mock(PeerTransactionTracker.class);
     peerPendingTransactionTracker = mock(PeerPendingTransactionTracker.class);
     transactionPool =
@@ -312,6 +318,35 @@ public class TransactionPoolTest {
     verify(batchAddedListener).onTransactionsAdded(singleton(transaction2));
   }
 
+  @Test
+  public void shouldValidateRemoteTransactionsOnCallingThreadWhenValidationPoolIsFull() {
+    final EthScheduler ethScheduler = mock(EthScheduler.class);
+    when(ethScheduler.scheduleTxValidationTask(any())).thenThrow(new RejectedExecutionException());
+    when(ethContext.getScheduler()).thenReturn(ethScheduler);
+    final TransactionPool transactionPool =
+        new TransactionPool(
+            transactions,
+            protocolSchedule,
+            protocolContext,
+            batchAddedListener,
+            pendingBatchAddedListener,
+            syncState,
+            ethContext,
+            peerTransactionTracker,
+            peerPendingTransactionTracker,
+            Wei.ZERO,
+            metricsSystem);
+    givenTransactionIsValid(transaction2);
+    when(transactionValidator.validate(eq(transaction1)))
+        .thenReturn(ValidationResult.invalid(NONCE_TOO_LOW));
+
+    transactionPool.addRemoteTransactions(asList(transaction1, transaction2));
+
+    assertTransactionNotPending(transaction1);
+    assertTransactionPending(transaction2);
+    verify(batchAddedListener).onTransactionsAdded(singleton(transaction2));
+  }
+
   @Test
   public void shouldNotAddRemoteTransactionsThatAreInvalidAccordingToStateDependentChecks() {
     givenTransactionIsValid(transaction2);
@@ -406,6 +441,36 @@ public class TransactionPoolTest {
     verifyNoMoreInteractions(pendingTransactions);
   }
 
+  @Test
+  public void shouldValidateTransactionRepeatedWithinBatchOnlyOnce() {
+    givenTransactionIsValid(transaction1);
+
+    transactionPool.addRemoteTransactions(asList(transaction1, transaction1));
+
+    assertTransactionPending(transaction1);
+    verify(transactionValidator, times(1)).validate(transaction1);
+    verify(batchAddedListener).onTransactionsAdded(singleton(transaction1));
+  }
+
+  @Test
+  public void shouldAddAllValidRemoteTransactionsFromBatchToPendingTransactions() {
+    final TransactionTestFixture builder = new TransactionTestFixture();
+    final Transaction transaction1 = builder.nonce(1).createTransaction(KEY_PAIR1);
+    final Transaction transaction2 = builder.nonce(2).createTransaction(KEY_PAIR1);
+    final Transaction transaction3 = builder.nonce(1).createTransaction(KeyPair.generate());
+    givenTransactionIsValid(transaction1);
+    givenTransactionIsValid(transaction2);
+    givenTransactionIsValid(transaction3);
+
+    transactionPool.addRemoteTransactions(asList(transaction1, transaction2, transaction3));
+
+    assertTransactionPending(transaction1);
+    assertTransactionPending(transaction2);
+    assertTransactionPending(transaction3);
+    verify(batchAddedListener)
+        .onTransactionsAdded(ImmutableSet.of(transaction1, transaction2, transaction3));
+  }
+
   @Test
   public void shouldNotNotifyBatchListenerWhenRemoteTransactionDoesNotReplaceExisting() {
     final TransactionTestFixture builder = new TransactionTestFixture();
@@ -28,6 +28,7 @@ import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.messages.EthPV62;
 import org.hyperledger.besu.ethereum.eth.messages.TransactionsMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+import org.hyperledger.besu.metrics.StubMetricsSystem;
 
 import java.util.List;
 import java.util.Set;
@@ -46,9 +47,10 @@ public class TransactionsMessageSenderTest {
   private final Transaction transaction2 = generator.transaction();
   private final Transaction transaction3 = generator.transaction();
 
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
   private final PeerTransactionTracker transactionTracker = new PeerTransactionTracker();
   private final TransactionsMessageSender messageSender =
-      new TransactionsMessageSender(transactionTracker);
+      new TransactionsMessageSender(transactionTracker, metricsSystem);
 
   @Test
   public void shouldSendTransactionsToEachPeer() throws Exception {
@@ -92,6 +94,25 @@ public class TransactionsMessageSenderTest {
     assertThat(Sets.union(firstBatch, secondBatch)).isEqualTo(transactions);
   }
 
+  @Test
+  public void shouldRecordMessagesAndBytesSent() throws Exception {
+    transactionTracker.addToPeerSendQueue(peer1, transaction1);
+    transactionTracker.addToPeerSendQueue(peer2, transaction2);
+
+    messageSender.sendTransactionsToPeers();
+
+    final ArgumentCaptor<MessageData> peer1Message = ArgumentCaptor.forClass(MessageData.class);
+    final ArgumentCaptor<MessageData> peer2Message = ArgumentCaptor.forClass(MessageData.class);
+    verify(peer1).send(peer1Message.capture());
+    verify(peer2).send(peer2Message.capture());
+
+    assertThat(
+            metricsSystem.getCounterValue("transaction_broadcast_messages_total", "transactions"))
+        .isEqualTo(2);
+    assertThat(metricsSystem.getCounterValue("transaction_broadcast_bytes_total", "transactions"))
+        .isEqualTo(peer1Message.getValue().getSize() + peer2Message.getValue().getSize());
+  }
+
   private MessageData transactionsMessageContaining(final Transaction... transactions) {
     return argThat(
         message -> {
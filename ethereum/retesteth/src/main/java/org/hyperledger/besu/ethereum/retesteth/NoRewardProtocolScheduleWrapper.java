@@ -24,6 +24,7 @@ import org.hyperledger.besu.ethereum.mainnet.MainnetBlockImporter;
 import org.hyperledger.besu.ethereum.mainnet.MainnetBlockProcessor;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
+import org.hyperledger.besu.ethereum.vm.OperationTracer;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.math.BigInteger;
@@ -91,4 +92,9 @@ public class NoRewardProtocolScheduleWrapper<C> implements ProtocolSchedule<C> {
       final WorldStateArchive publicWorldStateArchive) {
     delegate.setPublicWorldStateArchiveForPrivacyBlockProcessor(publicWorldStateArchive);
   }
+
+  @Override
+  public void setBlockProcessingOperationTracer(final OperationTracer operationTracer) {
+    delegate.setBlockProcessingOperationTracer(operationTracer);
+  }
 }
@@ -42,8 +42,8 @@ class BranchNode<V> implements Node<V> {
   private final Optional<V> value;
   private final NodeFactory<V> nodeFactory;
   private final Function<V, Bytes> valueSerializer;
-  private WeakReference<Bytes> rlp;
-  private SoftReference<Bytes32> hash;
+  private volatile WeakReference<Bytes> rlp;
+  private volatile SoftReference<Bytes32> hash;
   private boolean dirty = false;
 
   BranchNode(
@@ -32,8 +32,8 @@ class ExtensionNode<V> implements Node<V> {
   private final Bytes path;
   private final Node<V> child;
   private final NodeFactory<V> nodeFactory;
-  private WeakReference<Bytes> rlp;
-  private SoftReference<Bytes32> hash;
+  private volatile WeakReference<Bytes> rlp;
+  private volatile SoftReference<Bytes32> hash;
   private boolean dirty = false;
 
   ExtensionNode(final Bytes path, final Node<V> child, final NodeFactory<V> nodeFactory) {
@@ -34,8 +34,8 @@ class LeafNode<V> implements Node<V> {
   private final V value;
   private final NodeFactory<V> nodeFactory;
   private final Function<V, Bytes> valueSerializer;
-  private WeakReference<Bytes> rlp;
-  private SoftReference<Bytes32> hash;
+  private volatile WeakReference<Bytes> rlp;
+  private volatile SoftReference<Bytes32> hash;
   private boolean dirty = false;
 
   LeafNode(
@@ -25,7 +25,7 @@ import org.apache.tuweni.bytes.Bytes32;
 class StoredNode<V> implements Node<V> {
   private final StoredNodeFactory<V> nodeFactory;
   private final Bytes32 hash;
-  private Node<V> loaded;
+  private volatile Node<V> loaded;
 
   StoredNode(final StoredNodeFactory<V> nodeFactory, final Bytes32 hash) {
     this.nodeFactory = nodeFactory;
@@ -100,15 +100,18 @@ class StoredNode<V> implements Node<V> {
   }
 
   private Node<V> load() {
-    if (loaded == null) {
-      loaded =
+    // Concurrent readers may both load the node, but always see a fully loaded one.
+    Node<V> node = loaded;
+    if (node == null) {
+      node =
           nodeFactory
               .retrieve(hash)
               .orElseThrow(
                   () -> new MerkleTrieException("Unable to load trie node value for hash " + hash));
+      loaded = node;
     }
 
-    return loaded;
+    return node;
   }
 
   @Override
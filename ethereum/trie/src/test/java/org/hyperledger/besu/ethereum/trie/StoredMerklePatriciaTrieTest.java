@@ -21,6 +21,7 @@ import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.apache.tuweni.bytes.Bytes;
@@ -120,4 +121,32 @@ public class StoredMerklePatriciaTrieTest extends AbstractMerklePatriciaTrieTest
     assertThat(trie.get(key2)).isEqualTo(Optional.of("value2"));
     assertThat(trie.get(key3)).isEqualTo(Optional.of("value3"));
   }
+
+  @Test
+  public void canBeReadWhileItsRootHashIsComputed() throws Exception {
+    for (int i = 0; i < 1000; i++) {
+      trie.put(Bytes.ofUnsignedInt(i), "value" + i);
+    }
+    trie.commit(merkleStorage::put);
+    final Bytes32 persistedRootHash = trie.getRootHash();
+
+    // Both tries start from stored nodes, which are loaded as they are read.
+    trie =
+        new StoredMerklePatriciaTrie<>(
+            merkleStorage::get, persistedRootHash, valueSerializer, valueDeserializer);
+    final MerklePatriciaTrie<Bytes, String> reference =
+        new StoredMerklePatriciaTrie<>(
+            merkleStorage::get, persistedRootHash, valueSerializer, valueDeserializer);
+    for (int i = 0; i < 1000; i += 2) {
+      trie.put(Bytes.ofUnsignedInt(i), "updated" + i);
+      reference.put(Bytes.ofUnsignedInt(i), "updated" + i);
+    }
+
+    final CompletableFuture<Bytes32> rootHash = CompletableFuture.supplyAsync(trie::getRootHash);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(trie.get(Bytes.ofUnsignedInt(i)))
+          .contains(i % 2 == 0 ? "updated" + i : "value" + i);
+    }
+    assertThat(rootHash.get()).isEqualTo(reference.getRootHash());
+  }
 }
@@ -34,6 +34,7 @@ public class MetricsConfiguration {
   private static final String DEFAULT_METRICS_PUSH_HOST = "127.0.0.1";
   public static final int DEFAULT_METRICS_PUSH_PORT = 9001;
   public static final Boolean DEFAULT_TIMERS_ENABLED = true;
+  public static final Boolean DEFAULT_HISTOGRAM_TIMERS_ENABLED = false;
 
   private final boolean enabled;
   private final int port;
@@ -47,6 +48,7 @@ public class MetricsConfiguration {
   private final String prometheusJob;
   private final List<String> hostsWhitelist;
   private final boolean timersEnabled;
+  private final boolean histogramTimersEnabled;
 
   public static Builder builder() {
     return new Builder();
@@ -63,7 +65,8 @@ public class MetricsConfiguration {
       final int pushInterval,
       final String prometheusJob,
       final List<String> hostsWhitelist,
-      final boolean timersEnabled) {
+      final boolean timersEnabled,
+      final boolean histogramTimersEnabled) {
     this.enabled = enabled;
     this.port = port;
     this.host = host;
@@ -75,6 +78,7 @@ public class MetricsConfiguration {
     this.prometheusJob = prometheusJob;
     this.hostsWhitelist = hostsWhitelist;
     this.timersEnabled = timersEnabled;
+    this.histogramTimersEnabled = histogramTimersEnabled;
   }
 
   public boolean isEnabled() {
@@ -129,6 +133,10 @@ public class MetricsConfiguration {
     return timersEnabled;
   }
 
+  public boolean isHistogramTimersEnabled() {
+    return histogramTimersEnabled;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
@@ -193,6 +201,7 @@ public class MetricsConfiguration {
     private String prometheusJob = "besu-client";
     private List<String> hostsWhitelist = Arrays.asList("localhost", "127.0.0.1");
     private boolean timersEnabled = DEFAULT_TIMERS_ENABLED;
+    private boolean histogramTimersEnabled = DEFAULT_HISTOGRAM_TIMERS_ENABLED;
 
     private Builder() {}
 
@@ -251,6 +260,11 @@ public class MetricsConfiguration {
       return this;
     }
 
+    public Builder histogramTimersEnabled(final boolean histogramTimersEnabled) {
+      this.histogramTimersEnabled = histogramTimersEnabled;
+      return this;
+    }
+
     public MetricsConfiguration build() {
       return new MetricsConfiguration(
           enabled,
@@ -263,7 +277,8 @@ public class MetricsConfiguration {
           pushInterval,
           prometheusJob,
           hostsWhitelist,
-          timersEnabled);
+          timersEnabled,
+          histogramTimersEnabled);
     }
   }
 }
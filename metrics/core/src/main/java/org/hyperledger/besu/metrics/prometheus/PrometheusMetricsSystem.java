@@ -42,6 +42,7 @@ import io.prometheus.client.Collector.MetricFamilySamples.Sample;
 import io.prometheus.client.Collector.Type;
 import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
 import io.prometheus.client.Summary;
 import io.prometheus.client.hotspot.BufferPoolsExports;
 import io.prometheus.client.hotspot.ClassLoadingExports;
@@ -52,6 +53,14 @@ import io.prometheus.client.hotspot.ThreadExports;
 
 public class PrometheusMetricsSystem implements ObservableMetricsSystem {
 
+  /**
+   * Bucket upper bounds, in seconds, used when timers are backed by histograms. They cover
+   * everything from sub-millisecond database reads up to multi-second block imports.
+   */
+  static final double[] TIMER_BUCKETS = {
+    0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+  };
+
   private final Map<MetricCategory, Collection<Collector>> collectors = new ConcurrentHashMap<>();
   private final CollectorRegistry registry = new CollectorRegistry(true);
   private final Map<String, LabelledMetric<org.hyperledger.besu.plugin.services.metrics.Counter>>
@@ -61,11 +70,20 @@ public class PrometheusMetricsSystem implements ObservableMetricsSystem {
 
   private final Set<MetricCategory> enabledCategories;
   private final boolean timersEnabled;
+  private final boolean histogramTimersEnabled;
 
   PrometheusMetricsSystem(
       final Set<MetricCategory> enabledCategories, final boolean timersEnabled) {
+    this(enabledCategories, timersEnabled, false);
+  }
+
+  PrometheusMetricsSystem(
+      final Set<MetricCategory> enabledCategories,
+      final boolean timersEnabled,
+      final boolean histogramTimersEnabled) {
     this.enabledCategories = ImmutableSet.copyOf(enabledCategories);
     this.timersEnabled = timersEnabled;
+    this.histogramTimersEnabled = histogramTimersEnabled;
   }
 
   public static ObservableMetricsSystem init(final MetricsConfiguration metricsConfiguration) {
@@ -74,7 +92,9 @@ public class PrometheusMetricsSystem implements ObservableMetricsSystem {
     }
     final PrometheusMetricsSystem metricsSystem =
         new PrometheusMetricsSystem(
-            metricsConfiguration.getMetricCategories(), metricsConfiguration.isTimersEnabled());
+            metricsConfiguration.getMetricCategories(),
+            metricsConfiguration.isTimersEnabled(),
+            metricsConfiguration.isHistogramTimersEnabled());
     if (metricsSystem.isCategoryEnabled(StandardMetricCategory.PROCESS)) {
       metricsSystem.collectors.put(
           StandardMetricCategory.PROCESS,
@@ -119,11 +139,40 @@ public class PrometheusMetricsSystem implements ObservableMetricsSystem {
       final String name,
       final String help,
       final String... labelNames) {
+    return createLabelledTimer(category, name, help, histogramTimersEnabled, labelNames);
+  }
+
+  @Override
+  public LabelledMetric<OperationTimer> createLabelledHistogramTimer(
+      final MetricCategory category,
+      final String name,
+      final String help,
+      final String... labelNames) {
+    return createLabelledTimer(category, name, help, true, labelNames);
+  }
+
+  private LabelledMetric<OperationTimer> createLabelledTimer(
+      final MetricCategory category,
+      final String name,
+      final String help,
+      final boolean histogram,
+      final String... labelNames) {
     final String metricName = convertToPrometheusName(category, name);
     return cachedTimers.computeIfAbsent(
         metricName,
         (k) -> {
           if (timersEnabled && isCategoryEnabled(category)) {
+            if (histogram) {
+              // Histogram buckets are lock-free adders, unlike the synchronized quantile estimator
+              // behind Summary, so they stay cheap on hot paths.
+              final Histogram histogramTimer =
+                  Histogram.build(metricName, help)
+                      .buckets(TIMER_BUCKETS)
+                      .labelNames(labelNames)
+                      .create();
+              addCollectorUnchecked(category, histogramTimer);
+              return new PrometheusHistogramTimer(histogramTimer);
+            }
             final Summary summary =
                 Summary.build(metricName, help)
                     .quantile(0.2, 0.02)
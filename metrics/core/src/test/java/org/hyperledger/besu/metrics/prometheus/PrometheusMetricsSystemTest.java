@@ -34,9 +34,12 @@ import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import com.google.common.collect.ImmutableSet;
+import io.prometheus.client.Collector;
 import org.junit.Test;
 
 public class PrometheusMetricsSystemTest {
@@ -157,6 +160,48 @@ public class PrometheusMetricsSystemTest {
             new Observation(RPC, "request", null, asList("method", "count")));
   }
 
+  @Test
+  public void shouldCreateHistogramObservationsFromTimerWhenHistogramTimersEnabled() {
+    final ObservableMetricsSystem metricsSystem =
+        new PrometheusMetricsSystem(DEFAULT_METRIC_CATEGORIES, true, true);
+    final LabelledMetric<OperationTimer> timer =
+        metricsSystem.createLabelledTimer(RPC, "request", "Some help", "methodName");
+
+    //noinspection EmptyTryBlock
+    try (final OperationTimer.TimingContext ignored = timer.labels("method").startTimer()) {}
+
+    final List<Observation> expected = new ArrayList<>();
+    for (final double bucket : PrometheusMetricsSystem.TIMER_BUCKETS) {
+      final String upperBound = Collector.doubleToGoString(bucket);
+      expected.add(new Observation(RPC, "request", null, asList("method", "bucket", upperBound)));
+    }
+    expected.add(new Observation(RPC, "request", null, asList("method", "bucket", "+Inf")));
+    expected.add(new Observation(RPC, "request", null, asList("method", "count")));
+    expected.add(new Observation(RPC, "request", null, asList("method", "sum")));
+
+    assertThat(metricsSystem.streamObservations())
+        .usingElementComparator(IGNORE_VALUES) // We don't know how long it will actually take.
+        .containsExactlyInAnyOrderElementsOf(expected);
+    assertThat(metricsSystem.streamObservations())
+        .contains(new Observation(RPC, "request", 1d, asList("method", "count")))
+        .contains(new Observation(RPC, "request", 1d, asList("method", "bucket", "+Inf")));
+  }
+
+  @Test
+  public void shouldCreateHistogramObservationsFromHistogramTimer() {
+    final ObservableMetricsSystem metricsSystem =
+        new PrometheusMetricsSystem(DEFAULT_METRIC_CATEGORIES, true);
+    final LabelledMetric<OperationTimer> timer =
+        metricsSystem.createLabelledHistogramTimer(RPC, "request", "Some help", "methodName");
+
+    //noinspection EmptyTryBlock
+    try (final OperationTimer.TimingContext ignored = timer.labels("method").startTimer()) {}
+
+    assertThat(metricsSystem.streamObservations())
+        .contains(new Observation(RPC, "request", 1d, asList("method", "count")))
+        .contains(new Observation(RPC, "request", 1d, asList("method", "bucket", "+Inf")));
+  }
+
   @Test
   public void shouldNotCreateObservationsFromTimerWhenTimersDisabled() {
     final ObservableMetricsSystem metricsSystem =
@@ -76,6 +76,24 @@ public interface MetricsSystem {
   LabelledMetric<OperationTimer> createLabelledTimer(
       MetricCategory category, String name, String help, String... labelNames);
 
+  /**
+   * Creates a Timer with assigned labels which records durations in fixed buckets rather than
+   * estimating quantiles, so that the distribution of durations can be aggregated and plotted.
+   *
+   * @param category The {@link MetricCategory} this timer is assigned to.
+   * @param name A name for this metric.
+   * @param help A human readable description of the metric.
+   * @param labelNames An array of labels to assign to the Timer.
+   * @return The created LabelledMetric instance.
+   */
+  default LabelledMetric<OperationTimer> createLabelledHistogramTimer(
+      final MetricCategory category,
+      final String name,
+      final String help,
+      final String... labelNames) {
+    return createLabelledTimer(category, name, help, labelNames);
+  }
+
   /**
    * Creates a gauge for displaying double vales. A gauge is a metric to report the current value.
    * The metric value may go up or down.
@@ -0,0 +1,84 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_LABELLED_2_COUNTER;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/** Measures the number of items per second that can be moved through a chain of stages. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PipelineBenchmark {
+
+  private static final int ITEM_COUNT = 1_000_000;
+
+  @Param({"1", "4", "8"})
+  public int stageCount;
+
+  @Param({"BLOCKING", "LOCK_FREE"})
+  public PipeType pipeType;
+
+  @Param({"1024"})
+  public int bufferSize;
+
+  private ExecutorService executorService;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    executorService = Executors.newCachedThreadPool();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ITEM_COUNT)
+  public long moveItemsThroughStages() throws Exception {
+    final AtomicLong total = new AtomicLong();
+    PipelineBuilder<Integer, Integer> builder =
+        PipelineBuilder.createPipelineFrom(
+            "source",
+            IntStream.range(0, ITEM_COUNT).iterator(),
+            bufferSize,
+            NO_OP_LABELLED_2_COUNTER,
+            pipeType);
+    for (int i = 0; i < stageCount; i++) {
+      builder = builder.thenProcess("stage" + i, Function.identity());
+    }
+    builder.andFinishWith("end", total::addAndGet).start(executorService).get();
+    return total.get();
+  }
+}
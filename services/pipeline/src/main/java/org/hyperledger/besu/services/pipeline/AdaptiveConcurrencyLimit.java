@@ -0,0 +1,147 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the number of operations an asynchronous pipeline stage has in progress, adapting the
+ * limit as operations complete using additive increase, multiplicative decrease.
+ *
+ * <p>Each operation that completes successfully without taking much longer than the recent average
+ * grows the limit by roughly one for every full window of operations, provided the stage was
+ * actually making use of the limit. An operation that fails, or takes more than twice the recent
+ * average, shrinks the limit by a quarter. Only operations started after the previous reduction
+ * can shrink the limit again, so a burst of slow responses to requests sent at the same time only
+ * counts once. Cancelled operations don't affect the limit.
+ *
+ * <p>The limit is always kept between the given minimum and maximum, so a limit with the same
+ * minimum and maximum never changes. A limit may be shared by successive pipelines so that what was
+ * learnt about the available capacity is kept when a pipeline is restarted.
+ */
+public class AdaptiveConcurrencyLimit {
+  private static final double BACKOFF_RATIO = 0.75;
+  private static final double LATENCY_TOLERANCE = 2.0;
+  private static final double LATENCY_SMOOTHING = 0.1;
+  private static final int MIN_LATENCY_SAMPLES = 10;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final LongSupplier nanoTime;
+  private final AtomicInteger inFlightCount = new AtomicInteger();
+
+  private volatile double limit;
+  private double averageLatencyNanos;
+  private int latencySamples;
+  private long lastReductionTime;
+
+  public AdaptiveConcurrencyLimit(final int minLimit, final int initialLimit, final int maxLimit) {
+    this(minLimit, initialLimit, maxLimit, System::nanoTime);
+  }
+
+  AdaptiveConcurrencyLimit(
+      final int minLimit, final int initialLimit, final int maxLimit, final LongSupplier nanoTime) {
+    checkArgument(minLimit > 0, "Minimum limit must be greater than 0");
+    checkArgument(maxLimit >= minLimit, "Maximum limit must not be less than minimum limit");
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.nanoTime = nanoTime;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    this.lastReductionTime = nanoTime.getAsLong();
+  }
+
+  /**
+   * Creates a limit which never changes.
+   *
+   * @param limit the maximum number of operations in progress.
+   * @return the fixed limit.
+   */
+  public static AdaptiveConcurrencyLimit fixed(final int limit) {
+    return new AdaptiveConcurrencyLimit(limit, limit, limit);
+  }
+
+  /**
+   * Returns the current maximum number of operations that may be in progress.
+   *
+   * @return the current limit.
+   */
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * Returns the number of operations currently in progress.
+   *
+   * @return the number of operations that have started but not yet completed.
+   */
+  public int getInFlightCount() {
+    return inFlightCount.get();
+  }
+
+  long operationStarted() {
+    inFlightCount.incrementAndGet();
+    return nanoTime.getAsLong();
+  }
+
+  void operationCancelled() {
+    inFlightCount.decrementAndGet();
+  }
+
+  synchronized void operationCompleted(final long startTime, final boolean succeeded) {
+    final int inFlightAtCompletion = inFlightCount.getAndDecrement();
+    if (minLimit == maxLimit) {
+      return;
+    }
+    final long now = nanoTime.getAsLong();
+    final long latency = now - startTime;
+    final boolean tooSlow =
+        latencySamples >= MIN_LATENCY_SAMPLES && latency > averageLatencyNanos * LATENCY_TOLERANCE;
+    recordLatency(latency);
+    if (!succeeded || tooSlow) {
+      if (startTime - lastReductionTime >= 0) {
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        lastReductionTime = now;
+      }
+    } else if (inFlightAtCompletion * 2 >= limit) {
+      limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+  }
+
+  private void recordLatency(final long latency) {
+    if (latencySamples == 0) {
+      averageLatencyNanos = latency;
+    } else {
+      averageLatencyNanos += (latency - averageLatencyNanos) * LATENCY_SMOOTHING;
+    }
+    latencySamples++;
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveConcurrencyLimit{"
+        + "limit="
+        + getLimit()
+        + ", inFlight="
+        + getInFlightCount()
+        + ", min="
+        + minLimit
+        + ", max="
+        + maxLimit
+        + '}';
+  }
+}
@@ -19,6 +19,7 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -34,30 +35,46 @@ class AsyncOperationProcessor<I, O> implements Processor<I, O> {
   private final List<CompletableFuture<O>> inProgress;
   private CompletableFuture<?> nextOutputAvailableFuture = completedFuture(null);
   private final boolean preserveOrder;
-  private final int maxConcurrency;
+  private final AdaptiveConcurrencyLimit concurrencyLimit;
 
   public AsyncOperationProcessor(
       final Function<I, CompletableFuture<O>> processor,
       final int maxConcurrency,
       final boolean preserveOrder) {
+    this(processor, AdaptiveConcurrencyLimit.fixed(maxConcurrency), preserveOrder);
+  }
+
+  public AsyncOperationProcessor(
+      final Function<I, CompletableFuture<O>> processor,
+      final AdaptiveConcurrencyLimit concurrencyLimit,
+      final boolean preserveOrder) {
     this.processor = processor;
-    this.maxConcurrency = maxConcurrency;
-    this.inProgress = new ArrayList<>(maxConcurrency);
+    this.concurrencyLimit = concurrencyLimit;
+    this.inProgress = new ArrayList<>(concurrencyLimit.getLimit());
     this.preserveOrder = preserveOrder;
   }
 
   @Override
   public void processNextInput(final ReadPipe<I> inputPipe, final WritePipe<O> outputPipe) {
-    if (inProgress.size() < maxConcurrency) {
+    if (inProgress.size() < concurrencyLimit.getLimit()) {
       final I value = inputPipe.get();
       if (value != null) {
         final CompletableFuture<O> future = processor.apply(value);
+        final long startTime = concurrencyLimit.operationStarted();
         // When the future completes, interrupt so if we're waiting for new input we wake up and
         // schedule the output.
         final Thread stageThread = Thread.currentThread();
         inProgress.add(future);
         updateNextOutputAvailableFuture();
-        future.whenComplete((result, error) -> stageThread.interrupt());
+        future.whenComplete(
+            (result, error) -> {
+              if (error instanceof CancellationException) {
+                concurrencyLimit.operationCancelled();
+              } else {
+                concurrencyLimit.operationCompleted(startTime, error == null);
+              }
+              stageThread.interrupt();
+            });
       }
       outputCompletedTasks(outputPipe);
     } else {
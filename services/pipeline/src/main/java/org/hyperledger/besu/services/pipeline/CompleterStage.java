@@ -14,6 +14,13 @@
  */
 package org.hyperledger.besu.services.pipeline;
 
+import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_OPERATION_TIMER;
+
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -21,25 +28,57 @@ class CompleterStage<T> implements Stage {
   private final ReadPipe<T> input;
   private final Consumer<T> completer;
   private final String name;
+  private final int maxBatchSize;
+  private final OperationTimer iterationTimer;
   private final CompletableFuture<?> future = new CompletableFuture<>();
 
   CompleterStage(final String name, final ReadPipe<T> input, final Consumer<T> completer) {
+    this(name, input, completer, 1, NO_OP_OPERATION_TIMER);
+  }
+
+  CompleterStage(
+      final String name,
+      final ReadPipe<T> input,
+      final Consumer<T> completer,
+      final int maxBatchSize,
+      final OperationTimer iterationTimer) {
     this.input = input;
     this.completer = completer;
     this.name = name;
+    this.maxBatchSize = maxBatchSize;
+    this.iterationTimer = iterationTimer;
   }
 
   @Override
   public void run() {
+    final List<T> batch = new ArrayList<>();
     while (input.hasMore()) {
-      final T value = input.get();
-      if (value != null) {
-        completer.accept(value);
+      try (final TimingContext ignored = iterationTimer.startTimer()) {
+        completeNextInput(batch);
       }
     }
     future.complete(null);
   }
 
+  private void completeNextInput(final List<T> batch) {
+    final T value = input.get();
+    if (value == null) {
+      return;
+    }
+    completer.accept(value);
+    if (maxBatchSize > 1) {
+      // Take the items already available in one go rather than one at a time.
+      input.drainTo(batch, maxBatchSize - 1);
+      for (final T item : batch) {
+        if (input.isAborted()) {
+          break;
+        }
+        completer.accept(item);
+      }
+      batch.clear();
+    }
+  }
+
   public CompletableFuture<?> getFuture() {
     return future;
   }
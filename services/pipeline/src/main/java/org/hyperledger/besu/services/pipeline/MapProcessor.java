@@ -14,21 +14,48 @@
  */
 package org.hyperledger.besu.services.pipeline;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 class MapProcessor<I, O> implements Processor<I, O> {
 
   private final Function<I, O> processor;
+  private final int maxBatchSize;
 
   public MapProcessor(final Function<I, O> processor) {
+    this(processor, 1);
+  }
+
+  /**
+   * Creates a processor which, after waiting for an item, also processes the items already
+   * available in its input pipe, up to the given number of items, and outputs them all at once.
+   *
+   * @param processor the function to apply to each item.
+   * @param maxBatchSize the maximum number of items to take from the input pipe at once.
+   */
+  public MapProcessor(final Function<I, O> processor, final int maxBatchSize) {
     this.processor = processor;
+    this.maxBatchSize = maxBatchSize;
   }
 
   @Override
   public void processNextInput(final ReadPipe<I> inputPipe, final WritePipe<O> outputPipe) {
     final I value = inputPipe.get();
-    if (value != null) {
+    if (value == null) {
+      return;
+    }
+    if (maxBatchSize == 1) {
       outputPipe.put(processor.apply(value));
+      return;
+    }
+    final List<I> values = new ArrayList<>();
+    values.add(value);
+    inputPipe.drainTo(values, maxBatchSize - 1);
+    final List<O> results = new ArrayList<>(values.size());
+    for (final I input : values) {
+      results.add(processor.apply(input));
     }
+    outputPipe.putAll(results);
   }
 }
@@ -16,8 +16,9 @@ package org.hyperledger.besu.services.pipeline;
 
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -50,7 +51,16 @@ public class Pipe<T> implements ReadPipe<T>, WritePipe<T> {
       final Counter inputCounter,
       final Counter outputCounter,
       final Counter abortedItemCounter) {
-    queue = new ArrayBlockingQueue<>(capacity);
+    this(capacity, inputCounter, outputCounter, abortedItemCounter, PipeType.BLOCKING);
+  }
+
+  public Pipe(
+      final int capacity,
+      final Counter inputCounter,
+      final Counter outputCounter,
+      final Counter abortedItemCounter,
+      final PipeType type) {
+    queue = type.createQueue(capacity);
     this.inputCounter = inputCounter;
     this.outputCounter = outputCounter;
     this.abortedItemCounter = abortedItemCounter;
@@ -124,15 +134,44 @@ public class Pipe<T> implements ReadPipe<T>, WritePipe<T> {
 
   @Override
   public void put(final T value) {
+    if (waitToAdd(value)) {
+      inputCounter.inc();
+    }
+  }
+
+  @Override
+  public void putAll(final Collection<T> values) {
+    final List<T> items = values instanceof List ? (List<T>) values : new ArrayList<>(values);
+    int added = 0;
+    while (added < items.size() && isOpen()) {
+      final int offered = offerAll(items, added);
+      if (offered > 0) {
+        added += offered;
+      } else if (waitToAdd(items.get(added))) {
+        added++;
+      } else {
+        break;
+      }
+    }
+    inputCounter.inc(added);
+  }
+
+  private int offerAll(final List<T> items, final int fromIndex) {
+    // A ring buffer claims the capacity for as many items as it can take at once, whereas a
+    // blocking queue would take its lock for each item anyway.
+    return queue instanceof RingBuffer ? ((RingBuffer<T>) queue).offerAll(items, fromIndex) : 0;
+  }
+
+  private boolean waitToAdd(final T value) {
     while (isOpen()) {
       try {
         if (queue.offer(value, 1, TimeUnit.SECONDS)) {
-          inputCounter.inc();
-          return;
+          return true;
         }
       } catch (final InterruptedException e) {
         LOG.trace("Interrupted while waiting to add to output", e);
       }
     }
+    return false;
   }
 }
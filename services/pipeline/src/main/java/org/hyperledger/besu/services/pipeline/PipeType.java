@@ -0,0 +1,41 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/** The kind of queue used to buffer items in a {@link Pipe}. */
+public enum PipeType {
+  /** A queue guarded by a lock, which signals waiting threads as soon as items can be moved. */
+  BLOCKING {
+    @Override
+    <T> BlockingQueue<T> createQueue(final int capacity) {
+      return new ArrayBlockingQueue<>(capacity);
+    }
+  },
+  /**
+   * A lock-free ring buffer, which removes contention between the stages on either side of busy
+   * pipes at the cost of polling for items when the pipe is idle.
+   */
+  LOCK_FREE {
+    @Override
+    <T> BlockingQueue<T> createQueue(final int capacity) {
+      return new RingBuffer<>(capacity);
+    }
+  };
+
+  abstract <T> BlockingQueue<T> createQueue(int capacity);
+}
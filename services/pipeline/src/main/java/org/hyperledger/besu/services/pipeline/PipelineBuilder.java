@@ -17,14 +17,18 @@ package org.hyperledger.besu.services.pipeline;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
+import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_OPERATION_TIMER;
 
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -51,6 +55,8 @@ public class PipelineBuilder<I, T> {
   private final ReadPipe<T> pipeEnd;
   private final int bufferSize;
   private final LabelledMetric<Counter> outputCounter;
+  private final PipeType pipeType;
+  private final Optional<LabelledMetric<OperationTimer>> stageTimer;
 
   public PipelineBuilder(
       final Pipe<I> inputPipe,
@@ -60,6 +66,28 @@ public class PipelineBuilder<I, T> {
       final ReadPipe<T> pipeEnd,
       final int bufferSize,
       final LabelledMetric<Counter> outputCounter) {
+    this(
+        inputPipe,
+        stages,
+        pipes,
+        lastStageName,
+        pipeEnd,
+        bufferSize,
+        outputCounter,
+        PipeType.BLOCKING,
+        Optional.empty());
+  }
+
+  private PipelineBuilder(
+      final Pipe<I> inputPipe,
+      final Collection<Stage> stages,
+      final Collection<Pipe<?>> pipes,
+      final String lastStageName,
+      final ReadPipe<T> pipeEnd,
+      final int bufferSize,
+      final LabelledMetric<Counter> outputCounter,
+      final PipeType pipeType,
+      final Optional<LabelledMetric<OperationTimer>> stageTimer) {
     checkArgument(!pipes.isEmpty(), "Must have at least one pipe in a pipeline");
     this.lastStageName = lastStageName;
     this.outputCounter = outputCounter;
@@ -68,6 +96,8 @@ public class PipelineBuilder<I, T> {
     this.pipes = pipes;
     this.pipeEnd = pipeEnd;
     this.bufferSize = bufferSize;
+    this.pipeType = pipeType;
+    this.stageTimer = stageTimer;
   }
 
   /**
@@ -88,10 +118,44 @@ public class PipelineBuilder<I, T> {
       final Iterator<T> source,
       final int bufferSize,
       final LabelledMetric<Counter> itemCounter) {
-    final Pipe<T> pipe = createPipe(bufferSize, sourceName, itemCounter);
+    return createPipelineFrom(sourceName, source, bufferSize, itemCounter, PipeType.BLOCKING);
+  }
+
+  /**
+   * Create a new pipeline that processes inputs from <i>source</i>, using pipes of the given type
+   * between each stage. The pipeline completes when <i>source</i> returns <code>false</code> from
+   * {@link Iterator#hasNext()} and the last item has been reached the end of the pipeline.
+   *
+   * <p>With {@link PipeType#LOCK_FREE} pipes, single threaded stages take all the items already
+   * waiting in their input pipe, up to the buffer size, in one go rather than one at a time.
+   *
+   * @param sourceName the name of this stage. Used as the label for the output count metric.
+   * @param source the source to pull items from for processing.
+   * @param bufferSize the number of items to be buffered between each stage in the pipeline.
+   * @param itemCounter the counter to increment for each output of a stage. Must accept two labels,
+   *     the stage name and action (output or drained).
+   * @param pipeType the type of pipe to use between each stage in the pipeline.
+   * @param <T> the type of items input into the pipeline.
+   * @return a {@link PipelineBuilder} ready to extend the pipeline with additional stages.
+   */
+  public static <T> PipelineBuilder<T, T> createPipelineFrom(
+      final String sourceName,
+      final Iterator<T> source,
+      final int bufferSize,
+      final LabelledMetric<Counter> itemCounter,
+      final PipeType pipeType) {
+    final Pipe<T> pipe = createPipe(bufferSize, sourceName, itemCounter, pipeType);
     final IteratorSourceStage<T> sourceStage = new IteratorSourceStage<>(sourceName, source, pipe);
     return new PipelineBuilder<>(
-        pipe, singleton(sourceStage), singleton(pipe), sourceName, pipe, bufferSize, itemCounter);
+        pipe,
+        singleton(sourceStage),
+        singleton(pipe),
+        sourceName,
+        pipe,
+        bufferSize,
+        itemCounter,
+        pipeType,
+        Optional.empty());
   }
 
   /**
@@ -107,9 +171,61 @@ public class PipelineBuilder<I, T> {
    */
   public static <T> PipelineBuilder<T, T> createPipeline(
       final String sourceName, final int bufferSize, final LabelledMetric<Counter> outputCounter) {
-    final Pipe<T> pipe = createPipe(bufferSize, sourceName, outputCounter);
+    return createPipeline(sourceName, bufferSize, outputCounter, PipeType.BLOCKING);
+  }
+
+  /**
+   * Create a new pipeline that processes inputs added to <i>pipe</i>, using pipes of the given type
+   * between each stage. The pipeline completes when <i>pipe</i> is closed and the last item has
+   * been reached the end of the pipeline.
+   *
+   * @param sourceName the name of this stage. Used as the label for the output count metric.
+   * @param bufferSize the number of items to be buffered between each stage in the pipeline.
+   * @param outputCounter the counter to increment for each output of a stage. Must have a single
+   *     label which will be filled with the stage name.
+   * @param pipeType the type of pipe to use between each stage in the pipeline.
+   * @param <T> the type of items input into the pipeline.
+   * @return a {@link PipelineBuilder} ready to extend the pipeline with additional stages.
+   */
+  public static <T> PipelineBuilder<T, T> createPipeline(
+      final String sourceName,
+      final int bufferSize,
+      final LabelledMetric<Counter> outputCounter,
+      final PipeType pipeType) {
+    final Pipe<T> pipe = createPipe(bufferSize, sourceName, outputCounter, pipeType);
     return new PipelineBuilder<>(
-        pipe, emptyList(), singleton(pipe), sourceName, pipe, bufferSize, outputCounter);
+        pipe,
+        emptyList(),
+        singleton(pipe),
+        sourceName,
+        pipe,
+        bufferSize,
+        outputCounter,
+        pipeType,
+        Optional.empty());
+  }
+
+  /**
+   * Records how long each stage added from now on spends on each iteration of processing, and how
+   * long of that it spends waiting for input and waiting for capacity to output. The latency of
+   * each item is recorded too, from when its processing begins until it completes, which for
+   * asynchronous stages is when the returned {@link CompletableFuture} completes.
+   *
+   * @param stageTimer the timer to record durations with. Must accept two labels, the stage name
+   *     and the state (processing, waiting_for_input, waiting_for_output or item).
+   * @return a {@link PipelineBuilder} ready to extend the pipeline with additional stages.
+   */
+  public PipelineBuilder<I, T> withStageTimer(final LabelledMetric<OperationTimer> stageTimer) {
+    return new PipelineBuilder<>(
+        inputPipe,
+        stages,
+        pipes,
+        lastStageName,
+        pipeEnd,
+        bufferSize,
+        outputCounter,
+        pipeType,
+        Optional.of(stageTimer));
   }
 
   /**
@@ -123,7 +239,8 @@ public class PipelineBuilder<I, T> {
    */
   public <O> PipelineBuilder<I, O> thenProcess(
       final String stageName, final Function<T, O> processor) {
-    final Processor<T, O> singleStepStage = new MapProcessor<>(processor);
+    final Processor<T, O> singleStepStage =
+        new MapProcessor<>(timedItems(processor, stageName), stageBatchSize());
     return addStage(singleStepStage, stageName);
   }
 
@@ -141,8 +258,9 @@ public class PipelineBuilder<I, T> {
    */
   public <O> PipelineBuilder<I, O> thenProcessInParallel(
       final String stageName, final Function<T, O> processor, final int numberOfThreads) {
+    final Function<T, O> timedProcessor = timedItems(processor, stageName);
     return thenProcessInParallel(
-        stageName, () -> new MapProcessor<>(processor), numberOfThreads, bufferSize);
+        stageName, () -> new MapProcessor<>(timedProcessor), numberOfThreads, bufferSize);
   }
 
   /**
@@ -166,7 +284,32 @@ public class PipelineBuilder<I, T> {
       final String stageName,
       final Function<T, CompletableFuture<O>> processor,
       final int maxConcurrency) {
-    return addStage(new AsyncOperationProcessor<>(processor, maxConcurrency, false), stageName);
+    return addStage(
+        new AsyncOperationProcessor<>(timedAsyncItems(processor, stageName), maxConcurrency, false),
+        stageName);
+  }
+
+  /**
+   * Adds a 1-to-1, asynchronous processing stage to the pipeline, as per {@link
+   * #thenProcessAsync(String, Function, int)}, where the number of items being processed
+   * concurrently is bounded by <i>concurrencyLimit</i>, which may adapt as items complete.
+   *
+   * <p>Note: The order of items is not preserved.
+   *
+   * @param stageName the name of this stage. Used as the label for the output count metric.
+   * @param processor the processing to apply to each item.
+   * @param concurrencyLimit the limit on the number of items being processed concurrently.
+   * @param <O> the output type for this processing step.
+   * @return a {@link PipelineBuilder} ready to extend the pipeline with additional stages.
+   */
+  public <O> PipelineBuilder<I, O> thenProcessAsync(
+      final String stageName,
+      final Function<T, CompletableFuture<O>> processor,
+      final AdaptiveConcurrencyLimit concurrencyLimit) {
+    return addStage(
+        new AsyncOperationProcessor<>(
+            timedAsyncItems(processor, stageName), concurrencyLimit, false),
+        stageName);
   }
 
   /**
@@ -190,7 +333,32 @@ public class PipelineBuilder<I, T> {
       final String stageName,
       final Function<T, CompletableFuture<O>> processor,
       final int maxConcurrency) {
-    return addStage(new AsyncOperationProcessor<>(processor, maxConcurrency, true), stageName);
+    return addStage(
+        new AsyncOperationProcessor<>(timedAsyncItems(processor, stageName), maxConcurrency, true),
+        stageName);
+  }
+
+  /**
+   * Adds a 1-to-1, asynchronous processing stage to the pipeline, as per {@link
+   * #thenProcessAsyncOrdered(String, Function, int)}, where the number of items being processed
+   * concurrently is bounded by <i>concurrencyLimit</i>, which may adapt as items complete.
+   *
+   * <p>Note: While processing may occur concurrently, order is preserved when results are output.
+   *
+   * @param stageName the name of this stage. Used as the label for the output count metric.
+   * @param processor the processing to apply to each item.
+   * @param concurrencyLimit the limit on the number of items being processed concurrently.
+   * @param <O> the output type for this processing step.
+   * @return a {@link PipelineBuilder} ready to extend the pipeline with additional stages.
+   */
+  public <O> PipelineBuilder<I, O> thenProcessAsyncOrdered(
+      final String stageName,
+      final Function<T, CompletableFuture<O>> processor,
+      final AdaptiveConcurrencyLimit concurrencyLimit) {
+    return addStage(
+        new AsyncOperationProcessor<>(
+            timedAsyncItems(processor, stageName), concurrencyLimit, true),
+        stageName);
   }
 
   /**
@@ -216,7 +384,9 @@ public class PipelineBuilder<I, T> {
             maximumBatchSize,
             outputCounter.labels(lastStageName + "_outputPipe", "batches")),
         (int) Math.ceil(((double) bufferSize) / maximumBatchSize),
-        outputCounter);
+        outputCounter,
+        pipeType,
+        stageTimer);
   }
 
   /**
@@ -236,7 +406,8 @@ public class PipelineBuilder<I, T> {
    */
   public <O> PipelineBuilder<I, O> thenFlatMap(
       final String stageName, final Function<T, Stream<O>> mapper, final int newBufferSize) {
-    return addStage(new FlatMapProcessor<>(mapper), newBufferSize, stageName);
+    return addStage(
+        new FlatMapProcessor<>(timedItems(mapper, stageName)), newBufferSize, stageName);
   }
 
   /**
@@ -261,8 +432,9 @@ public class PipelineBuilder<I, T> {
       final Function<T, Stream<O>> mapper,
       final int numberOfThreads,
       final int newBufferSize) {
+    final Function<T, Stream<O>> timedMapper = timedItems(mapper, stageName);
     return thenProcessInParallel(
-        stageName, () -> new FlatMapProcessor<>(mapper), numberOfThreads, newBufferSize);
+        stageName, () -> new FlatMapProcessor<>(timedMapper), numberOfThreads, newBufferSize);
   }
 
   /**
@@ -274,7 +446,15 @@ public class PipelineBuilder<I, T> {
    */
   public Pipeline<I> andFinishWith(final String stageName, final Consumer<T> completer) {
     return new Pipeline<>(
-        inputPipe, stages, pipes, new CompleterStage<>(stageName, pipeEnd, completer));
+        inputPipe,
+        stages,
+        pipes,
+        new CompleterStage<>(
+            stageName,
+            timedInput(pipeEnd, stageName),
+            timedItems(completer, stageName),
+            stageBatchSize(),
+            iterationTimer(stageName)));
   }
 
   private <O> PipelineBuilder<I, O> thenProcessInParallel(
@@ -282,12 +462,17 @@ public class PipelineBuilder<I, T> {
       final Supplier<Processor<T, O>> createProcessor,
       final int numberOfThreads,
       final int newBufferSize) {
-    final Pipe<O> newPipeEnd = createPipe(newBufferSize, stageName, outputCounter);
+    final Pipe<O> newPipeEnd = createPipe(newBufferSize, stageName, outputCounter, pipeType);
     final WritePipe<O> outputPipe = new SharedWritePipe<>(newPipeEnd, numberOfThreads);
     final ArrayList<Stage> newStages = new ArrayList<>(stages);
     for (int i = 0; i < numberOfThreads; i++) {
       final Stage processStage =
-          new ProcessingStage<>(stageName, pipeEnd, outputPipe, createProcessor.get());
+          new ProcessingStage<>(
+              stageName,
+              timedInput(pipeEnd, stageName),
+              timedOutput(outputPipe, stageName),
+              createProcessor.get(),
+              iterationTimer(stageName));
       newStages.add(processStage);
     }
     return new PipelineBuilder<>(
@@ -297,7 +482,9 @@ public class PipelineBuilder<I, T> {
         stageName,
         newPipeEnd,
         newBufferSize,
-        outputCounter);
+        outputCounter,
+        pipeType,
+        stageTimer);
   }
 
   private <O> PipelineBuilder<I, O> addStage(
@@ -307,8 +494,14 @@ public class PipelineBuilder<I, T> {
 
   private <O> PipelineBuilder<I, O> addStage(
       final Processor<T, O> processor, final int newBufferSize, final String stageName) {
-    final Pipe<O> outputPipe = createPipe(newBufferSize, stageName, outputCounter);
-    final Stage processStage = new ProcessingStage<>(stageName, pipeEnd, outputPipe, processor);
+    final Pipe<O> outputPipe = createPipe(newBufferSize, stageName, outputCounter, pipeType);
+    final Stage processStage =
+        new ProcessingStage<>(
+            stageName,
+            timedInput(pipeEnd, stageName),
+            timedOutput(outputPipe, stageName),
+            processor,
+            iterationTimer(stageName));
     final List<Stage> newStages = concat(stages, processStage);
     return new PipelineBuilder<>(
         inputPipe,
@@ -317,7 +510,9 @@ public class PipelineBuilder<I, T> {
         processStage.getName(),
         outputPipe,
         newBufferSize,
-        outputCounter);
+        outputCounter,
+        pipeType,
+        stageTimer);
   }
 
   private <X> List<X> concat(final Collection<X> existing, final X newItem) {
@@ -326,15 +521,93 @@ public class PipelineBuilder<I, T> {
     return newList;
   }
 
+  private <X> ReadPipe<X> timedInput(final ReadPipe<X> pipe, final String stageName) {
+    return stageTimer
+        .<ReadPipe<X>>map(
+            timer -> new TimedReadPipe<>(pipe, timer.labels(stageName, "waiting_for_input")))
+        .orElse(pipe);
+  }
+
+  private <X> WritePipe<X> timedOutput(final WritePipe<X> pipe, final String stageName) {
+    return stageTimer
+        .<WritePipe<X>>map(
+            timer -> new TimedWritePipe<>(pipe, timer.labels(stageName, "waiting_for_output")))
+        .orElse(pipe);
+  }
+
+  private <X, Y> Function<X, Y> timedItems(
+      final Function<X, Y> processor, final String stageName) {
+    return stageTimer
+        .<Function<X, Y>>map(
+            timer -> {
+              final OperationTimer itemTimer = timer.labels(stageName, "item");
+              return item -> {
+                try (final TimingContext ignored = itemTimer.startTimer()) {
+                  return processor.apply(item);
+                }
+              };
+            })
+        .orElse(processor);
+  }
+
+  private <X> Consumer<X> timedItems(final Consumer<X> completer, final String stageName) {
+    return stageTimer
+        .<Consumer<X>>map(
+            timer -> {
+              final OperationTimer itemTimer = timer.labels(stageName, "item");
+              return item -> {
+                try (final TimingContext ignored = itemTimer.startTimer()) {
+                  completer.accept(item);
+                }
+              };
+            })
+        .orElse(completer);
+  }
+
+  private <X, Y> Function<X, CompletableFuture<Y>> timedAsyncItems(
+      final Function<X, CompletableFuture<Y>> processor, final String stageName) {
+    return stageTimer
+        .<Function<X, CompletableFuture<Y>>>map(
+            timer -> {
+              final OperationTimer itemTimer = timer.labels(stageName, "item");
+              return item -> {
+                final TimingContext timingContext = itemTimer.startTimer();
+                final CompletableFuture<Y> result;
+                try {
+                  result = processor.apply(item);
+                } catch (final RuntimeException | Error e) {
+                  timingContext.stopTimer();
+                  throw e;
+                }
+                result.whenComplete((value, error) -> timingContext.stopTimer());
+                return result;
+              };
+            })
+        .orElse(processor);
+  }
+
+  private OperationTimer iterationTimer(final String stageName) {
+    return stageTimer
+        .map(timer -> timer.labels(stageName, "processing"))
+        .orElse(NO_OP_OPERATION_TIMER);
+  }
+
+  private int stageBatchSize() {
+    // Draining in batches only pays off when it avoids per-item contention on the pipe.
+    return pipeType == PipeType.LOCK_FREE ? bufferSize : 1;
+  }
+
   private static <O> Pipe<O> createPipe(
       final int newBufferSize,
       final String stageName,
-      final LabelledMetric<Counter> outputCounter) {
+      final LabelledMetric<Counter> outputCounter,
+      final PipeType pipeType) {
     final String labelName = stageName + "_outputPipe";
     return new Pipe<>(
         newBufferSize,
         outputCounter.labels(labelName, "added"),
         outputCounter.labels(labelName, "removed"),
-        outputCounter.labels(labelName, "aborted"));
+        outputCounter.labels(labelName, "aborted"),
+        pipeType);
   }
 }
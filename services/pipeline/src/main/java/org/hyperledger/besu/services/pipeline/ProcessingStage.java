@@ -14,28 +14,46 @@
  */
 package org.hyperledger.besu.services.pipeline;
 
+import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_OPERATION_TIMER;
+
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
+
 class ProcessingStage<I, O> implements Stage {
 
   private final String name;
   private final ReadPipe<I> inputPipe;
   private final WritePipe<O> outputPipe;
   private final Processor<I, O> processor;
+  private final OperationTimer iterationTimer;
 
   public ProcessingStage(
       final String name,
       final ReadPipe<I> inputPipe,
       final WritePipe<O> outputPipe,
       final Processor<I, O> processor) {
+    this(name, inputPipe, outputPipe, processor, NO_OP_OPERATION_TIMER);
+  }
+
+  public ProcessingStage(
+      final String name,
+      final ReadPipe<I> inputPipe,
+      final WritePipe<O> outputPipe,
+      final Processor<I, O> processor,
+      final OperationTimer iterationTimer) {
     this.name = name;
     this.inputPipe = inputPipe;
     this.outputPipe = outputPipe;
     this.processor = processor;
+    this.iterationTimer = iterationTimer;
   }
 
   @Override
   public void run() {
     while (inputPipe.hasMore()) {
-      processor.processNextInput(inputPipe, outputPipe);
+      try (final TimingContext ignored = iterationTimer.startTimer()) {
+        processor.processNextInput(inputPipe, outputPipe);
+      }
     }
     if (inputPipe.isAborted()) {
       processor.abort();
@@ -0,0 +1,323 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded, lock-free {@link BlockingQueue} supporting multiple producers and multiple consumers.
+ *
+ * <p>Items are stored in a ring buffer where each slot carries a sequence number telling whether it
+ * is ready to be written to or read from at a given position, so producers and consumers only
+ * contend on a compare-and-set of the tail and head positions respectively. {@link
+ * #offerAll(List, int)} and {@link #drainTo(Collection, int)} claim all the slots they fill or
+ * empty with a single compare-and-set.
+ *
+ * <p>Blocking operations wait by spinning and then parking for increasingly long periods rather
+ * than being signalled, which trades a little latency when the queue is idle for the absence of
+ * locks when it is busy. Like those of the {@code java.util.concurrent} queues, iterators are
+ * weakly consistent, but they don't support removing items.
+ *
+ * @param <T> the type of item held in the queue.
+ */
+class RingBuffer<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+  private static final int SPINS_BEFORE_PARKING = 100;
+  private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+  private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final int capacity;
+  private final int mask;
+  private final Object[] items;
+  private final AtomicLongArray sequences;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+
+  RingBuffer(final int capacity) {
+    checkArgument(capacity > 0, "Capacity must be greater than 0");
+    checkArgument(capacity <= 1 << 30, "Capacity must be at most 2^30");
+    this.capacity = capacity;
+    final int length = Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = Math.max(length, 1) - 1;
+    this.items = new Object[mask + 1];
+    this.sequences = new AtomicLongArray(mask + 1);
+    for (int i = 0; i <= mask; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  @Override
+  public boolean offer(final T item) {
+    checkNotNull(item);
+    while (true) {
+      final long position = tail.get();
+      if (position - head.get() >= capacity) {
+        return false;
+      }
+      final int index = (int) position & mask;
+      final long sequence = sequences.get(index);
+      if (sequence == position) {
+        if (tail.compareAndSet(position, position + 1)) {
+          items[index] = item;
+          sequences.set(index, position + 1);
+          return true;
+        }
+      } else if (sequence < position) {
+        // The slot still holds an item that hasn't been read yet.
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Adds as many of the given items, starting from {@code fromIndex}, as there is capacity for
+   * without waiting.
+   *
+   * @param values the items to add.
+   * @param fromIndex the index of the first item to add.
+   * @return the number of items added, taken in order from {@code fromIndex}.
+   */
+  int offerAll(final List<? extends T> values, final int fromIndex) {
+    final int maxElements = values.size() - fromIndex;
+    while (maxElements > 0) {
+      final long position = tail.get();
+      final long free = capacity - (position - head.get());
+      int available = 0;
+      while (available < Math.min(maxElements, free)
+          && sequences.get((int) (position + available) & mask) == position + available) {
+        available++;
+      }
+      if (available == 0) {
+        if (free <= 0 || sequences.get((int) position & mask) < position) {
+          return 0;
+        }
+        // Another producer moved the tail since we read it.
+        continue;
+      }
+      if (tail.compareAndSet(position, position + available)) {
+        for (int i = 0; i < available; i++) {
+          final int index = (int) (position + i) & mask;
+          items[index] = checkNotNull(values.get(fromIndex + i));
+          sequences.set(index, position + i + 1);
+        }
+        return available;
+      }
+    }
+    return 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T poll() {
+    while (true) {
+      final long position = head.get();
+      final int index = (int) position & mask;
+      final long sequence = sequences.get(index);
+      if (sequence == position + 1) {
+        if (head.compareAndSet(position, position + 1)) {
+          final T item = (T) items[index];
+          items[index] = null;
+          sequences.set(index, position + mask + 1);
+          return item;
+        }
+      } else if (sequence < position + 1) {
+        return null;
+      }
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T peek() {
+    final long position = head.get();
+    final int index = (int) position & mask;
+    return sequences.get(index) == position + 1 ? (T) items[index] : null;
+  }
+
+  @Override
+  public int drainTo(final Collection<? super T> output, final int maxElements) {
+    while (maxElements > 0) {
+      final long position = head.get();
+      int available = 0;
+      while (available < maxElements
+          && sequences.get((int) (position + available) & mask) == position + available + 1) {
+        available++;
+      }
+      if (available == 0) {
+        if (sequences.get((int) position & mask) < position + 1) {
+          return 0;
+        }
+        // Another consumer moved the head since we read it.
+        continue;
+      }
+      if (head.compareAndSet(position, position + available)) {
+        for (int i = 0; i < available; i++) {
+          final int index = (int) (position + i) & mask;
+          @SuppressWarnings("unchecked")
+          final T item = (T) items[index];
+          items[index] = null;
+          sequences.set(index, position + i + mask + 1);
+          output.add(item);
+        }
+        return available;
+      }
+    }
+    return 0;
+  }
+
+  @Override
+  public int drainTo(final Collection<? super T> output) {
+    return drainTo(output, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public boolean offer(final T item, final long timeout, final TimeUnit unit)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempts = 0;
+    while (!offer(item)) {
+      if (!waitBeforeRetrying(attempts++, deadline)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempts = 0;
+    T item;
+    while ((item = poll()) == null) {
+      if (!waitBeforeRetrying(attempts++, deadline)) {
+        return null;
+      }
+    }
+    return item;
+  }
+
+  @Override
+  public void put(final T item) throws InterruptedException {
+    int attempts = 0;
+    while (!offer(item)) {
+      waitBeforeRetrying(attempts++, Long.MAX_VALUE);
+    }
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    int attempts = 0;
+    T item;
+    while ((item = poll()) == null) {
+      waitBeforeRetrying(attempts++, Long.MAX_VALUE);
+    }
+    return item;
+  }
+
+  private boolean waitBeforeRetrying(final int attempts, final long deadline)
+      throws InterruptedException {
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+    if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0) {
+      return false;
+    }
+    if (attempts < SPINS_BEFORE_PARKING) {
+      Thread.onSpinWait();
+    } else {
+      final int doublings = Math.min(attempts - SPINS_BEFORE_PARKING, 10);
+      LockSupport.parkNanos(Math.min(MIN_PARK_NANOS << doublings, MAX_PARK_NANOS));
+    }
+    return true;
+  }
+
+  @Override
+  public int size() {
+    final long currentHead = head.get();
+    final long size = tail.get() - currentHead;
+    return (int) Math.max(0, Math.min(size, capacity));
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return capacity - size();
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<>() {
+      private long position = head.get();
+      private T next = advance();
+
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+
+      @Override
+      public T next() {
+        if (next == null) {
+          throw new NoSuchElementException();
+        }
+        final T item = next;
+        next = advance();
+        return item;
+      }
+
+      @SuppressWarnings("unchecked")
+      private T advance() {
+        while (position < tail.get()) {
+          final int index = (int) position & mask;
+          final long sequence = sequences.get(index);
+          if (sequence < position + 1) {
+            // The slot was claimed but its item isn't written yet.
+            return null;
+          }
+          if (sequence == position + 1) {
+            final T item = (T) items[index];
+            // Only trust the item if it wasn't taken while it was being read.
+            if (item != null && sequences.get(index) == position + 1) {
+              position++;
+              return item;
+            }
+          }
+          position = Math.max(position + 1, head.get());
+        }
+        return null;
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    return "RingBuffer{size=" + size() + ", capacity=" + capacity + "}";
+  }
+}
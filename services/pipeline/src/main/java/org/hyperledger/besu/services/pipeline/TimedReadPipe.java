@@ -0,0 +1,58 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
+
+import java.util.Collection;
+
+/** Records the time a stage spends waiting for input from the wrapped pipe. */
+class TimedReadPipe<T> implements ReadPipe<T> {
+  private final ReadPipe<T> delegate;
+  private final OperationTimer waitTimer;
+
+  TimedReadPipe(final ReadPipe<T> delegate, final OperationTimer waitTimer) {
+    this.delegate = delegate;
+    this.waitTimer = waitTimer;
+  }
+
+  @Override
+  public boolean hasMore() {
+    return delegate.hasMore();
+  }
+
+  @Override
+  public boolean isAborted() {
+    return delegate.isAborted();
+  }
+
+  @Override
+  public T get() {
+    try (final TimingContext ignored = waitTimer.startTimer()) {
+      return delegate.get();
+    }
+  }
+
+  @Override
+  public T poll() {
+    return delegate.poll();
+  }
+
+  @Override
+  public void drainTo(final Collection<T> output, final int maxElements) {
+    delegate.drainTo(output, maxElements);
+  }
+}
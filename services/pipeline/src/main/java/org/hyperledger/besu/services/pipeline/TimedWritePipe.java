@@ -0,0 +1,65 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
+
+import java.util.Collection;
+
+/** Records the time a stage spends blocked waiting for capacity in the wrapped pipe. */
+class TimedWritePipe<T> implements WritePipe<T> {
+  private final WritePipe<T> delegate;
+  private final OperationTimer waitTimer;
+
+  TimedWritePipe(final WritePipe<T> delegate, final OperationTimer waitTimer) {
+    this.delegate = delegate;
+    this.waitTimer = waitTimer;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return delegate.isOpen();
+  }
+
+  @Override
+  public void put(final T value) {
+    try (final TimingContext ignored = waitTimer.startTimer()) {
+      delegate.put(value);
+    }
+  }
+
+  @Override
+  public void putAll(final Collection<T> values) {
+    try (final TimingContext ignored = waitTimer.startTimer()) {
+      delegate.putAll(values);
+    }
+  }
+
+  @Override
+  public boolean hasRemainingCapacity() {
+    return delegate.hasRemainingCapacity();
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public void abort() {
+    delegate.abort();
+  }
+}
@@ -14,6 +14,8 @@
  */
 package org.hyperledger.besu.services.pipeline;
 
+import java.util.Collection;
+
 /**
  * The interface used to add items to a pipe.
  *
@@ -36,6 +38,15 @@ public interface WritePipe<T> {
    */
   void put(T value);
 
+  /**
+   * Adds the given items to the pipe, in order. This method will block until capacity is available
+   * in the pipe for all of them. The remaining items will be discarded if the pipe is closed before
+   * capacity becomes available.
+   *
+   * @param values the values to add to the pipe.
+   */
+  void putAll(Collection<T> values);
+
   /**
    * Determine if this pipe has capacity to accept another item.
    *
@@ -0,0 +1,160 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class AdaptiveConcurrencyLimitTest {
+
+  private final AtomicLong time = new AtomicLong(1);
+
+  @Test
+  public void shouldRejectMaximumBelowMinimum() {
+    assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(4, 4, 2))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldClampInitialLimitToBounds() {
+    assertThat(new AdaptiveConcurrencyLimit(2, 10, 5).getLimit()).isEqualTo(5);
+    assertThat(new AdaptiveConcurrencyLimit(2, 1, 5).getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotChangeFixedLimit() {
+    final AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.fixed(3);
+    final long start = limit.operationStarted();
+    limit.operationCompleted(start, false);
+
+    assertThat(limit.getLimit()).isEqualTo(3);
+    assertThat(limit.getInFlightCount()).isZero();
+  }
+
+  @Test
+  public void shouldIncreaseLimitWhenFullyUsedOperationsSucceed() {
+    final AdaptiveConcurrencyLimit limit = createLimit(1, 1, 10);
+
+    completeSuccessfully(limit, 1, 100);
+    assertThat(limit.getLimit()).isEqualTo(2);
+
+    for (int i = 0; i < 5; i++) {
+      completeSuccessfully(limit, limit.getLimit(), 100);
+    }
+    assertThat(limit.getLimit()).isGreaterThan(2);
+  }
+
+  @Test
+  public void shouldNotIncreaseLimitWhenMostOfItIsUnused() {
+    final AdaptiveConcurrencyLimit limit = createLimit(1, 8, 10);
+
+    for (int i = 0; i < 20; i++) {
+      completeSuccessfully(limit, 1, 100);
+    }
+
+    assertThat(limit.getLimit()).isEqualTo(8);
+  }
+
+  @Test
+  public void shouldNotExceedMaximum() {
+    final AdaptiveConcurrencyLimit limit = createLimit(1, 1, 3);
+
+    for (int i = 0; i < 20; i++) {
+      completeSuccessfully(limit, limit.getLimit(), 100);
+    }
+
+    assertThat(limit.getLimit()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldReduceLimitWhenOperationFails() {
+    final AdaptiveConcurrencyLimit limit = createLimit(1, 8, 10);
+
+    final long start = limit.operationStarted();
+    time.addAndGet(100);
+    limit.operationCompleted(start, false);
+
+    assertThat(limit.getLimit()).isEqualTo(6);
+  }
+
+  @Test
+  public void shouldOnlyReduceLimitOnceForOperationsStartedBeforeReduction() {
+    final AdaptiveConcurrencyLimit limit = createLimit(1, 8, 10);
+
+    final long start1 = limit.operationStarted();
+    final long start2 = limit.operationStarted();
+    time.addAndGet(100);
+    limit.operationCompleted(start1, false);
+    limit.operationCompleted(start2, false);
+
+    assertThat(limit.getLimit()).isEqualTo(6);
+  }
+
+  @Test
+  public void shouldReduceLimitWhenOperationIsMuchSlowerThanAverage() {
+    final AdaptiveConcurrencyLimit limit = createLimit(1, 8, 10);
+    for (int i = 0; i < 10; i++) {
+      completeSuccessfully(limit, 1, 100);
+    }
+    assertThat(limit.getLimit()).isEqualTo(8);
+
+    completeSuccessfully(limit, 1, 1000);
+
+    assertThat(limit.getLimit()).isEqualTo(6);
+  }
+
+  @Test
+  public void shouldNotReduceBelowMinimum() {
+    final AdaptiveConcurrencyLimit limit = createLimit(2, 2, 10);
+
+    final long start = limit.operationStarted();
+    time.addAndGet(100);
+    limit.operationCompleted(start, false);
+
+    assertThat(limit.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotChangeLimitWhenOperationIsCancelled() {
+    final AdaptiveConcurrencyLimit limit = createLimit(1, 8, 10);
+
+    limit.operationStarted();
+    limit.operationCancelled();
+
+    assertThat(limit.getLimit()).isEqualTo(8);
+    assertThat(limit.getInFlightCount()).isZero();
+  }
+
+  private AdaptiveConcurrencyLimit createLimit(
+      final int minLimit, final int initialLimit, final int maxLimit) {
+    return new AdaptiveConcurrencyLimit(minLimit, initialLimit, maxLimit, time::get);
+  }
+
+  private void completeSuccessfully(
+      final AdaptiveConcurrencyLimit limit, final int concurrentOperations, final long latency) {
+    final long[] startTimes = new long[concurrentOperations];
+    for (int i = 0; i < concurrentOperations; i++) {
+      startTimes[i] = limit.operationStarted();
+    }
+    time.addAndGet(latency);
+    for (final long startTime : startTimes) {
+      limit.operationCompleted(startTime, true);
+    }
+  }
+}
@@ -78,6 +78,29 @@ public class AsyncOperationProcessorTest {
     verify(readPipe, times(4)).get();
   }
 
+  @Test
+  public void shouldStartMoreConcurrentJobsWhenLimitIncreases() {
+    final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 2);
+    final AsyncOperationProcessor<CompletableFuture<String>, String> processor =
+        new AsyncOperationProcessor<>(Function.identity(), limit, false);
+    final CompletableFuture<String> task1 = new CompletableFuture<>();
+    final CompletableFuture<String> task2 = new CompletableFuture<>();
+    final CompletableFuture<String> task3 = new CompletableFuture<>();
+    when(readPipe.get()).thenReturn(task1).thenReturn(task2).thenReturn(task3);
+
+    processor.processNextInput(readPipe, writePipe);
+    task1.complete("a");
+    processor.processNextInput(readPipe, writePipe);
+    verify(writePipe).put("a");
+    assertThat(limit.getLimit()).isEqualTo(2);
+
+    // Limit has grown so two tasks can be in progress at once.
+    processor.processNextInput(readPipe, writePipe);
+    processor.processNextInput(readPipe, writePipe);
+    verify(readPipe, times(3)).get();
+    assertThat(limit.getInFlightCount()).isEqualTo(2);
+  }
+
   @Test
   public void shouldOutputRemainingInProgressTasksWhenFinalizing() {
     final AsyncOperationProcessor<CompletableFuture<String>, String> processor =
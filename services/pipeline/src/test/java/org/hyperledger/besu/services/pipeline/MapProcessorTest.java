@@ -47,6 +47,21 @@ public class MapProcessorTest {
     verify(processor).apply("A");
   }
 
+  @Test
+  public void shouldProcessAvailableItemsInBatches() {
+    final MapProcessor<String, String> batchingStage = new MapProcessor<>(String::toLowerCase, 2);
+    input.put("A");
+    input.put("B");
+    input.put("C");
+
+    batchingStage.processNextInput(input, output);
+
+    assertThat(output.get()).isEqualTo("a");
+    assertThat(output.get()).isEqualTo("b");
+    assertThat(output.poll()).isNull();
+    assertThat(input.get()).isEqualTo("C");
+  }
+
   @Test
   public void shouldSkipProcessingWhenInputIsClosed() {
     input.close();
@@ -23,6 +23,8 @@ import org.hyperledger.besu.plugin.services.metrics.Counter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -59,6 +61,42 @@ public class PipeTest {
     assertThat(pipe.isAborted()).isTrue();
   }
 
+  @Test
+  public void shouldAddAllItemsInOrder() {
+    pipe.putAll(List.of("a", "b", "c"));
+
+    final List<String> output = new ArrayList<>();
+    pipe.drainTo(output, 5);
+    assertThat(output).containsExactly("a", "b", "c");
+    verify(inputCounter).inc(3);
+  }
+
+  @Test
+  public void shouldAddAllItemsToLockFreePipeWaitingForCapacity() throws Exception {
+    final Pipe<String> lockFreePipe =
+        new Pipe<>(2, inputCounter, outputCounter, abortedItemCounter, PipeType.LOCK_FREE);
+    final CompletableFuture<Void> putAll =
+        CompletableFuture.runAsync(() -> lockFreePipe.putAll(List.of("a", "b", "c", "d", "e")));
+
+    final List<String> output = new ArrayList<>();
+    while (output.size() < 5) {
+      output.add(lockFreePipe.get());
+    }
+    putAll.get(10, TimeUnit.SECONDS);
+
+    assertThat(output).containsExactly("a", "b", "c", "d", "e");
+    verify(inputCounter).inc(5);
+  }
+
+  @Test
+  public void shouldStopAddingItemsWhenClosed() {
+    pipe.close();
+    pipe.putAll(List.of("a", "b"));
+
+    assertThat(pipe.hasMore()).isFalse();
+    verify(inputCounter).inc(0);
+  }
+
   @Test
   public void shouldLimitNumberOfItemsDrained() {
     pipe.put("a");
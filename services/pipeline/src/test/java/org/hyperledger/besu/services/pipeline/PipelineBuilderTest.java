@@ -24,15 +24,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.awaitility.Awaitility.waitAtMost;
 import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_LABELLED_2_COUNTER;
+import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_OPERATION_TIMER;
 
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CancellationException;
@@ -100,6 +103,125 @@ public class PipelineBuilderTest {
             "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15");
   }
 
+  @Test
+  public void shouldPassInputThroughLockFreePipes() throws Exception {
+    final List<String> output = new ArrayList<>();
+    final Pipeline<Integer> pipeline =
+        PipelineBuilder.createPipelineFrom(
+                "input", tasks, 4, NO_OP_LABELLED_2_COUNTER, PipeType.LOCK_FREE)
+            .thenProcess("toString", Object::toString)
+            .thenProcessInParallel("identity", Function.identity(), 3)
+            .andFinishWith("end", output::add);
+
+    final CompletableFuture<?> result = pipeline.start(executorService);
+    result.get(10, SECONDS);
+    assertThat(output)
+        .containsExactlyInAnyOrder(
+            "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15");
+  }
+
+  @Test
+  public void shouldRecordStageTimesWhenStageTimerIsSet() throws Exception {
+    final Set<List<String>> timedLabels = ConcurrentHashMap.newKeySet();
+    final LabelledMetric<OperationTimer> stageTimer =
+        labels -> {
+          timedLabels.add(asList(labels));
+          return NO_OP_OPERATION_TIMER;
+        };
+    final List<String> output = new ArrayList<>();
+    final Pipeline<Integer> pipeline =
+        PipelineBuilder.createPipelineFrom("input", tasks, 10, NO_OP_LABELLED_2_COUNTER)
+            .withStageTimer(stageTimer)
+            .thenProcess("toString", Object::toString)
+            .andFinishWith("end", output::add);
+
+    pipeline.start(executorService).get(10, SECONDS);
+
+    assertThat(output).hasSize(15);
+    assertThat(timedLabels)
+        .containsExactlyInAnyOrder(
+            asList("toString", "processing"),
+            asList("toString", "waiting_for_input"),
+            asList("toString", "waiting_for_output"),
+            asList("toString", "item"),
+            asList("end", "processing"),
+            asList("end", "waiting_for_input"),
+            asList("end", "item"));
+  }
+
+  @Test
+  public void shouldRecordLatencyOfEachItemWhenStageTimerIsSet() throws Exception {
+    final Map<List<String>, AtomicLong> completedTimings = new ConcurrentHashMap<>();
+    final LabelledMetric<OperationTimer> stageTimer =
+        labels ->
+            () ->
+                () ->
+                    completedTimings
+                        .computeIfAbsent(asList(labels), key -> new AtomicLong())
+                        .incrementAndGet();
+    final Map<Integer, CompletableFuture<String>> asyncResults = new ConcurrentHashMap<>();
+    final List<String> output = synchronizedList(new ArrayList<>());
+    final Pipeline<Integer> pipeline =
+        PipelineBuilder.createPipelineFrom("input", tasks, 10, NO_OP_LABELLED_2_COUNTER)
+            .withStageTimer(stageTimer)
+            .thenProcess("addOne", value -> value + 1)
+            .thenProcessAsync(
+                "toString",
+                value -> asyncResults.computeIfAbsent(value, key -> new CompletableFuture<>()),
+                15)
+            .andFinishWith("end", output::add);
+
+    final CompletableFuture<?> result = pipeline.start(executorService);
+
+    // An asynchronous item's latency is only recorded once its future completes.
+    waitAtMost(10, SECONDS).untilAsserted(() -> assertThat(asyncResults).hasSize(15));
+    assertThat(completedTimings).doesNotContainKey(asList("toString", "item"));
+    asyncResults.forEach((value, future) -> future.complete(value.toString()));
+    result.get(10, SECONDS);
+
+    assertThat(output).hasSize(15);
+    assertThat(completedTimings.get(asList("addOne", "item"))).hasValue(15);
+    assertThat(completedTimings.get(asList("toString", "item"))).hasValue(15);
+    assertThat(completedTimings.get(asList("end", "item"))).hasValue(15);
+  }
+
+  @Test
+  public void shouldStopItemTimerWhenAsyncProcessorThrows() {
+    final AtomicLong startedTimings = new AtomicLong();
+    final AtomicLong stoppedTimings = new AtomicLong();
+    final LabelledMetric<OperationTimer> stageTimer =
+        labels -> {
+          if (!asList(labels).equals(asList("toString", "item"))) {
+            return NO_OP_OPERATION_TIMER;
+          }
+          return () -> {
+            startedTimings.incrementAndGet();
+            return stoppedTimings::incrementAndGet;
+          };
+        };
+    final RuntimeException expectedError = new RuntimeException("Oops");
+    final Pipeline<Integer> pipeline =
+        PipelineBuilder.createPipelineFrom("input", tasks, 10, NO_OP_LABELLED_2_COUNTER)
+            .withStageTimer(stageTimer)
+            .thenProcessAsync(
+                "toString",
+                (Function<Integer, CompletableFuture<String>>)
+                    value -> {
+                      throw expectedError;
+                    },
+                15)
+            .andFinishWith("end", new ArrayList<String>()::add);
+
+    final CompletableFuture<?> result = pipeline.start(executorService);
+
+    assertThatThrownBy(() -> result.get(10, SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .extracting(Throwable::getCause)
+        .isSameAs(expectedError);
+    assertThat(startedTimings.get()).isPositive();
+    assertThat(stoppedTimings).hasValue(startedTimings.get());
+  }
+
   @Test
   public void shouldCombineIntoBatches() throws Exception {
     final BlockingQueue<List<Integer>> output = new ArrayBlockingQueue<>(10);
@@ -0,0 +1,182 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class RingBufferTest {
+
+  private final RingBuffer<Integer> buffer = new RingBuffer<>(4);
+  private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void shouldRejectInvalidCapacity() {
+    assertThatThrownBy(() -> new RingBuffer<>(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldReturnItemsInOrder() {
+    assertThat(buffer.offer(1)).isTrue();
+    assertThat(buffer.offer(2)).isTrue();
+
+    assertThat(buffer.peek()).isEqualTo(1);
+    assertThat(buffer.poll()).isEqualTo(1);
+    assertThat(buffer.poll()).isEqualTo(2);
+    assertThat(buffer.poll()).isNull();
+  }
+
+  @Test
+  public void shouldNotExceedCapacity() {
+    for (int i = 0; i < 4; i++) {
+      assertThat(buffer.offer(i)).isTrue();
+    }
+
+    assertThat(buffer.offer(5)).isFalse();
+    assertThat(buffer.size()).isEqualTo(4);
+    assertThat(buffer.remainingCapacity()).isZero();
+  }
+
+  @Test
+  public void shouldReuseSlotsAfterWrappingAround() {
+    for (int i = 0; i < 10; i++) {
+      assertThat(buffer.offer(i)).isTrue();
+      assertThat(buffer.poll()).isEqualTo(i);
+    }
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldDrainAvailableItemsUpToLimit() {
+    buffer.offer(1);
+    buffer.offer(2);
+    buffer.offer(3);
+
+    final List<Integer> output = new ArrayList<>();
+    assertThat(buffer.drainTo(output, 2)).isEqualTo(2);
+    assertThat(output).containsExactly(1, 2);
+    assertThat(buffer.poll()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldOfferAllItemsThereIsCapacityFor() {
+    final List<Integer> values = List.of(1, 2, 3, 4, 5);
+    buffer.offer(0);
+
+    assertThat(buffer.offerAll(values, 0)).isEqualTo(3);
+    assertThat(buffer.offerAll(values, 3)).isZero();
+    assertThat(buffer.poll()).isEqualTo(0);
+    assertThat(buffer.poll()).isEqualTo(1);
+    assertThat(buffer.offerAll(values, 3)).isEqualTo(2);
+
+    final List<Integer> output = new ArrayList<>();
+    buffer.drainTo(output);
+    assertThat(output).containsExactly(2, 3, 4, 5);
+  }
+
+  @Test
+  public void shouldIterateOverRemainingItemsInOrder() {
+    for (int i = 0; i < 6; i++) {
+      buffer.offer(i);
+      if (i % 2 == 0) {
+        buffer.poll();
+      }
+    }
+
+    assertThat(buffer).containsExactly(3, 4, 5);
+    assertThat(buffer.contains(4)).isTrue();
+    assertThat(buffer.contains(2)).isFalse();
+  }
+
+  @Test
+  public void shouldTimeOutWhenPollingEmptyBuffer() throws Exception {
+    assertThat(buffer.poll(10, MILLISECONDS)).isNull();
+  }
+
+  @Test
+  public void shouldThrowInterruptedExceptionWhenInterruptedWhileWaiting() throws Exception {
+    final AtomicReference<Throwable> thrown = new AtomicReference<>();
+    final Thread thread =
+        new Thread(
+            () -> {
+              try {
+                buffer.take();
+              } catch (final Throwable t) {
+                thrown.set(t);
+              }
+            });
+    thread.start();
+    thread.interrupt();
+    thread.join(SECONDS.toMillis(10));
+
+    assertThat(thrown.get()).isInstanceOf(InterruptedException.class);
+  }
+
+  @Test
+  public void shouldDeliverEveryItemWithConcurrentProducersAndConsumers() throws Exception {
+    final int itemsPerProducer = 10_000;
+    final List<Future<?>> producers = new ArrayList<>();
+    for (int producer = 0; producer < 3; producer++) {
+      producers.add(
+          executorService.submit(
+              () -> {
+                for (int i = 0; i < itemsPerProducer; i++) {
+                  buffer.put(i);
+                }
+                return null;
+              }));
+    }
+    final List<Future<Long>> consumers = new ArrayList<>();
+    for (int consumer = 0; consumer < 2; consumer++) {
+      consumers.add(
+          executorService.submit(
+              () -> {
+                long total = 0;
+                Integer item;
+                while ((item = buffer.poll(1, SECONDS)) != null) {
+                  total += item;
+                }
+                return total;
+              }));
+    }
+
+    for (final Future<?> producer : producers) {
+      producer.get(30, SECONDS);
+    }
+    long total = 0;
+    for (final Future<Long> consumer : consumers) {
+      total += consumer.get(30, SECONDS);
+    }
+    final long expectedPerProducer = (long) itemsPerProducer * (itemsPerProducer - 1) / 2;
+    assertThat(total).isEqualTo(3 * expectedPerProducer);
+  }
+}